@@ -0,0 +1,79 @@
+package io.vertx.core;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.DeploymentTimings}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.DeploymentTimings} original class using Vert.x codegen.
+ */
+public class DeploymentTimingsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, DeploymentTimings obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "deploymentID":
+          if (member.getValue() instanceof String) {
+            obj.setDeploymentID((String)member.getValue());
+          }
+          break;
+        case "identifier":
+          if (member.getValue() instanceof String) {
+            obj.setIdentifier((String)member.getValue());
+          }
+          break;
+        case "instances":
+          if (member.getValue() instanceof Number) {
+            obj.setInstances(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "classLoadingTime":
+          if (member.getValue() instanceof Number) {
+            obj.setClassLoadingTime(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "instantiationTime":
+          if (member.getValue() instanceof Number) {
+            obj.setInstantiationTime(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "queueTime":
+          if (member.getValue() instanceof Number) {
+            obj.setQueueTime(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "startTime":
+          if (member.getValue() instanceof Number) {
+            obj.setStartTime(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "totalTime":
+          if (member.getValue() instanceof Number) {
+            obj.setTotalTime(((Number)member.getValue()).longValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(DeploymentTimings obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(DeploymentTimings obj, java.util.Map<String, Object> json) {
+    if (obj.getDeploymentID() != null) {
+      json.put("deploymentID", obj.getDeploymentID());
+    }
+    if (obj.getIdentifier() != null) {
+      json.put("identifier", obj.getIdentifier());
+    }
+    json.put("instances", obj.getInstances());
+    json.put("classLoadingTime", obj.getClassLoadingTime());
+    json.put("instantiationTime", obj.getInstantiationTime());
+    json.put("queueTime", obj.getQueueTime());
+    json.put("startTime", obj.getStartTime());
+    json.put("totalTime", obj.getTotalTime());
+  }
+}
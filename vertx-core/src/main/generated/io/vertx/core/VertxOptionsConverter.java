@@ -124,6 +124,16 @@ public class VertxOptionsConverter {
             obj.setUseDaemonThread((Boolean)member.getValue());
           }
           break;
+        case "maxConcurrentDeployments":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxConcurrentDeployments(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "lazyInitialization":
+          if (member.getValue() instanceof Boolean) {
+            obj.setLazyInitialization((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -177,5 +187,7 @@ public class VertxOptionsConverter {
     if (obj.getUseDaemonThread() != null) {
       json.put("useDaemonThread", obj.getUseDaemonThread());
     }
+    json.put("maxConcurrentDeployments", obj.getMaxConcurrentDeployments());
+    json.put("lazyInitialization", obj.isLazyInitialization());
   }
 }
@@ -39,6 +39,26 @@ public class DatagramSocketOptionsConverter {
             obj.setIpV6((Boolean)member.getValue());
           }
           break;
+        case "maxMessagesPerRead":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxMessagesPerRead(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxDatagramPayloadSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxDatagramPayloadSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "udpGro":
+          if (member.getValue() instanceof Boolean) {
+            obj.setUdpGro((Boolean)member.getValue());
+          }
+          break;
+        case "udpSegmentation":
+          if (member.getValue() instanceof Boolean) {
+            obj.setUdpSegmentation((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -55,5 +75,9 @@ public class DatagramSocketOptionsConverter {
       json.put("multicastNetworkInterface", obj.getMulticastNetworkInterface());
     }
     json.put("ipV6", obj.isIpV6());
+    json.put("maxMessagesPerRead", obj.getMaxMessagesPerRead());
+    json.put("maxDatagramPayloadSize", obj.getMaxDatagramPayloadSize());
+    json.put("udpGro", obj.isUdpGro());
+    json.put("udpSegmentation", obj.isUdpSegmentation());
   }
 }
@@ -0,0 +1,51 @@
+package io.vertx.core.http;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.http.HedgingOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.http.HedgingOptions} original class using Vert.x codegen.
+ */
+public class HedgingOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, HedgingOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "percentile":
+          if (member.getValue() instanceof Number) {
+            obj.setPercentile(((Number)member.getValue()).doubleValue());
+          }
+          break;
+        case "minDelay":
+          if (member.getValue() instanceof Number) {
+            obj.setMinDelay(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "maxDelay":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxDelay(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "budget":
+          if (member.getValue() instanceof Number) {
+            obj.setBudget(((Number)member.getValue()).doubleValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(HedgingOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(HedgingOptions obj, java.util.Map<String, Object> json) {
+    json.put("percentile", obj.getPercentile());
+    json.put("minDelay", obj.getMinDelay());
+    json.put("maxDelay", obj.getMaxDelay());
+    json.put("budget", obj.getBudget());
+  }
+}
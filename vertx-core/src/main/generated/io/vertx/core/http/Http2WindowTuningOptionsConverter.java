@@ -0,0 +1,39 @@
+package io.vertx.core.http;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.http.Http2WindowTuningOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.http.Http2WindowTuningOptions} original class using Vert.x codegen.
+ */
+public class Http2WindowTuningOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, Http2WindowTuningOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "maxConnectionWindowSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxConnectionWindowSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxStreamWindowSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxStreamWindowSize(((Number)member.getValue()).intValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(Http2WindowTuningOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(Http2WindowTuningOptions obj, java.util.Map<String, Object> json) {
+    json.put("maxConnectionWindowSize", obj.getMaxConnectionWindowSize());
+    json.put("maxStreamWindowSize", obj.getMaxStreamWindowSize());
+  }
+}
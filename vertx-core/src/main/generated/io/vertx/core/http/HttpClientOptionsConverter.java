@@ -24,6 +24,11 @@ public class HttpClientOptionsConverter {
             obj.setHttp2ConnectionWindowSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "http2WindowTuningOptions":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setHttp2WindowTuningOptions(new io.vertx.core.http.Http2WindowTuningOptions((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
         case "http2KeepAliveTimeout":
           if (member.getValue() instanceof Number) {
             obj.setHttp2KeepAliveTimeout(((Number)member.getValue()).intValue());
@@ -49,6 +54,11 @@ public class HttpClientOptionsConverter {
             obj.setPipeliningLimit(((Number)member.getValue()).intValue());
           }
           break;
+        case "pipeliningStallTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setPipeliningStallTimeout(((Number)member.getValue()).intValue());
+          }
+          break;
         case "verifyHost":
           if (member.getValue() instanceof Boolean) {
             obj.setVerifyHost((Boolean)member.getValue());
@@ -119,6 +129,11 @@ public class HttpClientOptionsConverter {
             obj.setMaxRedirects(((Number)member.getValue()).intValue());
           }
           break;
+        case "hedgingOptions":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setHedgingOptions(new io.vertx.core.http.HedgingOptions((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
         case "forceSni":
           if (member.getValue() instanceof Boolean) {
             obj.setForceSni((Boolean)member.getValue());
@@ -155,11 +170,15 @@ public class HttpClientOptionsConverter {
    static void toJson(HttpClientOptions obj, java.util.Map<String, Object> json) {
     json.put("http2MultiplexingLimit", obj.getHttp2MultiplexingLimit());
     json.put("http2ConnectionWindowSize", obj.getHttp2ConnectionWindowSize());
+    if (obj.getHttp2WindowTuningOptions() != null) {
+      json.put("http2WindowTuningOptions", obj.getHttp2WindowTuningOptions().toJson());
+    }
     json.put("http2KeepAliveTimeout", obj.getHttp2KeepAliveTimeout());
     json.put("keepAlive", obj.isKeepAlive());
     json.put("keepAliveTimeout", obj.getKeepAliveTimeout());
     json.put("pipelining", obj.isPipelining());
     json.put("pipeliningLimit", obj.getPipeliningLimit());
+    json.put("pipeliningStallTimeout", obj.getPipeliningStallTimeout());
     json.put("verifyHost", obj.isVerifyHost());
     json.put("decompressionSupported", obj.isDecompressionSupported());
     if (obj.getDefaultHost() != null) {
@@ -183,6 +202,9 @@ public class HttpClientOptionsConverter {
     json.put("http2ClearTextUpgrade", obj.isHttp2ClearTextUpgrade());
     json.put("http2ClearTextUpgradeWithPreflightRequest", obj.isHttp2ClearTextUpgradeWithPreflightRequest());
     json.put("maxRedirects", obj.getMaxRedirects());
+    if (obj.getHedgingOptions() != null) {
+      json.put("hedgingOptions", obj.getHedgingOptions().toJson());
+    }
     json.put("forceSni", obj.isForceSni());
     json.put("decoderInitialBufferSize", obj.getDecoderInitialBufferSize());
     if (obj.getTracingPolicy() != null) {
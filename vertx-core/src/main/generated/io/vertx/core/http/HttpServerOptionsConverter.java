@@ -24,6 +24,11 @@ public class HttpServerOptionsConverter {
             obj.setCompressionLevel(((Number)member.getValue()).intValue());
           }
           break;
+        case "compressionContentSizeThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setCompressionContentSizeThreshold(((Number)member.getValue()).intValue());
+          }
+          break;
         case "acceptUnmaskedFrames":
           if (member.getValue() instanceof Boolean) {
             obj.setAcceptUnmaskedFrames((Boolean)member.getValue());
@@ -54,6 +59,11 @@ public class HttpServerOptionsConverter {
             obj.setHandle100ContinueAutomatically((Boolean)member.getValue());
           }
           break;
+        case "sendDateHeader":
+          if (member.getValue() instanceof Boolean) {
+            obj.setSendDateHeader((Boolean)member.getValue());
+          }
+          break;
         case "maxChunkSize":
           if (member.getValue() instanceof Number) {
             obj.setMaxChunkSize(((Number)member.getValue()).intValue());
@@ -109,6 +119,21 @@ public class HttpServerOptionsConverter {
             obj.setHttp2ConnectionWindowSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "http2WindowTuningOptions":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setHttp2WindowTuningOptions(new io.vertx.core.http.Http2WindowTuningOptions((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
+        case "http2EncoderHeaderTableSize":
+          if (member.getValue() instanceof Number) {
+            obj.setHttp2EncoderHeaderTableSize(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "http2HeaderCacheSize":
+          if (member.getValue() instanceof Number) {
+            obj.setHttp2HeaderCacheSize(((Number)member.getValue()).intValue());
+          }
+          break;
         case "decompressionSupported":
           if (member.getValue() instanceof Boolean) {
             obj.setDecompressionSupported((Boolean)member.getValue());
@@ -185,6 +210,7 @@ public class HttpServerOptionsConverter {
    static void toJson(HttpServerOptions obj, java.util.Map<String, Object> json) {
     json.put("compressionSupported", obj.isCompressionSupported());
     json.put("compressionLevel", obj.getCompressionLevel());
+    json.put("compressionContentSizeThreshold", obj.getCompressionContentSizeThreshold());
     json.put("acceptUnmaskedFrames", obj.isAcceptUnmaskedFrames());
     json.put("maxWebSocketFrameSize", obj.getMaxWebSocketFrameSize());
     json.put("maxWebSocketMessageSize", obj.getMaxWebSocketMessageSize());
@@ -194,6 +220,7 @@ public class HttpServerOptionsConverter {
       json.put("webSocketSubProtocols", array);
     }
     json.put("handle100ContinueAutomatically", obj.isHandle100ContinueAutomatically());
+    json.put("sendDateHeader", obj.isSendDateHeader());
     json.put("maxChunkSize", obj.getMaxChunkSize());
     json.put("maxInitialLineLength", obj.getMaxInitialLineLength());
     json.put("maxHeaderSize", obj.getMaxHeaderSize());
@@ -210,6 +237,11 @@ public class HttpServerOptionsConverter {
     }
     json.put("http2ClearTextEnabled", obj.isHttp2ClearTextEnabled());
     json.put("http2ConnectionWindowSize", obj.getHttp2ConnectionWindowSize());
+    if (obj.getHttp2WindowTuningOptions() != null) {
+      json.put("http2WindowTuningOptions", obj.getHttp2WindowTuningOptions().toJson());
+    }
+    json.put("http2EncoderHeaderTableSize", obj.getHttp2EncoderHeaderTableSize());
+    json.put("http2HeaderCacheSize", obj.getHttp2HeaderCacheSize());
     json.put("decompressionSupported", obj.isDecompressionSupported());
     json.put("decoderInitialBufferSize", obj.getDecoderInitialBufferSize());
     json.put("perFrameWebSocketCompressionSupported", obj.getPerFrameWebSocketCompressionSupported());
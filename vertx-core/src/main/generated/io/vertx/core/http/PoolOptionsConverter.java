@@ -39,6 +39,21 @@ public class PoolOptionsConverter {
             obj.setMaxWaitQueueSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "connectionSelectionPolicy":
+          if (member.getValue() instanceof String) {
+            obj.setConnectionSelectionPolicy(io.vertx.core.http.ConnectionSelectionPolicy.valueOf((String)member.getValue()));
+          }
+          break;
+        case "minIdle":
+          if (member.getValue() instanceof Number) {
+            obj.setMinIdle(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "evictionJitter":
+          if (member.getValue() instanceof Number) {
+            obj.setEvictionJitter(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -53,5 +68,10 @@ public class PoolOptionsConverter {
     json.put("cleanerPeriod", obj.getCleanerPeriod());
     json.put("eventLoopSize", obj.getEventLoopSize());
     json.put("maxWaitQueueSize", obj.getMaxWaitQueueSize());
+    if (obj.getConnectionSelectionPolicy() != null) {
+      json.put("connectionSelectionPolicy", obj.getConnectionSelectionPolicy().name());
+    }
+    json.put("minIdle", obj.getMinIdle());
+    json.put("evictionJitter", obj.getEvictionJitter());
   }
 }
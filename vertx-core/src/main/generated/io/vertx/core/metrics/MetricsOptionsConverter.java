@@ -19,6 +19,11 @@ public class MetricsOptionsConverter {
             obj.setEnabled((Boolean)member.getValue());
           }
           break;
+        case "eventLoopSamplingInterval":
+          if (member.getValue() instanceof Number) {
+            obj.setEventLoopSamplingInterval(((Number)member.getValue()).longValue());
+          }
+          break;
       }
     }
   }
@@ -29,5 +34,6 @@ public class MetricsOptionsConverter {
 
    static void toJson(MetricsOptions obj, java.util.Map<String, Object> json) {
     json.put("enabled", obj.isEnabled());
+    json.put("eventLoopSamplingInterval", obj.getEventLoopSamplingInterval());
   }
 }
@@ -0,0 +1,39 @@
+package io.vertx.core.net;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.net.FlushConsolidationOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.net.FlushConsolidationOptions} original class using Vert.x codegen.
+ */
+public class FlushConsolidationOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, FlushConsolidationOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "maxWrites":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxWrites(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxBytes":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxBytes(((Number)member.getValue()).intValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(FlushConsolidationOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(FlushConsolidationOptions obj, java.util.Map<String, Object> json) {
+    json.put("maxWrites", obj.getMaxWrites());
+    json.put("maxBytes", obj.getMaxBytes());
+  }
+}
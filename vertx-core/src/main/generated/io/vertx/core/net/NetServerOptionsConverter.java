@@ -39,6 +39,11 @@ public class NetServerOptionsConverter {
             obj.setSni((Boolean)member.getValue());
           }
           break;
+        case "sslHandshakeOffloadOptions":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setSslHandshakeOffloadOptions(new io.vertx.core.net.SSLHandshakeOffloadOptions((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
         case "useProxyProtocol":
           if (member.getValue() instanceof Boolean) {
             obj.setUseProxyProtocol((Boolean)member.getValue());
@@ -82,6 +87,9 @@ public class NetServerOptionsConverter {
       json.put("clientAuth", obj.getClientAuth().name());
     }
     json.put("sni", obj.isSni());
+    if (obj.getSslHandshakeOffloadOptions() != null) {
+      json.put("sslHandshakeOffloadOptions", obj.getSslHandshakeOffloadOptions().toJson());
+    }
     json.put("useProxyProtocol", obj.isUseProxyProtocol());
     json.put("proxyProtocolTimeout", obj.getProxyProtocolTimeout());
     if (obj.getProxyProtocolTimeoutUnit() != null) {
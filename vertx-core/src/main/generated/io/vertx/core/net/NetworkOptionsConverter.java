@@ -49,6 +49,11 @@ public class NetworkOptionsConverter {
             obj.setReusePort((Boolean)member.getValue());
           }
           break;
+        case "flushConsolidationOptions":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setFlushConsolidationOptions(new io.vertx.core.net.FlushConsolidationOptions((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
       }
     }
   }
@@ -67,5 +72,8 @@ public class NetworkOptionsConverter {
       json.put("activityLogDataFormat", obj.getActivityLogDataFormat().name());
     }
     json.put("reusePort", obj.isReusePort());
+    if (obj.getFlushConsolidationOptions() != null) {
+      json.put("flushConsolidationOptions", obj.getFlushConsolidationOptions().toJson());
+    }
   }
 }
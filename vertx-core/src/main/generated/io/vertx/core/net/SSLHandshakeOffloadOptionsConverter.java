@@ -0,0 +1,47 @@
+package io.vertx.core.net;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.net.SSLHandshakeOffloadOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.net.SSLHandshakeOffloadOptions} original class using Vert.x codegen.
+ */
+public class SSLHandshakeOffloadOptionsConverter {
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, SSLHandshakeOffloadOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "poolName":
+          if (member.getValue() instanceof String) {
+            obj.setPoolName((String)member.getValue());
+          }
+          break;
+        case "poolSize":
+          if (member.getValue() instanceof Number) {
+            obj.setPoolSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxQueueSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxQueueSize(((Number)member.getValue()).intValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(SSLHandshakeOffloadOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(SSLHandshakeOffloadOptions obj, java.util.Map<String, Object> json) {
+    if (obj.getPoolName() != null) {
+      json.put("poolName", obj.getPoolName());
+    }
+    json.put("poolSize", obj.getPoolSize());
+    json.put("maxQueueSize", obj.getMaxQueueSize());
+  }
+}
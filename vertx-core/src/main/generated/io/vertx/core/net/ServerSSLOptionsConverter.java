@@ -24,6 +24,11 @@ public class ServerSSLOptionsConverter {
             obj.setSni((Boolean)member.getValue());
           }
           break;
+        case "handshakeOffloadOptions":
+          if (member.getValue() instanceof JsonObject) {
+            obj.setHandshakeOffloadOptions(new io.vertx.core.net.SSLHandshakeOffloadOptions((io.vertx.core.json.JsonObject)member.getValue()));
+          }
+          break;
       }
     }
   }
@@ -37,5 +42,8 @@ public class ServerSSLOptionsConverter {
       json.put("clientAuth", obj.getClientAuth().name());
     }
     json.put("sni", obj.isSni());
+    if (obj.getHandshakeOffloadOptions() != null) {
+      json.put("handshakeOffloadOptions", obj.getHandshakeOffloadOptions().toJson());
+    }
   }
 }
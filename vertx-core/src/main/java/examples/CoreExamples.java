@@ -43,6 +43,10 @@ public class CoreExamples {
     Vertx vertx = Vertx.vertx(new VertxOptions().setWorkerPoolSize(40));
   }
 
+  public void lazyInitialization() {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setLazyInitialization(true));
+  }
+
   public void example3(HttpServerRequest request) {
     request.response().putHeader("Content-Type", "text/plain").end("some text");
   }
@@ -344,6 +348,19 @@ public class CoreExamples {
       });
   }
 
+  public void deploymentTimings(Vertx vertx) {
+    vertx
+      .deployVerticle(new MyOrderProcessorVerticle())
+      .onSuccess(id -> {
+        DeploymentTimings timings = vertx.deploymentTimings(id);
+        System.out.println("Verticle started in " + TimeUnit.NANOSECONDS.toMillis(timings.getTotalTime()) + "ms");
+      });
+  }
+
+  public void maxConcurrentDeployments() {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setMaxConcurrentDeployments(4));
+  }
+
   public void example11(Vertx vertx, String deploymentID) {
     vertx
       .undeploy(deploymentID)
@@ -11,6 +11,7 @@
 
 package examples;
 
+import io.netty.handler.codec.compression.BrotliMode;
 import io.netty.handler.codec.compression.GzipOptions;
 import io.netty.handler.codec.compression.StandardCompressionOptions;
 import io.vertx.core.*;
@@ -24,7 +25,10 @@ import io.vertx.core.net.endpoint.LoadBalancer;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.ProxyOptions;
 import io.vertx.core.net.ProxyType;
+import io.vertx.core.net.SocketAddress;
 import io.vertx.core.net.endpoint.ServerEndpoint;
+import io.vertx.core.parsetools.JsonEventType;
+import io.vertx.core.parsetools.JsonParser;
 import io.vertx.core.streams.Pipe;
 import io.vertx.core.streams.ReadStream;
 
@@ -231,6 +235,19 @@ public class HTTPExamples {
     response.putHeader("content-type", "text/html").putHeader("other-header", "wibble");
   }
 
+  public void preEncodedHeaders(Vertx vertx) {
+    MultiMap headers = HttpHeaders.preEncoded(HttpHeaders.headers()
+      .add("server", "vert.x")
+      .add("content-type", "application/json"));
+    vertx.createHttpServer(new HttpServerOptions().setSendDateHeader(true))
+      .requestHandler(request -> {
+        HttpServerResponse response = request.response();
+        response.headers().addAll(headers);
+        response.end("{\"message\":\"Hello World\"}");
+      })
+      .listen(8080);
+  }
+
   public void example23(HttpServerRequest request) {
     HttpServerResponse response = request.response();
     response.setChunked(true);
@@ -331,6 +348,24 @@ public class HTTPExamples {
     HttpClientAgent client = vertx.createHttpClient(options);
   }
 
+  public void examplePoolWarmUp(HttpClientAgent client) {
+    client
+      .warmUp(SocketAddress.inetSocketAddress(8080, "backend"), 4)
+      .onComplete(ar -> {
+        if (ar.succeeded()) {
+          System.out.println("Connections ready");
+        }
+      });
+  }
+
+  public void examplePoolMinIdle(Vertx vertx) {
+    PoolOptions options = new PoolOptions()
+      .setHttp1MaxSize(10)
+      .setMinIdle(2)
+      .setEvictionJitter(5000);
+    HttpClientAgent client = vertx.createHttpClient(new HttpClientOptions().setKeepAliveTimeout(60), options);
+  }
+
   public void exampleClientLogging(Vertx vertx) {
     HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
     HttpClientAgent client = vertx.createHttpClient(options);
@@ -701,6 +736,26 @@ public class HTTPExamples {
       });
   }
 
+  public void exampleBodyAsJsonStream(HttpClientRequest request) {
+    request
+      .send()
+      .onSuccess(response -> {
+        // The body is a large JSON array of objects
+        JsonParser parser = response
+          .bodyAsJsonStream()
+          .objectValueMode();
+        parser.handler(event -> {
+          if (event.type() == JsonEventType.VALUE) {
+            JsonObject item = event.objectValue();
+            System.out.println("Received item " + item.getString("name"));
+          }
+        });
+        parser.endHandler(v -> {
+          System.out.println("All items received");
+        });
+      });
+  }
+
   private interface HttpClient2 {
     Future<HttpClientResponse> get(String requestURI);
   }
@@ -1359,6 +1414,25 @@ public class HTTPExamples {
     GzipOptions gzip = StandardCompressionOptions.gzip(6, 15, 8);
   }
 
+  public static void contentTypeCompressors() {
+    new HttpServerOptions()
+      .setCompressionSupported(true)
+      .addCompressor(StandardCompressionOptions.zstd())
+      .addCompressor(StandardCompressionOptions.gzip())
+      // Favor the compression ratio for JSON
+      .addContentTypeCompressor("application/json", StandardCompressionOptions.brotli(8, 22, BrotliMode.TEXT))
+      .addContentTypeCompressor("application/json", StandardCompressionOptions.gzip(9, 15, 8))
+      // Do not compress responses smaller than 1KB
+      .setCompressionContentSizeThreshold(1024);
+  }
+
+  public static void dictionaryCompression(Buffer dictionary) {
+    new HttpServerOptions()
+      .setCompressionSupported(true)
+      .addCompressor(new DictionaryCompressionOptions(dictionary))
+      .addCompressor(StandardCompressionOptions.gzip());
+  }
+
   public static void httpClientSharing1(Vertx vertx) {
     HttpClientAgent client = vertx.createHttpClient(new HttpClientOptions().setShared(true));
     vertx.deployVerticle(() -> new AbstractVerticle() {
@@ -1448,6 +1522,18 @@ public class HTTPExamples {
       .build();
   }
 
+  public static void requestHedging(Vertx vertx) {
+    HttpClientAgent client = vertx
+      .httpClientBuilder()
+      .with(new HttpClientOptions()
+        .setHedgingOptions(new HedgingOptions()
+          .setPercentile(0.95)
+          .setMaxDelay(500)
+          .setBudget(0.05)))
+      .withLoadBalancer(LoadBalancer.ROUND_ROBIN)
+      .build();
+  }
+
   private static int indexOfEndpoint(List<? extends ServerEndpoint> endpoints) {
     return 0;
   }
@@ -597,6 +597,16 @@ public class NetExamples {
       setSslEngineOptions(new OpenSSLEngineOptions());
   }
 
+  public void exampleSSLHandshakeOffload(Vertx vertx, JksOptions keyStoreOptions) {
+    NetServerOptions options = new NetServerOptions().
+      setSsl(true).
+      setKeyCertOptions(keyStoreOptions).
+      setSslHandshakeOffloadOptions(new SSLHandshakeOffloadOptions()
+        .setPoolSize(4)
+        .setMaxQueueSize(256));
+    NetServer server = vertx.createNetServer(options);
+  }
+
   public void example46(Vertx vertx, String verificationAlgorithm) {
     NetClientOptions options = new NetClientOptions().
       setSsl(true).
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The startup timings of a deployment, durations are expressed in nanoseconds.
+ * <p>
+ * The timings break down the time spent deploying a verticle:
+ * <ul>
+ *   <li>the verticle factory resolving and loading the verticle class, this is {@code 0} when a verticle instance or supplier is deployed</li>
+ *   <li>the instantiation of the verticle instances</li>
+ *   <li>the time waiting for the deployment to begin when the number of concurrent deployments is bounded by {@link VertxOptions#setMaxConcurrentDeployments(int)}</li>
+ *   <li>the start of the verticle instances, which includes the deployment of the children the verticles deploy when they start</li>
+ * </ul>
+ * The timings of the children deployed during the start are reported by {@link #getChildren()}.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class DeploymentTimings {
+
+  private String deploymentID;
+  private String identifier;
+  private int instances;
+  private long classLoadingTime;
+  private long instantiationTime;
+  private long queueTime;
+  private long startTime;
+  private long totalTime;
+  private List<DeploymentTimings> children;
+
+  public DeploymentTimings() {
+    children = new ArrayList<>();
+  }
+
+  public DeploymentTimings(DeploymentTimings other) {
+    this.deploymentID = other.deploymentID;
+    this.identifier = other.identifier;
+    this.instances = other.instances;
+    this.classLoadingTime = other.classLoadingTime;
+    this.instantiationTime = other.instantiationTime;
+    this.queueTime = other.queueTime;
+    this.startTime = other.startTime;
+    this.totalTime = other.totalTime;
+    this.children = new ArrayList<>(other.children.size());
+    for (DeploymentTimings child : other.children) {
+      this.children.add(new DeploymentTimings(child));
+    }
+  }
+
+  public DeploymentTimings(JsonObject json) {
+    this();
+    DeploymentTimingsConverter.fromJson(json, this);
+    // Nested data objects are not handled by the generated converter
+    JsonArray array = json.getJsonArray("children");
+    if (array != null) {
+      for (int i = 0;i < array.size();i++) {
+        children.add(new DeploymentTimings(array.getJsonObject(i)));
+      }
+    }
+  }
+
+  /**
+   * @return the deployment ID
+   */
+  public String getDeploymentID() {
+    return deploymentID;
+  }
+
+  public DeploymentTimings setDeploymentID(String deploymentID) {
+    this.deploymentID = deploymentID;
+    return this;
+  }
+
+  /**
+   * @return the identifier of the deployed verticle
+   */
+  public String getIdentifier() {
+    return identifier;
+  }
+
+  public DeploymentTimings setIdentifier(String identifier) {
+    this.identifier = identifier;
+    return this;
+  }
+
+  /**
+   * @return the number of deployed instances
+   */
+  public int getInstances() {
+    return instances;
+  }
+
+  public DeploymentTimings setInstances(int instances) {
+    this.instances = instances;
+    return this;
+  }
+
+  /**
+   * @return the time spent by the verticle factory to resolve and load the verticle class
+   */
+  public long getClassLoadingTime() {
+    return classLoadingTime;
+  }
+
+  public DeploymentTimings setClassLoadingTime(long classLoadingTime) {
+    this.classLoadingTime = classLoadingTime;
+    return this;
+  }
+
+  /**
+   * @return the time spent creating the verticle instances
+   */
+  public long getInstantiationTime() {
+    return instantiationTime;
+  }
+
+  public DeploymentTimings setInstantiationTime(long instantiationTime) {
+    this.instantiationTime = instantiationTime;
+    return this;
+  }
+
+  /**
+   * @return the time the deployment waited before it could begin
+   */
+  public long getQueueTime() {
+    return queueTime;
+  }
+
+  public DeploymentTimings setQueueTime(long queueTime) {
+    this.queueTime = queueTime;
+    return this;
+  }
+
+  /**
+   * @return the time spent starting the verticle instances concurrently, including the children deployed by the verticles
+   */
+  public long getStartTime() {
+    return startTime;
+  }
+
+  public DeploymentTimings setStartTime(long startTime) {
+    this.startTime = startTime;
+    return this;
+  }
+
+  /**
+   * @return the total time of the deployment, from the verticle class loading to the completion of the start
+   */
+  public long getTotalTime() {
+    return totalTime;
+  }
+
+  public DeploymentTimings setTotalTime(long totalTime) {
+    this.totalTime = totalTime;
+    return this;
+  }
+
+  /**
+   * @return the timings of the children deployed when the verticles started
+   */
+  @GenIgnore
+  public List<DeploymentTimings> getChildren() {
+    return children;
+  }
+
+  @GenIgnore
+  public DeploymentTimings setChildren(List<DeploymentTimings> children) {
+    this.children = children != null ? children : new ArrayList<>();
+    return this;
+  }
+
+  @GenIgnore
+  public DeploymentTimings addChild(DeploymentTimings child) {
+    children.add(child);
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    DeploymentTimingsConverter.toJson(this, json);
+    JsonArray array = new JsonArray();
+    for (DeploymentTimings child : children) {
+      array.add(child.toJson());
+    }
+    json.put("children", array);
+    return json;
+  }
+
+  @Override
+  public String toString() {
+    return toJson().encode();
+  }
+}
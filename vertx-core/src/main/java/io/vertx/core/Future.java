@@ -18,6 +18,7 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.impl.Utils;
 import io.vertx.core.impl.future.CompositeFutureImpl;
 import io.vertx.core.impl.future.FailedFuture;
+import io.vertx.core.impl.future.StreamingJoin;
 import io.vertx.core.impl.future.SucceededFuture;
 
 import java.util.List;
@@ -185,6 +186,27 @@ public interface Future<T> extends AsyncResult<T> {
     return CompositeFutureImpl.join(futures.toArray(new Future[0]));
   }
 
+  /**
+   * Like {@link #join(List)} but reports the outcome of each future to the {@code handler} as it completes instead
+   * of retaining the futures in a {@link CompositeFuture}, this is well suited for joining a large number of futures.
+   * <p/>
+   * The {@code handler} is called by the thread completing each future, therefore it can be called concurrently when
+   * the futures are completed by distinct threads.
+   * <p/>
+   * The returned future is completed when all the futures are completed, it is succeeded when all the futures are
+   * succeeded otherwise it is failed with the first observed failure. When {@code futures} is empty, the returned
+   * future is already completed.
+   *
+   * @param futures the futures to join
+   * @param handler the handler receiving each outcome
+   * @return a future completed when all the futures are completed
+   */
+  @GenIgnore
+  static <T> Future<Void> joinEach(Iterable<? extends Future<? extends T>> futures, Completable<? super T> handler) {
+    Objects.requireNonNull(handler, "No null handler accepted");
+    return StreamingJoin.join(futures, handler);
+  }
+
   /**
    * Create a promise and pass it to the {@code handler}, and then returns this future's promise. The {@code handler}
    * is responsible for completing the promise, if the {@code handler} throws an exception, the promise is attempted
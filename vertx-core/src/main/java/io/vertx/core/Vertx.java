@@ -553,6 +553,17 @@ public interface Vertx extends Measured {
    */
   Set<String> deploymentIDs();
 
+  /**
+   * Return the startup timings of a deployment.
+   *
+   * @param deploymentID the deployment ID
+   * @return the timings of the deployment or {@code null} when no deployment exists for this ID or when this
+   *         instance does not record deployment timings
+   */
+  default DeploymentTimings deploymentTimings(String deploymentID) {
+    return null;
+  }
+
   /**
    * Register a {@code VerticleFactory} that can be used for deploying Verticles based on an identifier.
    *
@@ -122,6 +122,16 @@ public class VertxOptions {
    */
   public static final boolean DEFAULT_USE_DAEMON_THREAD = false;
 
+  /**
+   * The default max number of concurrent deployments = -1 (unbounded)
+   */
+  public static final int DEFAULT_MAX_CONCURRENT_DEPLOYMENTS = -1;
+
+  /**
+   * The default value of lazy initialization = false
+   */
+  public static final boolean DEFAULT_LAZY_INITIALIZATION = false;
+
   private int eventLoopPoolSize = DEFAULT_EVENT_LOOP_POOL_SIZE;
   private int workerPoolSize = DEFAULT_WORKER_POOL_SIZE;
   private int internalBlockingPoolSize = DEFAULT_INTERNAL_BLOCKING_POOL_SIZE;
@@ -144,6 +154,8 @@ public class VertxOptions {
   private TimeUnit blockedThreadCheckIntervalUnit = DEFAULT_BLOCKED_THREAD_CHECK_INTERVAL_UNIT;
   private boolean disableTCCL = DEFAULT_DISABLE_TCCL;
   private Boolean useDaemonThread = DEFAULT_USE_DAEMON_THREAD;
+  private int maxConcurrentDeployments = DEFAULT_MAX_CONCURRENT_DEPLOYMENTS;
+  private boolean lazyInitialization = DEFAULT_LAZY_INITIALIZATION;
 
   /**
    * Default constructor
@@ -179,6 +191,8 @@ public class VertxOptions {
     this.tracingOptions = other.tracingOptions != null ? other.tracingOptions.copy() : null;
     this.disableTCCL = other.disableTCCL;
     this.useDaemonThread = other.useDaemonThread;
+    this.maxConcurrentDeployments = other.maxConcurrentDeployments;
+    this.lazyInitialization = other.lazyInitialization;
   }
 
   /**
@@ -679,6 +693,61 @@ public class VertxOptions {
     return this;
   }
 
+  /**
+   * @return the max number of deployments starting concurrently
+   */
+  public int getMaxConcurrentDeployments() {
+    return maxConcurrentDeployments;
+  }
+
+  /**
+   * Set the max number of deployments starting concurrently, the deployments beyond this number wait until a deployment
+   * completes. Verticle instances and independent deployments start concurrently on their event loops, bounding them
+   * limits the contention on the event loops when an application deploys many verticles at once.
+   * <p>
+   * Only the deployments made outside a verticle are bounded, the deployments made by a verticle are not bounded since its
+   * start can depend on them.
+   * <p>
+   * The default value is {@code -1} (unbounded).
+   *
+   * @param maxConcurrentDeployments the max number of concurrent deployments
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setMaxConcurrentDeployments(int maxConcurrentDeployments) {
+    if (maxConcurrentDeployments != -1 && maxConcurrentDeployments < 1) {
+      throw new IllegalArgumentException("maxConcurrentDeployments must be -1 or > 0");
+    }
+    this.maxConcurrentDeployments = maxConcurrentDeployments;
+    return this;
+  }
+
+  /**
+   * @return whether the initialization of non-essential services is deferred to their first use
+   */
+  public boolean isLazyInitialization() {
+    return lazyInitialization;
+  }
+
+  /**
+   * Set whether the initialization of non-essential services is deferred to their first use, reducing the time to
+   * create a Vertx instance.
+   * <p>
+   * When enabled:
+   * <ul>
+   *   <li>the hostname resolver is created on the first hostname resolution</li>
+   *   <li>the file cache directory is created when the first classpath resource is extracted</li>
+   *   <li>the cluster manager service providers are loaded and initialized only when a clustered instance is created</li>
+   * </ul>
+   * Configuration errors of these services are reported on their first use instead of the creation of the instance.
+   *
+   * @param lazyInitialization {@code true} to defer the initialization of non-essential services
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setLazyInitialization(boolean lazyInitialization) {
+    this.lazyInitialization = lazyInitialization;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     VertxOptionsConverter.toJson(this, json);
@@ -710,6 +779,8 @@ public class VertxOptions {
         ", warningExceptionTime=" + warningExceptionTime +
         ", disableTCCL=" + disableTCCL +
         ", useDaemonThread=" + useDaemonThread +
+        ", maxConcurrentDeployments=" + maxConcurrentDeployments +
+        ", lazyInitialization=" + lazyInitialization +
         '}';
   }
 }
@@ -736,4 +736,20 @@ public interface Buffer extends ClusterSerializable, Shareable {
    */
   Buffer slice(int start, int end);
 
+  /**
+   * Returns a read-only view of this buffer, modifying the returned buffer throws a
+   * {@link java.nio.ReadOnlyBufferException}. A read-only buffer is not copied by {@link #copy()}, slices of a read-only
+   * buffer are read-only, e.g. the event-bus delivers a read-only buffer to local consumers by reference instead
+   * of copying it for each consumer.
+   * <p>
+   * The view shares the content of this buffer, this buffer must not be modified after the view is handed out.
+   * <p>
+   * The default implementation returns a read-only copy of this buffer.
+   *
+   * @return a read-only view of this buffer or this buffer when it is already read-only
+   */
+  default Buffer asReadOnly() {
+    return Buffer.buffer(getBytes()).asReadOnly();
+  }
+
 }
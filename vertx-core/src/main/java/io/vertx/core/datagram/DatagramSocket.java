@@ -21,6 +21,8 @@ import io.vertx.core.metrics.Measured;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.streams.WriteStream;
 
+import java.util.List;
+
 /**
  * A datagram socket can be used to send {@link DatagramPacket}'s to remote datagram servers
  * and receive {@link DatagramPacket}s .
@@ -58,6 +60,21 @@ public interface DatagramSocket extends Measured {
    */
   WriteStream<Buffer> sender(int port, String host);
 
+  /**
+   * Write the given packets to the {@link io.vertx.core.net.SocketAddress} with a single flush, allowing the native
+   * transports to send them with a single system call ({@code sendmmsg}).
+   * <p>
+   * When {@link DatagramSocketOptions#setUdpSegmentation(boolean) UDP segmentation} is enabled and supported by the
+   * transport, packets of the same size (the last one can be smaller) are sent as a single buffer segmented by the
+   * kernel.
+   *
+   * @param packets  the packets to write
+   * @param port  the host port of the remote peer
+   * @param host  the host address of the remote peer
+   * @return a future notified once the writes complete.
+   */
+  Future<Void> send(List<Buffer> packets, int port, String host);
+
   /**
    * Write the given {@link String} to the {@link io.vertx.core.net.SocketAddress} using UTF8 encoding.
    *
@@ -166,6 +183,17 @@ public interface DatagramSocket extends Measured {
 
   DatagramSocket handler(Handler<DatagramPacket> handler);
 
+  /**
+   * Set a handler receiving the packets read by a single read loop of the socket as a list, when set this handler
+   * is used instead of the {@link #handler(Handler) packet handler}.
+   * <p>
+   * The max number of packets read per loop is configured by {@link DatagramSocketOptions#setMaxMessagesPerRead(int)}.
+   *
+   * @param handler the batch handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  DatagramSocket batchHandler(Handler<List<DatagramPacket>> handler);
+
   DatagramSocket exceptionHandler(Handler<Throwable> handler);
 
 }
@@ -15,6 +15,7 @@ import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.FlushConsolidationOptions;
 import io.vertx.core.net.NetworkOptions;
 import io.netty.handler.logging.ByteBufFormat;
 
@@ -57,11 +58,35 @@ public class DatagramSocketOptions extends NetworkOptions {
    */
   public static final boolean DEFAULT_IPV6 = false;
 
+  /**
+   * The default max number of packets read per read loop = 1
+   */
+  public static final int DEFAULT_MAX_MESSAGES_PER_READ = 1;
+
+  /**
+   * The default max datagram payload size = 0 (reads a single datagram per system call)
+   */
+  public static final int DEFAULT_MAX_DATAGRAM_PAYLOAD_SIZE = 0;
+
+  /**
+   * The default value of UDP generic receive offload = false
+   */
+  public static final boolean DEFAULT_UDP_GRO = false;
+
+  /**
+   * The default value of UDP segmentation offload = false
+   */
+  public static final boolean DEFAULT_UDP_SEGMENTATION = false;
+
   private boolean broadcast;
   private boolean loopbackModeDisabled;
   private int multicastTimeToLive;
   private String multicastNetworkInterface;
   private boolean ipV6;
+  private int maxMessagesPerRead;
+  private int maxDatagramPayloadSize;
+  private boolean udpGro;
+  private boolean udpSegmentation;
 
   /**
    * Default constructor
@@ -84,6 +109,10 @@ public class DatagramSocketOptions extends NetworkOptions {
     this.multicastTimeToLive = other.getMulticastTimeToLive();
     this.multicastNetworkInterface = other.getMulticastNetworkInterface();
     this.ipV6 = other.isIpV6();
+    this.maxMessagesPerRead = other.getMaxMessagesPerRead();
+    this.maxDatagramPayloadSize = other.getMaxDatagramPayloadSize();
+    this.udpGro = other.isUdpGro();
+    this.udpSegmentation = other.isUdpSegmentation();
   }
 
   /**
@@ -103,6 +132,10 @@ public class DatagramSocketOptions extends NetworkOptions {
     multicastTimeToLive = DEFAULT_MULTICAST_TIME_TO_LIVE;
     multicastNetworkInterface = DEFAULT_MULTICAST_NETWORK_INTERFACE;
     ipV6 = DEFAULT_IPV6;
+    maxMessagesPerRead = DEFAULT_MAX_MESSAGES_PER_READ;
+    maxDatagramPayloadSize = DEFAULT_MAX_DATAGRAM_PAYLOAD_SIZE;
+    udpGro = DEFAULT_UDP_GRO;
+    udpSegmentation = DEFAULT_UDP_SEGMENTATION;
   }
 
   @Override
@@ -138,6 +171,11 @@ public class DatagramSocketOptions extends NetworkOptions {
     return (DatagramSocketOptions) super.setReusePort(reusePort);
   }
 
+  @Override
+  public DatagramSocketOptions setFlushConsolidationOptions(FlushConsolidationOptions flushConsolidationOptions) {
+    return (DatagramSocketOptions) super.setFlushConsolidationOptions(flushConsolidationOptions);
+  }
+
   @Override
   public int getTrafficClass() {
     return super.getTrafficClass();
@@ -243,6 +281,93 @@ public class DatagramSocketOptions extends NetworkOptions {
     return this;
   }
 
+  /**
+   * @return the max number of packets read per read loop
+   */
+  public int getMaxMessagesPerRead() {
+    return maxMessagesPerRead;
+  }
+
+  /**
+   * Set the max number of packets read per read loop, the packets read by a loop are delivered together to
+   * the {@link DatagramSocket#batchHandler(io.vertx.core.Handler) batch handler}.
+   *
+   * @param maxMessagesPerRead the max number of packets
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DatagramSocketOptions setMaxMessagesPerRead(int maxMessagesPerRead) {
+    Arguments.require(maxMessagesPerRead > 0, "maxMessagesPerRead must be > 0");
+    this.maxMessagesPerRead = maxMessagesPerRead;
+    return this;
+  }
+
+  /**
+   * @return the max datagram payload size
+   */
+  public int getMaxDatagramPayloadSize() {
+    return maxDatagramPayloadSize;
+  }
+
+  /**
+   * Set the max payload size of the datagrams received by the socket. When it is greater than {@code 0}, the receive
+   * buffer holds {@link #getMaxMessagesPerRead()} datagrams of this size and several datagrams are read with a single
+   * system call ({@code recvmmsg}).
+   * <p/>
+   * This is only supported by the native epoll transport and is ignored when {@link #setUdpGro(boolean) UDP generic
+   * receive offload} is enabled.
+   *
+   * @param maxDatagramPayloadSize the max datagram payload size, {@code 0} disables multi-message reads
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DatagramSocketOptions setMaxDatagramPayloadSize(int maxDatagramPayloadSize) {
+    Arguments.require(maxDatagramPayloadSize >= 0, "maxDatagramPayloadSize must be >= 0");
+    this.maxDatagramPayloadSize = maxDatagramPayloadSize;
+    return this;
+  }
+
+  /**
+   * @return whether UDP generic receive offload is enabled
+   */
+  public boolean isUdpGro() {
+    return udpGro;
+  }
+
+  /**
+   * Enable UDP generic receive offload, the kernel coalesces the datagrams received from a peer and the transport
+   * splits them back into packets. Datagrams are then read one system call at a time, the
+   * {@link #setMaxDatagramPayloadSize(int) max datagram payload size} is ignored.
+   * <p/>
+   * This is only supported by the native epoll transport.
+   *
+   * @param udpGro {@code true} to enable generic receive offload
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DatagramSocketOptions setUdpGro(boolean udpGro) {
+    this.udpGro = udpGro;
+    return this;
+  }
+
+  /**
+   * @return whether UDP segmentation offload is used
+   */
+  public boolean isUdpSegmentation() {
+    return udpSegmentation;
+  }
+
+  /**
+   * Use UDP segmentation offload for the packets sent with {@link DatagramSocket#send(java.util.List, int, String)},
+   * packets of equal size are sent to the kernel as a single buffer segmented by the kernel or the network interface.
+   * <p/>
+   * This is only supported by the native epoll transport, otherwise packets are sent individually.
+   *
+   * @param udpSegmentation {@code true} to use segmentation offload
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DatagramSocketOptions setUdpSegmentation(boolean udpSegmentation) {
+    this.udpSegmentation = udpSegmentation;
+    return this;
+  }
+
   @Override
   public DatagramSocketOptions setLogActivity(boolean logEnabled) {
     return (DatagramSocketOptions) super.setLogActivity(logEnabled);
@@ -12,15 +12,18 @@
 package io.vertx.core.datagram.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPromise;
 import io.netty.channel.MaxMessagesRecvByteBufAllocator;
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.DatagramPacket;
 import io.netty.channel.socket.InternetProtocolFamily;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.concurrent.PromiseCombiner;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Closeable;
 import io.vertx.core.Future;
@@ -36,6 +39,7 @@ import io.vertx.core.internal.CloseFuture;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
 import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.net.FlushConsolidationOptions;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.net.impl.VertxConnection;
 import io.vertx.core.net.impl.VertxHandler;
@@ -47,6 +51,8 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -54,6 +60,10 @@ import java.util.Objects;
  */
 public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Closeable {
 
+  // Limits of the Linux UDP segmentation offload
+  private static final int MAX_SEGMENTS = 64;
+  private static final int MAX_SEGMENTED_PACKET_SIZE = 65507;
+
   public static DatagramSocketImpl create(VertxInternal vertx, CloseFuture closeFuture, DatagramSocketOptions options) {
     DatagramSocketImpl socket = new DatagramSocketImpl(vertx, closeFuture, options);
     // Make sure object is fully initiliased to avoid race with async registration
@@ -65,8 +75,11 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
   private final DatagramSocketMetrics metrics;
   private DatagramChannel channel;
   private Handler<io.vertx.core.datagram.DatagramPacket> packetHandler;
+  private Handler<List<io.vertx.core.datagram.DatagramPacket>> batchHandler;
   private Handler<Throwable> exceptionHandler;
   private final CloseFuture closeFuture;
+  private final FlushConsolidationOptions flushConsolidationOptions;
+  private final boolean udpSegmentation;
 
   private DatagramSocketImpl(VertxInternal vertx, CloseFuture closeFuture, DatagramSocketOptions options) {
     Transport transport = vertx.transport();
@@ -75,7 +88,7 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
     ContextInternal context = vertx.getOrCreateContext();
     channel.config().setOption(ChannelOption.DATAGRAM_CHANNEL_ACTIVE_ON_REGISTRATION, true);
     MaxMessagesRecvByteBufAllocator bufAllocator = channel.config().getRecvByteBufAllocator();
-    bufAllocator.maxMessagesPerRead(1);
+    bufAllocator.maxMessagesPerRead(options.getMaxMessagesPerRead());
     context.nettyEventLoop().register(channel);
     if (options.getLogActivity()) {
       channel.pipeline().addLast("logging", new LoggingHandler(options.getActivityLogDataFormat()));
@@ -85,6 +98,8 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
     this.channel = channel;
     this.context = context;
     this.closeFuture = closeFuture;
+    this.flushConsolidationOptions = options.getFlushConsolidationOptions();
+    this.udpSegmentation = options.isUdpSegmentation();
   }
 
   private void init() {
@@ -227,6 +242,12 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
     this.packetHandler = handler;
     return this;
   }
+
+  @Override
+  public synchronized DatagramSocket batchHandler(Handler<List<io.vertx.core.datagram.DatagramPacket>> handler) {
+    this.batchHandler = handler;
+    return this;
+  }
   @Override
   public DatagramSocketImpl exceptionHandler(Handler<Throwable> handler) {
     exceptionHandler = handler;
@@ -283,6 +304,82 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
     return promise.future();
   }
 
+  @Override
+  public Future<Void> send(List<Buffer> packets, int port, String host) {
+    Objects.requireNonNull(packets, "no null packets accepted");
+    Objects.requireNonNull(host, "no null host accepted");
+    if (port < 0 || port > 65535) {
+      throw new IllegalArgumentException("port out of range:" + port);
+    }
+    if (packets.isEmpty()) {
+      return context.succeededFuture();
+    }
+    HostnameResolver resolver = context.owner().hostnameResolver();
+    PromiseInternal<Void> promise = context.promise();
+    io.netty.util.concurrent.Future<InetSocketAddress> f1 = resolver.resolveHostname(context.nettyEventLoop(), host);
+    f1.addListener((GenericFutureListener<io.netty.util.concurrent.Future<InetSocketAddress>>) res1 -> {
+      if (res1.isSuccess()) {
+        InetSocketAddress recipient = new InetSocketAddress(f1.getNow().getAddress(), port);
+        long length = 0L;
+        for (Buffer packet : packets) {
+          length += packet.length();
+        }
+        DatagramPacket segmented = udpSegmentation ? segmentedPacket(packets, length, recipient) : null;
+        ChannelFuture f2;
+        if (segmented != null) {
+          f2 = channel.writeAndFlush(segmented);
+        } else {
+          PromiseCombiner combiner = new PromiseCombiner(channel.eventLoop());
+          for (Buffer packet : packets) {
+            combiner.add(channel.write(new DatagramPacket(((BufferInternal)packet).getByteBuf(), recipient)));
+          }
+          ChannelPromise aggregate = channel.newPromise();
+          combiner.finish(aggregate);
+          channel.flush();
+          f2 = aggregate;
+        }
+        if (metrics != null) {
+          long bytesWritten = length;
+          f2.addListener(fut -> {
+            if (fut.isSuccess()) {
+              metrics.bytesWritten(null, SocketAddress.inetSocketAddress(port, host), bytesWritten);
+            }
+          });
+        }
+        f2.addListener(promise);
+      } else {
+        promise.fail(res1.cause());
+      }
+    });
+    return promise.future();
+  }
+
+  /**
+   * Create a packet segmented by the kernel when all the packets but the last one have the same size and the last one
+   * is not larger, otherwise {@code null}.
+   */
+  private DatagramPacket segmentedPacket(List<Buffer> packets, long length, InetSocketAddress recipient) {
+    int num = packets.size();
+    int segmentSize = packets.get(0).length();
+    if (num < 2 || num > MAX_SEGMENTS || length > MAX_SEGMENTED_PACKET_SIZE || segmentSize == 0 || packets.get(num - 1).length() > segmentSize) {
+      return null;
+    }
+    ByteBuf[] segments = new ByteBuf[num];
+    for (int i = 0;i < num;i++) {
+      Buffer packet = packets.get(i);
+      if (i < num - 1 && packet.length() != segmentSize) {
+        return null;
+      }
+      segments[i] = ((BufferInternal)packet).getByteBuf();
+    }
+    ByteBuf content = Unpooled.wrappedBuffer(segments);
+    DatagramPacket packet = context.owner().transport().segmentedDatagramPacket(content, segmentSize, recipient);
+    if (packet == null) {
+      content.release();
+    }
+    return packet;
+  }
+
   @Override
   public WriteStream<Buffer> sender(int port, String host) {
     Arguments.requireInRange(port, 0, 65535, "port p must be in range 0 <= p <= 65535");
@@ -336,11 +433,16 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
   }
 
   private Connection createConnection(ChannelHandlerContext chctx) {
-    return new Connection(context, chctx);
+    Connection conn = new Connection(context, chctx);
+    conn.flushConsolidation(flushConsolidationOptions);
+    return conn;
   }
 
   class Connection extends VertxConnection {
 
+    // The packets of the current read loop, only accessed from the event-loop thread
+    private List<io.vertx.core.datagram.DatagramPacket> batch;
+
     public Connection(ContextInternal context, ChannelHandlerContext channel) {
       super(context, channel);
     }
@@ -389,11 +491,33 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
         if (metrics != null) {
           metrics.bytesRead(null, packet.sender(), packet.data().length());
         }
+        if (batchHandler != null) {
+          if (batch == null) {
+            batch = new ArrayList<>();
+          }
+          batch.add(packet);
+          return;
+        }
         handler = packetHandler;
       }
       if (handler != null) {
         context.emit(packet, handler);
       }
     }
+
+    @Override
+    protected void handleReadComplete() {
+      List<io.vertx.core.datagram.DatagramPacket> packets = batch;
+      if (packets != null) {
+        batch = null;
+        Handler<List<io.vertx.core.datagram.DatagramPacket>> handler;
+        synchronized (DatagramSocketImpl.this) {
+          handler = batchHandler;
+        }
+        if (handler != null) {
+          context.emit(packets, handler);
+        }
+      }
+    }
   }
 }
@@ -416,6 +416,12 @@ public class EventBusOptions extends TCPSSLOptions {
     return this;
   }
 
+  @Override
+  public EventBusOptions setFlushConsolidationOptions(FlushConsolidationOptions flushConsolidationOptions) {
+    super.setFlushConsolidationOptions(flushConsolidationOptions);
+    return this;
+  }
+
   @Override
   public EventBusOptions setSendBufferSize(int sendBufferSize) {
     super.setSendBufferSize(sendBufferSize);
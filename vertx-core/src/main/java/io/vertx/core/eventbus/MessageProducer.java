@@ -14,6 +14,7 @@ package io.vertx.core.eventbus;
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 
 /**
  * Represents a stream of message that can be written to.
@@ -54,6 +55,48 @@ public interface MessageProducer<T> {
    */
   Future<Void> write(T body);
 
+  /**
+   * Enable credit based flow control with the consumer of the messages, only point-to-point producers support
+   * flow control.
+   * <p>
+   * The consumer grants a credit back to the producer each time it delivers a message to its handler, the producer
+   * can send at most {@code maxSize} messages the consumer has not yet handled. Beyond this limit, messages are queued
+   * by the producer until the consumer grants credits and {@link #writeQueueFull()} returns {@code true}.
+   * <p>
+   * Flow control works locally and across a cluster, the consumer should buffer at least {@code maxSize} messages
+   * when paused, see {@link MessageConsumer#setMaxBufferedMessages(int)}.
+   * <p>
+   * When the consumer grants no credits during the {@link DeliveryOptions#getSendTimeout() send timeout} while
+   * messages are queued, or when the address has no consumer anymore, the queued messages are failed with a
+   * {@link ReplyException} and the producer can send {@code maxSize} messages again.
+   *
+   * @param maxSize the max number of messages in flight
+   * @return this producer object
+   */
+  @Fluent
+  MessageProducer<T> setWriteQueueMaxSize(int maxSize);
+
+  /**
+   * This will return {@code true} when the consumer has not yet granted credits for the max number of messages
+   * in flight. When flow control is not enabled, this returns {@code false}.
+   *
+   * @return {@code true} if the write queue is full
+   */
+  default boolean writeQueueFull() {
+    return false;
+  }
+
+  /**
+   * Set a drain handler on the producer. The drain handler will be called when the write queue is no longer full.
+   *
+   * @param handler the handler
+   * @return this producer object
+   */
+  @Fluent
+  default MessageProducer<T> drainHandler(Handler<Void> handler) {
+    return this;
+  }
+
   /**
    * Closes the producer, this method should be called when the message producer is not used anymore.
    *
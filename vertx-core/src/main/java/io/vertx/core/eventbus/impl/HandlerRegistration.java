@@ -45,13 +45,29 @@ public abstract class HandlerRegistration<T> implements Closeable {
     if (bus.metrics != null) {
       bus.metrics.scheduleMessage(metric, msg.isLocal());
     }
-    context.executor().execute(() -> {
-      // Need to check handler is still there - the handler might have been removed after the message were sent but
-      // before it was received
-      if (!doReceive(msg)) {
-        discard(msg);
-      }
-    });
+    schedule(msg);
+  }
+
+  /**
+   * Schedule the reception of a message on the registration context, this can be called from any thread.
+   *
+   * @param msg the message
+   */
+  void schedule(MessageImpl msg) {
+    context.executor().execute(() -> handle(msg));
+  }
+
+  /**
+   * Handle a scheduled message on the registration context.
+   *
+   * @param msg the message
+   */
+  final void handle(Message<T> msg) {
+    // Need to check handler is still there - the handler might have been removed after the message were sent but
+    // before it was received
+    if (!doReceive(msg)) {
+      discard(msg);
+    }
   }
 
   public String address() {
@@ -12,15 +12,18 @@
 package io.vertx.core.eventbus.impl;
 
 import io.vertx.core.*;
+import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.impl.Arguments;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.concurrent.InboundMessageQueue;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.core.streams.ReadStream;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /*
  */
@@ -30,7 +33,19 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
 
   private static final int DEFAULT_MAX_BUFFERED_MESSAGES = 1000;
 
+  /**
+   * The max number of messages delivered by a single task of the consumer context.
+   */
+  private static final int MAX_BATCH_SIZE = 256;
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<MessageConsumerImpl, InboundMessageQueue> INBOUND_UPDATER =
+    AtomicReferenceFieldUpdater.newUpdater(MessageConsumerImpl.class, InboundMessageQueue.class, "inbound");
+
   private final boolean localOnly;
+  private final boolean batched;
+  // Created on the first message sent from another thread
+  private volatile InboundMessageQueue<Message<T>> inbound;
   private Handler<Message<T>> handler;
   private Handler<Void> endHandler;
   private Handler<Message<T>> discardHandler;
@@ -39,11 +54,45 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
   private long demand = Long.MAX_VALUE;
   private Promise<Void> result;
   private boolean registered;
+  // Credits granted to producers using flow control, keyed by credit address
+  private Map<String, Credit> credits;
 
   MessageConsumerImpl(ContextInternal context, EventBusImpl eventBus, String address, boolean localOnly) {
     super(context, eventBus, address, false);
     this.localOnly = localOnly;
     this.result = context.promise();
+    // Worker contexts keep a task per message, so a batch does not hold a worker thread
+    this.batched = context.isEventLoopContext();
+  }
+
+  @Override
+  void schedule(MessageImpl msg) {
+    InboundMessageQueue<Message<T>> queue = inbound;
+    if (queue == null) {
+      if (!batched || context.executor().inThread()) {
+        super.schedule(msg);
+        return;
+      }
+      queue = inbound();
+    }
+    if (queue.add(msg)) {
+      // Senders wake the consumer context only when the queue is empty, messages are then delivered in batches
+      queue.scheduleDrain();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private InboundMessageQueue<Message<T>> inbound() {
+    InboundMessageQueue<Message<T>> queue = new InboundMessageQueue<>(context.executor(), MAX_BATCH_SIZE) {
+      @Override
+      protected void handleMessage(Message<T> msg) {
+        handle(msg);
+      }
+    };
+    if (!INBOUND_UPDATER.compareAndSet(this, null, queue)) {
+      queue = inbound;
+    }
+    return queue;
   }
 
   @Override
@@ -159,9 +208,50 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
     // Handle the message outside the sync block
     // https://bugs.eclipse.org/bugs/show_bug.cgi?id=473714
     dispatch(theHandler, message, context.duplicate());
+    grantCredit(message);
     checkNextTick();
   }
 
+  @Override
+  void discard(Message<T> msg) {
+    super.discard(msg);
+    // The producer must not wait for the credit of a message that will never be handled
+    grantCredit(msg);
+  }
+
+  private void grantCredit(Message<T> msg) {
+    MessageImpl<?, T> impl = (MessageImpl<?, T>) msg;
+    String creditAddress = impl.creditAddress();
+    if (creditAddress != null) {
+      synchronized (this) {
+        if (credits == null) {
+          // Credits are accumulated and granted to each producer with a single message
+          credits = new HashMap<>();
+          context.runOnContext(v -> sendCredits());
+        }
+        Credit credit = credits.get(creditAddress);
+        if (credit == null) {
+          credit = new Credit(impl);
+          credits.put(creditAddress, credit);
+        }
+        credit.amount++;
+      }
+    }
+  }
+
+  private void sendCredits() {
+    Map<String, Credit> granted;
+    synchronized (this) {
+      granted = credits;
+      credits = null;
+    }
+    DeliveryOptions options = new DeliveryOptions();
+    granted.forEach((creditAddress, credit) -> {
+      MessageImpl msg = credit.message.createReply(creditAddress, credit.amount, options);
+      bus.sendReply(msg, options, null);
+    });
+  }
+
   private synchronized void checkNextTick() {
     // Check if there are more pending messages in the queue that can be processed next time around
     if (!pending.isEmpty() && demand > 0L) {
@@ -265,4 +355,14 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
   public synchronized Handler<Message<T>> getHandler() {
     return handler;
   }
+
+  private static class Credit {
+
+    private final MessageImpl<?, ?> message;
+    private int amount;
+
+    private Credit(MessageImpl<?, ?> message) {
+      this.message = message;
+    }
+  }
 }
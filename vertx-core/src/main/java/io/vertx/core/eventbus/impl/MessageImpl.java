@@ -119,11 +119,26 @@ public class MessageImpl<U, V> implements Message<V> {
   }
 
   protected MessageImpl createReply(Object message, DeliveryOptions options) {
-    MessageImpl reply = bus.createMessage(true, isLocal(), replyAddress, options.getHeaders(), message, options.getCodecName());
+    MessageImpl reply = createReply(replyAddress, message, options);
     reply.trace = trace;
     return reply;
   }
 
+  /**
+   * Create a message routed back to the sender of this message like a reply.
+   */
+  protected MessageImpl createReply(String address, Object message, DeliveryOptions options) {
+    return bus.createMessage(true, isLocal(), address, options.getHeaders(), message, options.getCodecName());
+  }
+
+  /**
+   * @return the address to which the consumer grants credits to the producer of this message, or {@code null} when
+   *         the producer does not use flow control
+   */
+  protected String creditAddress() {
+    return headers != null ? headers.get(MessageProducerImpl.CREDIT_ADDRESS_HEADER_NAME) : null;
+  }
+
   @Override
   public boolean isSend() {
     return send;
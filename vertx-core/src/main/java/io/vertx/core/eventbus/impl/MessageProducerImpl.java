@@ -12,15 +12,28 @@
 package io.vertx.core.eventbus.impl;
 
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxException;
 import io.vertx.core.eventbus.*;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.internal.ContextInternal;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class MessageProducerImpl<T> implements MessageProducer<T> {
 
+  /**
+   * The header carrying the address to which a consumer grants credits to the producer of a message.
+   */
+  public static final String CREDIT_ADDRESS_HEADER_NAME = "__vertx.credit";
+
   private final Vertx vertx;
   private final EventBusImpl bus;
   private final boolean send;
@@ -28,6 +41,17 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
   private final boolean localOnly;
   private DeliveryOptions options;
 
+  // Flow control state, the credit handler is null when flow control is not enabled
+  private CreditHandler creditHandler;
+  private MultiMap creditHeaders;
+  private int maxSize;
+  private int credits;
+  private Queue<PendingWrite<T>> pending;
+  private boolean draining;
+  private boolean full;
+  private Handler<Void> drainHandler;
+  private long creditTimeoutID = -1L;
+
   public MessageProducerImpl(Vertx vertx, String address, boolean send, DeliveryOptions options) {
     this.vertx = vertx;
     this.bus = (EventBusImpl) vertx.eventBus();
@@ -40,15 +64,218 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
   @Override
   public synchronized MessageProducer<T> deliveryOptions(DeliveryOptions options) {
     this.options = options;
+    if (creditHandler != null) {
+      creditHeaders = creditHeaders(options);
+    }
     return this;
   }
 
   @Override
   public Future<Void> write(T body) {
+    boolean flowControl;
+    synchronized (this) {
+      flowControl = creditHandler != null;
+      if (flowControl) {
+        // Pending messages are sent before, including those being sent by the thread draining the queue
+        if (draining || credits <= 0 || !pending.isEmpty()) {
+          Promise<Void> promise = creditHandler.context.promise();
+          pending.add(new PendingWrite<>(body, promise));
+          full = true;
+          if (creditTimeoutID == -1L) {
+            scheduleCreditTimeout();
+          }
+          return promise.future();
+        }
+        credits--;
+        full |= credits <= 0;
+      }
+    }
+    if (flowControl) {
+      return sendWithCredit(body);
+    }
     MessageImpl msg = bus.createMessage(send, localOnly, address, options.getHeaders(), body, options.getCodecName());
     return bus.sendOrPubInternal(msg, options, null);
   }
 
+  private Future<Void> sendWithCredit(T body) {
+    MessageImpl msg;
+    synchronized (this) {
+      msg = bus.createMessage(true, localOnly, address, creditHeaders, body, options.getCodecName());
+    }
+    Future<Void> fut = bus.sendOrPubInternal(msg, options, null);
+    return fut.onFailure(err -> {
+      if (err instanceof ReplyException && ((ReplyException) err).failureType() == ReplyFailure.NO_HANDLERS) {
+        // The consumer is gone, pending messages would never be granted credits
+        reset(err);
+      } else {
+        // The consumer will never grant the credit of a message that was not written
+        grant(1);
+      }
+    });
+  }
+
+  @Override
+  public synchronized MessageProducer<T> setWriteQueueMaxSize(int maxSize) {
+    Arguments.require(maxSize > 0, "Write queue max size must be > 0");
+    if (!send) {
+      throw new IllegalStateException("Flow control is only supported by point-to-point producers");
+    }
+    if (creditHandler == null) {
+      creditHandler = new CreditHandler((ContextInternal) vertx.getOrCreateContext(), bus.generateReplyAddress());
+      creditHandler.register();
+      creditHeaders = creditHeaders(options);
+      pending = new ArrayDeque<>();
+      credits = maxSize;
+    } else {
+      credits += maxSize - this.maxSize;
+    }
+    this.maxSize = maxSize;
+    full |= writeQueueFull();
+    return this;
+  }
+
+  private MultiMap creditHeaders(DeliveryOptions options) {
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+    if (options.getHeaders() != null) {
+      headers.addAll(options.getHeaders());
+    }
+    headers.set(CREDIT_ADDRESS_HEADER_NAME, creditHandler.address());
+    return headers;
+  }
+
+  @Override
+  public synchronized boolean writeQueueFull() {
+    return creditHandler != null && (credits <= 0 || !pending.isEmpty());
+  }
+
+  @Override
+  public synchronized MessageProducer<T> drainHandler(Handler<Void> handler) {
+    this.drainHandler = handler;
+    return this;
+  }
+
+  /**
+   * Grant credits to this producer, pending messages are sent and the drain handler is called when the write queue
+   * is not full anymore.
+   *
+   * @param amount the amount of credits
+   */
+  private void grant(int amount) {
+    Queue<PendingWrite<T>> queue;
+    synchronized (this) {
+      if (creditHandler == null) {
+        return;
+      }
+      // Credits of messages sent before a reset can still be granted
+      credits = Math.min(credits + amount, maxSize);
+      // The consumer makes progress, restart the timeout of the pending messages
+      cancelCreditTimeout();
+      if (draining) {
+        // The thread draining the queue sends the messages granted by these credits
+        return;
+      }
+      draining = true;
+      queue = pending;
+    }
+    drain(queue);
+  }
+
+  /**
+   * Send the pending messages in order, one at a time, until the queue is empty or there are no more credits.
+   * Messages written meanwhile are queued, so they cannot be sent before the messages taken from the queue.
+   *
+   * @param queue the queue to drain, draining stops when the window is reset or the producer is closed
+   */
+  private void drain(Queue<PendingWrite<T>> queue) {
+    while (true) {
+      PendingWrite<T> write = null;
+      Handler<Void> handler = null;
+      synchronized (this) {
+        if (pending != queue) {
+          return;
+        }
+        if (credits > 0 && !pending.isEmpty()) {
+          write = pending.poll();
+          credits--;
+        } else {
+          draining = false;
+          if (!pending.isEmpty() && creditTimeoutID == -1L) {
+            scheduleCreditTimeout();
+          }
+          if (full && !writeQueueFull()) {
+            full = false;
+            handler = drainHandler;
+          }
+        }
+      }
+      if (write == null) {
+        if (handler != null) {
+          handler.handle(null);
+        }
+        return;
+      }
+      sendWithCredit(write.body).onComplete(write.promise);
+    }
+  }
+
+  /**
+   * Reset the flow control window, pending messages are failed and the drain handler is called when the write queue
+   * was full. This is used when the consumer cannot grant credits anymore.
+   *
+   * @param cause the failure of the pending messages
+   */
+  private void reset(Throwable cause) {
+    Queue<PendingWrite<T>> writes;
+    Handler<Void> handler = null;
+    synchronized (this) {
+      if (creditHandler == null) {
+        return;
+      }
+      cancelCreditTimeout();
+      credits = maxSize;
+      writes = pending;
+      pending = new ArrayDeque<>();
+      draining = false;
+      if (full) {
+        full = false;
+        handler = drainHandler;
+      }
+    }
+    for (PendingWrite<T> write : writes) {
+      write.promise.tryFail(cause);
+    }
+    if (handler != null) {
+      handler.handle(null);
+    }
+  }
+
+  private void scheduleCreditTimeout() {
+    long timeout = options.getSendTimeout();
+    if (timeout > 0L) {
+      creditTimeoutID = creditHandler.context.setTimer(timeout, this::handleCreditTimeout);
+    }
+  }
+
+  private void cancelCreditTimeout() {
+    long id = creditTimeoutID;
+    if (id != -1L) {
+      creditTimeoutID = -1L;
+      vertx.cancelTimer(id);
+    }
+  }
+
+  private void handleCreditTimeout(long id) {
+    long timeout;
+    synchronized (this) {
+      if (id != creditTimeoutID) {
+        return;
+      }
+      creditTimeoutID = -1L;
+      timeout = options.getSendTimeout();
+    }
+    reset(new ReplyException(ReplyFailure.TIMEOUT, "No credits granted by the consumer of " + address + " within " + timeout + "ms"));
+  }
+
   @Override
   public String address() {
     return address;
@@ -56,7 +283,58 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
 
   @Override
   public Future<Void> close() {
-    return ((ContextInternal)vertx.getOrCreateContext()).succeededFuture();
+    CreditHandler handler;
+    Queue<PendingWrite<T>> writes;
+    synchronized (this) {
+      handler = creditHandler;
+      writes = pending;
+      cancelCreditTimeout();
+      creditHandler = null;
+      pending = null;
+      draining = false;
+    }
+    if (handler == null) {
+      return ((ContextInternal)vertx.getOrCreateContext()).succeededFuture();
+    }
+    for (PendingWrite<T> write : writes) {
+      write.promise.tryFail(new VertxException("Producer closed", true));
+    }
+    return handler.unregister();
   }
 
+  private static class PendingWrite<T> {
+
+    private final T body;
+    private final Promise<Void> promise;
+
+    private PendingWrite(T body, Promise<Void> promise) {
+      this.body = body;
+      this.promise = promise;
+    }
+  }
+
+  /**
+   * Receives the credits granted by the consumer, credits are sent like replies, so they are routed back to this node.
+   */
+  private class CreditHandler extends HandlerRegistration<Integer> {
+
+    CreditHandler(ContextInternal context, String address) {
+      super(context, MessageProducerImpl.this.bus, address, false);
+    }
+
+    void register() {
+      register(false, false, null);
+    }
+
+    @Override
+    protected boolean doReceive(Message<Integer> msg) {
+      dispatch(null, msg, context);
+      return true;
+    }
+
+    @Override
+    protected void dispatch(Message<Integer> msg, ContextInternal context, Handler<Message<Integer>> handler) {
+      grant(msg.body());
+    }
+  }
 }
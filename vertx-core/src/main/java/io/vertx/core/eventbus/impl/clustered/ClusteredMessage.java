@@ -67,12 +67,20 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   }
 
   @Override
-  protected MessageImpl createReply(Object message, DeliveryOptions options) {
-    ClusteredMessage reply = (ClusteredMessage) super.createReply(message, options);
+  protected MessageImpl createReply(String address, Object message, DeliveryOptions options) {
+    ClusteredMessage reply = (ClusteredMessage) super.createReply(address, message, options);
     reply.repliedTo = sender;
     return reply;
   }
 
+  @Override
+  protected String creditAddress() {
+    if (headers == null && headersPos != 0) {
+      decodeHeaders();
+    }
+    return super.creditAddress();
+  }
+
   public ClusteredMessage<U, V> copyBeforeReceive() {
     return new ClusteredMessage<>(this);
   }
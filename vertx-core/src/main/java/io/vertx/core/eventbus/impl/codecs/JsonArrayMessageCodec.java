@@ -36,7 +36,8 @@ public class JsonArrayMessageCodec implements MessageCodec<JsonArray, JsonArray>
 
   @Override
   public JsonArray transform(JsonArray jsonArray) {
-    return jsonArray.copy();
+    // A frozen array is immutable and can be shared by local consumers
+    return jsonArray.isFrozen() ? jsonArray : jsonArray.copy();
   }
 
   @Override
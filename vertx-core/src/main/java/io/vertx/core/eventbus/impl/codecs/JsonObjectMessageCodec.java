@@ -36,7 +36,8 @@ public class JsonObjectMessageCodec implements MessageCodec<JsonObject, JsonObje
 
   @Override
   public JsonObject transform(JsonObject jsonObject) {
-    return jsonObject.copy();
+    // A frozen object is immutable and can be shared by local consumers
+    return jsonObject.isFrozen() ? jsonObject : jsonObject.copy();
   }
 
   @Override
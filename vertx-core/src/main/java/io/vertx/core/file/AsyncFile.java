@@ -21,6 +21,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
 
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -83,6 +84,22 @@ public interface AsyncFile extends ReadStream<Buffer>, WriteStream<Buffer> {
    */
   Future<Void> write(Buffer buffer, long position);
 
+  /**
+   * Write a list of buffers to the file at the current write position, asynchronously.
+   * <p>
+   * The buffers are written with a single result, the implementation does not copy them.
+   *
+   * @param buffers  the buffers to write
+   * @return a future notified when the write is complete
+   */
+  default Future<Void> writeAll(List<Buffer> buffers) {
+    Buffer buffer = Buffer.buffer();
+    for (Buffer b : buffers) {
+      buffer.appendBuffer(b);
+    }
+    return write(buffer);
+  }
+
   /**
    * Reads {@code length} bytes of data from the file at position {@code position} in the file, asynchronously.
    * <p>
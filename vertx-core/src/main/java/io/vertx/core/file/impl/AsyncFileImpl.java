@@ -42,6 +42,7 @@ import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -204,6 +205,12 @@ public class AsyncFileImpl implements AsyncFile {
     }
   }
 
+  @Override
+  public synchronized Future<Void> writeAll(List<Buffer> buffers) {
+    // Written with a single result using the ByteBuffer[] of the composite buffer
+    return write(BufferInternal.buffer(BufferInternal.compositeByteBuf(buffers)));
+  }
+
   @Override
   public synchronized Future<Void> write(Buffer buffer) {
     Promise<Void> promise = context.promise();
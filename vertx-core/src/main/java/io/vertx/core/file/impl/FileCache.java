@@ -28,6 +28,21 @@ import java.util.UUID;
 public class FileCache {
 
   static FileCache setupCache(String fileCacheDir) {
+    return setupCache(fileCacheDir, false);
+  }
+
+  /**
+   * Set up a cache.
+   *
+   * @param fileCacheDir the cache directory prefix
+   * @param lazy whether to create the cache directory when the first file is cached instead of now
+   */
+  static FileCache setupCache(String fileCacheDir, boolean lazy) {
+    if (lazy) {
+      FileCache cache = new FileCache(newCacheDir(fileCacheDir));
+      cache.pendingCacheDir = fileCacheDir;
+      return cache;
+    }
     FileCache cache = new FileCache(setupCacheDir(fileCacheDir));
     // Add shutdown hook to delete on exit
     cache.registerShutdownHook();
@@ -38,6 +53,12 @@ public class FileCache {
    * Prepares the cache directory to be used in the application.
    */
   static File setupCacheDir(String fileCacheDir) {
+    File cacheDir = newCacheDir(fileCacheDir);
+    createCacheDir(cacheDir, fileCacheDir);
+    return cacheDir;
+  }
+
+  private static File newCacheDir(String fileCacheDir) {
     // ensure that the argument doesn't end with separator
     if (fileCacheDir.endsWith(File.separator)) {
       fileCacheDir = fileCacheDir.substring(0, fileCacheDir.length() - File.separator.length());
@@ -46,7 +67,10 @@ public class FileCache {
     // the cacheDir will be suffixed a unique id to avoid eavesdropping from other processes/users
     // also this ensures that if process A deletes cacheDir, it won't affect process B
     String cacheDirName = fileCacheDir + "-" + UUID.randomUUID();
-    File cacheDir = new File(cacheDirName);
+    return new File(cacheDirName);
+  }
+
+  private static void createCacheDir(File cacheDir, String fileCacheDir) {
     // Create the cache directory
     try {
       if (Utils.isWindows()) {
@@ -60,11 +84,12 @@ public class FileCache {
     } catch (IOException e) {
       throw new IllegalStateException(FileSystemImpl.getFolderAccessErrorMessage("create", fileCacheDir), e);
     }
-    return cacheDir;
   }
 
   private Thread shutdownHook;
   private File cacheDir;
+  // The cache directory prefix when the creation of the directory is pending
+  private String pendingCacheDir;
 
   public FileCache(File cacheDir) {
     try {
@@ -175,7 +200,7 @@ public class FileCache {
   }
 
   File cacheFile(String fileName, File resource, boolean overwrite) throws IOException {
-    File cacheFile = new File(getCacheDir(), fileName);
+    File cacheFile = new File(getWritableCacheDir(), fileName);
     fileNameCheck(cacheFile);
     boolean isDirectory = resource.isDirectory();
     if (!isDirectory) {
@@ -195,7 +220,7 @@ public class FileCache {
   }
 
   public void cacheFile(String fileName, InputStream is, boolean overwrite) throws IOException {
-    File cacheFile = new File(getCacheDir(), fileName);
+    File cacheFile = new File(getWritableCacheDir(), fileName);
     fileNameCheck(cacheFile);
     cacheFile.getParentFile().mkdirs();
     if (!overwrite) {
@@ -209,7 +234,7 @@ public class FileCache {
   }
 
   void cacheDir(String fileName) throws IOException {
-    File file = new File(getCacheDir(), fileName);
+    File file = new File(getWritableCacheDir(), fileName);
     fileNameCheck(file);
     file.mkdirs();
   }
@@ -220,6 +245,20 @@ public class FileCache {
     }
   }
 
+  /**
+   * @return the cache directory, created when its creation was deferred
+   */
+  private synchronized File getWritableCacheDir() {
+    File currentCacheDir = getCacheDir();
+    if (pendingCacheDir != null) {
+      createCacheDir(currentCacheDir, pendingCacheDir);
+      pendingCacheDir = null;
+      // Add shutdown hook to delete on exit
+      registerShutdownHook();
+    }
+    return currentCacheDir;
+  }
+
   private File getCacheDir() {
     File currentCacheDir = cacheDir;
     if (currentCacheDir == null) {
@@ -64,11 +64,21 @@ public class FileResolverImpl implements FileResolver {
   }
 
   public FileResolverImpl(FileSystemOptions fileSystemOptions) {
+    this(fileSystemOptions, false);
+  }
+
+  /**
+   * Create a resolver.
+   *
+   * @param fileSystemOptions the file system options
+   * @param lazy whether to create the cache directory when the first resource is cached instead of now
+   */
+  public FileResolverImpl(FileSystemOptions fileSystemOptions, boolean lazy) {
     enableCaching = fileSystemOptions.isFileCachingEnabled();
     enableCPResolving = fileSystemOptions.isClassPathResolvingEnabled();
 
     if (enableCPResolving) {
-      cache = FileCache.setupCache(fileSystemOptions.getFileCacheDir());
+      cache = FileCache.setupCache(fileSystemOptions.getFileCacheDir(), lazy);
     } else {
       cache = null;
     }
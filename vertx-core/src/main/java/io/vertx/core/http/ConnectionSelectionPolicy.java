@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * Policy selecting the pooled connection a client request is sent on.
+ */
+@VertxGen
+public enum ConnectionSelectionPolicy {
+
+  /**
+   * Select the connection that received a response last, so the least recently used connections expire.
+   */
+  LIFO,
+
+  /**
+   * Select the connection with the fewest in-flight requests, a pipe-lined HTTP/1 connection with in-flight requests
+   * is selected only when the pool cannot create a new connection.
+   */
+  LEAST_IN_FLIGHT,
+
+  /**
+   * Select the connection with the lowest average response time, computed as an exponentially weighted moving average,
+   * connections without a response time yet are selected first. Like {@link #LEAST_IN_FLIGHT}, a pipe-lined HTTP/1
+   * connection with in-flight requests is selected only when the pool cannot create a new connection.
+   */
+  LEAST_RESPONSE_TIME
+
+}
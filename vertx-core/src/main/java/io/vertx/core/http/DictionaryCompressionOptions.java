@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http;
+
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.vertx.core.buffer.Buffer;
+
+import java.util.Objects;
+
+/**
+ * Compression of responses with a dictionary shared with the clients, using the {@code dcz} (Dictionary-Compressed
+ * Zstandard) content coding of <a href="https://www.rfc-editor.org/rfc/rfc9842">RFC 9842</a>.
+ * <p>
+ * A dictionary trained on typical payloads significantly improves the compression of small responses, e.g. the JSON
+ * documents of an API.
+ * <p>
+ * The server compresses a response with the dictionary when the request advertises the {@code dcz} content coding in
+ * its {@code Accept-Encoding} header and the SHA-256 hash of the dictionary in its {@code Available-Dictionary} header,
+ * other requests are served with the other compressors of the server.
+ * <p>
+ * This requires the <a href="https://github.com/luben/zstd-jni">zstd-jni</a> library.
+ */
+public class DictionaryCompressionOptions implements CompressionOptions {
+
+  /**
+   * The default zstd compression level = 3
+   */
+  public static final int DEFAULT_COMPRESSION_LEVEL = 3;
+
+  private final Buffer dictionary;
+  private final int compressionLevel;
+
+  /**
+   * Create options with the default compression level.
+   *
+   * @param dictionary the dictionary
+   */
+  public DictionaryCompressionOptions(Buffer dictionary) {
+    this(dictionary, DEFAULT_COMPRESSION_LEVEL);
+  }
+
+  /**
+   * Create options.
+   *
+   * @param dictionary the dictionary
+   * @param compressionLevel the zstd compression level, between {@code 1} and {@code 22}
+   */
+  public DictionaryCompressionOptions(Buffer dictionary, int compressionLevel) {
+    Objects.requireNonNull(dictionary, "No null dictionary accepted");
+    if (dictionary.length() == 0) {
+      throw new IllegalArgumentException("Dictionary must not be empty");
+    }
+    if (compressionLevel < 1 || compressionLevel > 22) {
+      throw new IllegalArgumentException("Compression level must be between 1 and 22");
+    }
+    this.dictionary = dictionary.copy();
+    this.compressionLevel = compressionLevel;
+  }
+
+  /**
+   * @return the dictionary
+   */
+  public Buffer dictionary() {
+    return dictionary;
+  }
+
+  /**
+   * @return the zstd compression level
+   */
+  public int compressionLevel() {
+    return compressionLevel;
+  }
+}
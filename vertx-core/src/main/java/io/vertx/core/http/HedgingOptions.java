@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring the hedging of the requests of a client using an endpoint resolver.
+ * <p>
+ * When the response head of an idempotent request ({@code GET}, {@code HEAD}, {@code OPTIONS}, {@code TRACE},
+ * {@code PUT} or {@code DELETE}) has not arrived after a delay, the same request is sent to another server of the
+ * endpoint. The first response wins, the other request is reset.
+ * <p>
+ * The delay is a percentile of the recent response head latencies of the endpoint, bounded by a min and max delay.
+ * The budget caps the ratio of requests that can be hedged, so hedging cannot double the load of an overloaded
+ * endpoint.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class HedgingOptions {
+
+  /**
+   * The default percentile of the response latencies used as delay = 0.95
+   */
+  public static final double DEFAULT_PERCENTILE = 0.95;
+
+  /**
+   * The default min delay = 5 ms
+   */
+  public static final long DEFAULT_MIN_DELAY = 5L;
+
+  /**
+   * The default max delay = 1000 ms
+   */
+  public static final long DEFAULT_MAX_DELAY = 1000L;
+
+  /**
+   * The default budget = 0.1
+   */
+  public static final double DEFAULT_BUDGET = 0.1;
+
+  private double percentile;
+  private long minDelay;
+  private long maxDelay;
+  private double budget;
+
+  public HedgingOptions() {
+    percentile = DEFAULT_PERCENTILE;
+    minDelay = DEFAULT_MIN_DELAY;
+    maxDelay = DEFAULT_MAX_DELAY;
+    budget = DEFAULT_BUDGET;
+  }
+
+  public HedgingOptions(HedgingOptions other) {
+    this.percentile = other.getPercentile();
+    this.minDelay = other.getMinDelay();
+    this.maxDelay = other.getMaxDelay();
+    this.budget = other.getBudget();
+  }
+
+  public HedgingOptions(JsonObject json) {
+    this();
+    HedgingOptionsConverter.fromJson(json, this);
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    HedgingOptionsConverter.toJson(this, json);
+    return json;
+  }
+
+  /**
+   * @return the percentile of the response latencies used as delay
+   */
+  public double getPercentile() {
+    return percentile;
+  }
+
+  /**
+   * Set the percentile of the recent response head latencies of an endpoint used as delay before hedging a request.
+   *
+   * @param percentile the percentile, between {@code 0} excluded and {@code 1}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HedgingOptions setPercentile(double percentile) {
+    Arguments.require(percentile > 0D && percentile <= 1D, "percentile must be in (0,1]");
+    this.percentile = percentile;
+    return this;
+  }
+
+  /**
+   * @return the min delay in milliseconds
+   */
+  public long getMinDelay() {
+    return minDelay;
+  }
+
+  /**
+   * Set the min delay before hedging a request.
+   *
+   * @param minDelay the delay in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HedgingOptions setMinDelay(long minDelay) {
+    Arguments.require(minDelay > 0L, "minDelay must be > 0");
+    this.minDelay = minDelay;
+    return this;
+  }
+
+  /**
+   * @return the max delay in milliseconds
+   */
+  public long getMaxDelay() {
+    return maxDelay;
+  }
+
+  /**
+   * Set the max delay before hedging a request, this delay is also used until enough latencies have been observed.
+   *
+   * @param maxDelay the delay in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HedgingOptions setMaxDelay(long maxDelay) {
+    Arguments.require(maxDelay > 0L, "maxDelay must be > 0");
+    this.maxDelay = maxDelay;
+    return this;
+  }
+
+  /**
+   * @return the ratio of requests that can be hedged
+   */
+  public double getBudget() {
+    return budget;
+  }
+
+  /**
+   * Set the ratio of requests that can be hedged, e.g. {@code 0.1} allows one hedged request for ten requests.
+   *
+   * @param budget the ratio, between {@code 0} and {@code 1}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HedgingOptions setBudget(double budget) {
+    Arguments.require(budget >= 0D && budget <= 1D, "budget must be in [0,1]");
+    this.budget = budget;
+    return this;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring the auto-tuning of the HTTP/2 flow control windows of a connection.
+ * <p>
+ * The connection estimates the bandwidth-delay product of the link with {@code PING} frames sent while it receives
+ * data: the bytes received during the round-trip of a ping are a sample of the data in flight. When a sample
+ * approaches the current window and the measured bandwidth increases, the connection window and the initial window
+ * of the streams grow to twice the sample, up to their respective max sizes. Windows only grow, so idle connections
+ * keep the default windows.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class Http2WindowTuningOptions {
+
+  /**
+   * The default max connection window size = 16 MiB
+   */
+  public static final int DEFAULT_MAX_CONNECTION_WINDOW_SIZE = 16 * 1024 * 1024;
+
+  /**
+   * The default max stream window size = 4 MiB
+   */
+  public static final int DEFAULT_MAX_STREAM_WINDOW_SIZE = 4 * 1024 * 1024;
+
+  private int maxConnectionWindowSize;
+  private int maxStreamWindowSize;
+
+  public Http2WindowTuningOptions() {
+    maxConnectionWindowSize = DEFAULT_MAX_CONNECTION_WINDOW_SIZE;
+    maxStreamWindowSize = DEFAULT_MAX_STREAM_WINDOW_SIZE;
+  }
+
+  public Http2WindowTuningOptions(Http2WindowTuningOptions other) {
+    this.maxConnectionWindowSize = other.getMaxConnectionWindowSize();
+    this.maxStreamWindowSize = other.getMaxStreamWindowSize();
+  }
+
+  public Http2WindowTuningOptions(JsonObject json) {
+    this();
+    Http2WindowTuningOptionsConverter.fromJson(json, this);
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    Http2WindowTuningOptionsConverter.toJson(this, json);
+    return json;
+  }
+
+  /**
+   * @return the max size of the connection window
+   */
+  public int getMaxConnectionWindowSize() {
+    return maxConnectionWindowSize;
+  }
+
+  /**
+   * Set the max size the connection window can grow to.
+   *
+   * @param maxConnectionWindowSize the max size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public Http2WindowTuningOptions setMaxConnectionWindowSize(int maxConnectionWindowSize) {
+    Arguments.require(maxConnectionWindowSize > 0, "maxConnectionWindowSize must be > 0");
+    this.maxConnectionWindowSize = maxConnectionWindowSize;
+    return this;
+  }
+
+  /**
+   * @return the max size of the stream windows
+   */
+  public int getMaxStreamWindowSize() {
+    return maxStreamWindowSize;
+  }
+
+  /**
+   * Set the max size the initial window of the streams can grow to.
+   *
+   * @param maxStreamWindowSize the max size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public Http2WindowTuningOptions setMaxStreamWindowSize(int maxStreamWindowSize) {
+    Arguments.require(maxStreamWindowSize > 0, "maxStreamWindowSize must be > 0");
+    this.maxStreamWindowSize = maxStreamWindowSize;
+    return this;
+  }
+}
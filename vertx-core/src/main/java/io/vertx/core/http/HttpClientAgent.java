@@ -5,6 +5,7 @@ import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.core.http.impl.DefaultRedirectHandler;
 import io.vertx.core.metrics.Measured;
+import io.vertx.core.net.Address;
 import io.vertx.core.net.ClientSSLOptions;
 import java.util.function.Function;
 
@@ -82,4 +83,23 @@ public interface HttpClientAgent extends HttpClient, Measured {
    */
   Future<HttpClientConnection> connect(HttpConnectOptions options);
 
+  /**
+   * Like {@link #warmUp(HttpConnectOptions, int)} with the connect options of the {@code server}.
+   */
+  default Future<Void> warmUp(Address server, int n) {
+    return warmUp(new HttpConnectOptions().setServer(server), n);
+  }
+
+  /**
+   * Create pooled connections to the server specified by {@code options} ahead of the requests, until its pool holds
+   * {@code n} idle connections within the limit of the pool max size.
+   *
+   * <p> When the client uses an endpoint resolver, each server of the resolved endpoint is warmed up.
+   *
+   * @param options the server connect options
+   * @param n the number of idle connections
+   * @return a future notified when the connections are created, failed when none could be created
+   */
+  Future<Void> warmUp(HttpConnectOptions options, int n);
+
 }
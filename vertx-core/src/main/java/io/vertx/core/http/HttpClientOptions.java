@@ -62,6 +62,11 @@ public class HttpClientOptions extends ClientOptionsBase {
    */
   public static final int DEFAULT_PIPELINING_LIMIT = 10;
 
+  /**
+   * The default time after which a pipe-lined HTTP/1.1 connection waiting for a response is considered as stalled = 0 (disabled)
+   */
+  public static final int DEFAULT_PIPELINING_STALL_TIMEOUT = 0;
+
   /**
    * The default keep alive timeout for HTTP/1.1 connection can send = 60 seconds
    */
@@ -157,8 +162,10 @@ public class HttpClientOptions extends ClientOptionsBase {
   private int keepAliveTimeout;
   private int pipeliningLimit;
   private boolean pipelining;
+  private int pipeliningStallTimeout;
   private int http2MultiplexingLimit;
   private int http2ConnectionWindowSize;
+  private Http2WindowTuningOptions http2WindowTuningOptions;
   private int http2KeepAliveTimeout;
 
   private boolean decompressionSupported;
@@ -173,6 +180,7 @@ public class HttpClientOptions extends ClientOptionsBase {
   private boolean http2ClearTextUpgrade;
   private boolean http2ClearTextUpgradeWithPreflightRequest;
   private int maxRedirects;
+  private HedgingOptions hedgingOptions;
   private boolean forceSni;
   private int decoderInitialBufferSize;
 
@@ -211,8 +219,10 @@ public class HttpClientOptions extends ClientOptionsBase {
     this.keepAliveTimeout = other.getKeepAliveTimeout();
     this.pipelining = other.isPipelining();
     this.pipeliningLimit = other.getPipeliningLimit();
+    this.pipeliningStallTimeout = other.getPipeliningStallTimeout();
     this.http2MultiplexingLimit = other.http2MultiplexingLimit;
     this.http2ConnectionWindowSize = other.http2ConnectionWindowSize;
+    this.http2WindowTuningOptions = other.http2WindowTuningOptions != null ? new Http2WindowTuningOptions(other.http2WindowTuningOptions) : null;
     this.http2KeepAliveTimeout = other.getHttp2KeepAliveTimeout();
     this.decompressionSupported = other.decompressionSupported;
     this.defaultHost = other.defaultHost;
@@ -226,6 +236,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     this.http2ClearTextUpgrade = other.http2ClearTextUpgrade;
     this.http2ClearTextUpgradeWithPreflightRequest = other.http2ClearTextUpgradeWithPreflightRequest;
     this.maxRedirects = other.maxRedirects;
+    this.hedgingOptions = other.hedgingOptions != null ? new HedgingOptions(other.hedgingOptions) : null;
     this.forceSni = other.forceSni;
     this.decoderInitialBufferSize = other.getDecoderInitialBufferSize();
     this.tracingPolicy = other.tracingPolicy;
@@ -261,6 +272,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     keepAliveTimeout = DEFAULT_KEEP_ALIVE_TIMEOUT;
     pipelining = DEFAULT_PIPELINING;
     pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
+    pipeliningStallTimeout = DEFAULT_PIPELINING_STALL_TIMEOUT;
     http2MultiplexingLimit = DEFAULT_HTTP2_MULTIPLEXING_LIMIT;
     http2ConnectionWindowSize = DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE;
     http2KeepAliveTimeout = DEFAULT_HTTP2_KEEP_ALIVE_TIMEOUT;
@@ -307,6 +319,12 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public HttpClientOptions setFlushConsolidationOptions(FlushConsolidationOptions flushConsolidationOptions) {
+    super.setFlushConsolidationOptions(flushConsolidationOptions);
+    return this;
+  }
+
   @Override
   public HttpClientOptions setTrafficClass(int trafficClass) {
     super.setTrafficClass(trafficClass);
@@ -505,6 +523,25 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  /**
+   * @return the options of the HTTP/2 flow control windows auto-tuning
+   */
+  public Http2WindowTuningOptions getHttp2WindowTuningOptions() {
+    return http2WindowTuningOptions;
+  }
+
+  /**
+   * Set the options auto-tuning the HTTP/2 flow control windows of the connections from the estimated
+   * bandwidth-delay product of the link, by default the windows are static.
+   *
+   * @param http2WindowTuningOptions the options, {@code null} disables auto-tuning
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setHttp2WindowTuningOptions(Http2WindowTuningOptions http2WindowTuningOptions) {
+    this.http2WindowTuningOptions = http2WindowTuningOptions;
+    return this;
+  }
+
   /**
    * @return the keep alive timeout value in seconds for HTTP/2 connections
    */
@@ -616,6 +653,29 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  /**
+   * @return the time in milliseconds after which a pipe-lined HTTP/1 connection waiting for a response is considered as stalled
+   */
+  public int getPipeliningStallTimeout() {
+    return pipeliningStallTimeout;
+  }
+
+  /**
+   * Set the time in milliseconds after which a pipe-lined HTTP/1 connection waiting for a response is considered as
+   * stalled, the pool does not send requests on a stalled connection as they would be blocked behind the stalled
+   * response.
+   *
+   * @param pipeliningStallTimeout the timeout in milliseconds, {@code 0} disables the detection
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setPipeliningStallTimeout(int pipeliningStallTimeout) {
+    if (pipeliningStallTimeout < 0) {
+      throw new IllegalArgumentException("pipeliningStallTimeout must be >= 0");
+    }
+    this.pipeliningStallTimeout = pipeliningStallTimeout;
+    return this;
+  }
+
   /**
    * Is hostname verification (for SSL/TLS) enabled?
    *
@@ -879,6 +939,25 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  /**
+   * @return the options of the request hedging
+   */
+  public HedgingOptions getHedgingOptions() {
+    return hedgingOptions;
+  }
+
+  /**
+   * Set the options hedging the idempotent requests sent to an endpoint resolved by the client address resolver,
+   * by default requests are not hedged.
+   *
+   * @param hedgingOptions the options, {@code null} disables hedging
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setHedgingOptions(HedgingOptions hedgingOptions) {
+    this.hedgingOptions = hedgingOptions;
+    return this;
+  }
+
   /**
    * @return whether the client should always use SNI on TLS/SSL connections
    */
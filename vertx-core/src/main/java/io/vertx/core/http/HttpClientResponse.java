@@ -17,6 +17,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.net.NetSocket;
+import io.vertx.core.parsetools.JsonParser;
 import io.vertx.core.streams.ReadStream;
 
 import java.util.List;
@@ -104,6 +105,21 @@ public interface HttpClientResponse extends ReadStream<Buffer>, HttpResponseHead
    */
   Future<Void> end();
 
+  /**
+   * Parse the response body as a stream of JSON events instead of receiving the entire body in one piece.
+   * <p>
+   * The body is parsed as it arrives, the parser controls the flow of this response: pausing the parser pauses the
+   * response. Use {@link JsonParser#objectValueMode()} to receive each object of a large JSON array as a single
+   * event, and {@link io.vertx.core.parsetools.JsonEvent#mapTo(Class)} to map it to a Java type.
+   * <p>
+   * The parser sets the handler, end handler and exception handler of this response.
+   *
+   * @return the parser of the response body
+   */
+  default JsonParser bodyAsJsonStream() {
+    return JsonParser.newParser(this);
+  }
+
   /**
    * Set an custom frame handler. The handler will get notified when the http stream receives an custom HTTP/2
    * frame. HTTP/2 permits extension of the protocol.
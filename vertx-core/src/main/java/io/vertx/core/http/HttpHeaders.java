@@ -487,6 +487,21 @@ public interface HttpHeaders {
     return HeadersMultiMap.httpHeaders();
   }
 
+  /**
+   * Create an immutable block of headers validated and encoded once, e.g. the {@code server} and {@code content-type}
+   * headers sent with every response of an endpoint.
+   * <p>
+   * The block is meant to be added to the headers of HTTP/1.x server responses with {@link MultiMap#addAll(MultiMap)},
+   * the encoded headers are then written as is when the response is sent. Headers of the block can still be
+   * overwritten or removed from the response headers.
+   *
+   * @param headers the headers
+   * @return the immutable pre-encoded headers
+   */
+  static MultiMap preEncoded(MultiMap headers) {
+    return HeadersMultiMap.preEncoded(headers);
+  }
+
   static MultiMap set(String name, String value) {
     return HeadersMultiMap.httpHeaders().set(name, value);
   }
@@ -20,9 +20,11 @@ import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.FlushConsolidationOptions;
 import io.vertx.core.net.KeyCertOptions;
 import io.vertx.core.net.NetServerOptions;
 import io.vertx.core.net.SSLEngineOptions;
+import io.vertx.core.net.SSLHandshakeOffloadOptions;
 import io.vertx.core.net.TrafficShapingOptions;
 import io.vertx.core.net.TrustOptions;
 import io.vertx.core.tracing.TracingPolicy;
@@ -30,7 +32,10 @@ import io.vertx.core.tracing.TracingPolicy;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -59,6 +64,11 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final int DEFAULT_COMPRESSION_LEVEL = 6;
 
+  /**
+   * Default content size threshold below which responses are not compressed = 0
+   */
+  public static final int DEFAULT_COMPRESSION_CONTENT_SIZE_THRESHOLD = 0;
+
   /**
    * Default max WebSocket frame size = 65536
    */
@@ -105,6 +115,11 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final boolean DEFAULT_HANDLE_100_CONTINE_AUTOMATICALLY = false;
 
+  /**
+   * Default value of whether the server sends a {@code date} header = {@code false}
+   */
+  public static final boolean DEFAULT_SEND_DATE_HEADER = false;
+
   /**
    * Default Application-Layer Protocol Negotiation versions = [HTTP/2,HTTP/1.1]
    */
@@ -125,6 +140,16 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final int DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE = -1;
 
+  /**
+   * The default max size of the HPACK dynamic table used to encode HTTP/2 headers = -1 (the size advertised by the client)
+   */
+  public static final long DEFAULT_HTTP2_ENCODER_HEADER_TABLE_SIZE = -1;
+
+  /**
+   * The default number of entries of the cache interning HTTP/2 header values = 256
+   */
+  public static final int DEFAULT_HTTP2_HEADER_CACHE_SIZE = 256;
+
   /**
    * Default value of whether decompression is supported = {@code false}
    */
@@ -198,10 +223,13 @@ public class HttpServerOptions extends NetServerOptions {
   private boolean compressionSupported;
   private int compressionLevel;
   private List<CompressionOptions> compressors;
+  private Map<String, List<CompressionOptions>> contentTypeCompressors;
+  private int compressionContentSizeThreshold;
   private int maxWebSocketFrameSize;
   private int maxWebSocketMessageSize;
   private List<String> webSocketSubProtocols;
   private boolean handle100ContinueAutomatically;
+  private boolean sendDateHeader;
   private int maxChunkSize;
   private int maxInitialLineLength;
   private int maxHeaderSize;
@@ -212,6 +240,9 @@ public class HttpServerOptions extends NetServerOptions {
   private List<HttpVersion> alpnVersions;
   private boolean http2ClearTextEnabled;
   private int http2ConnectionWindowSize;
+  private Http2WindowTuningOptions http2WindowTuningOptions;
+  private long http2EncoderHeaderTableSize;
+  private int http2HeaderCacheSize;
   private boolean decompressionSupported;
   private boolean acceptUnmaskedFrames;
   private int decoderInitialBufferSize;
@@ -246,10 +277,16 @@ public class HttpServerOptions extends NetServerOptions {
     this.compressionSupported = other.isCompressionSupported();
     this.compressionLevel = other.getCompressionLevel();
     this.compressors = other.compressors != null ? new ArrayList<>(other.compressors) : null;
+    if (other.contentTypeCompressors != null) {
+      this.contentTypeCompressors = new LinkedHashMap<>();
+      other.contentTypeCompressors.forEach((contentType, list) -> contentTypeCompressors.put(contentType, new ArrayList<>(list)));
+    }
+    this.compressionContentSizeThreshold = other.compressionContentSizeThreshold;
     this.maxWebSocketFrameSize = other.maxWebSocketFrameSize;
     this.maxWebSocketMessageSize = other.maxWebSocketMessageSize;
     this.webSocketSubProtocols = other.webSocketSubProtocols != null ? new ArrayList<>(other.webSocketSubProtocols) : null;
     this.handle100ContinueAutomatically = other.handle100ContinueAutomatically;
+    this.sendDateHeader = other.sendDateHeader;
     this.maxChunkSize = other.getMaxChunkSize();
     this.maxInitialLineLength = other.getMaxInitialLineLength();
     this.maxHeaderSize = other.getMaxHeaderSize();
@@ -260,6 +297,9 @@ public class HttpServerOptions extends NetServerOptions {
     this.alpnVersions = other.alpnVersions != null ? new ArrayList<>(other.alpnVersions) : null;
     this.http2ClearTextEnabled = other.http2ClearTextEnabled;
     this.http2ConnectionWindowSize = other.http2ConnectionWindowSize;
+    this.http2WindowTuningOptions = other.http2WindowTuningOptions != null ? new Http2WindowTuningOptions(other.http2WindowTuningOptions) : null;
+    this.http2EncoderHeaderTableSize = other.http2EncoderHeaderTableSize;
+    this.http2HeaderCacheSize = other.http2HeaderCacheSize;
     this.decompressionSupported = other.isDecompressionSupported();
     this.acceptUnmaskedFrames = other.isAcceptUnmaskedFrames();
     this.decoderInitialBufferSize = other.getDecoderInitialBufferSize();
@@ -302,9 +342,11 @@ public class HttpServerOptions extends NetServerOptions {
   private void init() {
     compressionSupported = DEFAULT_COMPRESSION_SUPPORTED;
     compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+    compressionContentSizeThreshold = DEFAULT_COMPRESSION_CONTENT_SIZE_THRESHOLD;
     maxWebSocketFrameSize = DEFAULT_MAX_WEBSOCKET_FRAME_SIZE;
     maxWebSocketMessageSize = DEFAULT_MAX_WEBSOCKET_MESSAGE_SIZE;
     handle100ContinueAutomatically = DEFAULT_HANDLE_100_CONTINE_AUTOMATICALLY;
+    sendDateHeader = DEFAULT_SEND_DATE_HEADER;
     maxChunkSize = DEFAULT_MAX_CHUNK_SIZE;
     maxInitialLineLength = DEFAULT_MAX_INITIAL_LINE_LENGTH;
     maxHeaderSize = DEFAULT_MAX_HEADER_SIZE;
@@ -315,6 +357,8 @@ public class HttpServerOptions extends NetServerOptions {
     alpnVersions = new ArrayList<>(DEFAULT_ALPN_VERSIONS);
     http2ClearTextEnabled = DEFAULT_HTTP2_CLEAR_TEXT_ENABLED;
     http2ConnectionWindowSize = DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE;
+    http2EncoderHeaderTableSize = DEFAULT_HTTP2_ENCODER_HEADER_TABLE_SIZE;
+    http2HeaderCacheSize = DEFAULT_HTTP2_HEADER_CACHE_SIZE;
     decompressionSupported = DEFAULT_DECOMPRESSION_SUPPORTED;
     acceptUnmaskedFrames = DEFAULT_ACCEPT_UNMASKED_FRAMES;
     decoderInitialBufferSize = DEFAULT_DECODER_INITIAL_BUFFER_SIZE;
@@ -364,6 +408,12 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  @Override
+  public HttpServerOptions setFlushConsolidationOptions(FlushConsolidationOptions flushConsolidationOptions) {
+    super.setFlushConsolidationOptions(flushConsolidationOptions);
+    return this;
+  }
+
   @Override
   public HttpServerOptions setTrafficClass(int trafficClass) {
     super.setTrafficClass(trafficClass);
@@ -611,6 +661,9 @@ public class HttpServerOptions extends NetServerOptions {
   /**
    * Set the list of compressor to use instead of using the default gzip/deflate {@link #setCompressionLevel(int)} configuration.
    *
+   * <p> The list can contain a single {@link DictionaryCompressionOptions} to compress the responses with a dictionary
+   * shared with the clients.
+   *
    * <p> This is only active when {@link #setCompressionSupported(boolean)} is {@code true}.
    *
    * @param compressors the list of compressors
@@ -621,6 +674,89 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * @return the compressors to use per content type
+   */
+  @GenIgnore
+  public Map<String, List<CompressionOptions>> getContentTypeCompressors() {
+    return contentTypeCompressors;
+  }
+
+  /**
+   * Add a compressor for the responses of a content type.
+   *
+   * @see #setContentTypeCompressors(Map)
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public HttpServerOptions addContentTypeCompressor(String contentType, CompressionOptions compressor) {
+    checkContentTypeCompressor(compressor);
+    if (contentTypeCompressors == null) {
+      contentTypeCompressors = new LinkedHashMap<>();
+    }
+    contentTypeCompressors.computeIfAbsent(contentType.toLowerCase(Locale.ROOT), ct -> new ArrayList<>()).add(compressor);
+    return this;
+  }
+
+  /**
+   * Set the compressors to use for the responses of a content type instead of the {@link #setCompressors(List) server compressors},
+   * e.g. a higher compression level for {@code application/json} responses than for {@code text/html} responses.
+   *
+   * <p> A content type is a media type without parameters like {@code application/json}, or a wildcard
+   * like {@code text/*} matching the media types of a type. The exact media type is preferred to the wildcard.
+   * An empty list of compressors disables the compression of the content type.
+   *
+   * <p> This is only active when {@link #setCompressionSupported(boolean)} is {@code true}.
+   *
+   * @param contentTypeCompressors the compressors per content type
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public HttpServerOptions setContentTypeCompressors(Map<String, List<CompressionOptions>> contentTypeCompressors) {
+    if (contentTypeCompressors == null) {
+      this.contentTypeCompressors = null;
+    } else {
+      Map<String, List<CompressionOptions>> copy = new LinkedHashMap<>();
+      contentTypeCompressors.forEach((contentType, compressors) -> {
+        compressors.forEach(HttpServerOptions::checkContentTypeCompressor);
+        copy.put(contentType.toLowerCase(Locale.ROOT), new ArrayList<>(compressors));
+      });
+      this.contentTypeCompressors = copy;
+    }
+    return this;
+  }
+
+  private static void checkContentTypeCompressor(CompressionOptions compressor) {
+    if (compressor instanceof DictionaryCompressionOptions) {
+      throw new IllegalArgumentException("Dictionary compressors can only be configured as server compressors");
+    }
+  }
+
+  /**
+   * @return the content size threshold below which responses are not compressed
+   */
+  public int getCompressionContentSizeThreshold() {
+    return compressionContentSizeThreshold;
+  }
+
+  /**
+   * Set the content size threshold below which responses are not compressed, compressing small responses costs
+   * CPU for little to no size reduction.
+   *
+   * <p> The size of a response is known when it declares a {@code content-length} header, e.g. when it is sent with
+   * {@link HttpServerResponse#end(io.vertx.core.buffer.Buffer)}, otherwise the response is compressed.
+   *
+   * @param compressionContentSizeThreshold the threshold in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setCompressionContentSizeThreshold(int compressionContentSizeThreshold) {
+    if (compressionContentSizeThreshold < 0) {
+      throw new IllegalArgumentException("compressionContentSizeThreshold must be >= 0");
+    }
+    this.compressionContentSizeThreshold = compressionContentSizeThreshold;
+    return this;
+  }
+
   public boolean isAcceptUnmaskedFrames() {
     return acceptUnmaskedFrames;
   }
@@ -723,6 +859,26 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * @return whether the server sends a {@code date} header
+   */
+  public boolean isSendDateHeader() {
+    return sendDateHeader;
+  }
+
+  /**
+   * Set whether the server adds a {@code date} header to the responses that do not have one.
+   * <p>
+   * The header value is formatted at most once per second by each event-loop.
+   *
+   * @param sendDateHeader {@code true} to send the header
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setSendDateHeader(boolean sendDateHeader) {
+    this.sendDateHeader = sendDateHeader;
+    return this;
+  }
+
   /**
    * Set the maximum HTTP chunk size that {@link HttpServerRequest#handler(Handler)} will receive
    *
@@ -908,6 +1064,73 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * @return the options of the HTTP/2 flow control windows auto-tuning
+   */
+  public Http2WindowTuningOptions getHttp2WindowTuningOptions() {
+    return http2WindowTuningOptions;
+  }
+
+  /**
+   * Set the options auto-tuning the HTTP/2 flow control windows of the connections from the estimated
+   * bandwidth-delay product of the link, by default the windows are static.
+   *
+   * @param http2WindowTuningOptions the options, {@code null} disables auto-tuning
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setHttp2WindowTuningOptions(Http2WindowTuningOptions http2WindowTuningOptions) {
+    this.http2WindowTuningOptions = http2WindowTuningOptions;
+    return this;
+  }
+
+  /**
+   * @return the max size of the HPACK dynamic table used to encode HTTP/2 headers
+   */
+  public long getHttp2EncoderHeaderTableSize() {
+    return http2EncoderHeaderTableSize;
+  }
+
+  /**
+   * Set the max size of the HPACK dynamic table used to encode the HTTP/2 response headers, the table never
+   * exceeds the size advertised by the client with {@link Http2Settings#getHeaderTableSize()}.
+   * <p/>
+   * The size of the table decoding the request headers is advertised to the client with
+   * {@link #getInitialSettings()}, a larger table lets clients index more repetitive metadata.
+   * <p/>
+   * A value of {@code -1} uses the size advertised by the client.
+   *
+   * @param http2EncoderHeaderTableSize the max table size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setHttp2EncoderHeaderTableSize(long http2EncoderHeaderTableSize) {
+    Arguments.require(http2EncoderHeaderTableSize >= -1, "http2EncoderHeaderTableSize must be >= -1");
+    this.http2EncoderHeaderTableSize = http2EncoderHeaderTableSize;
+    return this;
+  }
+
+  /**
+   * @return the number of entries of the cache interning HTTP/2 header values
+   */
+  public int getHttp2HeaderCacheSize() {
+    return http2HeaderCacheSize;
+  }
+
+  /**
+   * Set the number of entries of the cache interning the HTTP/2 request header values converted to {@code String},
+   * e.g. the path, the authority or recurring metadata. The cache is shared by the connections of the server so
+   * repetitive values are converted once instead of for each stream.
+   * <p/>
+   * The size is rounded up to a power of two, a value of {@code 0} disables the cache.
+   *
+   * @param http2HeaderCacheSize the number of entries
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setHttp2HeaderCacheSize(int http2HeaderCacheSize) {
+    Arguments.require(http2HeaderCacheSize >= 0, "http2HeaderCacheSize must be >= 0");
+    this.http2HeaderCacheSize = http2HeaderCacheSize;
+    return this;
+  }
+
   @Override
   public HttpServerOptions setLogActivity(boolean logEnabled) {
     return (HttpServerOptions) super.setLogActivity(logEnabled);
@@ -923,6 +1146,11 @@ public class HttpServerOptions extends NetServerOptions {
     return (HttpServerOptions) super.setSni(sni);
   }
 
+  @Override
+  public HttpServerOptions setSslHandshakeOffloadOptions(SSLHandshakeOffloadOptions handshakeOffloadOptions) {
+    return (HttpServerOptions) super.setSslHandshakeOffloadOptions(handshakeOffloadOptions);
+  }
+
   @Override
   public HttpServerOptions setUseProxyProtocol(boolean useProxyProtocol) {
     return (HttpServerOptions) super.setUseProxyProtocol(useProxyProtocol);
@@ -20,6 +20,7 @@ import io.vertx.core.net.HostAndPort;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
 
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -223,6 +224,22 @@ public interface HttpServerResponse extends WriteStream<Buffer> {
    */
   Future<Void> write(String chunk);
 
+  /**
+   * Write a list of buffers to the response body, e.g. the segments of a templated response.
+   * <p>
+   * The buffers are written as a single chunk with a single result, the implementation does not copy them.
+   *
+   * @param chunks  the buffers to write
+   * @return a future completed with the body result
+   */
+  default Future<Void> writeAll(List<Buffer> chunks) {
+    Buffer buffer = Buffer.buffer();
+    for (Buffer chunk : chunks) {
+      buffer.appendBuffer(chunk);
+    }
+    return write(buffer);
+  }
+
   /**
    * Used to write an interim 100 Continue response to signify that the client should send the rest of the request.
    * Must only be used if the request contains an "Expect:100-Continue" header
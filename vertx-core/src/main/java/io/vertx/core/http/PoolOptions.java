@@ -15,6 +15,8 @@ import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.JsonObject;
 
+import java.util.Objects;
+
 /**
  * Options configuring a {@link HttpClient} pool.
  *
@@ -49,11 +51,29 @@ public class PoolOptions {
    */
   public static final int DEFAULT_POOL_EVENT_LOOP_SIZE = 0;
 
+  /**
+   * Default connection selection policy = {@link ConnectionSelectionPolicy#LIFO}
+   */
+  public static final ConnectionSelectionPolicy DEFAULT_CONNECTION_SELECTION_POLICY = ConnectionSelectionPolicy.LIFO;
+
+  /**
+   * Default minimum number of idle connections an endpoint pool keeps = 0
+   */
+  public static final int DEFAULT_MIN_IDLE = 0;
+
+  /**
+   * Default eviction jitter = 0 (idle connections are evicted when their keep alive timeout expires)
+   */
+  public static final int DEFAULT_EVICTION_JITTER = 0;
+
   private int http1MaxSize;
   private int http2MaxSize;
   private int cleanerPeriod;
   private int eventLoopSize;
   private int maxWaitQueueSize;
+  private ConnectionSelectionPolicy connectionSelectionPolicy;
+  private int minIdle;
+  private int evictionJitter;
 
   /**
    * Default constructor
@@ -64,6 +84,9 @@ public class PoolOptions {
     cleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
     eventLoopSize = DEFAULT_POOL_EVENT_LOOP_SIZE;
     maxWaitQueueSize = DEFAULT_MAX_WAIT_QUEUE_SIZE;
+    connectionSelectionPolicy = DEFAULT_CONNECTION_SELECTION_POLICY;
+    minIdle = DEFAULT_MIN_IDLE;
+    evictionJitter = DEFAULT_EVICTION_JITTER;
   }
 
   /**
@@ -77,6 +100,9 @@ public class PoolOptions {
     this.cleanerPeriod = other.cleanerPeriod;
     this.eventLoopSize = other.eventLoopSize;
     this.maxWaitQueueSize = other.maxWaitQueueSize;
+    this.connectionSelectionPolicy = other.connectionSelectionPolicy;
+    this.minIdle = other.minIdle;
+    this.evictionJitter = other.evictionJitter;
   }
 
   /**
@@ -85,6 +111,7 @@ public class PoolOptions {
    * @param json  the JSON
    */
   public PoolOptions(JsonObject json) {
+    this();
     PoolOptionsConverter.fromJson(json, this);
   }
 
@@ -199,6 +226,75 @@ public class PoolOptions {
     return maxWaitQueueSize;
   }
 
+  /**
+   * @return the policy selecting the connection a request is sent on
+   */
+  public ConnectionSelectionPolicy getConnectionSelectionPolicy() {
+    return connectionSelectionPolicy;
+  }
+
+  /**
+   * Set the policy selecting the connection a request is sent on, among the pooled connections able to send it.
+   *
+   * @param connectionSelectionPolicy the policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setConnectionSelectionPolicy(ConnectionSelectionPolicy connectionSelectionPolicy) {
+    this.connectionSelectionPolicy = Objects.requireNonNull(connectionSelectionPolicy);
+    return this;
+  }
+
+  /**
+   * @return the minimum number of idle connections each endpoint pool keeps
+   */
+  public int getMinIdle() {
+    return minIdle;
+  }
+
+  /**
+   * Set the minimum number of idle connections each endpoint pool keeps, within the limit of the pool max size.
+   *
+   * <p> The pool cleaner replaces the connections that are evicted or used, so requests sent after a burst or a
+   * keep alive expiration find a connected connection. The floor is maintained once the endpoint pool exists, i.e. after
+   * a first request or a {@link HttpClientAgent#warmUp(HttpConnectOptions, int)} call, and requires a positive
+   * {@link #setCleanerPeriod(int) cleaner period}. Since its connections are replaced, an endpoint pool with a floor is
+   * not released when it is not used anymore, it is kept until the client is closed: the floor is meant for clients
+   * sending requests to a bounded set of servers.
+   *
+   * <p> The default value is {@code 0}, connections are created on demand.
+   *
+   * @param minIdle the minimum number of idle connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMinIdle(int minIdle) {
+    Arguments.require(minIdle >= 0, "minIdle must be >= 0");
+    this.minIdle = minIdle;
+    return this;
+  }
+
+  /**
+   * @return the eviction jitter in milliseconds
+   */
+  public int getEvictionJitter() {
+    return evictionJitter;
+  }
+
+  /**
+   * Set the eviction jitter in milliseconds: an idle connection is evicted at a random time of the last {@code evictionJitter}
+   * milliseconds before its keep alive timeout expires, instead of exactly when it expires. Connections used together
+   * are then closed gradually instead of all at once.
+   *
+   * <p> The default value is {@code 0}, idle connections are evicted when their keep alive timeout expires.
+   *
+   * @param evictionJitter the jitter in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setEvictionJitter(int evictionJitter) {
+    Arguments.require(evictionJitter >= 0, "evictionJitter must be >= 0");
+    this.evictionJitter = evictionJitter;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     PoolOptionsConverter.toJson(this, json);
@@ -600,6 +600,11 @@ public class WebSocketClientOptions extends ClientOptionsBase {
     return (WebSocketClientOptions)super.setReusePort(reusePort);
   }
 
+  @Override
+  public WebSocketClientOptions setFlushConsolidationOptions(FlushConsolidationOptions flushConsolidationOptions) {
+    return (WebSocketClientOptions) super.setFlushConsolidationOptions(flushConsolidationOptions);
+  }
+
   @Override
   public WebSocketClientOptions setTrafficClass(int trafficClass) {
     return (WebSocketClientOptions)super.setTrafficClass(trafficClass);
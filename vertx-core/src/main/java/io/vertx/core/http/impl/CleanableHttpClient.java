@@ -124,4 +124,9 @@ public class CleanableHttpClient implements HttpClientInternal {
   public Future<HttpClientConnection> connect(HttpConnectOptions options) {
     return delegate.connect(options);
   }
+
+  @Override
+  public Future<Void> warmUp(HttpConnectOptions options, int n) {
+    return delegate.warmUp(options, n);
+  }
 }
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.handler.codec.compression.BrotliOptions;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.DeflateOptions;
+import io.netty.handler.codec.compression.GzipOptions;
+import io.netty.handler.codec.compression.SnappyFrameEncoder;
+import io.netty.handler.codec.compression.SnappyOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.ZstdEncoder;
+import io.netty.handler.codec.compression.ZstdOptions;
+import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.util.AsciiString;
+import io.vertx.core.http.DictionaryCompressionOptions;
+import io.vertx.core.http.HttpServerOptions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Decides how the responses of a server are compressed.
+ *
+ * <ul>
+ *   <li>responses with a content length below the threshold are not compressed</li>
+ *   <li>responses are compressed with the compressors configured for their content type or with the server compressors</li>
+ *   <li>responses are compressed with the server dictionary ({@code dcz}) when the request advertises it</li>
+ * </ul>
+ */
+final class CompressionManager {
+
+  static final String DCZ = "dcz";
+  static final AsciiString AVAILABLE_DICTIONARY = AsciiString.cached("available-dictionary");
+  private static final String[] DCZ_VARY = { "accept-encoding", "available-dictionary" };
+
+  /**
+   * Create the manager of a server.
+   *
+   * @param options the server options
+   * @return the manager or {@code null} when the server does not support compression
+   */
+  static CompressionManager create(HttpServerOptions options) {
+    if (!options.isCompressionSupported()) {
+      return null;
+    }
+    CompressionOptions[] defaults;
+    List<CompressionOptions> compressors = options.getCompressors();
+    if (compressors == null) {
+      int compressionLevel = options.getCompressionLevel();
+      defaults = new CompressionOptions[] { StandardCompressionOptions.gzip(compressionLevel, 15, 8), StandardCompressionOptions.deflate(compressionLevel, 15, 8) };
+    } else {
+      defaults = compressors.toArray(new CompressionOptions[0]);
+    }
+    DictionaryCompressionOptions dictionary = null;
+    for (CompressionOptions compressor : defaults) {
+      if (compressor instanceof DictionaryCompressionOptions) {
+        if (dictionary != null) {
+          throw new IllegalArgumentException("A single dictionary compressor can be configured");
+        }
+        dictionary = (DictionaryCompressionOptions) compressor;
+      }
+    }
+    Map<String, Compressors> contentTypeCompressors = new HashMap<>();
+    Map<String, List<CompressionOptions>> contentTypes = options.getContentTypeCompressors();
+    if (contentTypes != null) {
+      contentTypes.forEach((contentType, list) -> {
+        contentTypeCompressors.put(contentType.toLowerCase(Locale.ROOT), new Compressors(list.toArray(new CompressionOptions[0])));
+      });
+    }
+    return new CompressionManager(new Compressors(defaults),
+      contentTypeCompressors,
+      dictionary != null ? new ZstdDictionary(dictionary) : null,
+      options.getCompressionContentSizeThreshold());
+  }
+
+  private final Compressors defaultCompressors;
+  private final Map<String, Compressors> contentTypeCompressors;
+  private final ZstdDictionary dictionary;
+  private final int contentSizeThreshold;
+
+  private CompressionManager(Compressors defaultCompressors,
+                             Map<String, Compressors> contentTypeCompressors,
+                             ZstdDictionary dictionary,
+                             int contentSizeThreshold) {
+    this.defaultCompressors = defaultCompressors;
+    this.contentTypeCompressors = contentTypeCompressors;
+    this.dictionary = dictionary;
+    this.contentSizeThreshold = contentSizeThreshold;
+  }
+
+  /**
+   * @return the options of the server compressors that Netty supports
+   */
+  CompressionOptions[] nettyCompressionOptions() {
+    return defaultCompressors.nettyOptions;
+  }
+
+  /**
+   * @return whether the server compresses with a dictionary
+   */
+  boolean hasDictionary() {
+    return dictionary != null;
+  }
+
+  /**
+   * @param availableDictionary the {@code available-dictionary} request header value
+   * @return whether the request advertises the server dictionary
+   */
+  boolean isDictionaryAvailable(CharSequence availableDictionary) {
+    return dictionary != null && availableDictionary != null && dictionary.matches(availableDictionary);
+  }
+
+  /**
+   * Determine the content encoding of a response.
+   *
+   * @param acceptEncoding the {@code accept-encoding} request header value
+   * @param dictionaryAvailable whether the request advertises the server dictionary
+   * @param contentType the response content type
+   * @param contentLength the response content length or {@code -1} when unknown
+   * @return the content encoding or {@code null} when the response is not compressed
+   */
+  String determineEncoding(CharSequence acceptEncoding, boolean dictionaryAvailable, CharSequence contentType, long contentLength) {
+    if (acceptEncoding == null) {
+      return null;
+    }
+    if (contentLength >= 0 && contentLength < contentSizeThreshold) {
+      return null;
+    }
+    if (dictionaryAvailable && dictionary != null && accepts(acceptEncoding, DCZ)) {
+      return DCZ;
+    }
+    EncodingDetector detector = compressors(contentType).detector;
+    return detector != null ? detector.determineEncoding(acceptEncoding.toString()) : null;
+  }
+
+  /**
+   * Create the encoder of a response.
+   *
+   * @param encoding the content encoding returned by {@link #determineEncoding}
+   * @param contentType the response content type
+   * @return the encoder or {@code null} when the encoding is not supported
+   */
+  ChannelHandler createEncoder(String encoding, CharSequence contentType) {
+    if (DCZ.equals(encoding)) {
+      return dictionary != null ? dictionary.createEncoder() : null;
+    }
+    for (CompressionOptions options : compressors(contentType).nettyOptions) {
+      ChannelHandler encoder = createEncoder(encoding, options);
+      if (encoder != null) {
+        return encoder;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Merge the request headers a {@code dcz} response varies on into the existing {@code vary} header values.
+   *
+   * @param values the existing {@code vary} header values
+   * @return the merged {@code vary} header value
+   */
+  static String dczVary(List<? extends CharSequence> values) {
+    StringBuilder sb = new StringBuilder();
+    boolean[] present = new boolean[DCZ_VARY.length];
+    for (CharSequence value : values) {
+      for (String token : value.toString().split(",")) {
+        token = token.trim();
+        if (token.isEmpty()) {
+          continue;
+        }
+        if (token.equals("*")) {
+          // Already varies on everything
+          return token;
+        }
+        for (int i = 0;i < DCZ_VARY.length;i++) {
+          if (token.equalsIgnoreCase(DCZ_VARY[i])) {
+            present[i] = true;
+          }
+        }
+        if (sb.length() > 0) {
+          sb.append(", ");
+        }
+        sb.append(token);
+      }
+    }
+    for (int i = 0;i < DCZ_VARY.length;i++) {
+      if (!present[i]) {
+        if (sb.length() > 0) {
+          sb.append(", ");
+        }
+        sb.append(DCZ_VARY[i]);
+      }
+    }
+    return sb.toString();
+  }
+
+  private Compressors compressors(CharSequence contentType) {
+    if (contentType == null || contentTypeCompressors.isEmpty()) {
+      return defaultCompressors;
+    }
+    String mediaType = contentType.toString();
+    int idx = mediaType.indexOf(';');
+    if (idx != -1) {
+      mediaType = mediaType.substring(0, idx);
+    }
+    mediaType = mediaType.trim().toLowerCase(Locale.ROOT);
+    Compressors compressors = contentTypeCompressors.get(mediaType);
+    if (compressors == null) {
+      idx = mediaType.indexOf('/');
+      if (idx != -1) {
+        compressors = contentTypeCompressors.get(mediaType.substring(0, idx + 1) + "*");
+      }
+    }
+    return compressors != null ? compressors : defaultCompressors;
+  }
+
+  private static ChannelHandler createEncoder(String encoding, CompressionOptions options) {
+    switch (encoding) {
+      case "gzip":
+        if (options instanceof GzipOptions) {
+          GzipOptions gzip = (GzipOptions) options;
+          return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP, gzip.compressionLevel(), gzip.windowBits(), gzip.memLevel());
+        }
+        break;
+      case "deflate":
+        if (options instanceof DeflateOptions && !(options instanceof GzipOptions)) {
+          DeflateOptions deflate = (DeflateOptions) options;
+          return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.ZLIB, deflate.compressionLevel(), deflate.windowBits(), deflate.memLevel());
+        }
+        break;
+      case "br":
+        if (options instanceof BrotliOptions) {
+          return new BrotliEncoder(((BrotliOptions) options).parameters());
+        }
+        break;
+      case "zstd":
+        if (options instanceof ZstdOptions) {
+          ZstdOptions zstd = (ZstdOptions) options;
+          return new ZstdEncoder(zstd.compressionLevel(), zstd.blockSize(), zstd.maxEncodeSize());
+        }
+        break;
+      case "snappy":
+        if (options instanceof SnappyOptions) {
+          return new SnappyFrameEncoder();
+        }
+        break;
+    }
+    return null;
+  }
+
+  /**
+   * @return whether the {@code acceptEncoding} header value accepts the {@code encoding} with a non zero quality
+   */
+  static boolean accepts(CharSequence acceptEncoding, String encoding) {
+    for (String token : acceptEncoding.toString().split(",")) {
+      String name = token;
+      float q = 1.0f;
+      int idx = token.indexOf(';');
+      if (idx != -1) {
+        name = token.substring(0, idx);
+        int eq = token.indexOf("q=", idx);
+        if (eq != -1) {
+          try {
+            q = Float.parseFloat(token.substring(eq + 2).trim());
+          } catch (NumberFormatException e) {
+            q = 0.0f;
+          }
+        }
+      }
+      if (name.trim().equalsIgnoreCase(encoding)) {
+        return q > 0.0f;
+      }
+    }
+    return false;
+  }
+
+  private static class Compressors {
+
+    private final CompressionOptions[] nettyOptions;
+    private final EncodingDetector detector;
+
+    private Compressors(CompressionOptions[] options) {
+      List<CompressionOptions> list = new ArrayList<>(options.length);
+      for (CompressionOptions option : options) {
+        if (!(option instanceof DictionaryCompressionOptions)) {
+          list.add(option);
+        }
+      }
+      this.nettyOptions = list.toArray(new CompressionOptions[0]);
+      // Netty uses default compressors when none is provided
+      this.detector = nettyOptions.length > 0 ? new EncodingDetector(nettyOptions) : null;
+    }
+  }
+
+  private static class EncodingDetector extends HttpContentCompressor {
+
+    private EncodingDetector(CompressionOptions[] compressionOptions) {
+      super(compressionOptions);
+    }
+
+    @Override
+    protected String determineEncoding(String acceptEncoding) {
+      return super.determineEncoding(acceptEncoding);
+    }
+  }
+}
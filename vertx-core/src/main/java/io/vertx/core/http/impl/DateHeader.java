@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.handler.codec.DateFormatter;
+import io.netty.util.AsciiString;
+import io.netty.util.concurrent.FastThreadLocal;
+
+import java.util.Date;
+
+/**
+ * The value of the {@code date} response header, formatted at most once per second by each thread.
+ */
+final class DateHeader {
+
+  private static final FastThreadLocal<DateHeader> CURRENT = new FastThreadLocal<DateHeader>() {
+    @Override
+    protected DateHeader initialValue() {
+      return new DateHeader();
+    }
+  };
+
+  /**
+   * @return the current date formatted as an HTTP date
+   */
+  static CharSequence value() {
+    return CURRENT.get().value(System.currentTimeMillis());
+  }
+
+  private long second = -1L;
+  private AsciiString value;
+
+  private DateHeader() {
+  }
+
+  private AsciiString value(long now) {
+    long second = now / 1000;
+    if (second != this.second) {
+      this.second = second;
+      this.value = AsciiString.cached(DateFormatter.format(new Date(second * 1000)));
+    }
+    return value;
+  }
+}
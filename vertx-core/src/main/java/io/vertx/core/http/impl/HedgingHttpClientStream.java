@@ -0,0 +1,520 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpFrame;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.StreamPriority;
+import io.vertx.core.http.StreamResetException;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.net.Address;
+import io.vertx.core.streams.WriteStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Decorates an {@link HttpClientStream} that sends a copy of the request to another server when the response
+ * head takes longer than the latency percentile of the server.
+ * <p>
+ * The request is recorded while it is written to the primary stream, the hedge is sent once the request has ended.
+ * The first response head wins, the other stream is reset and the handlers only see the events of the winner.
+ * <p>
+ * The request is written by the request thread while the responses, the hedge timer and the hedge stream are handled
+ * on the stream context, the hedging state is guarded by this object monitor. Handlers and streams are called outside
+ * of the monitor.
+ */
+class HedgingHttpClientStream implements HttpClientStream {
+
+  // The max size of a recorded request body, larger requests are not hedged
+  private static final int MAX_BODY_SIZE = 64 * 1024;
+
+  // HTTP/2 CANCEL error code
+  private static final long CANCEL = 0x8;
+
+  private final HedgingPolicy policy;
+  private final Address address;
+  private final Supplier<Future<StatisticsGatheringHttpClientStream>> hedgeProvider;
+  private final Branch primary;
+  private Branch secondary;
+  private Branch winner;
+  private boolean hedgeable;
+  private boolean hedging;
+  private long timerID = -1L;
+  private int open;
+  private boolean closed;
+
+  // The recorded request
+  private HttpRequestHead head;
+  private boolean chunked;
+  private StreamPriority priority;
+  private List<ByteBuf> body;
+  private int bodySize;
+
+  private Handler<HttpResponseHead> headHandler;
+  private Handler<Buffer> chunkHandler;
+  private Handler<MultiMap> endHandler;
+  private Handler<StreamPriority> priorityHandler;
+  private Handler<Void> continueHandler;
+  private Handler<MultiMap> earlyHintsHandler;
+  private Handler<HttpClientPush> pushHandler;
+  private Handler<HttpFrame> unknownFrameHandler;
+  private Handler<Throwable> exceptionHandler;
+  private Handler<Void> closeHandler;
+
+  HedgingHttpClientStream(HedgingPolicy policy,
+                                 Address address,
+                                 StatisticsGatheringHttpClientStream stream,
+                                 Supplier<Future<StatisticsGatheringHttpClientStream>> hedgeProvider) {
+    this.policy = policy;
+    this.address = address;
+    this.hedgeProvider = hedgeProvider;
+    this.hedgeable = true;
+    this.body = new ArrayList<>();
+    this.primary = new Branch(stream);
+  }
+
+  /**
+   * One of the streams carrying the request.
+   */
+  private class Branch {
+
+    private final StatisticsGatheringHttpClientStream stream;
+    private long requestEnd;
+    private boolean failed;
+
+    Branch(StatisticsGatheringHttpClientStream stream) {
+      this.stream = stream;
+      open++;
+      stream.headHandler(this::handleHead);
+      stream.chunkHandler(chunk -> {
+        Handler<Buffer> handler = chunkHandler;
+        if (accept(this) && handler != null) {
+          handler.handle(chunk);
+        }
+      });
+      stream.endHandler(trailers -> {
+        Handler<MultiMap> handler = endHandler;
+        if (accept(this) && handler != null) {
+          handler.handle(trailers);
+        }
+      });
+      stream.priorityHandler(p -> {
+        Handler<StreamPriority> handler = priorityHandler;
+        if (accept(this) && handler != null) {
+          handler.handle(p);
+        }
+      });
+      stream.continueHandler(v -> {
+        Handler<Void> handler = continueHandler;
+        if (accept(this) && handler != null) {
+          handler.handle(v);
+        }
+      });
+      stream.earlyHintsHandler(headers -> {
+        Handler<MultiMap> handler = earlyHintsHandler;
+        if (accept(this) && handler != null) {
+          handler.handle(headers);
+        }
+      });
+      stream.pushHandler(push -> {
+        Handler<HttpClientPush> handler = pushHandler;
+        if (accept(this) && handler != null) {
+          handler.handle(push);
+        }
+      });
+      stream.unknownFrameHandler(frame -> {
+        Handler<HttpFrame> handler = unknownFrameHandler;
+        if (accept(this) && handler != null) {
+          handler.handle(frame);
+        }
+      });
+      stream.exceptionHandler(this::handleException);
+      stream.closeHandler(v -> handleClose());
+    }
+
+    private void handleHead(HttpResponseHead response) {
+      Branch loser = null;
+      long latency = -1L;
+      boolean won;
+      synchronized (HedgingHttpClientStream.this) {
+        if (winner == null) {
+          winner = this;
+          hedgeable = false;
+          cancelTimer();
+          releaseBody();
+          if (requestEnd > 0L) {
+            latency = System.nanoTime() - requestEnd;
+          }
+          Branch other = this == primary ? secondary : primary;
+          if (other != null && !other.failed) {
+            loser = other;
+          }
+        }
+        won = winner == this;
+      }
+      if (latency >= 0L) {
+        policy.record(address, latency);
+      }
+      if (loser != null) {
+        loser.stream.interaction().reportCancellation();
+        loser.stream.reset(new StreamResetException(CANCEL));
+      }
+      Handler<HttpResponseHead> handler = headHandler;
+      if (won && handler != null) {
+        handler.handle(response);
+      }
+    }
+
+    private void handleException(Throwable failure) {
+      synchronized (HedgingHttpClientStream.this) {
+        if (winner == null) {
+          failed = true;
+          Branch other = this == primary ? secondary : primary;
+          if (other != null && !other.failed) {
+            // The other stream can still respond
+            return;
+          }
+          hedgeable = false;
+          cancelTimer();
+          releaseBody();
+        } else if (winner != this) {
+          return;
+        }
+      }
+      Handler<Throwable> handler = exceptionHandler;
+      if (handler != null) {
+        handler.handle(failure);
+      }
+    }
+
+    private void handleClose() {
+      Handler<Void> handler;
+      synchronized (HedgingHttpClientStream.this) {
+        open--;
+        handler = checkClosed();
+      }
+      if (handler != null) {
+        handler.handle(null);
+      }
+    }
+  }
+
+  private synchronized boolean accept(Branch branch) {
+    return winner == branch || (winner == null && branch == primary);
+  }
+
+  private synchronized Branch current() {
+    Branch w = winner;
+    return w != null ? w : primary;
+  }
+
+  /**
+   * @return the close handler to call when all the streams are closed and no hedge is being sent
+   */
+  private Handler<Void> checkClosed() {
+    if (open > 0 || hedging || closed) {
+      return null;
+    }
+    closed = true;
+    return closeHandler;
+  }
+
+  private void record(ByteBuf buf) {
+    if (hedgeable && buf != null && buf.isReadable()) {
+      bodySize += buf.readableBytes();
+      if (bodySize > MAX_BODY_SIZE) {
+        hedgeable = false;
+        releaseBody();
+      } else {
+        body.add(buf.copy());
+      }
+    }
+  }
+
+  private void releaseBody() {
+    List<ByteBuf> chunks = body;
+    if (chunks != null) {
+      body = null;
+      for (ByteBuf chunk : chunks) {
+        chunk.release();
+      }
+    }
+  }
+
+  private void cancelTimer() {
+    if (timerID != -1L) {
+      primary.stream.getContext().owner().cancelTimer(timerID);
+      timerID = -1L;
+    }
+  }
+
+  private void requestEnded() {
+    primary.requestEnd = System.nanoTime();
+    if (hedgeable && winner == null && !primary.failed) {
+      timerID = primary.stream.getContext().setTimer(policy.delay(address), id -> hedge(id));
+    } else {
+      releaseBody();
+    }
+  }
+
+  private void hedge(long id) {
+    synchronized (this) {
+      if (timerID != id) {
+        // Cancelled
+        return;
+      }
+      timerID = -1L;
+      if (!hedgeable || winner != null || primary.failed || !policy.tryHedge()) {
+        return;
+      }
+      hedgeable = false;
+      hedging = true;
+    }
+    hedgeProvider.get().onComplete(ar -> {
+      StatisticsGatheringHttpClientStream stream = ar.succeeded() ? ar.result() : null;
+      Handler<Void> handler;
+      List<ByteBuf> chunks = null;
+      synchronized (this) {
+        hedging = false;
+        if (stream != null && winner == null && !primary.failed && body != null) {
+          chunks = body;
+          body = null;
+          secondary = new Branch(stream);
+        } else {
+          // Too late
+          releaseBody();
+        }
+        handler = checkClosed();
+      }
+      if (chunks != null) {
+        stream.interaction().reportHedge();
+        HttpRequestHead copy = new HttpRequestHead(head.method, head.uri, head.headers, head.authority, head.absoluteURI, head.traceOperation);
+        int size = chunks.size();
+        stream.writeHead(copy, chunked, size > 0 ? chunks.get(0) : null, size <= 1, priority, false);
+        for (int i = 1;i < size;i++) {
+          stream.writeBuffer(chunks.get(i), i == size - 1);
+        }
+        synchronized (this) {
+          secondary.requestEnd = System.nanoTime();
+        }
+      } else if (stream != null) {
+        stream.reset(new StreamResetException(CANCEL));
+      }
+      if (handler != null) {
+        handler.handle(null);
+      }
+    });
+  }
+
+  @Override
+  public int id() {
+    return current().stream.id();
+  }
+
+  @Override
+  public Object metric() {
+    return current().stream.metric();
+  }
+
+  @Override
+  public Object trace() {
+    return current().stream.trace();
+  }
+
+  @Override
+  public HttpVersion version() {
+    return current().stream.version();
+  }
+
+  @Override
+  public HttpClientConnectionInternal connection() {
+    return current().stream.connection();
+  }
+
+  @Override
+  public ContextInternal getContext() {
+    return primary.stream.getContext();
+  }
+
+  @Override
+  public Future<Void> writeHead(HttpRequestHead request, boolean chunked, ByteBuf buf, boolean end, StreamPriority priority, boolean connect) {
+    synchronized (this) {
+      if (connect || !HedgingPolicy.isIdempotent(request.method)) {
+        hedgeable = false;
+        releaseBody();
+      } else {
+        this.head = request;
+        this.chunked = chunked;
+        this.priority = priority;
+        record(buf);
+      }
+    }
+    Future<Void> fut = primary.stream.writeHead(request, chunked, buf, end, priority, connect);
+    if (end) {
+      synchronized (this) {
+        requestEnded();
+      }
+    }
+    return fut;
+  }
+
+  @Override
+  public Future<Void> writeBuffer(ByteBuf buf, boolean end) {
+    synchronized (this) {
+      record(buf);
+    }
+    Future<Void> fut = primary.stream.writeBuffer(buf, end);
+    if (end) {
+      synchronized (this) {
+        requestEnded();
+      }
+    }
+    return fut;
+  }
+
+  @Override
+  public Future<Void> writeFrame(int type, int flags, ByteBuf payload) {
+    synchronized (this) {
+      // Custom frames cannot be replayed
+      hedgeable = false;
+      releaseBody();
+    }
+    return primary.stream.writeFrame(type, flags, payload);
+  }
+
+  @Override
+  public void continueHandler(Handler<Void> handler) {
+    continueHandler = handler;
+  }
+
+  @Override
+  public void earlyHintsHandler(Handler<MultiMap> handler) {
+    earlyHintsHandler = handler;
+  }
+
+  @Override
+  public void pushHandler(Handler<HttpClientPush> handler) {
+    pushHandler = handler;
+  }
+
+  @Override
+  public void unknownFrameHandler(Handler<HttpFrame> handler) {
+    unknownFrameHandler = handler;
+  }
+
+  @Override
+  public void headHandler(Handler<HttpResponseHead> handler) {
+    headHandler = handler;
+  }
+
+  @Override
+  public void chunkHandler(Handler<Buffer> handler) {
+    chunkHandler = handler;
+  }
+
+  @Override
+  public void endHandler(Handler<MultiMap> handler) {
+    endHandler = handler;
+  }
+
+  @Override
+  public void priorityHandler(Handler<StreamPriority> handler) {
+    priorityHandler = handler;
+  }
+
+  @Override
+  public synchronized void closeHandler(Handler<Void> handler) {
+    // Called once all the streams are closed, each stream recycles its own connection lease
+    closeHandler = handler;
+  }
+
+  @Override
+  public void doSetWriteQueueMaxSize(int size) {
+    primary.stream.doSetWriteQueueMaxSize(size);
+  }
+
+  @Override
+  public boolean isNotWritable() {
+    return primary.stream.isNotWritable();
+  }
+
+  @Override
+  public void doPause() {
+    current().stream.doPause();
+  }
+
+  @Override
+  public void doFetch(long amount) {
+    current().stream.doFetch(amount);
+  }
+
+  @Override
+  public void reset(Throwable cause) {
+    Branch w;
+    Branch s;
+    synchronized (this) {
+      hedgeable = false;
+      cancelTimer();
+      releaseBody();
+      w = winner;
+      s = secondary;
+    }
+    if (w != null) {
+      w.stream.reset(cause);
+    } else {
+      primary.stream.reset(cause);
+      if (s != null) {
+        s.stream.reset(cause);
+      }
+    }
+  }
+
+  @Override
+  public StreamPriority priority() {
+    return current().stream.priority();
+  }
+
+  @Override
+  public void updatePriority(StreamPriority streamPriority) {
+    current().stream.updatePriority(streamPriority);
+  }
+
+  @Override
+  public WriteStream<Buffer> exceptionHandler(@Nullable Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+    primary.stream.setWriteQueueMaxSize(maxSize);
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return primary.stream.writeQueueFull();
+  }
+
+  @Override
+  public WriteStream<Buffer> drainHandler(@Nullable Handler<Void> handler) {
+    primary.stream.drainHandler(handler);
+    return this;
+  }
+}
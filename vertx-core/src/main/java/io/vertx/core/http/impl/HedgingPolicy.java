@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.vertx.core.http.HedgingOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.net.Address;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The hedging state of a client: the recent response head latencies of each endpoint and the hedging budget.
+ * <p>
+ * The budget is a token bucket, each request deposits a fraction of a token and each hedged request withdraws a token.
+ * The bucket starts full to allow hedging before the budget is built up by the traffic.
+ * <p>
+ * The latencies of at most {@link #MAX_ENDPOINTS} endpoints are kept, the endpoint with the least recent latency is
+ * evicted when a new endpoint is recorded.
+ */
+final class HedgingPolicy {
+
+  // The number of latencies kept per endpoint
+  private static final int SAMPLES = 256;
+
+  // The percentile is recomputed after this number of samples, it is used once that many samples have been recorded
+  private static final int REFRESH_SAMPLES = 32;
+
+  // The max number of endpoints whose latencies are kept
+  static final int MAX_ENDPOINTS = 1024;
+
+  private static final long TOKEN = 1000L;
+  private static final long MAX_TOKENS = 10 * TOKEN;
+
+  /**
+   * @return whether a request with the given {@code method} can be hedged
+   */
+  static boolean isIdempotent(HttpMethod method) {
+    return method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS
+      || method == HttpMethod.TRACE || method == HttpMethod.PUT || method == HttpMethod.DELETE;
+  }
+
+  private final HedgingOptions options;
+  private final long deposit;
+  private final AtomicLong tokens = new AtomicLong(MAX_TOKENS);
+  private final ConcurrentMap<Address, Latencies> latencies = new ConcurrentHashMap<>();
+
+  HedgingPolicy(HedgingOptions options) {
+    this.options = new HedgingOptions(options);
+    this.deposit = (long) (options.getBudget() * TOKEN);
+  }
+
+  /**
+   * Signal a hedgeable request, this deposits a fraction of a token in the budget.
+   */
+  void onRequest() {
+    while (true) {
+      long current = tokens.get();
+      long next = Math.min(MAX_TOKENS, current + deposit);
+      if (next == current || tokens.compareAndSet(current, next)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Withdraw a token from the budget.
+   *
+   * @return whether a request can be hedged
+   */
+  boolean tryHedge() {
+    while (true) {
+      long current = tokens.get();
+      if (current < TOKEN) {
+        return false;
+      }
+      if (tokens.compareAndSet(current, current - TOKEN)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * @return the delay in milliseconds before hedging a request sent to the {@code address} endpoint
+   */
+  long delay(Address address) {
+    Latencies l = latencies.get(address);
+    long percentile = l != null ? l.percentile : -1L;
+    if (percentile < 0L) {
+      return options.getMaxDelay();
+    }
+    long delay = TimeUnit.NANOSECONDS.toMillis(percentile);
+    return Math.min(options.getMaxDelay(), Math.max(options.getMinDelay(), delay));
+  }
+
+  /**
+   * Record the response head {@code latency} of a request sent to the {@code address} endpoint.
+   *
+   * @param latency the latency in nanoseconds
+   */
+  void record(Address address, long latency) {
+    Latencies l = latencies.get(address);
+    if (l == null) {
+      Latencies created = new Latencies();
+      l = latencies.putIfAbsent(address, created);
+      if (l == null) {
+        l = created;
+        if (latencies.size() > MAX_ENDPOINTS) {
+          evict(address);
+        }
+      }
+    }
+    l.record(latency);
+  }
+
+  private void evict(Address added) {
+    Address eldest = null;
+    long eldestRecord = Long.MAX_VALUE;
+    for (Map.Entry<Address, Latencies> entry : latencies.entrySet()) {
+      long lastRecord = entry.getValue().lastRecord;
+      if (lastRecord < eldestRecord && !entry.getKey().equals(added)) {
+        eldest = entry.getKey();
+        eldestRecord = lastRecord;
+      }
+    }
+    if (eldest != null) {
+      latencies.remove(eldest);
+    }
+  }
+
+  private class Latencies {
+
+    private final long[] samples = new long[SAMPLES];
+    private int count;
+    private volatile long percentile = -1L;
+    private volatile long lastRecord = System.nanoTime();
+
+    synchronized void record(long latency) {
+      lastRecord = System.nanoTime();
+      samples[count++ % SAMPLES] = latency;
+      if (count % REFRESH_SAMPLES == 0) {
+        long[] sorted = Arrays.copyOf(samples, Math.min(count, SAMPLES));
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(options.getPercentile() * sorted.length) - 1;
+        percentile = sorted[Math.max(0, index)];
+        if (count == 2 * SAMPLES) {
+          // Keep the counter bounded, the samples array is full
+          count = SAMPLES;
+        }
+      }
+    }
+  }
+}
@@ -95,6 +95,8 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
   private Deque<WebSocketFrame> pendingFrames;
 
   private long lastResponseReceivedTimestamp;
+  private long averageResponseTime;
+  private long responseWaitTimestamp;
 
   Http1xClientConnection(HttpVersion version,
                          HttpClientBase client,
@@ -238,6 +240,10 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
     stream.bytesWritten += buf != null ? buf.readableBytes() : 0L;
     HttpRequest nettyRequest = createRequest(request.method, request.uri, request.headers, request.authority, chunked, buf, end);
     synchronized (this) {
+      stream.requestBeginTimestamp = System.nanoTime();
+      if (responses.isEmpty()) {
+        responseWaitTimestamp = stream.requestBeginTimestamp;
+      }
       responses.add(stream);
       this.isConnect = connect;
       if (this.metrics != null) {
@@ -370,7 +376,7 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
     private boolean responseEnded;
     private long bytesRead;
     private long bytesWritten;
-
+    private long requestBeginTimestamp;
 
     Stream(ContextInternal context, Promise<HttpClientStream> promise, int id) {
       this.context = context;
@@ -869,6 +875,10 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
         return;
       }
       responses.pop();
+      long now = System.nanoTime();
+      long responseTime = now - stream.requestBeginTimestamp;
+      averageResponseTime = averageResponseTime == 0L ? responseTime : averageResponseTime + (responseTime - averageResponseTime) / 8;
+      responseWaitTimestamp = now;
       HttpRequestHead request = stream.request;
       if ((request.method != HttpMethod.CONNECT && response.statusCode != 101)) {
         // See https://tools.ietf.org/html/rfc7230#section-6.3
@@ -991,6 +1001,7 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
 
           VertxHandler<WebSocketConnectionImpl> handler = VertxHandler.create(ctx -> {
             WebSocketConnectionImpl conn = new WebSocketConnectionImpl(context, ctx, false, TimeUnit.SECONDS.toMillis(options.getClosingTimeout()), client.metrics());
+            conn.flushConsolidation(options.getFlushConsolidationOptions());
             WebSocketImpl webSocket = new WebSocketImpl(
               context,
               conn,
@@ -1248,11 +1259,26 @@ public class Http1xClientConnection extends Http1xConnection implements HttpClie
     return lastResponseReceivedTimestamp;
   }
 
+  @Override
+  public long averageResponseTime() {
+    return averageResponseTime;
+  }
+
+  @Override
+  public synchronized long pendingResponseTime() {
+    return responses.isEmpty() ? 0L : System.nanoTime() - responseWaitTimestamp;
+  }
+
   @Override
   public boolean isValid() {
     return expirationTimestamp == 0 || System.currentTimeMillis() <= expirationTimestamp;
   }
 
+  @Override
+  public long expirationTimestamp() {
+    return expirationTimestamp;
+  }
+
   /**
    * Compute the expiration timeout of the connection, relative to the current time.
    *
@@ -86,6 +86,7 @@ public class Http1xServerConnection extends Http1xConnection implements HttpServ
 
   final HttpServerMetrics metrics;
   final boolean handle100ContinueAutomatically;
+  final boolean sendDateHeader;
   final HttpServerOptions options;
   final SslContextManager sslContextManager;
 
@@ -103,6 +104,7 @@ public class Http1xServerConnection extends Http1xConnection implements HttpServ
     this.sslContextManager = sslContextManager;
     this.metrics = metrics;
     this.handle100ContinueAutomatically = options.isHandle100ContinueAutomatically();
+    this.sendDateHeader = options.isSendDateHeader();
     this.tracingPolicy = options.getTracingPolicy();
     this.wantClose = false;
   }
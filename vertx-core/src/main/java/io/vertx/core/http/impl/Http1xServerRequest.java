@@ -11,6 +11,7 @@
 
 package io.vertx.core.http.impl;
 
+import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.DecoderResult;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.*;
@@ -81,6 +82,7 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
   private MultiMap attributes;
   private boolean expectMultipart;
   private HttpPostRequestDecoder decoder;
+  private MultipartFormDecoder multipartDecoder;
   private boolean ended;
   private long bytesRead;
   private final InboundMessageQueue<Object> queue;
@@ -432,7 +434,7 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
       checkEnded();
       expectMultipart = expect;
       if (expect) {
-        if (decoder == null) {
+        if (decoder == null && multipartDecoder == null) {
           String contentType = request.headers().get(HttpHeaderNames.CONTENT_TYPE);
           if (contentType == null) {
             throw new IllegalStateException("Request must have a content-type header to decode a multipart request");
@@ -443,15 +445,20 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
           if (!HttpUtils.isValidMultipartMethod(request.method())) {
             throw new IllegalStateException("Request method must be one of POST, PUT, PATCH or DELETE to decode a multipart request");
           }
-          NettyFileUploadDataFactory factory = new NettyFileUploadDataFactory(context, this, () -> uploadHandler);
           HttpServerOptions options = conn.options;
-          factory.setMaxLimit(options.getMaxFormAttributeSize());
-          int maxFields = options.getMaxFormFields();
-          int maxBufferedBytes = options.getMaxFormBufferedBytes();
-          decoder = new HttpPostRequestDecoder(factory, request, HttpConstants.DEFAULT_CHARSET, maxFields, maxBufferedBytes);
+          if (HttpUtils.isMultipartFormData(contentType)) {
+            multipartDecoder = new MultipartFormDecoder(context, this, contentType, options, () -> uploadHandler, (name, value) -> attributes().add(name, value));
+          } else {
+            NettyFileUploadDataFactory factory = new NettyFileUploadDataFactory(context, this, () -> uploadHandler);
+            factory.setMaxLimit(options.getMaxFormAttributeSize());
+            int maxFields = options.getMaxFormFields();
+            int maxBufferedBytes = options.getMaxFormBufferedBytes();
+            decoder = new HttpPostRequestDecoder(factory, request, HttpConstants.DEFAULT_CHARSET, maxFields, maxBufferedBytes);
+          }
         }
       } else {
         decoder = null;
+        multipartDecoder = null;
       }
       return this;
     }
@@ -505,6 +512,13 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
           decoder = null;
           handleException(e);
         }
+      } else if (multipartDecoder != null) {
+        try {
+          multipartDecoder.offer(data);
+        } catch (DecoderException e) {
+          handleException(e);
+          multipartDecoder = null;
+        }
       }
       handler = eventHandler;
     }
@@ -521,6 +535,8 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
     synchronized (conn) {
       if (decoder != null) {
         endDecode();
+      } else if (multipartDecoder != null) {
+        endMultipartDecode();
       }
       ended = true;
       handler = eventHandler;
@@ -579,6 +595,16 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
     }
   }
 
+  private void endMultipartDecode() {
+    try {
+      multipartDecoder.end();
+    } catch (DecoderException e) {
+      handleException(e);
+    } finally {
+      multipartDecoder = null;
+    }
+  }
+
   void handleException(Throwable t) {
     HttpEventHandler handler = null;
     Http1xServerResponse resp = null;
@@ -588,6 +614,8 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
         handler = eventHandler;
         if (decoder != null) {
           upload = decoder.currentPartialHttpData();
+        } else if (multipartDecoder != null) {
+          upload = multipartDecoder.currentUpload();
         }
       }
       if (!response.ended()) {
@@ -44,6 +44,7 @@ import io.vertx.core.spi.observability.HttpResponse;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.util.List;
 import java.util.Set;
 
 import static io.vertx.core.http.HttpHeaders.*;
@@ -324,6 +325,13 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
     return promise.future();
   }
 
+  @Override
+  public Future<Void> writeAll(List<Buffer> chunks) {
+    PromiseInternal<Void> promise = context.promise();
+    write(BufferInternal.compositeByteBuf(chunks), promise);
+    return promise.future();
+  }
+
   @Override
   public Future<Void> writeContinue() {
     Promise<Void> promise = context.promise();
@@ -616,6 +624,9 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
         headers.set(HttpHeaders.CONTENT_LENGTH, value);
       }
     }
+    if (conn.sendDateHeader && !headers.contains(HttpHeaders.DATE)) {
+      headers.set(HttpHeaders.DATE, DateHeader.value());
+    }
     if (headersEndHandler != null) {
       headersEndHandler.handle(null);
     }
@@ -178,11 +178,27 @@ class Http2ClientConnection extends Http2ConnectionBase implements HttpClientCon
     return expirationTimestamp == 0 || System.currentTimeMillis() <= expirationTimestamp;
   }
 
+  @Override
+  public long expirationTimestamp() {
+    return expirationTimestamp;
+  }
+
   @Override
   public long lastResponseReceivedTimestamp() {
     return 0L;
   }
 
+  @Override
+  public long averageResponseTime() {
+    return 0L;
+  }
+
+  @Override
+  public long pendingResponseTime() {
+    // Streams are multiplexed, a pending response does not block the others
+    return 0L;
+  }
+
   protected synchronized void onHeadersRead(int streamId, Http2Headers headers, StreamPriority streamPriority, boolean endOfStream) {
     Stream stream = (Stream) stream(streamId);
     if (!stream.stream.isTrailersReceived()) {
@@ -698,11 +714,13 @@ class Http2ClientConnection extends Http2ConnectionBase implements HttpClientCon
         return conn;
       })
       .logEnabled(options.getLogActivity())
+      .flushConsolidation(options.getFlushConsolidationOptions())
       .build();
     handler.addHandler(conn -> {
       if (options.getHttp2ConnectionWindowSize() > 0) {
         conn.setWindowSize(options.getHttp2ConnectionWindowSize());
       }
+      conn.windowTuning(options.getHttp2WindowTuningOptions());
       if (metrics != null) {
         if (!upgrade)  {
           met.endpointConnected(metrics);
@@ -16,6 +16,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http2.Http2CodecUtil;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2Exception;
 import io.netty.handler.codec.http2.Http2Flags;
@@ -32,6 +33,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.impl.buffer.VertxByteBufAllocator;
 import io.vertx.core.http.GoAway;
+import io.vertx.core.http.Http2WindowTuningOptions;
 import io.vertx.core.http.HttpClosedException;
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.StreamPriority;
@@ -41,6 +43,8 @@ import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.core.net.impl.ConnectionBase;
+import io.vertx.core.spi.metrics.NetworkMetrics;
+import io.vertx.core.spi.metrics.TCPMetrics;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -55,6 +59,9 @@ abstract class Http2ConnectionBase extends ConnectionBase implements Http2FrameL
 
   private static final Logger log = LoggerFactory.getLogger(Http2ConnectionBase.class);
 
+  // Payload of the pings estimating the bandwidth-delay product: "BDP_PING"
+  private static final long BDP_PING_DATA = 0x4244505F50494E47L;
+
   private static ByteBuf safeBuffer(ByteBuf buf) {
     ByteBuf buffer = VertxByteBufAllocator.DEFAULT.heapBuffer(buf.readableBytes());
     buffer.writeBytes(buf);
@@ -76,6 +83,12 @@ abstract class Http2ConnectionBase extends ConnectionBase implements Http2FrameL
   private GoAway goAwayStatus;
   private int windowSize;
   private long maxConcurrentStreams;
+  private Http2WindowTuningOptions windowTuning;
+  private int streamWindowSize;
+  private boolean bdpPing;
+  private long bdpPingTime;
+  private long bdpBytes;
+  private long maxBandwidth;
 
   public Http2ConnectionBase(ContextInternal context, VertxHttp2ConnectionHandler handler) {
     super(context, handler.context());
@@ -85,6 +98,61 @@ abstract class Http2ConnectionBase extends ConnectionBase implements Http2FrameL
     this.maxConcurrentStreams = io.vertx.core.http.Http2Settings.DEFAULT_MAX_CONCURRENT_STREAMS;
     this.streamKey = handler.connection().newKey();
     this.localSettings = handler.initialSettings();
+    Integer initialWindowSize = localSettings.initialWindowSize();
+    this.streamWindowSize = initialWindowSize != null ? initialWindowSize : Http2CodecUtil.DEFAULT_WINDOW_SIZE;
+  }
+
+  /**
+   * Auto-tune the flow control windows, this must be called from the event-loop.
+   *
+   * @param options the options, {@code null} disables auto-tuning
+   */
+  void windowTuning(Http2WindowTuningOptions options) {
+    windowTuning = options;
+  }
+
+  private void sampleBandwidthDelayProduct(int numBytes) {
+    if (!bdpPing) {
+      bdpPing = true;
+      bdpBytes = 0L;
+      bdpPingTime = System.nanoTime();
+      handler.writePing(BDP_PING_DATA);
+    }
+    bdpBytes += numBytes;
+  }
+
+  /**
+   * Grow the windows when the bytes received during the round-trip of the ping reach half of a window and the
+   * bandwidth increases, like gRPC does.
+   */
+  private void tuneWindows() {
+    bdpPing = false;
+    long elapsed = Math.max(1L, System.nanoTime() - bdpPingTime);
+    long bandwidth = bdpBytes * TimeUnit.SECONDS.toNanos(1) / elapsed;
+    if (bandwidth <= maxBandwidth) {
+      return;
+    }
+    long target = bdpBytes * 2;
+    int connectionTarget = (int) Math.min(target, windowTuning.getMaxConnectionWindowSize());
+    int streamTarget = (int) Math.min(target, windowTuning.getMaxStreamWindowSize());
+    boolean changed = false;
+    if (connectionTarget > windowSize) {
+      setWindowSize(connectionTarget);
+      changed = true;
+    }
+    if (streamTarget > streamWindowSize) {
+      streamWindowSize = streamTarget;
+      // Applied to the streams when the peer acknowledges the settings
+      updateSettings(new Http2Settings().initialWindowSize(streamTarget));
+      changed = true;
+    }
+    if (changed) {
+      maxBandwidth = bandwidth;
+      NetworkMetrics metrics = metrics();
+      if (metrics instanceof TCPMetrics) {
+        ((TCPMetrics) metrics).windowSizeChanged(metric(), windowSize, streamWindowSize);
+      }
+    }
   }
 
   VertxInternal vertx() {
@@ -270,6 +338,10 @@ abstract class Http2ConnectionBase extends ConnectionBase implements Http2FrameL
 
   @Override
   public void onPingAckRead(ChannelHandlerContext ctx, long data) {
+    if (data == BDP_PING_DATA && bdpPing) {
+      tuneWindows();
+      return;
+    }
     Promise<Buffer> handler = pongHandlers.poll();
     if (handler != null) {
       Buffer buff = Buffer.buffer().appendLong(data);
@@ -310,6 +382,9 @@ abstract class Http2ConnectionBase extends ConnectionBase implements Http2FrameL
 
   @Override
   public int onDataRead(ChannelHandlerContext ctx, int streamId, ByteBuf data, int padding, boolean endOfStream) {
+    if (windowTuning != null) {
+      sampleBandwidthDelayProduct(data.readableBytes() + padding);
+    }
     VertxHttp2Stream stream = stream(streamId);
     if (stream != null) {
       data = safeBuffer(data);
@@ -11,9 +11,8 @@
 
 package io.vertx.core.http.impl;
 
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.EventLoop;
-import io.netty.handler.codec.compression.CompressionOptions;
-import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http2.*;
 import io.netty.handler.codec.http2.Http2Settings;
@@ -23,12 +22,12 @@ import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.http.*;
+import io.vertx.core.http.impl.headers.HeaderValueCache;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.net.HostAndPort;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
 
 import java.util.ArrayDeque;
-import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -39,8 +38,11 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
   final HttpServerOptions options;
   private final String serverOrigin;
   private final HttpServerMetrics metrics;
-  private final Function<String, String> encodingDetector;
+  private final CompressionManager compressionManager;
   private final Supplier<ContextInternal> streamContextSupplier;
+  final HeaderValueCache headerCache;
+  private String lastAuthorityHeader;
+  private HostAndPort lastAuthority;
 
   Handler<HttpServerRequest> requestHandler;
   private int concurrentStreams;
@@ -52,18 +54,57 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
     Supplier<ContextInternal> streamContextSupplier,
     String serverOrigin,
     VertxHttp2ConnectionHandler connHandler,
-    Function<String, String> encodingDetector,
+    CompressionManager compressionManager,
     HttpServerOptions options,
+    HeaderValueCache headerCache,
     HttpServerMetrics metrics) {
     super(context, connHandler);
 
     this.options = options;
     this.serverOrigin = serverOrigin;
-    this.encodingDetector = encodingDetector;
+    this.compressionManager = compressionManager;
     this.streamContextSupplier = streamContextSupplier;
+    this.headerCache = headerCache;
     this.metrics = metrics;
   }
 
+  private String toString(CharSequence value) {
+    if (value == null) {
+      return null;
+    }
+    return headerCache != null ? headerCache.toString(value) : value.toString();
+  }
+
+  private HostAndPort parseAuthority(String authorityHeader) {
+    // The streams of a connection usually share the same authority
+    if (!authorityHeader.equals(lastAuthorityHeader)) {
+      lastAuthority = HostAndPort.parseAuthority(authorityHeader, -1);
+      lastAuthorityHeader = authorityHeader;
+    }
+    return lastAuthority;
+  }
+
+  @Override
+  public void onSettingsRead(ChannelHandlerContext ctx, Http2Settings settings) {
+    long maxHeaderTableSize = options.getHttp2EncoderHeaderTableSize();
+    if (maxHeaderTableSize >= 0) {
+      // The encoder has applied the size advertised by the client or uses the default size when the client does not
+      // advertise one, clamp it. The first settings of the client precede any header block, so the encoder
+      // never uses a larger table. The cap cannot be applied before: the table size update would exceed the limit
+      // of a client advertising a smaller size
+      Http2HeadersEncoder.Configuration config = handler.encoder().configuration().headersConfiguration();
+      if (config.maxHeaderTableSize() > maxHeaderTableSize) {
+        try {
+          config.maxHeaderTableSize(maxHeaderTableSize);
+        } catch (Http2Exception e) {
+          handler.onError(ctx, true, e);
+          return;
+        }
+      }
+    }
+    super.onSettingsRead(ctx, settings);
+  }
+
   @Override
   public HttpServerConnection handler(Handler<HttpServerRequest> handler) {
     requestHandler = handler;
@@ -107,34 +148,32 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
   }
 
 
-  private static class EncodingDetector extends HttpContentCompressor {
-
-    private EncodingDetector(CompressionOptions[] compressionOptions) {
-      super(compressionOptions);
+  String determineContentEncoding(Http2Headers requestHeaders, Http2Headers responseHeaders) {
+    if (compressionManager == null) {
+      return null;
     }
-
-    @Override
-    protected String determineEncoding(String acceptEncoding) {
-      return super.determineEncoding(acceptEncoding);
+    CharSequence acceptEncoding = requestHeaders.get(HttpHeaderNames.ACCEPT_ENCODING);
+    if (acceptEncoding == null) {
+      return null;
     }
-  }
-
-  String determineContentEncoding(Http2Headers headers) {
-    String acceptEncoding = headers.get(HttpHeaderNames.ACCEPT_ENCODING) != null ? headers.get(HttpHeaderNames.ACCEPT_ENCODING).toString() : null;
-    if (acceptEncoding != null && encodingDetector != null) {
-      return encodingDetector.apply(acceptEncoding);
+    boolean dictionaryAvailable = compressionManager.isDictionaryAvailable(requestHeaders.get(CompressionManager.AVAILABLE_DICTIONARY));
+    long contentLength = -1L;
+    CharSequence contentLengthHeader = responseHeaders.get(HttpHeaderNames.CONTENT_LENGTH);
+    if (contentLengthHeader != null) {
+      try {
+        contentLength = Long.parseLong(contentLengthHeader.toString());
+      } catch (NumberFormatException ignore) {
+      }
     }
-    return null;
+    return compressionManager.determineEncoding(acceptEncoding, dictionaryAvailable, responseHeaders.get(HttpHeaderNames.CONTENT_TYPE), contentLength);
   }
 
   private Http2ServerStream createStream(Http2Headers headers, boolean streamEnded) {
     CharSequence schemeHeader = headers.getAndRemove(HttpHeaders.PSEUDO_SCHEME);
     HostAndPort authority = null;
-    String authorityHeaderAsString;
     CharSequence authorityHeader = headers.getAndRemove(HttpHeaders.PSEUDO_AUTHORITY);
     if (authorityHeader != null) {
-      authorityHeaderAsString = authorityHeader.toString();
-      authority = HostAndPort.parseAuthority(authorityHeaderAsString, -1);
+      authority = parseAuthority(toString(authorityHeader));
     }
     CharSequence pathHeader = headers.getAndRemove(HttpHeaders.PSEUDO_PATH);
     CharSequence methodHeader = headers.getAndRemove(HttpHeaders.PSEUDO_METHOD);
@@ -142,11 +181,11 @@ public class Http2ServerConnection extends Http2ConnectionBase implements HttpSe
       this,
       streamContextSupplier.get(),
       headers,
-      schemeHeader != null ? schemeHeader.toString() : null,
+      toString(schemeHeader),
       authorityHeader != null,
       authority,
-      methodHeader != null ? HttpMethod.valueOf(methodHeader.toString()) : null,
-      pathHeader != null ? pathHeader.toString() : null,
+      methodHeader != null ? HttpMethod.valueOf(toString(methodHeader)) : null,
+      toString(pathHeader),
       options.getTracingPolicy(), streamEnded);
   }
 
@@ -11,6 +11,7 @@
 
 package io.vertx.core.http.impl;
 
+import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.DecoderResult;
 import io.netty.handler.codec.http.*;
 import io.netty.handler.codec.http.multipart.Attribute;
@@ -65,6 +66,7 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
   private Handler<HttpServerFileUpload> uploadHandler;
   private boolean expectMultipart;
   private HttpPostRequestDecoder postRequestDecoder;
+  private MultipartFormDecoder multipartDecoder;
   private Handler<HttpFrame> customFrameHandler;
   private Handler<StreamPriority> streamPriorityHandler;
 
@@ -75,7 +77,7 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
     this.stream = stream;
     this.response = new Http2ServerResponse(stream.conn, stream, false);
     this.serverOrigin = serverOrigin;
-    this.headersMap = new Http2HeadersAdaptor(headers);
+    this.headersMap = new Http2HeadersAdaptor(headers, stream.conn.headerCache);
   }
 
   private HttpEventHandler eventHandler(boolean create) {
@@ -107,6 +109,8 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
     synchronized (stream.conn) {
       if (postRequestDecoder != null) {
         upload = postRequestDecoder.currentPartialHttpData();
+      } else if (multipartDecoder != null) {
+        upload = multipartDecoder.currentUpload();
       }
       handler = eventHandler;
     }
@@ -141,6 +145,13 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
         postRequestDecoder = null;
         handleException(e);
       }
+    } else if (multipartDecoder != null) {
+      try {
+        multipartDecoder.offer(data);
+      } catch (DecoderException e) {
+        handleException(e);
+        multipartDecoder = null;
+      }
     }
     HttpEventHandler handler = eventHandler;
     if (handler != null) {
@@ -151,7 +162,6 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
   public void handleEnd(MultiMap trailers) {
     HttpEventHandler handler;
     synchronized (stream.conn) {
-      ended = true;
       if (postRequestDecoder != null) {
         try {
           postRequestDecoder.offer(LastHttpContent.EMPTY_LAST_CONTENT);
@@ -177,7 +187,17 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
           postRequestDecoder.destroy();
           postRequestDecoder = null;
         }
+      } else if (multipartDecoder != null) {
+        try {
+          multipartDecoder.end();
+        } catch (DecoderException e) {
+          handleException(e);
+        } finally {
+          multipartDecoder = null;
+        }
       }
+      // Decoding failures of the last part are reported before the request is ended
+      ended = true;
       handler = eventHandler;
     }
     if (handler != null) {
@@ -394,7 +414,7 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
       checkEnded();
       expectMultipart = expect;
       if (expect) {
-        if (postRequestDecoder == null) {
+        if (postRequestDecoder == null && multipartDecoder == null) {
           String contentType = headersMap.get(HttpHeaderNames.CONTENT_TYPE);
           if (contentType == null) {
             throw new IllegalStateException("Request must have a content-type header to decode a multipart request");
@@ -405,20 +425,25 @@ public class Http2ServerRequest extends HttpServerRequestInternal implements Htt
           if (!HttpUtils.isValidMultipartMethod(stream.method.toNetty())) {
             throw new IllegalStateException("Request method must be one of POST, PUT, PATCH or DELETE to decode a multipart request");
           }
-          HttpRequest req = new DefaultHttpRequest(
-            io.netty.handler.codec.http.HttpVersion.HTTP_1_1,
-            stream.method.toNetty(),
-            stream.uri);
-          req.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
-          NettyFileUploadDataFactory factory = new NettyFileUploadDataFactory(context, this, () -> uploadHandler);
           HttpServerOptions options = stream.conn.options;
-          factory.setMaxLimit(options.getMaxFormAttributeSize());
-          int maxFields = options.getMaxFormFields();
-          int maxBufferedBytes = options.getMaxFormBufferedBytes();
-          postRequestDecoder = new HttpPostRequestDecoder(factory, req, HttpConstants.DEFAULT_CHARSET, maxFields, maxBufferedBytes);
+          if (HttpUtils.isMultipartFormData(contentType)) {
+            multipartDecoder = new MultipartFormDecoder(context, this, contentType, options, () -> uploadHandler, (name, value) -> formAttributes().add(name, value));
+          } else {
+            HttpRequest req = new DefaultHttpRequest(
+              io.netty.handler.codec.http.HttpVersion.HTTP_1_1,
+              stream.method.toNetty(),
+              stream.uri);
+            req.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
+            NettyFileUploadDataFactory factory = new NettyFileUploadDataFactory(context, this, () -> uploadHandler);
+            factory.setMaxLimit(options.getMaxFormAttributeSize());
+            int maxFields = options.getMaxFormFields();
+            int maxBufferedBytes = options.getMaxFormBufferedBytes();
+            postRequestDecoder = new HttpPostRequestDecoder(factory, req, HttpConstants.DEFAULT_CHARSET, maxFields, maxBufferedBytes);
+          }
         }
       } else {
         postRequestDecoder = null;
+        multipartDecoder = null;
       }
     }
     return this;
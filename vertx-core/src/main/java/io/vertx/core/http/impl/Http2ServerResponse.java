@@ -35,6 +35,7 @@ import io.vertx.core.spi.observability.HttpResponse;
 import io.vertx.core.streams.ReadStream;
 
 import java.util.Map.Entry;
+import java.util.List;
 import java.util.Set;
 
 import static io.vertx.core.http.HttpHeaders.SET_COOKIE;
@@ -346,6 +347,11 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
     return write(BufferInternal.buffer(chunk).getByteBuf(), false);
   }
 
+  @Override
+  public Future<Void> writeAll(List<Buffer> chunks) {
+    return write(BufferInternal.compositeByteBuf(chunks), false);
+  }
+
   @Override
   public Future<Void> end(String chunk) {
     return end(Buffer.buffer(chunk));
@@ -461,6 +467,9 @@ public class Http2ServerResponse implements HttpServerResponse, HttpResponse {
       headers.remove(HttpHeaders.TRANSFER_ENCODING);
       headers.remove(HttpHeaders.CONTENT_LENGTH);
     }
+    if (conn.options.isSendDateHeader() && !headers.contains(HttpHeaders.DATE)) {
+      headers.set(HttpHeaders.DATE, DateHeader.value());
+    }
   }
 
   private void setCookies() {
@@ -108,6 +108,16 @@ public class Http2UpgradeClientConnection implements HttpClientConnectionInterna
     return current.lastResponseReceivedTimestamp();
   }
 
+  @Override
+  public long averageResponseTime() {
+    return current.averageResponseTime();
+  }
+
+  @Override
+  public long pendingResponseTime() {
+    return current.pendingResponseTime();
+  }
+
   private static class DelegatingStream implements HttpClientStream {
 
     private final Http2UpgradeClientConnection connection;
@@ -940,6 +950,11 @@ public class Http2UpgradeClientConnection implements HttpClientConnectionInterna
     return current.isValid();
   }
 
+  @Override
+  public long expirationTimestamp() {
+    return current.expirationTimestamp();
+  }
+
   @Override
   public String indicatedServerName() {
     return current.indicatedServerName();
@@ -15,7 +15,6 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.http.HttpClientCodec;
-import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.IdleStateHandler;
@@ -198,7 +197,7 @@ public class HttpChannelConnector {
       !HttpHeaders.DISABLE_HTTP_HEADERS_VALIDATION,
       options.getDecoderInitialBufferSize()));
     if (options.isDecompressionSupported()) {
-      pipeline.addLast("inflater", new HttpContentDecompressor(false));
+      pipeline.addLast("inflater", new VertxHttpContentDecompressor(false, options.getMaxChunkSize()));
     }
   }
 
@@ -213,6 +212,7 @@ public class HttpChannelConnector {
     VertxHandler<Http1xClientConnection> clientHandler = VertxHandler.create(chctx -> {
       HttpClientMetrics met = client.metrics();
       Http1xClientConnection conn = new Http1xClientConnection(upgrade ? HttpVersion.HTTP_1_1 : version, client, chctx, ssl, server, authority, context, metrics, pooled);
+      conn.flushConsolidation(options.getFlushConsolidationOptions());
       if (met != null) {
         conn.metric(socketMetric);
         met.endpointConnected(metrics);
@@ -12,22 +12,36 @@
 package io.vertx.core.http.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
-import io.netty.handler.codec.compression.CompressionOptions;
-import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultHttpContent;
-import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContentEncoder;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+
+import java.util.List;
 
 /**
  * @author <a href="mailto:nmaurer@redhat.com">Norman Maurer</a>
  */
-final class HttpChunkContentCompressor extends HttpContentCompressor {
+final class HttpChunkContentCompressor extends HttpContentEncoder {
+
+  private final CompressionManager compressionManager;
+  private ChannelHandlerContext ctx;
 
-  public HttpChunkContentCompressor(CompressionOptions... compressionOptions) {
-    super(0, compressionOptions);
+  public HttpChunkContentCompressor(CompressionManager compressionManager) {
+    this.compressionManager = compressionManager;
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+    this.ctx = ctx;
   }
 
   @Override
@@ -46,12 +60,70 @@ final class HttpChunkContentCompressor extends HttpContentCompressor {
     super.write(ctx, msg, promise);
   }
 
+  @Override
+  protected void decode(ChannelHandlerContext ctx, HttpRequest msg, List<Object> out) throws Exception {
+    HttpHeaders headers = msg.headers();
+    String acceptEncoding;
+    if (compressionManager.hasDictionary()
+      && (acceptEncoding = headers.get(HttpHeaderNames.ACCEPT_ENCODING)) != null
+      && CompressionManager.accepts(acceptEncoding, CompressionManager.DCZ)
+      && !compressionManager.isDictionaryAvailable(headers.get(CompressionManager.AVAILABLE_DICTIONARY))) {
+      // The encoding is determined from the accept-encoding header, hide dcz when the request does not advertise the dictionary
+      headers.set(HttpHeaderNames.ACCEPT_ENCODING, removeDcz(acceptEncoding));
+      try {
+        super.decode(ctx, msg, out);
+      } finally {
+        headers.set(HttpHeaderNames.ACCEPT_ENCODING, acceptEncoding);
+      }
+    } else {
+      super.decode(ctx, msg, out);
+    }
+  }
+
+  private static String removeDcz(String acceptEncoding) {
+    StringBuilder sb = new StringBuilder(acceptEncoding.length());
+    for (String token : acceptEncoding.split(",")) {
+      int idx = token.indexOf(';');
+      String name = (idx == -1 ? token : token.substring(0, idx)).trim();
+      if (!name.equalsIgnoreCase(CompressionManager.DCZ)) {
+        if (sb.length() > 0) {
+          sb.append(',');
+        }
+        sb.append(token);
+      }
+    }
+    return sb.toString();
+  }
+
   @Override
   protected Result beginEncode(HttpResponse httpResponse, String acceptEncoding) throws Exception {
-    Result result = super.beginEncode(httpResponse, acceptEncoding);
-    if (result == null && httpResponse.headers().contains(HttpHeaderNames.CONTENT_ENCODING, "identity", true)) {
-      httpResponse.headers().remove(HttpHeaderNames.CONTENT_ENCODING);
+    HttpHeaders headers = httpResponse.headers();
+    if (headers.contains(HttpHeaderNames.CONTENT_ENCODING)) {
+      // Already encoded
+      if (headers.contains(HttpHeaderNames.CONTENT_ENCODING, "identity", true)) {
+        headers.remove(HttpHeaderNames.CONTENT_ENCODING);
+      }
+      return null;
+    }
+    long contentLength;
+    if (httpResponse instanceof FullHttpResponse) {
+      contentLength = ((FullHttpResponse) httpResponse).content().readableBytes();
+    } else {
+      contentLength = HttpUtil.getContentLength(httpResponse, -1L);
+    }
+    String contentType = headers.get(HttpHeaderNames.CONTENT_TYPE);
+    String targetContentEncoding = compressionManager.determineEncoding(acceptEncoding, true, contentType, contentLength);
+    if (targetContentEncoding == null) {
+      return null;
+    }
+    ChannelHandler encoder = compressionManager.createEncoder(targetContentEncoding, contentType);
+    if (encoder == null) {
+      return null;
+    }
+    if (CompressionManager.DCZ.equals(targetContentEncoding)) {
+      headers.set(HttpHeaderNames.VARY, CompressionManager.dczVary(headers.getAll(HttpHeaderNames.VARY)));
     }
-    return result;
+    return new Result(targetContentEncoding,
+      new EmbeddedChannel(ctx.channel().id(), ctx.channel().metadata().hasDisconnect(), ctx.channel().config(), encoder));
   }
 }
@@ -88,6 +88,11 @@ public interface HttpClientConnectionInternal extends HttpConnection {
 
   boolean isValid();
 
+  /**
+   * @return the timestamp in milliseconds after which the connection is not valid anymore, {@code 0} when the connection does not expire
+   */
+  long expirationTimestamp();
+
   Object metric();
 
   /**
@@ -95,4 +100,14 @@ public interface HttpClientConnectionInternal extends HttpConnection {
    */
   long lastResponseReceivedTimestamp();
 
+  /**
+   * @return the exponentially weighted moving average of the response times in nanoseconds, {@code 0} when unknown
+   */
+  long averageResponseTime();
+
+  /**
+   * @return the time in nanoseconds the connection has been waiting for its next response, {@code 0} when no response is pending
+   */
+  long pendingResponseTime();
+
 }
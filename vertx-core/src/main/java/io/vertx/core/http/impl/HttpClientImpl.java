@@ -15,6 +15,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
 import io.vertx.core.internal.VertxInternal;
@@ -26,6 +27,7 @@ import io.vertx.core.net.endpoint.impl.EndpointResolverImpl;
 import io.vertx.core.http.*;
 import io.vertx.core.net.*;
 import io.vertx.core.internal.net.endpoint.EndpointResolverInternal;
+import io.vertx.core.net.endpoint.ServerEndpoint;
 import io.vertx.core.net.endpoint.ServerInteraction;
 import io.vertx.core.internal.resource.ResourceManager;
 import io.vertx.core.spi.metrics.ClientMetrics;
@@ -35,6 +37,7 @@ import io.vertx.core.spi.metrics.PoolMetrics;
 
 import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.regex.Pattern;
@@ -56,6 +59,9 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
   private long timerID;
   private volatile Handler<HttpConnection> connectionHandler;
   private final Function<ContextInternal, ContextInternal> contextProvider;
+  private final HedgingPolicy hedgingPolicy;
+  // The endpoint metrics of the un-pooled connections, shared by the connections to the same server
+  private final Map<SocketAddress, ClientMetrics> unpooledMetrics = new ConcurrentHashMap<>();
 
   public HttpClientImpl(VertxInternal vertx,
                         EndpointResolver endpointResolver,
@@ -65,8 +71,9 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
 
     this.endpointResolver = (EndpointResolverImpl) endpointResolver;
     this.poolOptions = poolOptions;
+    this.hedgingPolicy = options.getHedgingOptions() != null ? new HedgingPolicy(options.getHedgingOptions()) : null;
     httpCM = new ResourceManager<>();
-    if (poolOptions.getCleanerPeriod() > 0 && (options.getKeepAliveTimeout() > 0L || options.getHttp2KeepAliveTimeout() > 0L)) {
+    if (poolOptions.getCleanerPeriod() > 0 && (options.getKeepAliveTimeout() > 0L || options.getHttp2KeepAliveTimeout() > 0L || poolOptions.getMinIdle() > 0)) {
       PoolChecker checker = new PoolChecker(this);
       ContextInternal timerContext = vertx.createEventLoopContext();
       timerID = timerContext.setTimer(poolOptions.getCleanerPeriod(), checker);
@@ -91,6 +98,10 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     return contextProvider;
   }
 
+  PoolOptions poolOptions() {
+    return poolOptions;
+  }
+
   /**
    * A weak ref to the client so it can be finalized.
    */
@@ -143,6 +154,7 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
         poolOptions.getMaxWaitQueueSize(),
         poolOptions.getHttp1MaxSize(),
         poolOptions.getHttp2MaxSize(),
+        poolOptions.getConnectionSelectionPolicy(),
         connector);
     };
   }
@@ -162,6 +174,8 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
   @Override
   protected void doClose(Promise<Void> p) {
     httpCM.close();
+    unpooledMetrics.values().forEach(ClientMetrics::close);
+    unpooledMetrics.clear();
     super.doClose(p);
   }
 
@@ -218,7 +232,6 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     HostAndPort authority = HostAndPort.create(host, port);
     ClientSSLOptions sslOptions = sslOptions(connect);
     ProxyOptions proxyOptions = computeProxyOptions(connect.getProxyOptions(), server);
-    ClientMetrics clientMetrics = metrics != null ? metrics.createEndpointMetrics(server, 1) : null;
     Boolean ssl = connect.isSsl();
     boolean useSSL = ssl != null ? ssl : this.options.isSsl();
     boolean useAlpn = options.isUseAlpn();
@@ -226,6 +239,7 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
       return vertx.getOrCreateContext().failedFuture("Must enable ALPN when using H2");
     }
     checkClosed();
+    ClientMetrics clientMetrics = metrics != null ? unpooledMetrics.computeIfAbsent(server, s -> metrics.createEndpointMetrics(s, 1)) : null;
     HttpChannelConnector connector = new HttpChannelConnector(
       this,
       netClient,
@@ -241,6 +255,68 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     return (Future) connector.httpConnect(vertx.getOrCreateContext()).map(conn -> new UnpooledHttpClientConnection(conn).init());
   }
 
+  @Override
+  public Future<Void> warmUp(HttpConnectOptions connect, int n) {
+    Arguments.require(n >= 0, "n must be >= 0");
+    Address addr = connect.getServer();
+    Integer port = connect.getPort();
+    String host = connect.getHost();
+    if (addr == null) {
+      if (port == null) {
+        port = options.getDefaultPort();
+      }
+      if (host == null) {
+        host = options.getDefaultHost();
+      }
+      addr = SocketAddress.inetSocketAddress(port, host);
+    } else if (addr instanceof SocketAddress) {
+      SocketAddress socketAddr = (SocketAddress) addr;
+      if (port == null) {
+        port = socketAddr.port();
+      }
+      if (host == null) {
+        host = socketAddr.host();
+      }
+    }
+    Boolean ssl = connect.isSsl();
+    boolean useSSL = ssl != null ? ssl : this.options.isSsl();
+    if (!options.isUseAlpn() && useSSL && this.options.getProtocolVersion() == HttpVersion.HTTP_2) {
+      return vertx.getOrCreateContext().failedFuture("Must enable ALPN when using H2");
+    }
+    checkClosed();
+    HostAndPort authority = host != null && port != null ? HostAndPort.create(host, port) : null;
+    ClientSSLOptions sslOptions = sslOptions(connect);
+    ProxyOptions proxyConfig = connect.getProxyOptions();
+    ContextInternal ctx = vertx.getOrCreateContext();
+    if (endpointResolver != null) {
+      PromiseInternal<Endpoint> promise = ctx.promise();
+      endpointResolver.lookupEndpoint(addr, promise);
+      return promise.future().compose(endpoint -> {
+        List<Future<Void>> list = new ArrayList<>();
+        for (ServerEndpoint server : endpoint.servers()) {
+          list.add(warmUp(ctx, server.address(), useSSL, sslOptions, proxyConfig, authority, n));
+        }
+        return Future.all(list).mapEmpty();
+      });
+    } else if (addr instanceof SocketAddress) {
+      return warmUp(ctx, (SocketAddress) addr, useSSL, sslOptions, proxyConfig, authority, n);
+    } else {
+      return ctx.failedFuture("Cannot resolve address " + addr);
+    }
+  }
+
+  private Future<Void> warmUp(ContextInternal ctx,
+                              SocketAddress server,
+                              boolean useSSL,
+                              ClientSSLOptions sslOptions,
+                              ProxyOptions proxyConfig,
+                              HostAndPort authority,
+                              int n) {
+    ProxyOptions proxyOptions = computeProxyOptions(proxyConfig, server);
+    EndpointKey key = new EndpointKey(useSSL, sslOptions, proxyOptions, server, authority != null ? authority : HostAndPort.create(server.host(), server.port()));
+    return httpCM.withResourceAsync(key, httpEndpointProvider(), (endpoint, created) -> endpoint.warmUp(ctx, n));
+  }
+
   @Override
   public Future<HttpClientRequest> request(RequestOptions request) {
     Address addr = request.getServer();
@@ -336,32 +412,26 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
       PromiseInternal<Endpoint> promise = vertx.promise();
       endpointResolver.lookupEndpoint(server, promise);
       future = promise.future()
-        .map(endpoint -> endpoint.selectServer(routingKey))
-        .compose(lookup -> {
-        SocketAddress address = lookup.address();
-        ProxyOptions proxyOptions = computeProxyOptions(proxyConfig, address);
-        EndpointKey key = new EndpointKey(useSSL, sslOptions, proxyOptions, address, authority != null ? authority : HostAndPort.create(address.host(), address.port()));
-        return httpCM.withResourceAsync(key, httpEndpointProvider(), (endpoint, created) -> {
-          Future<Lease<HttpClientConnectionInternal>> fut2 = endpoint.requestConnection(streamCtx, connectTimeout);
-          if (fut2 == null) {
-            return null;
-          } else {
-            ServerInteraction endpointRequest = lookup.newInteraction();
-            return fut2.andThen(ar -> {
-              if (ar.failed()) {
-                endpointRequest.reportFailure(ar.cause());
+        .compose(endpoint -> {
+          ServerEndpoint lookup = endpoint.selectServer(routingKey);
+          SocketAddress address = lookup.address();
+          ProxyOptions proxyOptions = computeProxyOptions(proxyConfig, address);
+          Future<StatisticsGatheringHttpClientStream> fut = createStream(streamCtx, lookup, useSSL, sslOptions, proxyOptions, authority, connectTimeout);
+          Future<? extends HttpClientStream> result;
+          if (hedgingPolicy != null && HedgingPolicy.isIdempotent(method) && endpoint.servers().size() > 1) {
+            hedgingPolicy.onRequest();
+            result = fut.map(stream -> new HedgingHttpClientStream(hedgingPolicy, address, stream, () -> {
+              ServerEndpoint hedge = selectHedgeServer(endpoint, routingKey, address);
+              if (hedge == null) {
+                return streamCtx.failedFuture("No server to hedge the request");
               }
-            }).compose(lease -> {
-              HttpClientConnectionInternal conn = lease.get();
-              return conn.createStream(streamCtx).map(stream -> {
-                HttpClientStream wrapped = new StatisticsGatheringHttpClientStream(stream, endpointRequest);
-                wrapped.closeHandler(v -> lease.recycle());
-                return new ConnectionObtainedResult(proxyOptions, wrapped);
-              });
-            });
+              return createStream(streamCtx, hedge, useSSL, sslOptions, computeProxyOptions(proxyConfig, hedge.address()), authority, connectTimeout);
+            }));
+          } else {
+            result = fut;
           }
+          return result.map(stream -> new ConnectionObtainedResult(proxyOptions, stream));
         });
-      });
     } else if (server instanceof SocketAddress) {
       ProxyOptions proxyOptions = computeProxyOptions(proxyConfig, (SocketAddress) server);
       EndpointKey key = new EndpointKey(useSSL, sslOptions, proxyOptions, (SocketAddress) server, authority);
@@ -402,6 +472,56 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     }
   }
 
+  private Future<StatisticsGatheringHttpClientStream> createStream(ContextInternal streamCtx,
+                                                                   ServerEndpoint lookup,
+                                                                   boolean useSSL,
+                                                                   ClientSSLOptions sslOptions,
+                                                                   ProxyOptions proxyOptions,
+                                                                   HostAndPort authority,
+                                                                   long connectTimeout) {
+    SocketAddress address = lookup.address();
+    EndpointKey key = new EndpointKey(useSSL, sslOptions, proxyOptions, address, authority != null ? authority : HostAndPort.create(address.host(), address.port()));
+    return httpCM.withResourceAsync(key, httpEndpointProvider(), (endpoint, created) -> {
+      Future<Lease<HttpClientConnectionInternal>> fut = endpoint.requestConnection(streamCtx, connectTimeout);
+      if (fut == null) {
+        return null;
+      } else {
+        ServerInteraction endpointRequest = lookup.newInteraction();
+        return fut.andThen(ar -> {
+          if (ar.failed()) {
+            endpointRequest.reportFailure(ar.cause());
+          }
+        }).compose(lease -> {
+          HttpClientConnectionInternal conn = lease.get();
+          return conn.createStream(streamCtx).map(stream -> {
+            StatisticsGatheringHttpClientStream wrapped = new StatisticsGatheringHttpClientStream(stream, endpointRequest);
+            stream.closeHandler(v -> {
+              lease.recycle();
+              wrapped.handleClose();
+            });
+            return wrapped;
+          });
+        });
+      }
+    });
+  }
+
+  /**
+   * Select the server of a hedged request, it must be a server other than the {@code primary} server.
+   */
+  private static ServerEndpoint selectHedgeServer(Endpoint endpoint, String routingKey, SocketAddress primary) {
+    ServerEndpoint server = endpoint.selectServer(routingKey);
+    if (server != null && !server.address().equals(primary)) {
+      return server;
+    }
+    for (ServerEndpoint s : endpoint.servers()) {
+      if (!s.address().equals(primary)) {
+        return s;
+      }
+    }
+    return null;
+  }
+
   private static class ConnectionObtainedResult {
     private final ProxyOptions proxyOptions;
     private final HttpClientStream stream;
@@ -15,6 +15,7 @@ import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.http.HttpClosedException;
 import io.vertx.core.http.StreamResetException;
 import io.vertx.core.internal.ContextInternal;
@@ -182,6 +183,11 @@ class HttpNetSocket implements NetSocket {
     return writeStream.write(Buffer.buffer(str));
   }
 
+  @Override
+  public Future<Void> writeAll(List<Buffer> buffers) {
+    return writeStream.write(BufferInternal.buffer(BufferInternal.compositeByteBuf(buffers)));
+  }
+
   @Override
   public Future<Void> end(Buffer data) {
     return writeStream.end(data);
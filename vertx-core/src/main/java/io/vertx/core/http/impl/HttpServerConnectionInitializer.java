@@ -12,10 +12,6 @@ package io.vertx.core.http.impl;
 
 import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
-import io.netty.handler.codec.compression.CompressionOptions;
-import io.netty.handler.codec.compression.StandardCompressionOptions;
-import io.netty.handler.codec.http.HttpContentCompressor;
-import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleStateHandler;
@@ -29,8 +25,6 @@ import io.vertx.core.net.impl.*;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
 
 import java.nio.charset.StandardCharsets;
-import java.util.List;
-import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -51,8 +45,7 @@ class HttpServerConnectionInitializer {
   private final Handler<HttpServerConnection> connectionHandler;
   private final Handler<Throwable> exceptionHandler;
   private final Object metric;
-  private final CompressionOptions[] compressionOptions;
-  private final Function<String, String> encodingDetector;
+  private final CompressionManager compressionManager;
 
   HttpServerConnectionInitializer(ContextInternal context,
                                   Supplier<ContextInternal> streamContextSupplier,
@@ -64,17 +57,6 @@ class HttpServerConnectionInitializer {
                                   Handler<Throwable> exceptionHandler,
                                   Object metric) {
 
-    CompressionOptions[] compressionOptions = null;
-    if (options.isCompressionSupported()) {
-      List<CompressionOptions> compressors = options.getCompressors();
-      if (compressors == null) {
-        int compressionLevel = options.getCompressionLevel();
-        compressionOptions = new CompressionOptions[] { StandardCompressionOptions.gzip(compressionLevel, 15, 8), StandardCompressionOptions.deflate(compressionLevel, 15, 8) };
-      } else {
-        compressionOptions = compressors.toArray(new CompressionOptions[0]);
-      }
-    }
-
     this.context = context;
     this.streamContextSupplier = streamContextSupplier;
     this.server = server;
@@ -86,8 +68,7 @@ class HttpServerConnectionInitializer {
     this.connectionHandler = connectionHandler;
     this.exceptionHandler = exceptionHandler;
     this.metric = metric;
-    this.compressionOptions = compressionOptions;
-    this.encodingDetector = compressionOptions != null ? new EncodingDetector(compressionOptions)::determineEncoding : null;
+    this.compressionManager = CompressionManager.create(options);
   }
 
   void configurePipeline(Channel ch, SslChannelProvider sslChannelProvider, SslContextManager sslContextManager) {
@@ -186,22 +167,24 @@ class HttpServerConnectionInitializer {
     int secondsPerWindow = (int)options.getHttp2RstFloodWindowDurationTimeUnit().toSeconds(options.getHttp2RstFloodWindowDuration());
     VertxHttp2ConnectionHandler<Http2ServerConnection> handler = new VertxHttp2ConnectionHandlerBuilder<Http2ServerConnection>()
       .server(true)
-      .useCompression(compressionOptions)
+      .useCompression(compressionManager)
       .gracefulShutdownTimeoutMillis(0)
       .decoderEnforceMaxRstFramesPerWindow(maxRstFramesPerWindow, secondsPerWindow)
       .useDecompression(options.isDecompressionSupported())
       .initialSettings(options.getInitialSettings())
       .connectionFactory(connHandler -> {
-        Http2ServerConnection conn = new Http2ServerConnection(ctx, streamContextSupplier, serverOrigin, connHandler, encodingDetector, options, metrics);
+        Http2ServerConnection conn = new Http2ServerConnection(ctx, streamContextSupplier, serverOrigin, connHandler, compressionManager, options, server.http2HeaderCache, metrics);
         conn.metric(metric);
         return conn;
       })
       .logEnabled(logEnabled)
+      .flushConsolidation(options.getFlushConsolidationOptions())
       .build();
     handler.addHandler(conn -> {
       if (options.getHttp2ConnectionWindowSize() > 0) {
         conn.setWindowSize(options.getHttp2ConnectionWindowSize());
       }
+      conn.windowTuning(options.getHttp2WindowTuningOptions());
       handler_.handle(conn);
     });
     return handler;
@@ -233,10 +216,10 @@ class HttpServerConnectionInitializer {
     pipeline.addBefore(name, "httpDecoder", new VertxHttpRequestDecoder(options));
     pipeline.addBefore(name, "httpEncoder", new VertxHttpResponseEncoder());
     if (options.isDecompressionSupported()) {
-      pipeline.addBefore(name, "inflater", new HttpContentDecompressor(false));
+      pipeline.addBefore(name, "inflater", new VertxHttpContentDecompressor(false, options.getMaxChunkSize()));
     }
     if (options.isCompressionSupported()) {
-      pipeline.addBefore(name, "deflater", new HttpChunkContentCompressor(compressionOptions));
+      pipeline.addBefore(name, "deflater", new HttpChunkContentCompressor(compressionManager));
     }
   }
 
@@ -255,6 +238,7 @@ class HttpServerConnectionInitializer {
         context,
         serverOrigin,
         metrics);
+      conn.flushConsolidation(options.getFlushConsolidationOptions());
       conn.metric(metric);
       return conn;
     });
@@ -262,16 +246,4 @@ class HttpServerConnectionInitializer {
     Http1xServerConnection conn = handler.getConnection();
     connectionHandler.handle(conn);
   }
-
-  private static class EncodingDetector extends HttpContentCompressor {
-
-    private EncodingDetector(CompressionOptions[] compressionOptions) {
-      super(compressionOptions);
-    }
-
-    @Override
-    protected String determineEncoding(String acceptEncoding) {
-      return super.determineEncoding(acceptEncoding);
-    }
-  }
 }
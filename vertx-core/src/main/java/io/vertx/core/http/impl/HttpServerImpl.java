@@ -13,6 +13,7 @@ package io.vertx.core.http.impl;
 
 import io.vertx.core.*;
 import io.vertx.core.http.*;
+import io.vertx.core.http.impl.headers.HeaderValueCache;
 import io.vertx.core.internal.CloseSequence;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.impl.SysProps;
@@ -44,6 +45,7 @@ public class HttpServerImpl implements HttpServer, MetricsProvider {
 
   private final VertxInternal vertx;
   final HttpServerOptions options;
+  final HeaderValueCache http2HeaderCache;
   private Handler<HttpServerRequest> requestHandler;
   private Handler<ServerWebSocket> webSocketHandler;
   private Handler<ServerWebSocketHandshake> webSocketHandhakeHandler;
@@ -58,6 +60,7 @@ public class HttpServerImpl implements HttpServer, MetricsProvider {
   public HttpServerImpl(VertxInternal vertx, HttpServerOptions options) {
     this.vertx = vertx;
     this.options = options;
+    this.http2HeaderCache = options.getHttp2HeaderCacheSize() > 0 ? new HeaderValueCache(options.getHttp2HeaderCacheSize()) : null;
   }
 
   @Override
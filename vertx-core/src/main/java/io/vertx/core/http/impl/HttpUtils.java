@@ -740,6 +740,10 @@ public final class HttpUtils {
       || APPLICATION_X_WWW_FORM_URLENCODED.regionMatches(true, 0, contentType, 0, APPLICATION_X_WWW_FORM_URLENCODED.length());
   }
 
+  static boolean isMultipartFormData(String contentType) {
+    return MULTIPART_FORM_DATA.regionMatches(true, 0, contentType, 0, MULTIPART_FORM_DATA.length());
+  }
+
   public static boolean isValidMultipartMethod(HttpMethod method) {
     return method.equals(HttpMethod.POST) || method.equals(HttpMethod.PUT) || method.equals(HttpMethod.PATCH)
       || method.equals(HttpMethod.DELETE);
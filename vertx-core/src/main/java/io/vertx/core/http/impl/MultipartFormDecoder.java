@@ -0,0 +1,469 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerFileUpload;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.buffer.BufferInternal;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * A streaming {@code multipart/form-data} decoder.
+ * <p>
+ * Each received buffer is scanned once for the part delimiter, the content of a file part is emitted to its
+ * {@link HttpServerFileUpload} as slices of the received buffers. Only the bytes of a delimiter split between two
+ * buffers are retained, the headers of a part are buffered up to {@link HttpServerOptions#getMaxFormBufferedBytes()}
+ * bytes and the value of an attribute up to {@link HttpServerOptions#getMaxFormAttributeSize()} bytes.
+ * <p>
+ * A part with a {@code multipart/mixed} content type carries the files of a field (RFC 2388), its nested parts are
+ * decoded as uploads named after the field. A {@code multipart/mixed} part nested in another one is decoded as a
+ * single upload.
+ * <p>
+ * Failures are reported with the exceptions of Netty's {@link HttpPostRequestDecoder}.
+ */
+final class MultipartFormDecoder {
+
+  private static final byte CR = '\r';
+  private static final byte LF = '\n';
+  private static final byte DASH = '-';
+
+  private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+  private static final String DEFAULT_TRANSFER_ENCODING = "7bit";
+
+  // Before the first delimiter
+  private static final int PREAMBLE = 0;
+  // After a delimiter, either the transport padding or the close delimiter
+  private static final int DELIMITER = 1;
+  private static final int CLOSE_DELIMITER = 2;
+  private static final int DELIMITER_CR = 3;
+  private static final int HEADERS = 4;
+  private static final int BODY = 5;
+  // After the close delimiter
+  private static final int EPILOGUE = 6;
+
+  private final ContextInternal context;
+  private final HttpServerRequest request;
+  private final Supplier<Handler<HttpServerFileUpload>> lazyUploadHandler;
+  private final BiConsumer<String, String> attributeHandler;
+  private final int maxFields;
+  private final int maxHeadersSize;
+  private final int maxAttributeSize;
+
+  // CRLF--boundary
+  private byte[] delimiter;
+  // The delimiter of the form and the field name while decoding a multipart/mixed part
+  private byte[] formDelimiter;
+  private String mixedName;
+  private int state;
+  // The number of delimiter bytes matched at the end of the previous buffer
+  private int matched;
+  private ByteBuf headers;
+  // The number of CRLFCRLF bytes matched by the headers
+  private int headersMatched;
+  private int fields;
+
+  // The current part, either an upload or an attribute
+  private NettyFileUpload upload;
+  private String attributeName;
+  private Charset attributeCharset;
+  private Buffer attributeValue;
+
+  MultipartFormDecoder(ContextInternal context,
+                       HttpServerRequest request,
+                       String contentType,
+                       HttpServerOptions options,
+                       Supplier<Handler<HttpServerFileUpload>> lazyUploadHandler,
+                       BiConsumer<String, String> attributeHandler) {
+    String boundary = parameters(contentType).get("boundary");
+    if (boundary == null || boundary.isEmpty()) {
+      throw new HttpPostRequestDecoder.ErrorDataDecoderException("No multipart boundary found");
+    }
+    if (boundary.indexOf('\r') != -1 || boundary.indexOf('\n') != -1) {
+      throw new HttpPostRequestDecoder.ErrorDataDecoderException("Invalid multipart boundary");
+    }
+    this.context = context;
+    this.request = request;
+    this.lazyUploadHandler = lazyUploadHandler;
+    this.attributeHandler = attributeHandler;
+    this.maxFields = options.getMaxFormFields();
+    this.maxHeadersSize = options.getMaxFormBufferedBytes();
+    this.maxAttributeSize = options.getMaxFormAttributeSize();
+    this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+    this.state = PREAMBLE;
+    // The first delimiter can be at the beginning of the body without the leading CRLF
+    this.matched = 2;
+  }
+
+  /**
+   * @return the upload being decoded or {@code null}
+   */
+  NettyFileUpload currentUpload() {
+    return upload;
+  }
+
+  /**
+   * Decode a buffer of the request body.
+   *
+   * @param data the buffer
+   */
+  void offer(Buffer data) {
+    ByteBuf buf = ((BufferInternal) data).getByteBuf();
+    int idx = buf.readerIndex();
+    int end = buf.writerIndex();
+    while (idx < end) {
+      switch (state) {
+        case PREAMBLE:
+        case BODY:
+          idx = decodeBody(buf, idx, end);
+          break;
+        case HEADERS:
+          idx = decodeHeaders(buf, idx, end);
+          break;
+        case DELIMITER:
+          byte b = buf.getByte(idx++);
+          if (b == DASH) {
+            state = CLOSE_DELIMITER;
+          } else if (b == CR) {
+            state = DELIMITER_CR;
+          } else if (b != ' ' && b != '\t') {
+            throw new HttpPostRequestDecoder.ErrorDataDecoderException("Invalid multipart delimiter");
+          }
+          break;
+        case CLOSE_DELIMITER:
+          if (buf.getByte(idx++) != DASH) {
+            throw new HttpPostRequestDecoder.ErrorDataDecoderException("Invalid multipart delimiter");
+          }
+          if (mixedName != null) {
+            // The end of a multipart/mixed part, the bytes until the next form delimiter are discarded
+            delimiter = formDelimiter;
+            formDelimiter = null;
+            mixedName = null;
+            state = PREAMBLE;
+          } else {
+            state = EPILOGUE;
+          }
+          break;
+        case DELIMITER_CR:
+          if (buf.getByte(idx++) != LF) {
+            throw new HttpPostRequestDecoder.ErrorDataDecoderException("Invalid multipart delimiter");
+          }
+          state = HEADERS;
+          // Headers can be empty
+          headersMatched = 2;
+          break;
+        case EPILOGUE:
+          return;
+      }
+    }
+  }
+
+  /**
+   * Signal the end of the request body.
+   */
+  void end() {
+    if (state != EPILOGUE) {
+      throw new HttpPostRequestDecoder.ErrorDataDecoderException("Unexpected end of multipart body");
+    }
+  }
+
+  private int decodeBody(ByteBuf buf, int idx, int end) {
+    if (matched > 0) {
+      // Continue the delimiter started in the previous buffer
+      int len = Math.min(delimiter.length - matched, end - idx);
+      int i = 0;
+      while (i < len && buf.getByte(idx + i) == delimiter[matched + i]) {
+        i++;
+      }
+      if (i == len) {
+        matched += len;
+        if (matched == delimiter.length) {
+          matched = 0;
+          endPart();
+        }
+        return idx + len;
+      }
+      // The retained bytes belong to the content, the delimiter has a single CR so no other match
+      // can start within them
+      content(Unpooled.copiedBuffer(delimiter, 0, matched));
+      matched = 0;
+    }
+    int from = idx;
+    while (true) {
+      int cr = buf.indexOf(idx, end, CR);
+      if (cr == -1) {
+        content(buf, from, end);
+        return end;
+      }
+      int len = Math.min(delimiter.length, end - cr);
+      int i = 1;
+      while (i < len && buf.getByte(cr + i) == delimiter[i]) {
+        i++;
+      }
+      if (i == delimiter.length) {
+        content(buf, from, cr);
+        endPart();
+        return cr + delimiter.length;
+      }
+      if (i == len) {
+        // The buffer ends with the beginning of a delimiter
+        content(buf, from, cr);
+        matched = len;
+        return end;
+      }
+      idx = cr + 1;
+    }
+  }
+
+  private int decodeHeaders(ByteBuf buf, int idx, int end) {
+    int from = idx;
+    while (idx < end && headersMatched < 4) {
+      byte b = buf.getByte(idx++);
+      if (b == ((headersMatched & 1) == 0 ? CR : LF)) {
+        headersMatched++;
+      } else {
+        headersMatched = b == CR ? 1 : 0;
+      }
+    }
+    if (headers == null) {
+      headers = Unpooled.buffer();
+    }
+    if (maxHeadersSize >= 0 && headers.readableBytes() + idx - from > maxHeadersSize) {
+      throw new HttpPostRequestDecoder.TooLongFormFieldException();
+    }
+    headers.writeBytes(buf, from, idx - from);
+    if (headersMatched == 4) {
+      String s = headers.toString(StandardCharsets.UTF_8);
+      headers.clear();
+      state = BODY;
+      beginPart(s);
+    }
+    return idx;
+  }
+
+  private void beginPart(String s) {
+    if (maxFields >= 0 && ++fields > maxFields) {
+      throw new HttpPostRequestDecoder.TooManyFormFieldsException();
+    }
+    String disposition = null;
+    String contentType = null;
+    String transferEncoding = null;
+    long size = 0L;
+    for (String line : s.split("\r\n")) {
+      int idx = line.indexOf(':');
+      if (idx == -1) {
+        continue;
+      }
+      String name = line.substring(0, idx).trim();
+      String value = line.substring(idx + 1).trim();
+      if (name.equalsIgnoreCase("content-disposition")) {
+        disposition = value;
+      } else if (name.equalsIgnoreCase("content-type")) {
+        contentType = value;
+      } else if (name.equalsIgnoreCase("content-transfer-encoding")) {
+        transferEncoding = value;
+      } else if (name.equalsIgnoreCase("content-length")) {
+        try {
+          size = Long.parseLong(value);
+        } catch (NumberFormatException e) {
+          throw new HttpPostRequestDecoder.ErrorDataDecoderException(e);
+        }
+      }
+    }
+    if (disposition == null) {
+      throw new HttpPostRequestDecoder.ErrorDataDecoderException("Missing content disposition");
+    }
+    Map<String, String> params = parameters(disposition);
+    String name;
+    if (mixedName != null) {
+      // The files of a multipart/mixed part are named after the field
+      if (!disposition.regionMatches(true, 0, "file", 0, 4) && !disposition.regionMatches(true, 0, "attachment", 0, 10)) {
+        throw new HttpPostRequestDecoder.ErrorDataDecoderException("Missing file content disposition");
+      }
+      name = mixedName;
+    } else {
+      if (!disposition.regionMatches(true, 0, "form-data", 0, 9)) {
+        throw new HttpPostRequestDecoder.ErrorDataDecoderException("Missing form-data content disposition");
+      }
+      name = params.get("name");
+      if (name == null) {
+        throw new HttpPostRequestDecoder.ErrorDataDecoderException("Missing form-data name");
+      }
+      if (contentType != null && contentType.regionMatches(true, 0, "multipart/mixed", 0, 15)) {
+        beginMixed(name, contentType);
+        return;
+      }
+    }
+    Charset charset;
+    try {
+      String cs = contentType != null ? parameters(contentType).get("charset") : null;
+      charset = cs != null ? Charset.forName(cs) : StandardCharsets.UTF_8;
+    } catch (IllegalArgumentException e) {
+      throw new HttpPostRequestDecoder.ErrorDataDecoderException(e);
+    }
+    String filename = filename(params);
+    if (filename == null && mixedName != null) {
+      throw new HttpPostRequestDecoder.ErrorDataDecoderException("Missing file name");
+    }
+    if (filename != null) {
+      if (contentType == null) {
+        contentType = DEFAULT_CONTENT_TYPE;
+      } else {
+        // Parameters are not part of the upload content type
+        int idx = contentType.indexOf(';');
+        if (idx != -1) {
+          contentType = contentType.substring(0, idx).trim();
+        }
+      }
+      if (transferEncoding == null) {
+        transferEncoding = DEFAULT_TRANSFER_ENCODING;
+      }
+      upload = new NettyFileUpload(context, request, name, filename, contentType, transferEncoding, charset, size);
+      HttpServerFileUploadImpl fileUpload = new HttpServerFileUploadImpl(context, upload, name, filename, contentType,
+        transferEncoding, charset, size);
+      Handler<HttpServerFileUpload> uploadHandler = lazyUploadHandler.get();
+      if (uploadHandler != null) {
+        context.dispatch(fileUpload, uploadHandler);
+      }
+    } else {
+      attributeName = name;
+      attributeCharset = charset;
+      attributeValue = Buffer.buffer();
+    }
+  }
+
+  private void beginMixed(String name, String contentType) {
+    String boundary = parameters(contentType).get("boundary");
+    if (boundary == null || boundary.isEmpty() || boundary.indexOf('\r') != -1 || boundary.indexOf('\n') != -1) {
+      throw new HttpPostRequestDecoder.ErrorDataDecoderException("Invalid multipart/mixed boundary");
+    }
+    mixedName = name;
+    formDelimiter = delimiter;
+    delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+    state = PREAMBLE;
+    // The first nested delimiter follows the headers of the part
+    matched = 2;
+  }
+
+  private void content(ByteBuf buf, int from, int to) {
+    if (to > from) {
+      content(buf.slice(from, to - from));
+    }
+  }
+
+  private void content(ByteBuf slice) {
+    if (state != BODY) {
+      // Preamble
+      return;
+    }
+    if (upload != null) {
+      try {
+        upload.addContent(slice, false);
+      } catch (IOException e) {
+        throw new HttpPostRequestDecoder.ErrorDataDecoderException(e);
+      }
+    } else if (attributeValue != null) {
+      if (maxAttributeSize >= 0 && attributeValue.length() + slice.readableBytes() > maxAttributeSize) {
+        throw new HttpPostRequestDecoder.ErrorDataDecoderException("Size exceed allowed maximum capacity");
+      }
+      attributeValue.appendBuffer(BufferInternal.buffer(slice));
+    }
+  }
+
+  private void endPart() {
+    if (upload != null) {
+      NettyFileUpload u = upload;
+      upload = null;
+      try {
+        u.addContent(Unpooled.EMPTY_BUFFER, true);
+      } catch (IOException e) {
+        throw new HttpPostRequestDecoder.ErrorDataDecoderException(e);
+      }
+    } else if (attributeValue != null) {
+      String name = attributeName;
+      String value = attributeValue.toString(attributeCharset);
+      attributeName = null;
+      attributeCharset = null;
+      attributeValue = null;
+      attributeHandler.accept(name, value);
+    }
+    state = DELIMITER;
+  }
+
+  /**
+   * Return the filename of the part, the RFC 5987 {@code filename*} parameter has precedence over {@code filename}.
+   */
+  private static String filename(Map<String, String> params) {
+    String ext = params.get("filename*");
+    if (ext != null) {
+      int idx1 = ext.indexOf('\'');
+      int idx2 = idx1 == -1 ? -1 : ext.indexOf('\'', idx1 + 1);
+      if (idx2 == -1) {
+        throw new HttpPostRequestDecoder.ErrorDataDecoderException("Invalid filename* parameter " + ext);
+      }
+      try {
+        Charset charset = Charset.forName(ext.substring(0, idx1));
+        return QueryStringDecoder.decodeComponent(ext.substring(idx2 + 1), charset);
+      } catch (IllegalArgumentException e) {
+        throw new HttpPostRequestDecoder.ErrorDataDecoderException(e);
+      }
+    }
+    return params.get("filename");
+  }
+
+  /**
+   * Parse the parameters of a header value, e.g. {@code form-data; name="file"; filename="foo.txt"}, names are
+   * lower-cased and quoted values are unquoted.
+   */
+  static Map<String, String> parameters(String value) {
+    Map<String, String> params = new HashMap<>();
+    int len = value.length();
+    int idx = value.indexOf(';');
+    while (idx != -1) {
+      int eq = value.indexOf('=', ++idx);
+      if (eq == -1) {
+        break;
+      }
+      String name = value.substring(idx, eq).trim().toLowerCase(Locale.ROOT);
+      int start = eq + 1;
+      while (start < len && value.charAt(start) == ' ') {
+        start++;
+      }
+      if (start < len && value.charAt(start) == '"') {
+        int close = value.indexOf('"', start + 1);
+        if (close == -1) {
+          close = len;
+        }
+        params.putIfAbsent(name, value.substring(start + 1, close));
+        idx = close < len ? value.indexOf(';', close + 1) : -1;
+      } else {
+        idx = value.indexOf(';', start);
+        params.putIfAbsent(name, value.substring(start, idx == -1 ? len : idx).trim());
+      }
+    }
+    return params;
+  }
+}
@@ -176,6 +176,7 @@ public class ServerWebSocketHandshaker extends FutureImpl<ServerWebSocket> imple
     VertxHandler<WebSocketConnectionImpl> handler = VertxHandler.create(ctx -> {
       long closingTimeoutMS = options.getWebSocketClosingTimeout() >= 0 ? options.getWebSocketClosingTimeout() * 1000L : 0L;
       WebSocketConnectionImpl webSocketConn = new WebSocketConnectionImpl(request.context, ctx, true, closingTimeoutMS,httpConn.metrics);
+      webSocketConn.flushConsolidation(options.getFlushConsolidationOptions());
       ServerWebSocketImpl webSocket = new ServerWebSocketImpl(
         (ContextInternal) request.context(),
         webSocketConn,
@@ -14,6 +14,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
+import io.vertx.core.http.ConnectionSelectionPolicy;
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.internal.ContextInternal;
@@ -30,7 +31,10 @@ import io.vertx.core.internal.resource.ManagedResource;
 import io.vertx.core.spi.metrics.ClientMetrics;
 import io.vertx.core.spi.metrics.PoolMetrics;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 
 /**
@@ -61,12 +65,76 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
     return selected;
   };
 
+  /**
+   * Create the pool selector implementing the {@code policy}.
+   *
+   * @param policy the selection policy
+   * @param http1MaxSize the max number of HTTP/1 connections of the pool
+   * @param stallTimeout the time in nanoseconds after which a connection waiting for a response is not selected, {@code 0} to disable it
+   */
+  private static BiFunction<PoolWaiter<HttpClientConnectionInternal>, List<PoolConnection<HttpClientConnectionInternal>>, PoolConnection<HttpClientConnectionInternal>> selector(
+    ConnectionSelectionPolicy policy, int http1MaxSize, long stallTimeout) {
+    if (policy == ConnectionSelectionPolicy.LIFO && stallTimeout == 0L) {
+      return LIFO_SELECTOR;
+    }
+    Comparator<PoolConnection<HttpClientConnectionInternal>> comparator;
+    switch (policy) {
+      case LEAST_IN_FLIGHT:
+        comparator = Comparator.comparingLong(SharedHttpClientConnectionGroup::inFlight)
+          .thenComparing(SharedHttpClientConnectionGroup::lastResponseReceivedTimestamp, Comparator.reverseOrder());
+        break;
+      case LEAST_RESPONSE_TIME:
+        comparator = Comparator.comparingLong((PoolConnection<HttpClientConnectionInternal> pooled) -> pooled.get().averageResponseTime())
+          .thenComparingLong(SharedHttpClientConnectionGroup::inFlight);
+        break;
+      default:
+        comparator = Comparator.comparing(SharedHttpClientConnectionGroup::lastResponseReceivedTimestamp, Comparator.reverseOrder());
+        break;
+    }
+    return (waiter, connections) -> {
+      int size = connections.size();
+      PoolConnection<HttpClientConnectionInternal> selected = null;
+      for (int i = 0;i < size;i++) {
+        PoolConnection<HttpClientConnectionInternal> pooled = connections.get(i);
+        if (pooled.available() > 0) {
+          if (stallTimeout > 0L && pooled.get().pendingResponseTime() > stallTimeout) {
+            // The request would be blocked behind the stalled response
+            continue;
+          }
+          if (selected == null || comparator.compare(pooled, selected) < 0) {
+            selected = pooled;
+          }
+        }
+      }
+      if (policy != ConnectionSelectionPolicy.LIFO && selected != null && inFlight(selected) > 0L
+        && selected.get() instanceof Http1xClientConnection && size < http1MaxSize) {
+        // Let the pool create a connection instead of pipe-lining the request
+        return null;
+      }
+      return selected;
+    };
+  }
+
+  private static long inFlight(PoolConnection<HttpClientConnectionInternal> pooled) {
+    return pooled.concurrency() - pooled.available();
+  }
+
+  private static long lastResponseReceivedTimestamp(PoolConnection<HttpClientConnectionInternal> pooled) {
+    return pooled.get().lastResponseReceivedTimestamp();
+  }
+
   private final PoolMetrics poolMetrics;
   private final VertxInternal vertx;
   private final HttpClientImpl client;
   private final ClientMetrics clientMetrics;
   private final HttpChannelConnector connector;
   private final ConnectionPool<HttpClientConnectionInternal> pool;
+  private final int kind;
+  private final int minIdle;
+  private final long evictionJitter;
+  private final long cleanerPeriod;
+  // The context of the connections replaced by the cleaner
+  private final ContextInternal minIdleContext;
 
   public SharedHttpClientConnectionGroup(VertxInternal vertx,
                                          HttpClientImpl client,
@@ -75,9 +143,11 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
                                          int queueMaxSize,
                                          int http1MaxSize,
                                          int http2MaxSize,
+                                         ConnectionSelectionPolicy selectionPolicy,
                                          HttpChannelConnector connector) {
+    long stallTimeout = TimeUnit.MILLISECONDS.toNanos(client.options().getPipeliningStallTimeout());
     ConnectionPool<HttpClientConnectionInternal> pool = ConnectionPool.pool(this, new int[]{http1MaxSize, http2MaxSize}, queueMaxSize)
-      .connectionSelector(LIFO_SELECTOR).contextProvider(client.contextProvider());
+      .connectionSelector(selector(selectionPolicy, http1MaxSize, stallTimeout)).contextProvider(client.contextProvider());
 
     this.vertx = vertx;
     this.client = client;
@@ -85,6 +155,11 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
     this.clientMetrics = clientMetrics;
     this.connector = connector;
     this.pool = pool;
+    this.kind = client.options().getProtocolVersion() == HttpVersion.HTTP_2 ? 1 : 0;
+    this.minIdle = client.poolOptions().getMinIdle();
+    this.evictionJitter = client.poolOptions().getEvictionJitter();
+    this.cleanerPeriod = client.poolOptions().getCleanerPeriod();
+    this.minIdleContext = minIdle > 0 ? vertx.createEventLoopContext() : null;
   }
 
   @Override
@@ -119,14 +194,58 @@ class SharedHttpClientConnectionGroup extends ManagedResource implements PoolCon
   }
 
   protected void checkExpired() {
+    long now = System.currentTimeMillis();
     pool
-      .evict(conn -> !conn.isValid())
+      .evict(conn -> isExpired(conn, now))
       .onComplete(ar -> {
         if (ar.succeeded()) {
           List<HttpClientConnectionInternal> lst = ar.result();
           lst.forEach(HttpConnection::close);
         }
       });
+    if (minIdle > 0) {
+      // Keep the group alive while the evicted connections are replaced, the replaced connections keep the group
+      // alive until the client is closed
+      if (incRefCount()) {
+        pool
+          .warmUp(minIdleContext, kind, minIdle)
+          .onComplete(ar -> decRefCount());
+      } else {
+        decRefCount();
+      }
+    }
+  }
+
+  /**
+   * Check whether an idle connection should be evicted, with a positive jitter a connection expiring within the jitter
+   * window is evicted with a probability that spreads its eviction uniformly over the remaining cleaner periods.
+   */
+  private boolean isExpired(HttpClientConnectionInternal conn, long now) {
+    if (!conn.isValid()) {
+      return true;
+    }
+    if (evictionJitter > 0L) {
+      long expirationTimestamp = conn.expirationTimestamp();
+      if (expirationTimestamp > 0L) {
+        long remaining = expirationTimestamp - now;
+        if (remaining < evictionJitter) {
+          return ThreadLocalRandom.current().nextLong(Math.max(remaining, 0L) + cleanerPeriod) < cleanerPeriod;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Create connections until the pool holds {@code n} idle connections.
+   *
+   * @param ctx the caller context
+   * @param n the number of idle connections
+   * @return a future notified when the connections are created
+   */
+  public Future<Void> warmUp(ContextInternal ctx, int n) {
+    ContextInternal connCtx = vertx.createEventLoopContext(ctx.nettyEventLoop(), ctx.workerPool(), ctx.classLoader());
+    return pool.warmUp(connCtx, kind, n).mapEmpty();
   }
 
   private class Request implements PoolWaiter.Listener<HttpClientConnectionInternal>, Handler<AsyncResult<Lease<HttpClientConnectionInternal>>> {
@@ -26,6 +26,9 @@ import io.vertx.core.streams.WriteStream;
 
 /**
  * Decorates an {@link HttpClientStream} that gathers usage statistics.
+ * <p>
+ * The close handler of the delegate recycles the connection lease and then calls {@link #handleClose()}, the
+ * close handler of this stream is called after the lease is recycled.
  *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -33,12 +36,27 @@ class StatisticsGatheringHttpClientStream implements HttpClientStream {
 
   private final HttpClientStream delegate;
   private final ServerInteraction endpointRequest;
+  private Handler<Void> closeHandler;
 
   StatisticsGatheringHttpClientStream(HttpClientStream delegate, ServerInteraction endpointRequest) {
     this.delegate = delegate;
     this.endpointRequest = endpointRequest;
   }
 
+  ServerInteraction interaction() {
+    return endpointRequest;
+  }
+
+  /**
+   * Signal the stream is closed.
+   */
+  void handleClose() {
+    Handler<Void> handler = closeHandler;
+    if (handler != null) {
+      handler.handle(null);
+    }
+  }
+
   @Override
   public int id() {
     return delegate.id();
@@ -147,7 +165,7 @@ class StatisticsGatheringHttpClientStream implements HttpClientStream {
 
   @Override
   public void closeHandler(Handler<Void> handler) {
-    delegate.closeHandler(handler);
+    closeHandler = handler;
   }
 
   @Override
@@ -12,9 +12,10 @@ package io.vertx.core.http.impl;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
-import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http2.CompressorHttp2ConnectionEncoder;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2ConnectionEncoder;
@@ -29,16 +30,33 @@ import io.netty.handler.codec.http2.Http2SettingsReceivedConsumer;
 import java.util.function.Function;
 
 import static io.vertx.core.http.HttpHeaders.CONTENT_ENCODING;
+import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
 import static io.vertx.core.http.HttpHeaders.IDENTITY;
+import static io.vertx.core.http.HttpHeaders.VARY;
 
 public class VertxCompressorHttp2ConnectionEncoder implements Http2FrameWriter, Http2ConnectionEncoder, Http2SettingsReceivedConsumer {
 
-  private Http2ConnectionEncoder delegate;
-  private final Http2ConnectionEncoder plainEncoder;
-
-  public VertxCompressorHttp2ConnectionEncoder(Http2ConnectionEncoder plainEncoder, CompressionOptions[] compressionOptions) {
-    this.delegate = new CompressorHttp2ConnectionEncoder(plainEncoder, compressionOptions);
-    this.plainEncoder = plainEncoder;
+  private final Http2ConnectionEncoder delegate;
+  private final CompressionManager compressionManager;
+  private boolean compress;
+  private CharSequence contentType;
+
+  VertxCompressorHttp2ConnectionEncoder(Http2ConnectionEncoder plainEncoder, CompressionManager compressionManager) {
+    this.delegate = new CompressorHttp2ConnectionEncoder(plainEncoder, compressionManager.nettyCompressionOptions()) {
+      @Override
+      protected EmbeddedChannel newContentCompressor(ChannelHandlerContext ctx, CharSequence contentEncoding) {
+        if (!compress) {
+          // Identity or already encoded by the application
+          return null;
+        }
+        ChannelHandler encoder = VertxCompressorHttp2ConnectionEncoder.this.compressionManager.createEncoder(contentEncoding.toString(), contentType);
+        if (encoder == null) {
+          return null;
+        }
+        return new EmbeddedChannel(ctx.channel().id(), ctx.channel().metadata().hasDisconnect(), ctx.channel().config(), encoder);
+      }
+    };
+    this.compressionManager = compressionManager;
   }
 
   private void beforeWritingHeaders(ChannelHandlerContext ctx, int streamId, Http2Headers responseHeaders) {
@@ -47,10 +65,16 @@ public class VertxCompressorHttp2ConnectionEncoder implements Http2FrameWriter,
       if (responseHeaders.contains(CONTENT_ENCODING, IDENTITY)) {
         responseHeaders.remove(CONTENT_ENCODING);
       }
-      delegate = plainEncoder;
+      compress = false;
     } else {
+      compress = true;
       responseHeaders.set(CONTENT_ENCODING, contentEncodingToApply);
+      if (CompressionManager.DCZ.equals(contentEncodingToApply)) {
+        responseHeaders.set(VARY, CompressionManager.dczVary(responseHeaders.getAll(VARY)));
+      }
     }
+    // Used when the compressor creates the encoder of the stream
+    contentType = responseHeaders.get(CONTENT_TYPE);
   }
 
   private String determineContentEncodingToApply(ChannelHandlerContext ctx, int streamId, Http2Headers responseHeaders) {
@@ -60,7 +84,7 @@ public class VertxCompressorHttp2ConnectionEncoder implements Http2FrameWriter,
     return ifType(ctx.handler(), VertxHttp2ConnectionHandler.class, connectionHandler ->
       ifType(connectionHandler.connectFuture().getNow(), Http2ServerConnection.class, connection ->
         ifType(connection.stream(streamId), Http2ServerStream.class, stream ->
-          stream.headers == null ? null : connection.determineContentEncoding(stream.headers))));
+          stream.headers == null ? null : connection.determineContentEncoding(stream.headers, responseHeaders))));
   }
 
   private <T, R> R ifType(Object obj, Class<T> type, Function<T, R> then) {
@@ -15,6 +15,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http2.*;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.util.concurrent.DefaultPromise;
@@ -25,9 +26,12 @@ import io.netty.util.concurrent.Promise;
 import io.vertx.core.Handler;
 import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.http.GoAway;
+import io.vertx.core.net.FlushConsolidationOptions;
 import io.vertx.core.net.impl.ShutdownEvent;
 import io.vertx.core.net.impl.ConnectionBase;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -45,6 +49,14 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
   private final boolean useDecompressor;
   private final Http2Settings initialSettings;
   public boolean upgraded;
+  private int maxUnflushedWrites;
+  private int maxUnflushedBytes;
+  private int unflushedWrites;
+  private long unflushedBytes;
+  private boolean needsFlush;
+  private boolean flushScheduled;
+  private Runnable flushTask;
+  private Map<Http2Stream, Integer> pendingConsumes;
 
   public VertxHttp2ConnectionHandler(
       Function<VertxHttp2ConnectionHandler<C>, C> connectionFactory,
@@ -79,6 +91,28 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
     return initialSettings;
   }
 
+  /**
+   * Consolidate the flushes of the frames written outside of a read: the frames written by all the streams during an
+   * event-loop cycle are flushed together and the bytes consumed by the streams are returned to the flow controller
+   * at once, coalescing the {@code WINDOW_UPDATE} frames. This must be called before the handler is added to the
+   * pipeline.
+   *
+   * @param options the options, {@code null} disables consolidation
+   */
+  void flushConsolidation(FlushConsolidationOptions options) {
+    if (options != null) {
+      maxUnflushedWrites = options.getMaxWrites();
+      maxUnflushedBytes = options.getMaxBytes();
+      flushTask = this::consolidatedFlush;
+      pendingConsumes = new HashMap<>();
+    } else {
+      maxUnflushedWrites = 0;
+      maxUnflushedBytes = 0;
+      flushTask = null;
+      pendingConsumes = null;
+    }
+  }
+
   /**
    * Set an handler to be called when the connection is set on this handler.
    *
@@ -224,13 +258,14 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
     ChannelPromise promise = listener == null ? chctx.voidPromise() : chctx.newPromise().addListener(listener);
     encoder().writeHeaders(chctx, stream.id(), headers, streamDependency, weight, exclusive, 0, end, promise);
     if (checkFlush) {
-      checkFlush();
+      checkFlush(0);
     }
   }
 
   void writeData(Http2Stream stream, ByteBuf chunk, boolean end, FutureListener<Void> listener) {
     ChannelPromise promise = listener == null ? chctx.voidPromise() : chctx.newPromise().addListener(listener);
     Http2ConnectionEncoder encoder = encoder();
+    int bytes = chunk.readableBytes();
     encoder.writeData(chctx, stream.id(), chunk, 0, end, promise);
     Http2RemoteFlowController controller = encoder.flowController();
     if (!controller.isWritable(stream) || end) {
@@ -240,12 +275,52 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
         onError(chctx, true, e);
       }
     }
-    checkFlush();
+    checkFlush(bytes);
   }
 
   private void checkFlush() {
+    checkFlush(0);
+  }
+
+  private void checkFlush(int bytes) {
     if (!read) {
-      chctx.channel().flush();
+      if (flushTask == null) {
+        chctx.channel().flush();
+      } else {
+        needsFlush = true;
+        unflushedBytes += bytes;
+        if (++unflushedWrites >= maxUnflushedWrites || unflushedBytes >= maxUnflushedBytes) {
+          flush0();
+        } else {
+          scheduleFlush();
+        }
+      }
+    }
+  }
+
+  private void flush0() {
+    needsFlush = false;
+    unflushedWrites = 0;
+    unflushedBytes = 0;
+    // Goes through this handler to write the bytes pending in the flow controller
+    chctx.channel().flush();
+  }
+
+  private void consolidatedFlush() {
+    flushScheduled = false;
+    consumePending();
+    if (needsFlush) {
+      flush0();
+    }
+  }
+
+  /**
+   * Schedule a flush at the end of the current batch of event-loop tasks.
+   */
+  private void scheduleFlush() {
+    if (!flushScheduled) {
+      flushScheduled = true;
+      chctx.channel().eventLoop().execute(flushTask);
     }
   }
 
@@ -271,6 +346,13 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
    * Consume {@code numBytes} for {@code stream}  in the flow controller, this must be called from event loop.
    */
   void consume(Http2Stream stream, int numBytes) {
+    if (pendingConsumes != null) {
+      pendingConsumes.merge(stream, numBytes, Integer::sum);
+      if (!read) {
+        scheduleFlush();
+      }
+      return;
+    }
     try {
       boolean windowUpdateSent = decoder().flowController().consumeBytes(stream, numBytes);
       if (windowUpdateSent) {
@@ -281,6 +363,25 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
     }
   }
 
+  private void consumePending() {
+    if (pendingConsumes == null || pendingConsumes.isEmpty()) {
+      return;
+    }
+    Http2LocalFlowController controller = decoder().flowController();
+    try {
+      for (Map.Entry<Http2Stream, Integer> entry : pendingConsumes.entrySet()) {
+        // Closed streams are ignored, their bytes have already been returned to the connection window
+        if (controller.consumeBytes(entry.getKey(), entry.getValue())) {
+          needsFlush = true;
+        }
+      }
+    } catch (Http2Exception e) {
+      onError(chctx, true, e);
+    } finally {
+      pendingConsumes.clear();
+    }
+  }
+
   void writeFrame(Http2Stream stream, byte type, short flags, ByteBuf payload, FutureListener<Void> listener) {
     ChannelPromise promise = listener == null ? chctx.voidPromise() : chctx.newPromise().addListener(listener);
     encoder().writeFrame(chctx, type, stream.id(), new Http2Flags(flags), payload, promise);
@@ -385,7 +486,14 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
   @Override
   public void onSettingsRead(ChannelHandlerContext ctx, Http2Settings settings) throws Http2Exception {
     if (useDecompressor) {
-      decoder().frameListener(new DelegatingDecompressorFrameListener(decoder().connection(), connection));
+      decoder().frameListener(new DelegatingDecompressorFrameListener(decoder().connection(), connection) {
+        @Override
+        protected EmbeddedChannel newContentDecompressor(ChannelHandlerContext ctx, CharSequence contentEncoding) throws Http2Exception {
+          // Inflate in buffers of at most a data frame
+          EmbeddedChannel decoder = VertxHttpContentDecompressor.newContentDecoder(ctx.channel(), contentEncoding, false, Http2CodecUtil.DEFAULT_MAX_FRAME_SIZE);
+          return decoder != null ? decoder : super.newContentDecompressor(ctx, contentEncoding);
+        }
+      });
     } else {
       decoder().frameListener(connection);
     }
@@ -418,11 +526,24 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
 
   @Override
   public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+    consumePending();
     read = false;
+    needsFlush = false;
+    unflushedWrites = 0;
+    unflushedBytes = 0;
     // Super will flush
     super.channelReadComplete(ctx);
   }
 
+  @Override
+  public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+    if (needsFlush) {
+      // Write the frames pending in the flow controller before the go away frame
+      flush0();
+    }
+    super.close(ctx, promise);
+  }
+
   @Override
   public void onPingRead(ChannelHandlerContext ctx, long data) throws Http2Exception {
     throw new UnsupportedOperationException();
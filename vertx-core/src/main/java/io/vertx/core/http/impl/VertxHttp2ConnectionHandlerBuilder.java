@@ -13,9 +13,9 @@ package io.vertx.core.http.impl;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.compression.CompressionOptions;
 import io.netty.handler.codec.http2.*;
 import io.netty.handler.logging.LogLevel;
+import io.vertx.core.net.FlushConsolidationOptions;
 
 import java.util.function.Function;
 
@@ -27,10 +27,11 @@ import java.util.function.Function;
 class VertxHttp2ConnectionHandlerBuilder<C extends Http2ConnectionBase> extends AbstractHttp2ConnectionHandlerBuilder<VertxHttp2ConnectionHandler<C>, VertxHttp2ConnectionHandlerBuilder<C>> {
 
   private boolean useDecompression;
-  private CompressionOptions[] compressionOptions;
+  private CompressionManager compressionManager;
   private Function<VertxHttp2ConnectionHandler<C>, C> connectionFactory;
   private boolean logEnabled;
   private boolean server;
+  private FlushConsolidationOptions flushConsolidationOptions;
 
   protected VertxHttp2ConnectionHandlerBuilder<C> server(boolean isServer) {
     this.server = isServer;
@@ -42,8 +43,8 @@ class VertxHttp2ConnectionHandlerBuilder<C extends Http2ConnectionBase> extends
     return this;
   }
 
-  VertxHttp2ConnectionHandlerBuilder<C> useCompression(CompressionOptions[] compressionOptions) {
-    this.compressionOptions = compressionOptions;
+  VertxHttp2ConnectionHandlerBuilder<C> useCompression(CompressionManager compressionManager) {
+    this.compressionManager = compressionManager;
     return this;
   }
 
@@ -72,6 +73,11 @@ class VertxHttp2ConnectionHandlerBuilder<C extends Http2ConnectionBase> extends
     return this;
   }
 
+  VertxHttp2ConnectionHandlerBuilder<C> flushConsolidation(FlushConsolidationOptions options) {
+    this.flushConsolidationOptions = options;
+    return this;
+  }
+
   @Override
   protected VertxHttp2ConnectionHandler<C> build() {
     if (logEnabled) {
@@ -146,14 +152,16 @@ class VertxHttp2ConnectionHandlerBuilder<C extends Http2ConnectionBase> extends
   @Override
   protected VertxHttp2ConnectionHandler<C> build(Http2ConnectionDecoder decoder, Http2ConnectionEncoder encoder, Http2Settings initialSettings) throws Exception {
     if (server) {
-      if (compressionOptions != null) {
-        encoder = new VertxCompressorHttp2ConnectionEncoder(encoder, compressionOptions);
+      if (compressionManager != null) {
+        encoder = new VertxCompressorHttp2ConnectionEncoder(encoder, compressionManager);
       }
       VertxHttp2ConnectionHandler<C> handler = new VertxHttp2ConnectionHandler<>(connectionFactory, useDecompression, decoder, encoder, initialSettings);
+      handler.flushConsolidation(flushConsolidationOptions);
       decoder.frameListener(handler);
       return handler;
     } else {
       VertxHttp2ConnectionHandler<C> handler = new VertxHttp2ConnectionHandler<>(connectionFactory, useDecompression, decoder, encoder, initialSettings);
+      handler.flushConsolidation(flushConsolidationOptions);
       decoder.frameListener(handler);
       return handler;
     }
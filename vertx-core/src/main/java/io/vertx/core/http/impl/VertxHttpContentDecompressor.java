@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.JdkZlibDecoder;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.http.HttpContentDecompressor;
+import io.netty.handler.codec.http.HttpHeaderValues;
+
+/**
+ * A {@link HttpContentDecompressor} inflating {@code gzip} and {@code deflate} content in buffers of at most
+ * {@code chunkSize} bytes.
+ * <p>
+ * Netty inflates each compressed buffer in a single growing buffer, a few kilobytes of highly compressed content
+ * can inflate to megabytes. Instead, the content is emitted as a sequence of pooled buffers which are copied by
+ * the connection, so the memory needed to decompress a buffer does not depend on its compression ratio.
+ */
+class VertxHttpContentDecompressor extends HttpContentDecompressor {
+
+  private final boolean strict;
+  private final int chunkSize;
+
+  VertxHttpContentDecompressor(boolean strict, int chunkSize) {
+    super(strict);
+    this.strict = strict;
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  protected EmbeddedChannel newContentDecoder(String contentEncoding) throws Exception {
+    EmbeddedChannel decoder = newContentDecoder(ctx.channel(), contentEncoding, strict, chunkSize);
+    return decoder != null ? decoder : super.newContentDecoder(contentEncoding);
+  }
+
+  /**
+   * Create a decoder inflating the content in buffers of at most {@code chunkSize} bytes.
+   *
+   * @return the decoder or {@code null} when the content encoding is not {@code gzip} or {@code deflate}
+   */
+  static EmbeddedChannel newContentDecoder(Channel channel, CharSequence contentEncoding, boolean strict, int chunkSize) {
+    ZlibWrapper wrapper;
+    if (HttpHeaderValues.GZIP.contentEqualsIgnoreCase(contentEncoding) ||
+      HttpHeaderValues.X_GZIP.contentEqualsIgnoreCase(contentEncoding)) {
+      wrapper = ZlibWrapper.GZIP;
+    } else if (HttpHeaderValues.DEFLATE.contentEqualsIgnoreCase(contentEncoding) ||
+      HttpHeaderValues.X_DEFLATE.contentEqualsIgnoreCase(contentEncoding)) {
+      wrapper = strict ? ZlibWrapper.ZLIB : ZlibWrapper.ZLIB_OR_NONE;
+    } else {
+      return null;
+    }
+    return new EmbeddedChannel(channel.id(), channel.metadata().hasDisconnect(), channel.config(), new ChunkedZlibDecoder(wrapper, chunkSize));
+  }
+
+  private static class ChunkedZlibDecoder extends JdkZlibDecoder {
+
+    private final int chunkSize;
+
+    ChunkedZlibDecoder(ZlibWrapper wrapper, int chunkSize) {
+      super(wrapper, true, 0);
+      this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected ByteBuf prepareDecompressBuffer(ChannelHandlerContext ctx, ByteBuf buffer, int preferredSize) {
+      if (buffer != null) {
+        if (buffer.ensureWritable(preferredSize, true) != 1) {
+          return buffer;
+        }
+        // The buffer is full, emit it before inflating the remaining content
+        ctx.fireChannelRead(buffer);
+      }
+      return ctx.alloc().heapBuffer(Math.min(preferredSize, chunkSize), chunkSize);
+    }
+  }
+}
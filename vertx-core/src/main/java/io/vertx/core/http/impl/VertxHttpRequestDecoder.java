@@ -11,15 +11,131 @@
 package io.vertx.core.http.impl;
 
 import io.netty.handler.codec.http.*;
+import io.netty.util.AsciiString;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.impl.headers.HeadersMultiMap;
 
+import java.util.Locale;
+
 /**
  * A request decoder using {@link HeadersMultiMap} which is faster than {@code DefaultHttpHeaders} used by the super class.
+ * <p/>
+ * The request line and the header names are matched against well-known values directly in the bytes of the parser,
+ * well-known values are returned as shared constants instead of being copied: {@link AsciiString} header names
+ * cache their hash code and are stored as is in {@link HeadersMultiMap}.
  */
 public class VertxHttpRequestDecoder extends HttpRequestDecoder {
 
+  private static final AsciiString HTTP_1_1 = AsciiString.cached(HttpVersion.HTTP_1_1.text());
+  private static final AsciiString HTTP_1_0 = AsciiString.cached(HttpVersion.HTTP_1_0.text());
+
+  private static final AsciiString[][] METHODS = table(new String[] {
+    HttpMethod.GET.name(),
+    HttpMethod.POST.name(),
+    HttpMethod.PUT.name(),
+    HttpMethod.DELETE.name(),
+    HttpMethod.HEAD.name(),
+    HttpMethod.OPTIONS.name(),
+    HttpMethod.PATCH.name(),
+    HttpMethod.TRACE.name(),
+    HttpMethod.CONNECT.name()
+  });
+
+  private static final AsciiString[][] HEADER_NAMES;
+
+  static {
+    String[] names = {
+      "Accept",
+      "Accept-Charset",
+      "Accept-Encoding",
+      "Accept-Language",
+      "Authorization",
+      "Cache-Control",
+      "Connection",
+      "Content-Encoding",
+      "Content-Length",
+      "Content-Type",
+      "Cookie",
+      "DNT",
+      "Expect",
+      "Forwarded",
+      "Host",
+      "If-Match",
+      "If-Modified-Since",
+      "If-None-Match",
+      "Keep-Alive",
+      "Origin",
+      "Pragma",
+      "Range",
+      "Referer",
+      "Sec-Fetch-Dest",
+      "Sec-Fetch-Mode",
+      "Sec-Fetch-Site",
+      "Sec-WebSocket-Extensions",
+      "Sec-WebSocket-Key",
+      "Sec-WebSocket-Protocol",
+      "Sec-WebSocket-Version",
+      "TE",
+      "Transfer-Encoding",
+      "Upgrade",
+      "Upgrade-Insecure-Requests",
+      "User-Agent",
+      "Via",
+      "X-Forwarded-For",
+      "X-Forwarded-Host",
+      "X-Forwarded-Proto",
+      "X-Request-ID",
+      "X-Requested-With"
+    };
+    // Match the canonical and the lower case forms, the name of a header is kept as sent by the client
+    String[] all = new String[names.length * 2];
+    for (int i = 0;i < names.length;i++) {
+      all[2 * i] = names[i];
+      all[2 * i + 1] = names[i].toLowerCase(Locale.ROOT);
+    }
+    HEADER_NAMES = table(all);
+  }
+
+  /**
+   * Build a lookup table of {@code values} indexed by length.
+   */
+  private static AsciiString[][] table(String[] values) {
+    int max = 0;
+    for (String value : values) {
+      max = Math.max(max, value.length());
+    }
+    AsciiString[][] table = new AsciiString[max + 1][];
+    for (int len = 0;len <= max;len++) {
+      int count = 0;
+      for (String value : values) {
+        if (value.length() == len) {
+          count++;
+        }
+      }
+      if (count > 0) {
+        AsciiString[] bucket = new AsciiString[count];
+        int idx = 0;
+        for (String value : values) {
+          if (value.length() == len) {
+            bucket[idx++] = AsciiString.cached(value);
+          }
+        }
+        table[len] = bucket;
+      }
+    }
+    return table;
+  }
+
+  private static boolean matches(AsciiString value, byte[] bytes, int start) {
+    for (int i = value.length() - 1;i >= 0;i--) {
+      if (value.byteAt(i) != bytes[start + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public VertxHttpRequestDecoder(HttpServerOptions options) {
     super(
       options.getMaxInitialLineLength(),
@@ -29,10 +145,63 @@ public class VertxHttpRequestDecoder extends HttpRequestDecoder {
       options.getDecoderInitialBufferSize());
   }
 
+  @Override
+  protected String splitFirstWordInitialLine(byte[] asciiContent, int start, int length) {
+    if (length < METHODS.length) {
+      AsciiString[] bucket = METHODS[length];
+      if (bucket != null) {
+        for (AsciiString method : bucket) {
+          if (matches(method, asciiContent, start)) {
+            // Cached ascii strings return their original string
+            return method.toString();
+          }
+        }
+      }
+    }
+    return super.splitFirstWordInitialLine(asciiContent, start, length);
+  }
+
+  @Override
+  protected String splitThirdWordInitialLine(byte[] asciiContent, int start, int length) {
+    if (length == 8) {
+      if (matches(HTTP_1_1, asciiContent, start)) {
+        return HTTP_1_1.toString();
+      } else if (matches(HTTP_1_0, asciiContent, start)) {
+        return HTTP_1_0.toString();
+      }
+    }
+    return super.splitThirdWordInitialLine(asciiContent, start, length);
+  }
+
+  @Override
+  protected AsciiString splitHeaderName(byte[] sb, int start, int length) {
+    if (length < HEADER_NAMES.length) {
+      AsciiString[] bucket = HEADER_NAMES[length];
+      if (bucket != null) {
+        byte first = sb[start];
+        for (AsciiString name : bucket) {
+          if (name.byteAt(0) == first && matches(name, sb, start)) {
+            return name;
+          }
+        }
+      }
+    }
+    return super.splitHeaderName(sb, start, length);
+  }
+
   @Override
   protected HttpMessage createMessage(String[] initialLine) {
+    String version = initialLine[2];
+    HttpVersion httpVersion;
+    if (version == HTTP_1_1.toString()) {
+      httpVersion = HttpVersion.HTTP_1_1;
+    } else if (version == HTTP_1_0.toString()) {
+      httpVersion = HttpVersion.HTTP_1_0;
+    } else {
+      httpVersion = HttpVersion.valueOf(version);
+    }
     return new DefaultHttpRequest(
-      HttpVersion.valueOf(initialLine[2]),
+      httpVersion,
       HttpMethod.valueOf(initialLine[0]),
       initialLine[1],
       HeadersMultiMap.httpHeaders());
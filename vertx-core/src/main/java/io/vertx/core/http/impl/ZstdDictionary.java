@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDictCompress;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+import io.vertx.core.http.DictionaryCompressionOptions;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * A dictionary used to compress responses with the {@code dcz} content coding.
+ */
+final class ZstdDictionary {
+
+  // RFC 9842 : Dictionary-Compressed Zstandard stream magic number
+  private static final byte[] DCZ_MAGIC = { (byte) 0x5e, (byte) 0x2a, (byte) 0x4d, (byte) 0x18, (byte) 0x20, 0x00, 0x00, 0x00 };
+
+  private final ZstdDictCompress dictionary;
+  private final byte[] header;
+  private final String availableDictionary;
+
+  ZstdDictionary(DictionaryCompressionOptions options) {
+    byte[] bytes = options.dictionary().getBytes();
+    byte[] hash;
+    try {
+      hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    byte[] header = new byte[DCZ_MAGIC.length + hash.length];
+    System.arraycopy(DCZ_MAGIC, 0, header, 0, DCZ_MAGIC.length);
+    System.arraycopy(hash, 0, header, DCZ_MAGIC.length, hash.length);
+    this.dictionary = new ZstdDictCompress(bytes, options.compressionLevel());
+    this.header = header;
+    // Structured field byte sequence
+    this.availableDictionary = ":" + Base64.getEncoder().encodeToString(hash) + ":";
+  }
+
+  /**
+   * @return whether the {@code available-dictionary} header value designates this dictionary
+   */
+  boolean matches(CharSequence value) {
+    return availableDictionary.contentEquals(value.toString().trim());
+  }
+
+  ChannelHandler createEncoder() {
+    return new Encoder();
+  }
+
+  /**
+   * Compress each chunk in a zstd frame with the dictionary, the stream starts with the {@code dcz} header.
+   */
+  private class Encoder extends MessageToByteEncoder<ByteBuf> {
+
+    private ZstdCompressCtx ctx;
+    private boolean headerWritten;
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext chctx) {
+      ctx = new ZstdCompressCtx().loadDict(dictionary);
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext chctx, ByteBuf msg, ByteBuf out) {
+      if (!headerWritten) {
+        headerWritten = true;
+        out.writeBytes(header);
+      }
+      byte[] compressed = ctx.compress(ByteBufUtil.getBytes(msg));
+      msg.skipBytes(msg.readableBytes());
+      out.writeBytes(compressed);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext chctx) {
+      if (ctx != null) {
+        ctx.close();
+        ctx = null;
+      }
+    }
+  }
+}
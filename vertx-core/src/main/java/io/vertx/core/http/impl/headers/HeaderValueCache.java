@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl.headers;
+
+import io.netty.util.AsciiString;
+import io.netty.util.internal.MathUtil;
+
+/**
+ * A cache interning the {@code String} conversion of header names and values, decoded headers are new
+ * {@link AsciiString} instances that would otherwise be converted for each request.
+ * <p>
+ * The cache is direct-mapped: a value replaces the entry of another value with the same slot. It can be shared
+ * between threads, entries are immutable strings and a lost update only costs a conversion.
+ */
+public final class HeaderValueCache {
+
+  /**
+   * Values longer than this are not cached.
+   */
+  private static final int MAX_VALUE_LENGTH = 256;
+
+  private final String[] entries;
+  private final int mask;
+
+  public HeaderValueCache(int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("Invalid cache size " + size);
+    }
+    int capacity = MathUtil.findNextPositivePowerOfTwo(size);
+    entries = new String[capacity];
+    mask = capacity - 1;
+  }
+
+  /**
+   * Convert {@code value} to a {@code String}, returning the cached instance when the cache holds an equal value.
+   *
+   * @param value the value
+   * @return the string
+   */
+  public String toString(CharSequence value) {
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof String) {
+      return (String) value;
+    }
+    if (value.length() > MAX_VALUE_LENGTH) {
+      return value.toString();
+    }
+    int index = AsciiString.hashCode(value) & mask;
+    String cached = entries[index];
+    if (cached != null && AsciiString.contentEquals(cached, value)) {
+      return cached;
+    }
+    String s = value.toString();
+    entries[index] = s;
+    return s;
+  }
+}
@@ -13,6 +13,7 @@ package io.vertx.core.http.impl.headers;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.util.AsciiString;
 import io.netty.util.CharsetUtil;
@@ -81,9 +82,32 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
     return new HeadersMultiMap();
   }
 
+  /**
+   * Create an immutable copy of {@code headers} whose entries are validated and encoded once, the entries added
+   * to another multimap with {@link #addAll(MultiMap)} are written verbatim by {@link #encode(ByteBuf)}.
+   *
+   * @param headers the headers to encode
+   * @return the immutable multimap
+   */
+  public static HeadersMultiMap preEncoded(MultiMap headers) {
+    HeadersMultiMap preEncoded = httpHeaders();
+    preEncoded.addAll(headers);
+    ByteBuf buf = Unpooled.buffer();
+    for (MapEntry e = preEncoded.head.after;e != preEncoded.head;e = e.after) {
+      if (e.encoded == null) {
+        buf.clear();
+        encoderHeader(e.key, e.value, buf);
+        e.encoded = ByteBufUtil.getBytes(buf);
+      }
+    }
+    preEncoded.preEncoded = true;
+    return preEncoded;
+  }
+
   @Override
   public MultiMap setAll(MultiMap headers) {
-    return set0(headers);
+    clear();
+    return addAll(headers);
   }
 
   @Override
@@ -99,6 +123,7 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
   private final BiConsumer<CharSequence, CharSequence> validator;
   private final HeadersMultiMap.MapEntry[] entries = new HeadersMultiMap.MapEntry[16];
   private final HeadersMultiMap.MapEntry head = new HeadersMultiMap.MapEntry();
+  private boolean preEncoded;
 
   public HeadersMultiMap() {
     this(null);
@@ -150,6 +175,14 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
 
   @Override
   public MultiMap addAll(MultiMap headers) {
+    if (headers instanceof HeadersMultiMap && ((HeadersMultiMap) headers).preEncoded) {
+      // Entries are already validated
+      HeadersMultiMap other = (HeadersMultiMap) headers;
+      for (MapEntry e = other.head.after;e != other.head;e = e.after) {
+        addEntry(e.hash, e.hash & 0x0000000F, e.key, e.value, e.encoded);
+      }
+      return this;
+    }
     return addAll(headers.entries());
   }
 
@@ -406,6 +439,7 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
 
   @Override
   public HeadersMultiMap clear() {
+    checkMutable();
     Arrays.fill(entries, null);
     head.before = head.after = head;
     return this;
@@ -489,7 +523,12 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
   public void encode(ByteBuf buf) {
     HeadersMultiMap.MapEntry current = head.after;
     while (current != head) {
-      encoderHeader(current.key, current.value, buf);
+      byte[] encoded = current.encoded;
+      if (encoded != null) {
+        buf.writeBytes(encoded);
+      } else {
+        encoderHeader(current.key, current.value, buf);
+      }
       current = current.after;
     }
   }
@@ -526,6 +565,7 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
     final int hash;
     final CharSequence key;
     CharSequence value;
+    byte[] encoded;
     HeadersMultiMap.MapEntry next;
     HeadersMultiMap.MapEntry before, after;
 
@@ -568,11 +608,13 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
     @Override
     public CharSequence setValue(CharSequence value) {
       Objects.requireNonNull(value, "value");
+      checkMutable();
       if (validator != null) {
         validator.accept("", value);
       }
       CharSequence oldValue = this.value;
       this.value = value;
+      this.encoded = null;
       return oldValue;
     }
 
@@ -592,6 +634,7 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
   }
 
   private void remove0(int h, int i, CharSequence name) {
+    checkMutable();
     HeadersMultiMap.MapEntry e = entries[i];
     MapEntry prev = null;
     while (e != null) {
@@ -615,16 +658,28 @@ public final class HeadersMultiMap extends HttpHeaders implements MultiMap {
     if (validator != null) {
       validator.accept(name, value);
     }
+    addEntry(h, i, name, value, null);
+  }
+
+  private void addEntry(int h, int i, final CharSequence name, final CharSequence value, byte[] encoded) {
+    checkMutable();
     // Update the hash table.
     HeadersMultiMap.MapEntry e = entries[i];
     HeadersMultiMap.MapEntry newEntry;
     entries[i] = newEntry = new HeadersMultiMap.MapEntry(h, name, value);
+    newEntry.encoded = encoded;
     newEntry.next = e;
 
     // Update the linked list.
     newEntry.addBefore(head);
   }
 
+  private void checkMutable() {
+    if (preEncoded) {
+      throw new IllegalStateException("Pre-encoded headers are immutable");
+    }
+  }
+
   private HeadersMultiMap set0(final CharSequence name, final CharSequence strVal) {
     int h = AsciiString.hashCode(name);
     int i = h & 0x0000000F;
@@ -29,8 +29,17 @@ import java.util.stream.Collectors;
 public class Http2HeadersAdaptor implements MultiMap {
 
   private final Http2Headers headers;
+  private final HeaderValueCache cache;
 
   public Http2HeadersAdaptor(Http2Headers headers) {
+    this(headers, null);
+  }
+
+  /**
+   * @param headers the adapted headers
+   * @param cache the cache interning the names and values converted to {@code String}, can be {@code null}
+   */
+  public Http2HeadersAdaptor(Http2Headers headers, HeaderValueCache cache) {
 
     List<CharSequence> cookies = headers.getAll(HttpHeaderNames.COOKIE);
     if (cookies != null && cookies.size() > 1) {
@@ -41,12 +50,17 @@ public class Http2HeadersAdaptor implements MultiMap {
     }
 
     this.headers = headers;
+    this.cache = cache;
+  }
+
+  private String toString(CharSequence s) {
+    return cache != null ? cache.toString(s) : s.toString();
   }
 
   @Override
   public String get(String name) {
     CharSequence val = headers.get(HttpUtils.toLowerCase(name));
-    return val != null ? val.toString() : null;
+    return val != null ? toString(val) : null;
   }
 
   @Override
@@ -56,7 +70,7 @@ public class Http2HeadersAdaptor implements MultiMap {
       return new AbstractList<String>() {
         @Override
         public String get(int index) {
-          return all.get(index).toString();
+          return Http2HeadersAdaptor.this.toString(all.get(index));
         }
         @Override
         public int size() {
@@ -86,7 +100,7 @@ public class Http2HeadersAdaptor implements MultiMap {
   public Set<String> names() {
     Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
     for (Map.Entry<CharSequence, CharSequence> header : headers) {
-      names.add(header.getKey().toString());
+      names.add(toString(header.getKey()));
     }
     return names;
   }
@@ -183,11 +197,11 @@ public class Http2HeadersAdaptor implements MultiMap {
         return new Map.Entry<String, String>() {
           @Override
           public String getKey() {
-            return next.getKey().toString();
+            return Http2HeadersAdaptor.this.toString(next.getKey());
           }
           @Override
           public String getValue() {
-            return next.getValue().toString();
+            return Http2HeadersAdaptor.this.toString(next.getValue());
           }
           @Override
           public String setValue(String value) {
@@ -221,13 +235,13 @@ public class Http2HeadersAdaptor implements MultiMap {
   @Override
   public String get(CharSequence name) {
     CharSequence val = headers.get(HttpUtils.toLowerCase(name));
-    return val != null ? val.toString() : null;
+    return val != null ? toString(val) : null;
   }
 
   @Override
   public List<String> getAll(CharSequence name) {
     List<CharSequence> all = headers.getAll(HttpUtils.toLowerCase(name));
-    return all != null ? all.stream().map(CharSequence::toString).collect(Collectors.toList()) : null;
+    return all != null ? all.stream().map(this::toString).collect(Collectors.toList()) : null;
   }
 
   @Override
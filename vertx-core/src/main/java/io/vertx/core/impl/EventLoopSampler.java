@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.impl;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import io.vertx.core.spi.metrics.EventLoopMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Periodically samples the scheduling lag and the pending tasks of the event-loops of a group.
+ * <p/>
+ * A probe task is submitted to each event-loop, the lag is the delay between its submission and its execution. The
+ * probe also binds the event-loop metrics to the event-loop thread so it can report the execution time of tasks.
+ */
+class EventLoopSampler {
+
+  private final List<Probe> probes = new ArrayList<>();
+  private final Timer timer; // Need to use our own timer - can't use event loop for this
+
+  EventLoopSampler(VertxMetrics metrics, EventLoopGroup group, String prefix, long interval) {
+    int idx = 0;
+    for (EventExecutor executor : group) {
+      EventLoopMetrics loopMetrics = metrics.createEventLoopMetrics(prefix + idx++);
+      if (loopMetrics != null) {
+        probes.add(new Probe(executor, loopMetrics));
+      }
+    }
+    if (probes.isEmpty()) {
+      timer = null;
+    } else {
+      timer = new Timer("vertx-event-loop-sampler", true);
+      timer.schedule(new TimerTask() {
+        @Override
+        public void run() {
+          for (Probe probe : probes) {
+            probe.sample();
+          }
+        }
+      }, 0, interval);
+    }
+  }
+
+  void close() {
+    if (timer != null) {
+      timer.cancel();
+    }
+    for (Probe probe : probes) {
+      probe.metrics.close();
+    }
+  }
+
+  private static class Probe implements Runnable {
+
+    private final EventExecutor executor;
+    private final EventLoopMetrics metrics;
+    // Written by the sampler thread, read by the event-loop thread after the happens-before edge of the task submission
+    private long submitted;
+    // A probe still pending keeps its submission time so the lag of a saturated event-loop is not under estimated
+    private volatile boolean scheduled;
+
+    Probe(EventExecutor executor, EventLoopMetrics metrics) {
+      this.executor = executor;
+      this.metrics = metrics;
+    }
+
+    void sample() {
+      if (executor instanceof SingleThreadEventExecutor) {
+        metrics.pendingTasks(((SingleThreadEventExecutor) executor).pendingTasks());
+      }
+      if (scheduled) {
+        return;
+      }
+      scheduled = true;
+      submitted = System.nanoTime();
+      try {
+        executor.execute(this);
+      } catch (RejectedExecutionException ignore) {
+        // Shutting down
+      }
+    }
+
+    @Override
+    public void run() {
+      metrics.lag(System.nanoTime() - submitted);
+      scheduled = false;
+      Thread thread = Thread.currentThread();
+      if (thread instanceof VertxThread) {
+        ((VertxThread) thread).loopMetrics = metrics;
+      }
+    }
+  }
+}
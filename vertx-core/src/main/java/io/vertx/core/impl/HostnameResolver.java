@@ -77,13 +77,47 @@ public class HostnameResolver implements AddressResolver {
   }
 
   private final Vertx vertx;
-  private final AddressResolverGroup<InetSocketAddress> resolverGroup;
-  private final AddressResolverProvider provider;
+  private final AddressResolverOptions options;
+  private volatile AddressResolverGroup<InetSocketAddress> resolverGroup;
+  private AddressResolverProvider provider;
+  private boolean closed;
 
   public HostnameResolver(Vertx vertx, AddressResolverOptions options) {
-    this.provider = AddressResolverProvider.factory(vertx, options);
-    this.resolverGroup = provider.resolver(options);
+    this(vertx, options, false);
+  }
+
+  /**
+   * Create a resolver.
+   *
+   * @param vertx the vertx instance
+   * @param options the resolver options
+   * @param lazy whether to create the resolver on the first resolution instead of now
+   */
+  public HostnameResolver(Vertx vertx, AddressResolverOptions options, boolean lazy) {
     this.vertx = vertx;
+    this.options = lazy ? new AddressResolverOptions(options) : options;
+    if (!lazy) {
+      resolverGroup();
+    }
+  }
+
+  private AddressResolverGroup<InetSocketAddress> resolverGroup() {
+    AddressResolverGroup<InetSocketAddress> group = resolverGroup;
+    if (group == null) {
+      synchronized (this) {
+        group = resolverGroup;
+        if (group == null) {
+          if (closed) {
+            throw new IllegalStateException("Resolver closed");
+          }
+          AddressResolverProvider p = AddressResolverProvider.factory(vertx, options);
+          group = p.resolver(options);
+          provider = p;
+          resolverGroup = group;
+        }
+      }
+    }
+    return group;
   }
 
   @Override
@@ -118,15 +152,24 @@ public class HostnameResolver implements AddressResolver {
   }
 
   public io.netty.resolver.AddressResolver<InetSocketAddress> getResolver(EventLoop eventLoop){
-    return resolverGroup.getResolver(eventLoop);
+    return resolverGroup().getResolver(eventLoop);
   }
 
   AddressResolverGroup<InetSocketAddress> nettyAddressResolverGroup() {
-    return resolverGroup;
+    return resolverGroup();
   }
 
   public Future<Void> close() {
-    return provider.close();
+    AddressResolverProvider p;
+    synchronized (this) {
+      closed = true;
+      p = provider;
+    }
+    if (p == null) {
+      // Never used
+      return Future.succeededFuture();
+    }
+    return p.close();
   }
 
   public static int parseNdotsOptionFromResolvConf(String s) {
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.NetClient;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.net.NetSocket;
+
+import java.io.File;
+import java.nio.file.Files;
+
+/**
+ * Training run of the startup path of a Vert.x application, used to produce an application class data sharing
+ * (AppCDS) archive.
+ * <p>
+ * The run creates a Vert.x instance, deploys the verticles named by the program arguments and exercises the
+ * commonly used parts of Vert.x core (HTTP and TCP client/server, event bus, JSON, file system and timers), then it
+ * closes the instance. The classes loaded during the run are recorded by the JVM when it is started with
+ * {@code -XX:ArchiveClassesAtExit}:
+ *
+ * <pre>
+ * java -XX:ArchiveClassesAtExit=app.jsa -cp app.jar io.vertx.core.impl.StartupTraining com.acme.MainVerticle
+ * java -XX:SharedArchiveFile=app.jsa -cp app.jar com.acme.Main
+ * </pre>
+ */
+public class StartupTraining {
+
+  public static void main(String[] args) throws Exception {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setLazyInitialization(true));
+    try {
+      run(vertx, args);
+    } finally {
+      vertx.close().await();
+    }
+  }
+
+  /**
+   * Run the training with the {@code vertx} instance.
+   *
+   * @param vertx the instance
+   * @param verticles the names of the verticles to deploy
+   */
+  public static void run(Vertx vertx, String... verticles) throws Exception {
+    for (String verticle : verticles) {
+      vertx.deployVerticle(verticle).await();
+    }
+    http(vertx);
+    tcp(vertx);
+    eventBus(vertx);
+    json();
+    fileSystem(vertx);
+    vertx.timer(1).await();
+  }
+
+  private static void http(Vertx vertx) {
+    HttpServer server = vertx.createHttpServer()
+      .requestHandler(req -> req.response().end("Hello World"));
+    server.listen(0, "localhost").await();
+    HttpClient client = vertx.createHttpClient();
+    try {
+      client.request(HttpMethod.GET, server.actualPort(), "localhost", "/")
+        .compose(req -> req.send().compose(HttpClientResponse::body))
+        .await();
+    } finally {
+      client.close().await();
+      server.close().await();
+    }
+  }
+
+  private static void tcp(Vertx vertx) {
+    NetServer server = vertx.createNetServer()
+      .connectHandler(so -> so.handler(so::write));
+    server.listen(0, "localhost").await();
+    NetClient client = vertx.createNetClient();
+    try {
+      NetSocket so = client.connect(server.actualPort(), "localhost").await();
+      so.write("ping").await();
+      so.close().await();
+    } finally {
+      client.close().await();
+      server.close().await();
+    }
+  }
+
+  private static void eventBus(Vertx vertx) {
+    vertx.eventBus().<String>consumer("training", msg -> msg.reply(msg.body()))
+      .completion()
+      .await();
+    Future<Message<String>> reply = vertx.eventBus().request("training", "ping");
+    reply.await();
+  }
+
+  private static void json() {
+    JsonObject json = new JsonObject()
+      .put("string", "value")
+      .put("number", 1)
+      .put("array", new JsonArray().add(true));
+    Buffer encoded = json.toBuffer();
+    new JsonObject(encoded).getJsonArray("array");
+  }
+
+  private static void fileSystem(Vertx vertx) throws Exception {
+    File file = File.createTempFile("vertx-training", ".txt");
+    try {
+      vertx.fileSystem().writeFile(file.getAbsolutePath(), Buffer.buffer("training")).await();
+      vertx.fileSystem().readFile(file.getAbsolutePath()).await();
+    } finally {
+      Files.deleteIfExists(file.toPath());
+    }
+  }
+}
@@ -34,6 +34,9 @@ import io.vertx.core.spi.tracing.VertxTracer;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.ServiceLoader;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Bootstrap implementation.
@@ -57,6 +60,7 @@ public class VertxBootstrapImpl implements VertxBootstrap {
   private VertxMetricsFactory metricsFactory;
   private VertxMetrics metrics;
   private FileResolver fileResolver;
+  private boolean deferredClusterManagers;
 
   public VertxBootstrapImpl(JsonObject config) {
     this(new VertxOptions(config));
@@ -243,6 +247,10 @@ public class VertxBootstrapImpl implements VertxBootstrap {
    * Build and return the clustered vertx instance
    */
   public Future<Vertx> clusteredVertx() {
+    if (deferredClusterManagers) {
+      deferredClusterManagers = false;
+      initProviders(loadProviders(ClusterManager.class::isAssignableFrom));
+    }
     if (clusterManager == null) {
       throw new IllegalStateException("No ClusterManagerFactory instances found on classpath");
     }
@@ -262,7 +270,14 @@ public class VertxBootstrapImpl implements VertxBootstrap {
     initTransport();
     initMetrics();
     initTracing();
-    List<VertxServiceProvider> providers = ServiceHelper.loadFactories(VertxServiceProvider.class);
+    List<VertxServiceProvider> providers;
+    if (options.isLazyInitialization()) {
+      // Only a clustered instance needs a cluster manager, they are loaded by clusteredVertx()
+      providers = loadProviders(type -> !ClusterManager.class.isAssignableFrom(type));
+      deferredClusterManagers = true;
+    } else {
+      providers = ServiceHelper.loadFactories(VertxServiceProvider.class);
+    }
     initProviders(providers);
     initThreadFactory();
     initExecutorServiceFactory();
@@ -281,6 +296,22 @@ public class VertxBootstrapImpl implements VertxBootstrap {
     }
   }
 
+  /**
+   * Load the service providers of the types matching {@code filter}, the other providers are not instantiated. The
+   * class loaders are the ones of {@link ServiceHelper#loadFactories(Class)}.
+   */
+  private static List<VertxServiceProvider> loadProviders(Predicate<Class<?>> filter) {
+    ServiceLoader<VertxServiceProvider> loader = ServiceLoader.load(VertxServiceProvider.class);
+    if (loader.stream().findAny().isEmpty()) {
+      loader = ServiceLoader.load(VertxServiceProvider.class, ServiceHelper.class.getClassLoader());
+    }
+    return loader
+      .stream()
+      .filter(provider -> filter.test(provider.type()))
+      .map(ServiceLoader.Provider::get)
+      .collect(Collectors.toList());
+  }
+
   private void initMetrics() {
     VertxMetricsFactory provider = metricsFactory;
     if (provider != null) {
@@ -302,7 +333,7 @@ public class VertxBootstrapImpl implements VertxBootstrap {
     if (fileResolver != null) {
       return;
     }
-    fileResolver = new FileResolverImpl(options.getFileSystemOptions());
+    fileResolver = new FileResolverImpl(options.getFileSystemOptions(), options.isLazyInitialization());
   }
 
   private void initThreadFactory() {
@@ -51,6 +51,7 @@ import io.vertx.core.file.impl.WindowsFileSystem;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.core.dns.impl.DnsAddressResolverProvider;
+import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.core.spi.metrics.*;
 import io.vertx.core.spi.transport.Transport;
 import io.vertx.core.shareddata.SharedData;
@@ -154,6 +155,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final EventLoopGroup acceptorEventLoopGroup;
   private final ExecutorService virtualThreadExecutor;
   private final BlockedThreadChecker checker;
+  private final EventLoopSampler eventLoopSampler;
   private final HostnameResolver hostnameResolver;
   private final AddressResolverOptions addressResolverOptions;
   private final EventBusInternal eventBus;
@@ -196,9 +198,11 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     ThreadFactory workerThreadFactory = createThreadFactory(threadFactory, checker, useDaemonThread, maxWorkerExecuteTime, maxWorkerExecuteTimeUnit, "vert.x-worker-thread-", true);
     ExecutorService workerExec = executorServiceFactory.createExecutor(workerThreadFactory, workerPoolSize, workerPoolSize);
     PoolMetrics workerPoolMetrics = metrics != null ? metrics.createPoolMetrics("worker", "vert.x-worker-thread", options.getWorkerPoolSize()) : null;
+    TaskQueueMetrics workerTaskQueueMetrics = metrics != null ? metrics.createTaskQueueMetrics("vert.x-worker-thread") : null;
     ThreadFactory internalWorkerThreadFactory = createThreadFactory(threadFactory, checker, useDaemonThread, maxWorkerExecuteTime, maxWorkerExecuteTimeUnit, "vert.x-internal-blocking-", true);
     ExecutorService internalWorkerExec = executorServiceFactory.createExecutor(internalWorkerThreadFactory, internalBlockingPoolSize, internalBlockingPoolSize);
     PoolMetrics internalBlockingPoolMetrics = metrics != null ? metrics.createPoolMetrics("worker", "vert.x-internal-blocking", internalBlockingPoolSize) : null;
+    TaskQueueMetrics internalBlockingTaskQueueMetrics = metrics != null ? metrics.createTaskQueueMetrics("vert.x-internal-blocking") : null;
 
     ThreadFactory virtualThreadFactory = virtualThreadFactory();
 
@@ -211,10 +215,16 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     // The acceptor event loop thread needs to be from a different pool otherwise can get lags in accepted connections
     // under a lot of load
     acceptorEventLoopGroup = transport.eventLoopGroup(Transport.ACCEPTOR_EVENT_LOOP_GROUP, 1, acceptorEventLoopThreadFactory, 100);
+    MetricsOptions metricsOptions = options.getMetricsOptions();
+    if (metrics != null && metricsOptions != null && metricsOptions.getEventLoopSamplingInterval() > 0) {
+      eventLoopSampler = new EventLoopSampler(metrics, eventLoopGroup, "vert.x-eventloop-thread-", metricsOptions.getEventLoopSamplingInterval());
+    } else {
+      eventLoopSampler = null;
+    }
     virtualThreadExecutor = virtualThreadFactory != null ? new ThreadPerTaskExecutorService(virtualThreadFactory) : null;
     virtualThreaWorkerPool = virtualThreadFactory != null ? new WorkerPool(virtualThreadExecutor, null) : null;
-    internalWorkerPool = new WorkerPool(internalWorkerExec, internalBlockingPoolMetrics);
-    workerPool = new WorkerPool(workerExec, workerPoolMetrics);
+    internalWorkerPool = new WorkerPool(internalWorkerExec, internalBlockingPoolMetrics, internalBlockingTaskQueueMetrics);
+    workerPool = new WorkerPool(workerExec, workerPoolMetrics, workerTaskQueueMetrics);
     defaultWorkerPoolSize = options.getWorkerPoolSize();
     maxWorkerExecTime = maxWorkerExecuteTime;
     maxWorkerExecTimeUnit = maxWorkerExecuteTimeUnit;
@@ -228,13 +238,13 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     this.transportUnavailabilityCause = transportUnavailabilityCause;
     this.fileResolver = fileResolver;
     this.addressResolverOptions = options.getAddressResolverOptions();
-    this.hostnameResolver = new HostnameResolver(this, options.getAddressResolverOptions());
+    this.hostnameResolver = new HostnameResolver(this, options.getAddressResolverOptions(), options.isLazyInitialization());
     this.tracer = tracer == VertxTracer.NOOP ? null : tracer;
     this.clusterManager = clusterManager;
     this.nodeSelector = nodeSelector;
     this.eventBus = clusterManager != null ? new ClusteredEventBus(this, options, clusterManager, nodeSelector) : new EventBusImpl(this);
     this.sharedData = new SharedDataImpl(this, clusterManager);
-    this.deploymentManager = new DefaultDeploymentManager(this);
+    this.deploymentManager = new DefaultDeploymentManager(this, options.getMaxConcurrentDeployments());
     this.verticleManager = new VerticleManager(this, DefaultDeploymentManager.log, deploymentManager);
     this.eventExecutorProvider = eventExecutorProvider;
   }
@@ -844,6 +854,12 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return future.compose(v -> deploymentManager.undeploy(deploymentID));
   }
 
+  @Override
+  public DeploymentTimings deploymentTimings(String deploymentID) {
+    DeploymentContext deployment = deploymentManager.getDeployment(deploymentID);
+    return deployment != null ? deployment.timings() : null;
+  }
+
   @Override
   public Set<String> deploymentIDs() {
     return deploymentManager
@@ -985,6 +1001,9 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
               if (!future.isSuccess()) {
                 log.warn("Failure in shutting down event loop group", future.cause());
               }
+              if (eventLoopSampler != null) {
+                eventLoopSampler.close();
+              }
               if (metrics != null) {
                 metrics.close();
               }
@@ -1121,14 +1140,15 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
       ThreadFactory workerThreadFactory = createThreadFactory(threadFactory, checker, useDaemonThread, maxExecuteTime, maxExecuteTimeUnit, name + "-", true);
       ExecutorService workerExec = executorServiceFactory.createExecutor(workerThreadFactory, poolSize, poolSize);
       PoolMetrics workerMetrics = metrics != null ? metrics.createPoolMetrics("worker", name, poolSize) : null;
-      WorkerPool pool = new WorkerPool(workerExec, workerMetrics);
+      TaskQueueMetrics taskQueueMetrics = metrics != null ? metrics.createTaskQueueMetrics(name) : null;
+      WorkerPool pool = new WorkerPool(workerExec, workerMetrics, taskQueueMetrics);
       cf.add(completion -> {
         pool.close();
         completion.complete();
       });
       return pool;
     });
-    return new WorkerPool(shared.executor(), shared.metrics()) {
+    return new WorkerPool(shared.executor(), shared.metrics(), shared.taskQueueMetrics()) {
       @Override
       public void close() {
         closeFuture.close();
@@ -14,6 +14,7 @@ package io.vertx.core.impl;
 import io.netty.util.concurrent.FastThreadLocalThread;
 import io.vertx.core.internal.threadchecker.ThreadInfo;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.spi.metrics.EventLoopMetrics;
 
 import java.util.concurrent.TimeUnit;
 
@@ -27,6 +28,7 @@ public class VertxThread extends FastThreadLocalThread {
   VertxImpl owner;
   ContextInternal context;
   ClassLoader topLevelTCCL;
+  EventLoopMetrics loopMetrics;
 
   public VertxThread(Runnable target, String name, boolean worker, long maxExecTime, TimeUnit maxExecTimeUnit) {
     super(target, name);
@@ -49,6 +51,10 @@ public class VertxThread extends FastThreadLocalThread {
 
   void executeEnd() {
     if (context == null) {
+      EventLoopMetrics metrics = loopMetrics;
+      if (metrics != null) {
+        metrics.taskExecuted(System.nanoTime() - info.startTime);
+      }
       info.startTime = 0;
     }
   }
@@ -15,8 +15,10 @@ import io.vertx.core.ThreadingModel;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.EventExecutor;
 import io.vertx.core.spi.metrics.PoolMetrics;
+import io.vertx.core.spi.metrics.TaskQueueMetrics;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 
 /**
@@ -60,10 +62,21 @@ public class WorkerExecutor implements EventExecutor {
   public void execute(Runnable command) {
     PoolMetrics metrics = workerPool.metrics();
     Object queueMetric = metrics != null ? metrics.enqueue() : null;
+    TaskQueueMetrics orderedMetrics = workerPool.taskQueueMetrics();
+    long queuedAt;
+    if (orderedMetrics != null) {
+      orderedMetrics.taskQueued();
+      queuedAt = System.nanoTime();
+    } else {
+      queuedAt = 0L;
+    }
     // Todo : collapse WorkerTask with context submitted task object
     WorkerTask task = new WorkerTask(metrics, queueMetric) {
       @Override
       protected void execute() {
+        if (orderedMetrics != null) {
+          orderedMetrics.taskDequeued(System.nanoTime() - queuedAt);
+        }
         inThread.set(true);
         try {
           command.run();
@@ -71,8 +84,23 @@ public class WorkerExecutor implements EventExecutor {
           inThread.remove();
         }
       }
+      @Override
+      void reject() {
+        if (metrics != null) {
+          metrics.dequeue(queueMetric);
+        }
+        if (orderedMetrics != null) {
+          orderedMetrics.taskRejected();
+        }
+      }
     };
-    orderedTasks.execute(task, workerPool.executor());
+    try {
+      orderedTasks.execute(task, workerPool.executor());
+    } catch (RejectedExecutionException e) {
+      // Pool is already shut down
+      task.reject();
+      throw e;
+    }
   }
 
   WorkerTaskQueue taskQueue() {
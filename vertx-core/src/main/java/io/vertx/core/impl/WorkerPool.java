@@ -15,6 +15,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.spi.metrics.PoolMetrics;
+import io.vertx.core.spi.metrics.TaskQueueMetrics;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
@@ -28,10 +29,16 @@ public class WorkerPool {
 
   private final ExecutorService pool;
   private final PoolMetrics metrics;
+  private final TaskQueueMetrics taskQueueMetrics;
 
   public WorkerPool(ExecutorService pool, PoolMetrics metrics) {
+    this(pool, metrics, null);
+  }
+
+  public WorkerPool(ExecutorService pool, PoolMetrics metrics, TaskQueueMetrics taskQueueMetrics) {
     this.pool = pool;
     this.metrics = metrics;
+    this.taskQueueMetrics = taskQueueMetrics;
   }
 
   public ExecutorService executor() {
@@ -42,10 +49,20 @@ public class WorkerPool {
     return metrics;
   }
 
+  /**
+   * @return the metrics of the ordered task queues using this pool or {@code null}
+   */
+  public TaskQueueMetrics taskQueueMetrics() {
+    return taskQueueMetrics;
+  }
+
   public void close() {
     if (metrics != null) {
       metrics.close();
     }
+    if (taskQueueMetrics != null) {
+      taskQueueMetrics.close();
+    }
     pool.shutdownNow();
   }
 
@@ -53,9 +70,20 @@ public class WorkerPool {
     Promise<T> promise = context.promise();
     Future<T> fut = promise.future();
     Object queueMetric = metrics != null ? metrics.enqueue() : null;
+    TaskQueueMetrics orderedMetrics = queue != null ? taskQueueMetrics : null;
+    long queuedAt;
+    if (orderedMetrics != null) {
+      orderedMetrics.taskQueued();
+      queuedAt = System.nanoTime();
+    } else {
+      queuedAt = 0L;
+    }
     WorkerTask task = new WorkerTask(metrics, queueMetric) {
       @Override
       protected void execute() {
+        if (orderedMetrics != null) {
+          orderedMetrics.taskDequeued(System.nanoTime() - queuedAt);
+        }
         ContextInternal prev = context.beginDispatch();
         T result;
         try {
@@ -73,6 +101,9 @@ public class WorkerPool {
         if (metrics != null) {
           metrics.dequeue(queueMetric);
         }
+        if (orderedMetrics != null) {
+          orderedMetrics.taskRejected();
+        }
         promise.fail(new RejectedExecutionException());
       }
     };
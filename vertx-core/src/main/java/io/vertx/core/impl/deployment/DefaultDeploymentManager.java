@@ -16,6 +16,7 @@ import io.vertx.core.impl.VertxImpl;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.core.spi.metrics.VertxMetrics;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,9 +31,17 @@ public class DefaultDeploymentManager implements DeploymentManager {
   private final VertxImpl vertx;
   private final Map<String, DeploymentContext> deploying = new HashMap<>();
   private final Map<String, DeploymentContext> deployments = new ConcurrentHashMap<>();
+  private final int maxConcurrentDeployments;
+  private final Deque<PendingDeployment> pendingDeployments = new ArrayDeque<>();
+  private int concurrentDeployments;
 
   public DefaultDeploymentManager(VertxImpl vertx) {
+    this(vertx, VertxOptions.DEFAULT_MAX_CONCURRENT_DEPLOYMENTS);
+  }
+
+  public DefaultDeploymentManager(VertxImpl vertx, int maxConcurrentDeployments) {
     this.vertx = vertx;
+    this.maxConcurrentDeployments = maxConcurrentDeployments;
   }
 
   private String generateDeploymentID() {
@@ -60,6 +69,16 @@ public class DefaultDeploymentManager implements DeploymentManager {
   public Future<Void> undeployAll() {
     // TODO timeout if it takes too long - e.g. async stop verticle fails to call future
     List<Future<?>> completionList = new ArrayList<>();
+    // Deployments waiting to begin are abandoned
+    List<PendingDeployment> abandoned;
+    synchronized (pendingDeployments) {
+      abandoned = new ArrayList<>(pendingDeployments);
+      pendingDeployments.clear();
+    }
+    for (PendingDeployment pending : abandoned) {
+      completionList.add(pending.deployment.cleanup());
+      pending.result.fail(new VertxException("Vert.x closed", true));
+    }
     // We only deploy the top level verticles as the children will be undeployed when the parent is
     while (true) {
       DeploymentContextImpl deployment;
@@ -100,15 +119,79 @@ public class DefaultDeploymentManager implements DeploymentManager {
   public Future<DeploymentContext> deploy(DeploymentContext parent,
                                           ContextInternal callingContext,
                                           Deployment deployment) {
+    if (parent != null || maxConcurrentDeployments < 0) {
+      return deploy(parent, callingContext, deployment, 0L);
+    }
+    // Bound the concurrent top level deployments, children are not bounded as their parent start depends on them
+    PendingDeployment pending = new PendingDeployment(callingContext, deployment);
+    boolean begin;
+    synchronized (pendingDeployments) {
+      begin = concurrentDeployments < maxConcurrentDeployments;
+      if (begin) {
+        concurrentDeployments++;
+      } else {
+        pendingDeployments.add(pending);
+      }
+    }
+    if (begin) {
+      pending.begin(0L);
+    }
+    return pending.result.future();
+  }
+
+  private void deploymentCompleted() {
+    PendingDeployment next;
+    synchronized (pendingDeployments) {
+      next = pendingDeployments.poll();
+      if (next == null) {
+        concurrentDeployments--;
+      }
+    }
+    if (next != null) {
+      next.begin(System.nanoTime() - next.queuedAt);
+    }
+  }
+
+  private class PendingDeployment {
+
+    private final ContextInternal callingContext;
+    private final Deployment deployment;
+    private final Promise<DeploymentContext> result;
+    private final long queuedAt;
+
+    PendingDeployment(ContextInternal callingContext, Deployment deployment) {
+      this.callingContext = callingContext;
+      this.deployment = deployment;
+      this.result = callingContext.promise();
+      this.queuedAt = System.nanoTime();
+    }
+
+    void begin(long queueTime) {
+      deploy(null, callingContext, deployment, queueTime)
+        .andThen(ar -> deploymentCompleted())
+        .onComplete(result);
+    }
+  }
+
+  private Future<DeploymentContext> deploy(DeploymentContext parent,
+                                           ContextInternal callingContext,
+                                           Deployment deployment,
+                                           long queueTime) {
     String deploymentID = generateDeploymentID();
     DeploymentContextImpl context = new DeploymentContextImpl(deployment, parent, deploymentID);
     synchronized (deploying) {
       deploying.put(deploymentID, context);
     }
     Promise<DeploymentContext> result = callingContext.promise();
+    long startBegin = System.nanoTime();
     Future<?> f = deployment.deploy(context);
     f.onComplete(ar -> {
       if (ar.succeeded()) {
+        context.timings = context.timings(queueTime, System.nanoTime() - startBegin);
+        VertxMetrics metrics = vertx.metricsSPI();
+        if (metrics != null) {
+          metrics.verticleDeployed(context.timings);
+        }
         deployments.put(deploymentID, context);
         if (parent != null) {
           if (parent.addChild(context)) {
@@ -148,6 +231,7 @@ public class DefaultDeploymentManager implements DeploymentManager {
     private final Set<DeploymentContext> children = ConcurrentHashMap.newKeySet();
     private int status = ST_DEPLOYED;
     private volatile boolean child;
+    private volatile DeploymentTimings timings;
 
     private DeploymentContextImpl(Deployment deployment,
                                   DeploymentContext parent,
@@ -244,6 +328,30 @@ public class DefaultDeploymentManager implements DeploymentManager {
       return child;
     }
 
+    @Override
+    public DeploymentTimings timings() {
+      return timings;
+    }
+
+    private DeploymentTimings timings(long queueTime, long startTime) {
+      DeploymentTimings timings = new DeploymentTimings()
+        .setDeploymentID(deploymentID)
+        .setIdentifier(deployment.identifier())
+        .setInstances(deployment.numberOfInstances())
+        .setClassLoadingTime(deployment.classLoadingTime())
+        .setInstantiationTime(deployment.instantiationTime())
+        .setQueueTime(queueTime)
+        .setStartTime(startTime)
+        .setTotalTime(deployment.classLoadingTime() + deployment.instantiationTime() + queueTime + startTime);
+      for (DeploymentContext child : children) {
+        DeploymentTimings childTimings = child.timings();
+        if (childTimings != null) {
+          timings.addChild(childTimings);
+        }
+      }
+      return timings;
+    }
+
     @Override
     public String deploymentID() {
       return deploymentID;
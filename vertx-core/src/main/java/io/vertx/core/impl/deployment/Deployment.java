@@ -32,6 +32,7 @@ public class Deployment {
                                       ClassLoader tccl,
                                       Callable<? extends Deployable> supplier) throws Exception {
     int numberOfInstances = options.getInstances();
+    long instantiationStart = System.nanoTime();
     Set<Deployable> deployables = Collections.newSetFromMap(new IdentityHashMap<>());
     for (int i = 0; i < numberOfInstances;i++) {
       Deployable deployable;
@@ -48,6 +49,7 @@ public class Deployment {
     if (deployables.size() != numberOfInstances) {
       throw new VertxException("Same deployable supplied more than once", true);
     }
+    long instantiationTime = System.nanoTime() - instantiationStart;
     WorkerPool workerPool = null;
     ThreadingModel mode = options.getThreadingModel();
     if (mode == null) {
@@ -63,7 +65,9 @@ public class Deployment {
       }
     }
     ArrayList<Deployable> list = new ArrayList<>(deployables);
-    return new Deployment(vertx, options, log, list, identifierProvider.apply(list.get(0)), mode, workerPool, tccl);
+    Deployment deployment = new Deployment(vertx, options, log, list, identifierProvider.apply(list.get(0)), mode, workerPool, tccl);
+    deployment.instantiationTime = instantiationTime;
+    return deployment;
   }
 
   private final VertxImpl vertx;
@@ -75,6 +79,8 @@ public class Deployment {
   private final String identifier;
   private final List<Instance> instances = new CopyOnWriteArrayList<>();
   private final ClassLoader tccl;
+  private long classLoadingTime;
+  private long instantiationTime;
 
   public Deployment(VertxImpl vertx,
                     DeploymentOptions options,
@@ -118,6 +124,34 @@ public class Deployment {
     return identifier;
   }
 
+  /**
+   * @return the time in nanoseconds spent by the verticle factory to load the verticle class
+   */
+  public long classLoadingTime() {
+    return classLoadingTime;
+  }
+
+  /**
+   * Set the time in nanoseconds spent by the verticle factory to load the verticle class.
+   */
+  public void classLoadingTime(long classLoadingTime) {
+    this.classLoadingTime = classLoadingTime;
+  }
+
+  /**
+   * @return the time in nanoseconds spent creating the deployed instances
+   */
+  public long instantiationTime() {
+    return instantiationTime;
+  }
+
+  /**
+   * @return the number of deployed instances
+   */
+  public int numberOfInstances() {
+    return deployables.size();
+  }
+
   public Future<?> deploy(DeploymentContext deployment) {
     EventLoop workerLoop = null;
     List<Future<?>> futures = new ArrayList<>();
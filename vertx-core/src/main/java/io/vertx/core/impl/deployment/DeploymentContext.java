@@ -11,6 +11,7 @@
 
 package io.vertx.core.impl.deployment;
 
+import io.vertx.core.DeploymentTimings;
 import io.vertx.core.Future;
 import io.vertx.core.internal.ContextInternal;
 
@@ -57,4 +58,9 @@ public interface DeploymentContext {
    */
   Deployment deployment();
 
+  /**
+   * @return the startup timings of the deployment, {@code null} until the deployment completes
+   */
+  DeploymentTimings timings();
+
 }
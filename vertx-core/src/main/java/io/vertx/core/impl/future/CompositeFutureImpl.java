@@ -13,6 +13,9 @@ package io.vertx.core.impl.future;
 
 import io.vertx.core.*;
 
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -22,6 +25,10 @@ public class CompositeFutureImpl extends FutureImpl<CompositeFuture> implements
   private static final int OP_ANY = 1;
   private static final int OP_JOIN = 2;
 
+  private static final AtomicIntegerFieldUpdater<CompositeFutureImpl> COUNT_UPDATER = AtomicIntegerFieldUpdater.newUpdater(CompositeFutureImpl.class, "count");
+  private static final AtomicIntegerFieldUpdater<CompositeFutureImpl> HANDOFF_UPDATER = AtomicIntegerFieldUpdater.newUpdater(CompositeFutureImpl.class, "handoff");
+  private static final AtomicReferenceFieldUpdater<CompositeFutureImpl, Object> COMPLETED_UPDATER = AtomicReferenceFieldUpdater.newUpdater(CompositeFutureImpl.class, Object.class, "completed");
+
   public static CompositeFuture all(Future<?>... results) {
     return create(OP_ALL, results);
   }
@@ -35,13 +42,10 @@ public class CompositeFutureImpl extends FutureImpl<CompositeFuture> implements
   }
 
   private static CompositeFuture create(int op, Future<?>... results) {
-    CompositeFutureImpl composite;
-    int len = results.length;
-    if (len > 0) {
-      composite = new CompositeFutureImpl(op, true, results);
+    CompositeFutureImpl composite = new CompositeFutureImpl(op, results);
+    if (results.length > 0) {
       composite.init();
     } else {
-      composite = new CompositeFutureImpl(op, false, results);
       composite.doComplete(composite);
     }
     return composite;
@@ -49,13 +53,13 @@ public class CompositeFutureImpl extends FutureImpl<CompositeFuture> implements
 
   private final Future<?>[] results;
   private final int op;
-  private boolean initializing;
-  private Object completed;
-  private int completions;
+  private volatile Object completed;
+  private volatile int count;
+  // Incremented by the completion winner and by the end of initialization, the second one completes the composite
+  private volatile int handoff;
 
-  private CompositeFutureImpl(int op, boolean initializing, Future<?>... results) {
+  private CompositeFutureImpl(int op, Future<?>... results) {
     this.op = op;
-    this.initializing = initializing;
     this.results = results;
   }
 
@@ -64,15 +68,9 @@ public class CompositeFutureImpl extends FutureImpl<CompositeFuture> implements
       FutureBase internal = (FutureBase<?>) result;
       internal.addListener(this);
     }
-    Object o;
-    synchronized (this) {
-      initializing = false;
-      o = completed;
-      if (o == null) {
-        return;
-      }
+    if (HANDOFF_UPDATER.getAndIncrement(this) == 1) {
+      doComplete(completed);
     }
-    doComplete(o);
   }
 
   @Override
@@ -85,73 +83,51 @@ public class CompositeFutureImpl extends FutureImpl<CompositeFuture> implements
   }
 
   private void onSuccess(Object value) {
-    int len = results.length;
-    Object completion;
-    synchronized (this) {
-      int val = ++completions;
-      if (completed != null) {
-        return;
-      }
-      switch (op) {
-        case OP_ALL:
-          if (val < len) {
-            return;
-          }
-          completion = this;
-          break;
-        case OP_ANY:
-          completion = this;
-          break;
-        case OP_JOIN:
-          if (val < len) {
-            return;
-          }
-          completion = anyFailureOrThis();
-          break;
-        default:
-          throw new AssertionError();
-      }
-      completed = completion;
-      if (initializing) {
-        return;
-      }
+    if (completed != null) {
+      return;
+    }
+    switch (op) {
+      case OP_ALL:
+        if (COUNT_UPDATER.incrementAndGet(this) == results.length) {
+          tryCompleteWith(this);
+        }
+        break;
+      case OP_ANY:
+        tryCompleteWith(this);
+        break;
+      case OP_JOIN:
+        if (COUNT_UPDATER.incrementAndGet(this) == results.length) {
+          tryCompleteWith(anyFailureOrThis());
+        }
+        break;
+      default:
+        throw new AssertionError();
     }
-    doComplete(completion);
   }
 
   private void onFailure(Throwable failure) {
-    int len = results.length;
-    Object completion;
-    synchronized (this) {
-      int val = ++completions;
-      if (completed != null) {
-        return;
-      }
-      switch (op) {
-        case OP_ALL:
-          completion = failure;
-          break;
-        case OP_ANY:
-          if (val < len) {
-            return;
-          }
-          completion = failure;
-          break;
-        case OP_JOIN:
-          if (val < len) {
-            return;
-          }
-          completion = anyFailureOrThis();
-          break;
-        default:
-          throw new AssertionError();
-      }
-      completed = completion;
-      if (initializing) {
-        return;
-      }
+    if (completed != null) {
+      return;
+    }
+    switch (op) {
+      case OP_ALL:
+        tryCompleteWith(failure);
+        break;
+      case OP_ANY:
+      case OP_JOIN:
+        if (COUNT_UPDATER.incrementAndGet(this) == results.length) {
+          tryCompleteWith(op == OP_ANY ? failure : anyFailureOrThis());
+        }
+        break;
+      default:
+        throw new AssertionError();
+    }
+  }
+
+  private void tryCompleteWith(Object completion) {
+    if (COMPLETED_UPDATER.compareAndSet(this, null, completion) && HANDOFF_UPDATER.getAndIncrement(this) == 1) {
+      doComplete(completion);
     }
-    doComplete(completion);
   }
 
   private Object anyFailureOrThis() {
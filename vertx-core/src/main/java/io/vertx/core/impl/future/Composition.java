@@ -32,6 +32,36 @@ class Composition<T, U> extends Operation<U> implements Completable<T> {
     this.failureMapper = failureMapper;
   }
 
+  /**
+   * Fused composition of an already completed result: the mapper is applied eagerly and when the returned
+   * future is already completed, its outcome is returned without allocating a composition. Immutable completed
+   * futures bound to the same context are returned as is.
+   */
+  static <T, U> FutureBase<U> fuse(ContextInternal context, Function<? super T, Future<U>> successMapper, Function<Throwable, Future<U>> failureMapper, T result, Throwable failure) {
+    FutureBase<U> future;
+    try {
+      if (failure == null) {
+        future = (FutureBase<U>) successMapper.apply(result);
+      } else {
+        future = (FutureBase<U>) failureMapper.apply(failure);
+      }
+    } catch (Throwable e) {
+      return new FailedFuture<>(context, e);
+    }
+    if (future.isComplete()) {
+      if (future.context == context && !(future instanceof FutureImpl)) {
+        return future;
+      } else if (future.succeeded()) {
+        return new SucceededFuture<>(context, future.result());
+      } else {
+        return new FailedFuture<>(context, future.cause());
+      }
+    }
+    Composition<T, U> operation = new Composition<>(context, successMapper, failureMapper);
+    future.addListener(operation::handleInternal);
+    return operation;
+  }
+
   @Override
   public void complete(T result, Throwable failure) {
     FutureBase<U> future;
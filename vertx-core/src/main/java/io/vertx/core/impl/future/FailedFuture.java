@@ -18,6 +18,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.impl.NoStackTraceThrowable;
 
+import java.util.Objects;
 import java.util.function.Function;
 
 /**
@@ -133,6 +134,25 @@ public final class FailedFuture<T> extends FutureBase<T> {
     return (Future<V>) this;
   }
 
+  @Override
+  public <U> Future<U> compose(Function<? super T, Future<U>> successMapper, Function<Throwable, Future<U>> failureMapper) {
+    Objects.requireNonNull(successMapper, "No null success mapper accepted");
+    Objects.requireNonNull(failureMapper, "No null failure mapper accepted");
+    if (context == null || context.isRunningOnContext()) {
+      return Composition.fuse(context, successMapper, failureMapper, null, cause);
+    }
+    return super.compose(successMapper, failureMapper);
+  }
+
+  @Override
+  public Future<T> otherwise(Function<Throwable, T> mapper) {
+    Objects.requireNonNull(mapper, "No null mapper accepted");
+    if (context == null || context.isRunningOnContext()) {
+      return Otherwise.fuse(context, mapper, cause);
+    }
+    return super.otherwise(mapper);
+  }
+
   @Override
   public Future<T> otherwise(T value) {
     return new SucceededFuture<>(context, value);
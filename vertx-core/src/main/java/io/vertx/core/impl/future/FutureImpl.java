@@ -18,8 +18,9 @@ import io.vertx.core.Handler;
 import io.vertx.core.impl.NoStackTraceThrowable;
 import io.vertx.core.internal.ContextInternal;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Future implementation.
@@ -82,22 +83,46 @@ public class FutureImpl<T> extends FutureBase<T> {
     return value != null;
   }
 
+  /**
+   * @return the completed value when the caller can observe it synchronously, that is the future is completed and
+   *         the current thread is the context thread (or the future has no context), {@code null} otherwise
+   */
+  private Object fusableValue() {
+    if (context != null && !context.isRunningOnContext()) {
+      return null;
+    }
+    synchronized (this) {
+      return value;
+    }
+  }
+
+  private <E> void invoke(Handler<? super E> handler, E event) {
+    try {
+      handler.handle(event);
+    } catch (Throwable t) {
+      if (context != null) {
+        context.reportException(t);
+      } else {
+        throw t;
+      }
+    }
+  }
+
   @Override
   public Future<T> onSuccess(Handler<? super T> handler) {
     Objects.requireNonNull(handler, "No null handler accepted");
+    Object v = fusableValue();
+    if (v != null) {
+      if (!(v instanceof CauseHolder)) {
+        invoke(handler, v == NULL_VALUE ? null : (T) v);
+      }
+      return this;
+    }
     addListener(new Completable<T>() {
       @Override
       public void complete(T result, Throwable failure) {
         if (failure == null) {
-          try {
-            handler.handle(result);
-          } catch (Throwable t) {
-            if (context != null) {
-              context.reportException(t);
-            } else {
-              throw t;
-            }
-          }
+          invoke(handler, result);
         }
       }
     });
@@ -107,17 +132,16 @@ public class FutureImpl<T> extends FutureBase<T> {
   @Override
   public Future<T> onFailure(Handler<? super Throwable> handler) {
     Objects.requireNonNull(handler, "No null handler accepted");
+    Object v = fusableValue();
+    if (v != null) {
+      if (v instanceof CauseHolder) {
+        invoke(handler, ((CauseHolder) v).cause);
+      }
+      return this;
+    }
     addListener((value, err) -> {
       if (err != null) {
-        try {
-          handler.handle(err);
-        } catch (Throwable t) {
-          if (context != null) {
-            context.reportException(t);
-          } else {
-            throw t;
-          }
-        }
+        invoke(handler, err);
       }
     });
     return this;
@@ -125,22 +149,25 @@ public class FutureImpl<T> extends FutureBase<T> {
 
   @Override
   public Future<T> onComplete(Handler<? super T> successHandler, Handler<? super Throwable> failureHandler) {
+    Object v = fusableValue();
+    if (v != null) {
+      if (v instanceof CauseHolder) {
+        if (failureHandler != null) {
+          invoke(failureHandler, ((CauseHolder) v).cause);
+        }
+      } else if (successHandler != null) {
+        invoke(successHandler, v == NULL_VALUE ? null : (T) v);
+      }
+      return this;
+    }
     addListener((value, err) -> {
-      try {
-        if (err == null) {
-          if (successHandler != null) {
-            successHandler.handle(value);
-          }
-        } else {
-          if (failureHandler != null) {
-            failureHandler.handle(err);
-          }
+      if (err == null) {
+        if (successHandler != null) {
+          invoke(successHandler, value);
         }
-      } catch (Throwable t) {
-        if (context != null) {
-          context.reportException(t);
-        } else {
-          throw t;
+      } else {
+        if (failureHandler != null) {
+          invoke(failureHandler, err);
         }
       }
     });
@@ -150,26 +177,84 @@ public class FutureImpl<T> extends FutureBase<T> {
   @Override
   public Future<T> onComplete(Handler<AsyncResult<T>> handler) {
     Objects.requireNonNull(handler, "No null handler accepted");
+    if (!(handler instanceof Completable) && fusableValue() != null) {
+      invoke(handler, this);
+      return this;
+    }
     Completable<T> listener;
     if (handler instanceof Completable) {
       listener = (Completable<T>) handler;
     } else {
-      listener = (value, err) -> {
-        try {
-          handler.handle(FutureImpl.this);
-        } catch (Throwable t) {
-          if (context != null) {
-            context.reportException(t);
-          } else {
-            throw t;
-          }
-        }
-      };
+      listener = (value, err) -> invoke(handler, FutureImpl.this);
     }
     addListener(listener);
     return this;
   }
 
+  @Override
+  public <U> Future<U> map(Function<? super T, U> mapper) {
+    Objects.requireNonNull(mapper, "No null mapper accepted");
+    Object v = fusableValue();
+    if (v == null) {
+      return super.map(mapper);
+    } else if (v instanceof CauseHolder) {
+      return new FailedFuture<>(context, ((CauseHolder) v).cause);
+    } else {
+      return Mapping.fuse(context, mapper, v == NULL_VALUE ? null : (T) v);
+    }
+  }
+
+  @Override
+  public <V> Future<V> map(V value) {
+    Object v = fusableValue();
+    if (v == null) {
+      return super.map(value);
+    } else if (v instanceof CauseHolder) {
+      return new FailedFuture<>(context, ((CauseHolder) v).cause);
+    } else {
+      return new SucceededFuture<>(context, value);
+    }
+  }
+
+  @Override
+  public Future<T> otherwise(Function<Throwable, T> mapper) {
+    Objects.requireNonNull(mapper, "No null mapper accepted");
+    Object v = fusableValue();
+    if (v == null) {
+      return super.otherwise(mapper);
+    } else if (v instanceof CauseHolder) {
+      return Otherwise.fuse(context, mapper, ((CauseHolder) v).cause);
+    } else {
+      return new SucceededFuture<>(context, v == NULL_VALUE ? null : (T) v);
+    }
+  }
+
+  @Override
+  public Future<T> otherwise(T value) {
+    Object v = fusableValue();
+    if (v == null) {
+      return super.otherwise(value);
+    } else if (v instanceof CauseHolder) {
+      return new SucceededFuture<>(context, value);
+    } else {
+      return new SucceededFuture<>(context, v == NULL_VALUE ? null : (T) v);
+    }
+  }
+
+  @Override
+  public <U> Future<U> compose(Function<? super T, Future<U>> successMapper, Function<Throwable, Future<U>> failureMapper) {
+    Objects.requireNonNull(successMapper, "No null success mapper accepted");
+    Objects.requireNonNull(failureMapper, "No null failure mapper accepted");
+    Object v = fusableValue();
+    if (v == null) {
+      return super.compose(successMapper, failureMapper);
+    } else if (v instanceof CauseHolder) {
+      return Composition.fuse(context, successMapper, failureMapper, null, ((CauseHolder) v).cause);
+    } else {
+      return Composition.fuse(context, successMapper, failureMapper, v == NULL_VALUE ? null : (T) v, null);
+    }
+  }
+
   @Override
   public void addListener(Completable<T> listener) {
     Object v;
@@ -265,11 +350,35 @@ public class FutureImpl<T> extends FutureBase<T> {
     sb.append(value);
   }
 
-  private static class ListenerArray<T> extends ArrayList<Completable<T>> implements Completable<T> {
+  /**
+   * Compact array of listeners, avoids the extra indirection and bookkeeping of a collection.
+   */
+  private static class ListenerArray<T> implements Completable<T> {
+
+    private Completable<T>[] listeners = new Completable[4];
+    private int size;
+
+    void add(Completable<T> listener) {
+      if (size == listeners.length) {
+        listeners = Arrays.copyOf(listeners, size << 1);
+      }
+      listeners[size++] = listener;
+    }
+
+    void remove(Completable<?> listener) {
+      for (int i = 0;i < size;i++) {
+        if (listeners[i] == listener) {
+          System.arraycopy(listeners, i + 1, listeners, i, size - i - 1);
+          listeners[--size] = null;
+          return;
+        }
+      }
+    }
+
     @Override
     public void complete(T result, Throwable failure) {
-      for (Completable<T> handler : this) {
-        handler.complete(result, failure);
+      for (int i = 0;i < size;i++) {
+        listeners[i].complete(result, failure);
       }
     }
   }
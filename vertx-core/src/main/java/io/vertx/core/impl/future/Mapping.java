@@ -29,6 +29,19 @@ class Mapping<T, U> extends Operation<U> implements Completable<T> {
     this.successMapper = successMapper;
   }
 
+  /**
+   * Fused mapping of an already completed value, no intermediate operation is allocated.
+   */
+  static <T, U> FutureBase<U> fuse(ContextInternal context, Function<? super T, U> successMapper, T value) {
+    U result;
+    try {
+      result = successMapper.apply(value);
+    } catch (Throwable e) {
+      return new FailedFuture<>(context, e);
+    }
+    return new SucceededFuture<>(context, result);
+  }
+
   @Override
   public void complete(T value, Throwable failure) {
     U result;
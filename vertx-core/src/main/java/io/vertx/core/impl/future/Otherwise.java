@@ -24,6 +24,19 @@ class Otherwise<T> extends Operation<T> implements Completable<T> {
     this.mapper = mapper;
   }
 
+  /**
+   * Fused recovery of an already completed failure, no intermediate operation is allocated.
+   */
+  static <T> FutureBase<T> fuse(ContextInternal context, Function<Throwable, T> mapper, Throwable failure) {
+    T result;
+    try {
+      result = mapper.apply(failure);
+    } catch (Throwable e) {
+      return new FailedFuture<>(context, e);
+    }
+    return new SucceededFuture<>(context, result);
+  }
+
   @Override
   public void complete(T result, Throwable failure) {
     if (failure != null) {
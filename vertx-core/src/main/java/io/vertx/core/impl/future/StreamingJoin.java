@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.impl.future;
+
+import io.vertx.core.Completable;
+import io.vertx.core.Future;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A join that reports the outcome of each future as it completes and does not retain the joined futures.
+ */
+public final class StreamingJoin<T> extends FutureImpl<Void> implements Completable<T> {
+
+  private static final AtomicIntegerFieldUpdater<StreamingJoin> PENDING_UPDATER = AtomicIntegerFieldUpdater.newUpdater(StreamingJoin.class, "pending");
+  private static final AtomicReferenceFieldUpdater<StreamingJoin, Throwable> FAILURE_UPDATER = AtomicReferenceFieldUpdater.newUpdater(StreamingJoin.class, Throwable.class, "failure");
+
+  public static <T> Future<Void> join(Iterable<? extends Future<? extends T>> futures, Completable<? super T> handler) {
+    StreamingJoin<T> join = new StreamingJoin<>(handler);
+    for (Future<? extends T> future : futures) {
+      PENDING_UPDATER.incrementAndGet(join);
+      ((FutureBase<T>) future).addListener(join);
+    }
+    // Release the initialization slot
+    join.countDown();
+    return join;
+  }
+
+  private final Completable<? super T> handler;
+  // One slot per joined future plus one for the initialization
+  private volatile int pending = 1;
+  private volatile Throwable failure;
+
+  private StreamingJoin(Completable<? super T> handler) {
+    this.handler = handler;
+  }
+
+  @Override
+  public void complete(T result, Throwable failure) {
+    try {
+      handler.complete(result, failure);
+    } catch (Throwable e) {
+      failure = e;
+    }
+    if (failure != null) {
+      FAILURE_UPDATER.compareAndSet(this, null, failure);
+    }
+    countDown();
+  }
+
+  private void countDown() {
+    if (PENDING_UPDATER.decrementAndGet(this) == 0) {
+      Throwable cause = failure;
+      if (cause == null) {
+        tryComplete(null);
+      } else {
+        tryFail(cause);
+      }
+    }
+  }
+}
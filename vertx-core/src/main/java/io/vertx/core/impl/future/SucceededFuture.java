@@ -113,11 +113,30 @@ public final class SucceededFuture<T> extends FutureBase<T> {
     return false;
   }
 
+  @Override
+  public <U> Future<U> map(Function<? super T, U> mapper) {
+    Objects.requireNonNull(mapper, "No null mapper accepted");
+    if (context == null || context.isRunningOnContext()) {
+      return Mapping.fuse(context, mapper, result);
+    }
+    return super.map(mapper);
+  }
+
   @Override
   public <V> Future<V> map(V value) {
     return new SucceededFuture<>(context, value);
   }
 
+  @Override
+  public <U> Future<U> compose(Function<? super T, Future<U>> successMapper, Function<Throwable, Future<U>> failureMapper) {
+    Objects.requireNonNull(successMapper, "No null success mapper accepted");
+    Objects.requireNonNull(failureMapper, "No null failure mapper accepted");
+    if (context == null || context.isRunningOnContext()) {
+      return Composition.fuse(context, successMapper, failureMapper, result, null);
+    }
+    return super.compose(successMapper, failureMapper);
+  }
+
   @Override
   public Future<T> otherwise(Function<Throwable, T> mapper) {
     Objects.requireNonNull(mapper, "No null mapper accepted");
@@ -13,17 +13,21 @@ package io.vertx.core.impl.transports;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.*;
 import io.netty.channel.epoll.*;
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.InternetProtocolFamily;
 import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.channel.unix.SegmentedDatagramPacket;
+import io.netty.util.concurrent.Future;
 import io.vertx.core.datagram.DatagramSocketOptions;
 import io.vertx.core.net.ClientOptionsBase;
 import io.vertx.core.net.NetServerOptions;
 import io.vertx.core.net.impl.SocketAddressImpl;
 import io.vertx.core.spi.transport.Transport;
 
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 
 /**
@@ -62,6 +66,38 @@ public class EpollTransport implements Transport {
     return true;
   }
 
+  @Override
+  public boolean supportSplice() {
+    return true;
+  }
+
+  @Override
+  public boolean prepareSplice(Channel channel) {
+    if (channel instanceof AbstractEpollStreamChannel) {
+      RecvByteBufAllocator allocator = channel.config().getRecvByteBufAllocator();
+      if (allocator instanceof MaxMessagesRecvByteBufAllocator) {
+        SplicingRecvByteBufAllocator splicing = new SplicingRecvByteBufAllocator((AbstractEpollStreamChannel) channel, (MaxMessagesRecvByteBufAllocator) allocator);
+        channel.config().setRecvByteBufAllocator(splicing);
+        // The handle is cached by the channel, it must be created by the splicing allocator
+        channel.unsafe().recvBufAllocHandle();
+        if (splicing.handleCreated()) {
+          return true;
+        }
+        channel.config().setRecvByteBufAllocator(allocator);
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Future<Integer> splice(Channel from, Channel to, int len) {
+    RecvByteBufAllocator allocator = from.config().getRecvByteBufAllocator();
+    if (allocator instanceof SplicingRecvByteBufAllocator && to instanceof AbstractEpollStreamChannel) {
+      return ((SplicingRecvByteBufAllocator) allocator).splice((AbstractEpollStreamChannel) to, len);
+    }
+    return Transport.super.splice(from, to, len);
+  }
+
   @Override
   public SocketAddress convert(io.vertx.core.net.SocketAddress address) {
     if (address.isDomainSocket()) {
@@ -123,7 +159,25 @@ public class EpollTransport implements Transport {
   @Override
   public void configure(DatagramChannel channel, DatagramSocketOptions options) {
     channel.config().setOption(EpollChannelOption.SO_REUSEPORT, options.isReusePort());
+    if (options.isUdpGro()) {
+      channel.config().setOption(EpollChannelOption.UDP_GRO, true);
+    }
     Transport.super.configure(channel, options);
+    int maxDatagramPayloadSize = options.getMaxDatagramPayloadSize();
+    // recvmmsg does not report the segment size of coalesced datagrams, GRO reads datagrams one by one
+    if (maxDatagramPayloadSize > 0 && !options.isUdpGro()) {
+      // recvmmsg is used when the receive buffer can hold several datagrams
+      channel.config().setOption(EpollChannelOption.MAX_DATAGRAM_PAYLOAD_SIZE, maxDatagramPayloadSize);
+      channel.config().setRecvByteBufAllocator(new FixedRecvByteBufAllocator(maxDatagramPayloadSize * options.getMaxMessagesPerRead()));
+    }
+  }
+
+  @Override
+  public io.netty.channel.socket.DatagramPacket segmentedDatagramPacket(ByteBuf content, int segmentSize, InetSocketAddress recipient) {
+    if (EpollDatagramChannel.isSegmentedDatagramPacketSupported()) {
+      return new SegmentedDatagramPacket(content, segmentSize, recipient);
+    }
+    return null;
   }
 
   @Override
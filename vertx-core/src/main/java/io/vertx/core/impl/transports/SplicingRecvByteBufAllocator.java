@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl.transports;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.MaxMessagesRecvByteBufAllocator;
+import io.netty.channel.epoll.AbstractEpollStreamChannel;
+import io.netty.util.UncheckedBooleanSupplier;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+
+/**
+ * Decorates the receive buffer allocator of an epoll channel to count the bytes spliced from the channel.
+ * <p>
+ * Netty completes a splice once all the requested bytes have been spliced and reports each splice system call to the
+ * receive buffer allocator handle of the channel. When the peer shuts down its output before the requested bytes
+ * are received, the input of the channel is shutdown (the channel allows half closure while splicing) and the
+ * bytes still queued by the kernel are spliced. The splice completes with the number of spliced bytes once a
+ * splice system call reads no more bytes.
+ */
+final class SplicingRecvByteBufAllocator implements MaxMessagesRecvByteBufAllocator {
+
+  private final AbstractEpollStreamChannel channel;
+  private final MaxMessagesRecvByteBufAllocator delegate;
+  private boolean handleCreated;
+  private boolean eof;
+  private Promise<Integer> splice;
+  private int spliced;
+
+  SplicingRecvByteBufAllocator(AbstractEpollStreamChannel channel, MaxMessagesRecvByteBufAllocator delegate) {
+    this.channel = channel;
+    this.delegate = delegate;
+  }
+
+  /**
+   * @return whether a handle has been created by this allocator
+   */
+  boolean handleCreated() {
+    return handleCreated;
+  }
+
+  /**
+   * Splice at most {@code len} bytes to {@code to}.
+   */
+  Future<Integer> splice(AbstractEpollStreamChannel to, int len) {
+    if (eof) {
+      return channel.eventLoop().newSucceededFuture(0);
+    }
+    Promise<Integer> promise = channel.eventLoop().newPromise();
+    splice = promise;
+    spliced = 0;
+    channel.config().setOption(ChannelOption.ALLOW_HALF_CLOSURE, true);
+    channel.spliceTo(to, len).addListener(future -> {
+      if (splice == promise) {
+        splice = null;
+        if (future.isSuccess()) {
+          promise.setSuccess(len);
+        } else {
+          promise.setFailure(future.cause());
+        }
+      }
+    });
+    return promise;
+  }
+
+  private void bytesRead(int bytes) {
+    Promise<Integer> promise = splice;
+    if (bytes > 0) {
+      spliced += bytes;
+    } else if (bytes < 0 || channel.isInputShutdown()) {
+      // All the received bytes have been read, the pending netty splice is failed when the channel is closed
+      eof = true;
+      if (promise != null) {
+        splice = null;
+        int result = spliced;
+        // Complete after the read loop of the channel
+        channel.eventLoop().execute(() -> promise.setSuccess(result));
+      }
+    }
+  }
+
+  @Override
+  public Handle newHandle() {
+    handleCreated = true;
+    return new SplicingHandle((ExtendedHandle) delegate.newHandle());
+  }
+
+  @Override
+  public int maxMessagesPerRead() {
+    return delegate.maxMessagesPerRead();
+  }
+
+  @Override
+  public MaxMessagesRecvByteBufAllocator maxMessagesPerRead(int maxMessagesPerRead) {
+    delegate.maxMessagesPerRead(maxMessagesPerRead);
+    return this;
+  }
+
+  private class SplicingHandle implements ExtendedHandle {
+
+    private final ExtendedHandle delegate;
+
+    SplicingHandle(ExtendedHandle delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void lastBytesRead(int bytes) {
+      delegate.lastBytesRead(bytes);
+      bytesRead(bytes);
+    }
+
+    @Override
+    public boolean continueReading(UncheckedBooleanSupplier maybeMoreDataSupplier) {
+      return delegate.continueReading(maybeMoreDataSupplier);
+    }
+
+    @Override
+    public ByteBuf allocate(ByteBufAllocator alloc) {
+      return delegate.allocate(alloc);
+    }
+
+    @Override
+    public int guess() {
+      return delegate.guess();
+    }
+
+    @Override
+    public void reset(ChannelConfig config) {
+      delegate.reset(config);
+    }
+
+    @Override
+    public void incMessagesRead(int numMessages) {
+      delegate.incMessagesRead(numMessages);
+    }
+
+    @Override
+    public int lastBytesRead() {
+      return delegate.lastBytesRead();
+    }
+
+    @Override
+    public void attemptedBytesRead(int bytes) {
+      delegate.attemptedBytesRead(bytes);
+    }
+
+    @Override
+    public int attemptedBytesRead() {
+      return delegate.attemptedBytesRead();
+    }
+
+    @Override
+    public boolean continueReading() {
+      return delegate.continueReading();
+    }
+
+    @Override
+    public void readComplete() {
+      delegate.readComplete();
+    }
+  }
+}
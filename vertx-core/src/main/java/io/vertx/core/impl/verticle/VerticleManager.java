@@ -201,13 +201,14 @@ public class VerticleManager {
                                                    ContextInternal callingContext,
                                                    ClassLoader cl) {
     Promise<Callable<? extends Deployable>> p = callingContext.promise();
+    long classLoadingStart = System.nanoTime();
     try {
       verticleFactory.createVerticle2(identifier, cl, p);
     } catch (Exception e) {
       return callingContext.failedFuture(e);
     }
     return p.future()
-      .compose(callable -> deployVerticle(options, v -> identifier, parentContext.deployment(), callingContext, cl, callable));
+      .compose(callable -> deployVerticle(options, v -> identifier, parentContext.deployment(), callingContext, cl, callable, System.nanoTime() - classLoadingStart));
   }
 
   private Future<DeploymentContext> deployVerticle(DeploymentOptions options,
@@ -215,13 +216,15 @@ public class VerticleManager {
                                                   DeploymentContext parent,
                                                   ContextInternal callingContext,
                                                   ClassLoader tccl,
-                                                  Callable<? extends Deployable> verticleSupplier) {
+                                                  Callable<? extends Deployable> verticleSupplier,
+                                                  long classLoadingTime) {
     Deployment verticleDeployable;
     try {
       verticleDeployable = Deployment.deployment(vertx, log, options, identifierProvider, tccl, verticleSupplier);
     } catch (Exception e) {
       return callingContext.failedFuture(e);
     }
+    verticleDeployable.classLoadingTime(classLoadingTime);
     return deploymentManager.deploy(parent, callingContext, verticleDeployable);
   }
 
@@ -185,6 +185,11 @@ public abstract class VertxWrapper implements VertxInternal {
     return delegate.deploymentIDs();
   }
 
+  @Override
+  public DeploymentTimings deploymentTimings(String deploymentID) {
+    return delegate.deploymentTimings(deploymentID);
+  }
+
   @Override
   public void registerVerticleFactory(VerticleFactory factory) {
     delegate.registerVerticleFactory(factory);
@@ -1,11 +1,13 @@
 package io.vertx.core.internal.buffer;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.net.impl.VertxHandler;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Objects;
 
 public interface BufferInternal extends Buffer {
@@ -63,6 +65,25 @@ public interface BufferInternal extends Buffer {
     return new BufferImpl(bytes);
   }
 
+  /**
+   * Wrap the {@code buffers} in a single Netty {@code ByteBuf} without copying them, several buffers are
+   * wrapped in a {@code CompositeByteBuf}.
+   *
+   * @param buffers the buffers
+   * @return the buffer
+   */
+  static ByteBuf compositeByteBuf(List<Buffer> buffers) {
+    int size = buffers.size();
+    if (size == 1) {
+      return ((BufferInternal) buffers.get(0)).getByteBuf();
+    }
+    ByteBuf[] bufs = new ByteBuf[size];
+    for (int i = 0;i < size;i++) {
+      bufs[i] = ((BufferInternal) buffers.get(i)).getByteBuf();
+    }
+    return Unpooled.wrappedBuffer(size, bufs);
+  }
+
   @Override
   BufferInternal appendBuffer(Buffer buff);
 
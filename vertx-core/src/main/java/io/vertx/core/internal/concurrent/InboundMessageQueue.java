@@ -27,6 +27,7 @@ public class InboundMessageQueue<M> implements Predicate<M>, Runnable {
   private final EventExecutor consumer;
   private final EventExecutor producer;
   private final InboundReadQueue<M> readQueue;
+  private final long maxBatchSize;
 
   // Accessed by context thread
   private boolean needsDrain;
@@ -45,12 +46,34 @@ public class InboundMessageQueue<M> implements Predicate<M>, Runnable {
     this.readQueue = readQueueFactory.create(this);
     this.consumer = consumer;
     this.producer = producer;
+    this.maxBatchSize = Long.MAX_VALUE;
   }
 
   public InboundMessageQueue(EventExecutor producer, EventExecutor consumer, InboundReadQueue.Factory readQueueFactory) {
     this.readQueue = readQueueFactory.create(this);
     this.consumer = consumer;
     this.producer = producer;
+    this.maxBatchSize = Long.MAX_VALUE;
+  }
+
+  /**
+   * Create a queue accepting messages from any thread, the producers are not signaled of the queue writability.
+   * <p/>
+   * Messages are drained in batches on the consumer thread, a producer schedules a drain only when the queue
+   * transitions from empty to non-empty. A drain handles at most {@code maxBatchSize} messages before yielding
+   * the consumer thread to other tasks.
+   *
+   * @param consumer the consumer executor
+   * @param maxBatchSize the max number of messages handled by a drain
+   */
+  public InboundMessageQueue(EventExecutor consumer, int maxBatchSize) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("Invalid max batch size: " + maxBatchSize);
+    }
+    this.readQueue = InboundReadQueue.MPSC.create(this, 0, Integer.MAX_VALUE);
+    this.consumer = consumer;
+    this.producer = null;
+    this.maxBatchSize = maxBatchSize;
   }
 
   public InboundMessageQueue(EventExecutor producer, EventExecutor consumer, int lowWaterMark, int highWaterMark) {
@@ -63,6 +86,7 @@ public class InboundMessageQueue<M> implements Predicate<M>, Runnable {
     this.readQueue = readQueueFactory.create(this, lowWaterMark, highWaterMark);
     this.consumer = consumer;
     this.producer = consumer;
+    this.maxBatchSize = Long.MAX_VALUE;
   }
 
   @Override
@@ -106,7 +130,7 @@ public class InboundMessageQueue<M> implements Predicate<M>, Runnable {
    * @return {@code true} when a {@link #drain()} should be called.
    */
   public final boolean add(M msg) {
-    assert producer.inThread();
+    assert producer == null || producer.inThread();
     int res = readQueue.add(msg);
     if ((res & InboundReadQueue.QUEUE_UNWRITABLE_MASK) != 0) {
       handlePause();
@@ -144,7 +168,7 @@ public class InboundMessageQueue<M> implements Predicate<M>, Runnable {
    * Schedule a drain operation on the context thread.
    */
   public final void drain() {
-    assert producer.inThread();
+    assert producer == null || producer.inThread();
     if (consumer.inThread()) {
       drainInternal();
     } else {
@@ -152,6 +176,14 @@ public class InboundMessageQueue<M> implements Predicate<M>, Runnable {
     }
   }
 
+  /**
+   * Schedule a drain operation on the context thread, unlike {@link #drain()} the drain is never executed
+   * by the caller thread.
+   */
+  public final void scheduleDrain() {
+    consumer.execute(this::drainInternal);
+  }
+
   /**
    * Task executed from context thread.
    */
@@ -166,14 +198,18 @@ public class InboundMessageQueue<M> implements Predicate<M>, Runnable {
   private void drainInternal() {
     draining = true;
     try {
-      int res = readQueue.drain();
+      int res = readQueue.drain(maxBatchSize);
       needsDrain = (res & InboundReadQueue.DRAIN_REQUIRED_MASK) != 0;
-      if ((res & InboundReadQueue.QUEUE_WRITABLE_MASK) != 0) {
+      if ((res & InboundReadQueue.QUEUE_WRITABLE_MASK) != 0 && producer != null) {
         producer.execute(this::handleResume);
       }
     } finally {
       draining = false;
     }
+    if (needsDrain && maxBatchSize != Long.MAX_VALUE && demand > 0L) {
+      // The batch is exhausted, yield to other tasks and resume draining after them
+      consumer.execute(this);
+    }
   }
 
   /**
@@ -33,13 +33,26 @@ import java.util.concurrent.TimeUnit;
 public class SslChannelProvider {
 
   private final Executor workerPool;
+  private final Executor handshakeExecutor;
   private final boolean sni;
   private final SslContextProvider sslContextProvider;
 
   public SslChannelProvider(VertxInternal vertx,
                             SslContextProvider sslContextProvider,
                             boolean sni) {
+    this(vertx, sslContextProvider, sni, null);
+  }
+
+  /**
+   * @param handshakeExecutor the executor of the {@code SSLEngine} delegated tasks, when {@code null} the tasks run on
+   *                          the internal worker pool or the event loop according to the SSL engine options
+   */
+  public SslChannelProvider(VertxInternal vertx,
+                            SslContextProvider sslContextProvider,
+                            boolean sni,
+                            Executor handshakeExecutor) {
     this.workerPool = vertx.getInternalWorkerPool().executor();
+    this.handshakeExecutor = handshakeExecutor;
     this.sni = sni;
     this.sslContextProvider = sslContextProvider;
   }
@@ -51,7 +64,7 @@ public class SslChannelProvider {
   public SslHandler createClientSslHandler(SocketAddress peerAddress, String serverName, boolean useAlpn, long sslHandshakeTimeout, TimeUnit sslHandshakeTimeoutUnit) {
     SslContext sslContext = sslContextProvider.sslClientContext(serverName, useAlpn);
     SslHandler sslHandler;
-    Executor delegatedTaskExec = sslContextProvider.useWorkerPool() ? workerPool : ImmediateExecutor.INSTANCE;
+    Executor delegatedTaskExec = delegatedTaskExecutor();
     if (peerAddress != null && peerAddress.isInetSocket()) {
       sslHandler = sslContext.newHandler(ByteBufAllocator.DEFAULT, peerAddress.host(), peerAddress.port(), delegatedTaskExec);
     } else {
@@ -71,7 +84,7 @@ public class SslChannelProvider {
 
   private SslHandler createServerSslHandler(boolean useAlpn, long sslHandshakeTimeout, TimeUnit sslHandshakeTimeoutUnit, HostAndPort remoteAddress) {
     SslContext sslContext = sslContextProvider.sslServerContext(useAlpn);
-    Executor delegatedTaskExec = sslContextProvider.useWorkerPool() ? workerPool : ImmediateExecutor.INSTANCE;
+    Executor delegatedTaskExec = delegatedTaskExecutor();
     SslHandler sslHandler;
     if (remoteAddress != null) {
       sslHandler = sslContext.newHandler(ByteBufAllocator.DEFAULT, remoteAddress.host(), remoteAddress.port(), delegatedTaskExec);
@@ -82,8 +95,15 @@ public class SslChannelProvider {
     return sslHandler;
   }
 
+  private Executor delegatedTaskExecutor() {
+    if (handshakeExecutor != null) {
+      return handshakeExecutor;
+    }
+    return sslContextProvider.useWorkerPool() ? workerPool : ImmediateExecutor.INSTANCE;
+  }
+
   private SniHandler createSniHandler(boolean useAlpn, long sslHandshakeTimeout, TimeUnit sslHandshakeTimeoutUnit, HostAndPort remoteAddress) {
-    Executor delegatedTaskExec = sslContextProvider.useWorkerPool() ? workerPool : ImmediateExecutor.INSTANCE;
+    Executor delegatedTaskExec = delegatedTaskExecutor();
     return new VertxSniHandler(sslContextProvider.serverNameMapping(delegatedTaskExec, useAlpn), sslHandshakeTimeoutUnit.toMillis(sslHandshakeTimeout), delegatedTaskExec, remoteAddress);
   }
 
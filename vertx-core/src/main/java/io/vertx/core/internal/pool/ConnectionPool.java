@@ -97,6 +97,22 @@ public interface ConnectionPool<C> {
     acquire(context, listener, kind).onComplete(handler);
   }
 
+  /**
+   * Create connections ahead of their acquisition until the pool holds {@code n} idle connections, within the limit
+   * of the pool capacity.
+   *
+   * <p> Idle connections are the connections without lease and the connections being created on behalf of no waiter.
+   *
+   * <p> The future is failed when none of the connections could be created, otherwise it is completed with the number
+   * of connections created.
+   *
+   * @param context the context
+   * @param kind the connection kind to create which is an index in the max size array provided when constructing the pool
+   * @param n the number of idle connections
+   * @return the future notified with the result
+   */
+  Future<Integer> warmUp(ContextInternal context, int kind, int n);
+
   /**
    * Cancel a waiter.
    *
@@ -57,6 +57,12 @@ import java.util.function.Predicate;
  * Connections can be evicted from the pool with {@link ConnectionPool#evict(Predicate)}. It
  * can be used to implement keep alive timeout.
  *
+ * <h3>Connection warm-up</h3>
+ *
+ * Connections can be created ahead of their acquisition with {@link ConnectionPool#warmUp(ContextInternal, int, int)}.
+ * Such connections are created with a disposed waiter as initiator, they are counted as idle while they are
+ * created and are then available to the waiters of the pool.
+ *
  * <h3>Waiter lifecycle</h3>
  *
  * Connection requests are done with {@link ConnectionPool#acquire(ContextInternal, int)}. Such request
@@ -303,7 +309,12 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
           if (!waiter.disposed) {
             pool.waiters.addFirst(waiter);
           }
-          return null;
+          return new Task() {
+            @Override
+            public void run() {
+              slot.result.complete(slot.connection);
+            }
+          };
         }
         LeaseImpl<C> lease;
         int c;
@@ -650,6 +661,88 @@ public class SimpleConnectionPool<C> implements ConnectionPool<C> {
     return fut;
   }
 
+  private static class WarmUp<C> implements Executor.Action<SimpleConnectionPool<C>> {
+
+    private final ContextInternal context;
+    private final int capacity;
+    private final int n;
+    private final Promise<Integer> handler;
+
+    public WarmUp(ContextInternal context, int capacity, int n, Promise<Integer> handler) {
+      this.context = context;
+      this.capacity = capacity;
+      this.n = n;
+      this.handler = handler;
+    }
+
+    @Override
+    public Task execute(SimpleConnectionPool<C> pool) {
+      if (pool.closed) {
+        return new Task() {
+          @Override
+          public void run() {
+            handler.handle(POOL_CLOSED);
+          }
+        };
+      }
+      int idle = 0;
+      for (int i = 0;i < pool.size;i++) {
+        Slot<C> slot = pool.slots[i];
+        if (slot.connection != null ? slot.usage == 0 : (slot.initiator != null && slot.initiator.disposed)) {
+          idle++;
+        }
+      }
+      List<Slot<C>> created = new ArrayList<>();
+      while (idle < n && pool.capacity < pool.maxCapacity) {
+        pool.capacity += capacity;
+        ContextInternal connectionContext = pool.contextProvider.apply(context);
+        Slot<C> slot = new Slot<>(pool, connectionContext, pool.size, capacity);
+        // The connection is created on behalf of no waiter, it remains in the pool once connected
+        PoolWaiter<C> initiator = new PoolWaiter<>(null, context, capacity, Promise.promise());
+        initiator.disposed = true;
+        slot.initiator = initiator;
+        pool.slots[pool.size++] = slot;
+        pool.requests++;
+        created.add(slot);
+        idle++;
+      }
+      return new Task() {
+        @Override
+        public void run() {
+          if (created.isEmpty()) {
+            handler.complete(0);
+            return;
+          }
+          List<Future<C>> results = new ArrayList<>(created.size());
+          for (Slot<C> slot : created) {
+            results.add(slot.result.future());
+            pool.connect(slot, slot.initiator);
+          }
+          Future.join(results).onComplete(ar -> {
+            int count = 0;
+            for (Future<C> result : results) {
+              if (result.succeeded()) {
+                count++;
+              }
+            }
+            if (count == 0) {
+              handler.fail(results.get(0).cause());
+            } else {
+              handler.complete(count);
+            }
+          });
+        }
+      };
+    }
+  }
+
+  @Override
+  public Future<Integer> warmUp(ContextInternal context, int kind, int n) {
+    Promise<Integer> promise = context.promise();
+    execute(new WarmUp<>(context, capacityFactors[kind], n, promise));
+    return promise.future();
+  }
+
   @Override
   public Future<Boolean> cancel(PoolWaiter<C> waiter) {
     Promise<Boolean> promise = Promise.promise();
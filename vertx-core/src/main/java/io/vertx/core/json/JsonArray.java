@@ -12,6 +12,7 @@
 package io.vertx.core.json;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.impl.JsonUtil;
 import io.vertx.core.shareddata.ClusterSerializable;
 import io.vertx.core.shareddata.Shareable;
 
@@ -40,6 +41,7 @@ import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareable {
 
   private List<Object> list;
+  private boolean frozen;
 
   /**
    * Create an instance from a String of JSON, this string must be a valid array otherwise an exception will be thrown.
@@ -603,6 +605,38 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareab
     return new JsonArray(copiedList);
   }
 
+  /**
+   * Freeze this JSON array, a frozen array is deeply immutable and can be shared safely without being copied, e.g.
+   * the event-bus delivers a frozen array to local consumers by reference instead of copying it for each consumer.
+   * <p>
+   * Nested JSON objects and arrays are frozen, binary values are turned into read-only buffers. Any attempt to modify
+   * a frozen array throws an {@link UnsupportedOperationException}, {@link #copy()} returns a mutable copy.
+   * <p>
+   * The values are copied once in a new storage, this array must not be modified through a reference
+   * to its previous storage.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JsonArray freeze() {
+    if (!frozen) {
+      List<Object> frozenList = new ArrayList<>(list.size());
+      for (Object val : list) {
+        frozenList.add(JsonUtil.freeze(val));
+      }
+      list = Collections.unmodifiableList(frozenList);
+      frozen = true;
+    }
+    return this;
+  }
+
+  /**
+   * @return whether this array is frozen
+   * @see #freeze()
+   */
+  public boolean isFrozen() {
+    return frozen;
+  }
+
   /**
    * Get a Stream over the entries in the JSON array. The values in the stream will follow
    * the same rules as defined in {@link #getValue(int)}, respecting the JSON requirements.
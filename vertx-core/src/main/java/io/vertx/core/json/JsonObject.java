@@ -11,6 +11,7 @@
 package io.vertx.core.json;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.impl.JsonUtil;
 import io.vertx.core.shareddata.ClusterSerializable;
 import io.vertx.core.shareddata.Shareable;
 
@@ -38,6 +39,7 @@ import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterSerializable, Shareable {
 
   private Map<String, Object> map;
+  private boolean frozen;
 
   /**
    * Create an instance from a string of JSON
@@ -1075,7 +1077,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject copy(Function<Object, ?> cloner) {
     Map<String, Object> copiedMap;
-    if (map instanceof LinkedHashMap) {
+    if (map instanceof LinkedHashMap || frozen) {
       copiedMap = new LinkedHashMap<>(map.size());
     } else {
       copiedMap = new HashMap<>(map.size());
@@ -1087,6 +1089,38 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     return new JsonObject(copiedMap);
   }
 
+  /**
+   * Freeze this JSON object, a frozen object is deeply immutable and can be shared safely without being copied, e.g.
+   * the event-bus delivers a frozen object to local consumers by reference instead of copying it for each consumer.
+   * <p>
+   * Nested JSON objects and arrays are frozen, binary values are turned into read-only buffers. Any attempt to modify
+   * a frozen object throws an {@link UnsupportedOperationException}, {@link #copy()} returns a mutable copy.
+   * <p>
+   * The entries are copied once in a new storage, this object must not be modified through a reference
+   * to its previous storage.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  public JsonObject freeze() {
+    if (!frozen) {
+      Map<String, Object> frozenMap = new LinkedHashMap<>(map.size());
+      for (Map.Entry<String, Object> entry : map.entrySet()) {
+        frozenMap.put(entry.getKey(), JsonUtil.freeze(entry.getValue()));
+      }
+      map = Collections.unmodifiableMap(frozenMap);
+      frozen = true;
+    }
+    return this;
+  }
+
+  /**
+   * @return whether this object is frozen
+   * @see #freeze()
+   */
+  public boolean isFrozen() {
+    return frozen;
+  }
+
   /**
    * Get the underlying {@code Map} as is.
    * <p>
@@ -89,6 +89,11 @@ public final class JsonUtil {
     } else if (val instanceof CharSequence) {
       // CharSequences are not immutable, so we force toString() to become immutable
       val = val.toString();
+    } else if (val instanceof Buffer) {
+      // A read-only buffer returns itself from copy(), the copy of a frozen value must be mutable
+      Buffer buffer = (Buffer) val;
+      Buffer copy = buffer.copy();
+      val = copy != buffer ? copy : Buffer.buffer(buffer.getBytes());
     } else if (val instanceof Shareable) {
       // Shareable objects know how to copy themselves, this covers:
       // JsonObject, JsonArray, Buffer or any user defined type that can shared across the cluster
@@ -109,6 +114,33 @@ public final class JsonUtil {
     return val;
   }
 
+  /**
+   * Freeze a JSON value, JSON containers are frozen, binary values are turned into read-only buffers and character
+   * sequences into strings. Other values are returned as is.
+   *
+   * @param val the value
+   * @return the frozen value
+   */
+  @SuppressWarnings("unchecked")
+  public static Object freeze(Object val) {
+    if (val instanceof JsonObject) {
+      val = ((JsonObject) val).freeze();
+    } else if (val instanceof JsonArray) {
+      val = ((JsonArray) val).freeze();
+    } else if (val instanceof Map) {
+      val = new JsonObject((Map) val).freeze();
+    } else if (val instanceof List) {
+      val = new JsonArray((List) val).freeze();
+    } else if (val instanceof Buffer) {
+      val = ((Buffer) val).asReadOnly();
+    } else if (val instanceof byte[]) {
+      val = Buffer.buffer((byte[]) val).asReadOnly();
+    } else if (val instanceof CharSequence && !(val instanceof String)) {
+      val = val.toString();
+    }
+    return val;
+  }
+
   public static <T> Stream<T> asStream(Iterator<T> sourceIterator) {
     Iterable<T> iterable = () -> sourceIterator;
     return StreamSupport.stream(iterable.spliterator(), false);
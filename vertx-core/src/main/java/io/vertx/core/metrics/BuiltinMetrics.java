@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.metrics;
+
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.metrics.impl.BuiltinMetricsFactory;
+import io.vertx.core.spi.VertxMetricsFactory;
+import io.vertx.core.spi.metrics.VertxMetrics;
+
+/**
+ * Built-in low overhead metrics.
+ * <p/>
+ * The built-in metrics are opt-in, they are enabled with {@link MetricsOptions#setEnabled(boolean)} and
+ * the {@link #factory()} of this interface:
+ *
+ * <pre>
+ * Vertx vertx = Vertx.builder()
+ *   .with(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true)))
+ *   .withMetrics(BuiltinMetrics.factory())
+ *   .build();
+ * BuiltinMetrics metrics = BuiltinMetrics.metrics(vertx);
+ * </pre>
+ *
+ * Counters are striped and latencies are recorded in lock-free log-linear histograms with a relative
+ * error of 12.5%, in nanoseconds.
+ */
+@VertxGen
+public interface BuiltinMetrics {
+
+  /**
+   * @return a factory of built-in metrics to be used with {@link io.vertx.core.VertxBuilder#withMetrics(VertxMetricsFactory)}
+   */
+  @GenIgnore
+  static VertxMetricsFactory factory() {
+    return new BuiltinMetricsFactory();
+  }
+
+  /**
+   * @param vertx the vertx instance
+   * @return the built-in metrics of the {@code vertx} instance or {@code null} when the instance does not use them
+   */
+  static BuiltinMetrics metrics(Vertx vertx) {
+    VertxMetrics metrics = ((VertxInternal) vertx).metricsSPI();
+    return metrics instanceof BuiltinMetrics ? (BuiltinMetrics) metrics : null;
+  }
+
+  /**
+   * Take a snapshot of all the metrics as a JSON object, the keys are the metric family names and the values are
+   * arrays of labelled metric values.
+   *
+   * @return the snapshot
+   */
+  JsonObject snapshot();
+
+  /**
+   * Take a snapshot of all the metrics in the Prometheus text exposition format.
+   *
+   * @return the snapshot
+   */
+  Buffer prometheus();
+
+}
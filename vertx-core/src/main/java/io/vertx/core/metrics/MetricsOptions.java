@@ -30,7 +30,13 @@ public class MetricsOptions {
    */
   public static final boolean DEFAULT_METRICS_ENABLED = false;
 
+  /**
+   * The default event-loop sampling interval = 1000 ms
+   */
+  public static final long DEFAULT_EVENT_LOOP_SAMPLING_INTERVAL = 1000;
+
   private boolean enabled;
+  private long eventLoopSamplingInterval;
   private JsonObject json; // Keep a copy of the original json, so we don't lose info when building options subclasses
 
   /**
@@ -38,6 +44,7 @@ public class MetricsOptions {
    */
   public MetricsOptions() {
     enabled = DEFAULT_METRICS_ENABLED;
+    eventLoopSamplingInterval = DEFAULT_EVENT_LOOP_SAMPLING_INTERVAL;
   }
 
   /**
@@ -47,6 +54,7 @@ public class MetricsOptions {
    */
   public MetricsOptions(MetricsOptions other) {
     enabled = other.isEnabled();
+    eventLoopSamplingInterval = other.getEventLoopSamplingInterval();
   }
 
   /**
@@ -80,6 +88,28 @@ public class MetricsOptions {
     return this;
   }
 
+  /**
+   * @return the event-loop sampling interval in milliseconds
+   */
+  public long getEventLoopSamplingInterval() {
+    return eventLoopSamplingInterval;
+  }
+
+  /**
+   * Set the interval at which event-loops scheduling lag and pending tasks are sampled, a value of {@code 0}
+   * disables the sampling.
+   *
+   * @param eventLoopSamplingInterval the interval in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MetricsOptions setEventLoopSamplingInterval(long eventLoopSamplingInterval) {
+    if (eventLoopSamplingInterval < 0) {
+      throw new IllegalArgumentException("eventLoopSamplingInterval must be >= 0");
+    }
+    this.eventLoopSamplingInterval = eventLoopSamplingInterval;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = this.json;
     if (json == null) {
@@ -93,6 +123,7 @@ public class MetricsOptions {
   public String toString() {
     return "MetricsOptions{" +
       "enabled=" + enabled +
+      ", eventLoopSamplingInterval=" + eventLoopSamplingInterval +
       ", json=" + json +
       '}';
   }
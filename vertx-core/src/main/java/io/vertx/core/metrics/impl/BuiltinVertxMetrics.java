@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.datagram.DatagramSocketOptions;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.metrics.BuiltinMetrics;
+import io.vertx.core.net.NetClientOptions;
+import io.vertx.core.net.NetServerOptions;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Built-in metrics, the root of the metric groups.
+ */
+public class BuiltinVertxMetrics implements VertxMetrics, BuiltinMetrics {
+
+  private final CopyOnWriteArrayList<MetricGroup> groups = new CopyOnWriteArrayList<>();
+
+  void register(MetricGroup group) {
+    groups.add(group);
+  }
+
+  void unregister(MetricGroup group) {
+    groups.remove(group);
+  }
+
+  @Override
+  public boolean isMetricsEnabled() {
+    return true;
+  }
+
+  @Override
+  public EventBusMetrics<?> createEventBusMetrics() {
+    return new EventBusMetricsImpl(this);
+  }
+
+  @Override
+  public HttpServerMetrics<?, ?, ?> createHttpServerMetrics(HttpServerOptions options, SocketAddress localAddress) {
+    return new HttpServerMetricsImpl(this, String.valueOf(localAddress));
+  }
+
+  @Override
+  public ClientMetrics<?, ?, ?> createClientMetrics(SocketAddress remoteAddress, String type, String namespace) {
+    return new ClientMetricsImpl<>(this, "vertx_client", "type", type, "namespace", String.valueOf(namespace), "remote", String.valueOf(remoteAddress));
+  }
+
+  @Override
+  public HttpClientMetrics<?, ?, ?> createHttpClientMetrics(HttpClientOptions options) {
+    return new HttpClientMetricsImpl(this);
+  }
+
+  @Override
+  public TCPMetrics<?> createNetServerMetrics(NetServerOptions options, SocketAddress localAddress) {
+    return new TCPMetricsImpl(this, "vertx_net_server", "local", String.valueOf(localAddress));
+  }
+
+  @Override
+  public TCPMetrics<?> createNetClientMetrics(NetClientOptions options) {
+    return new TCPMetricsImpl(this, "vertx_net_client");
+  }
+
+  @Override
+  public DatagramSocketMetrics createDatagramSocketMetrics(DatagramSocketOptions options) {
+    return new DatagramSocketMetricsImpl(this);
+  }
+
+  @Override
+  public EventLoopMetrics createEventLoopMetrics(String name) {
+    return new EventLoopMetricsImpl(this, name);
+  }
+
+  @Override
+  public TaskQueueMetrics createTaskQueueMetrics(String name) {
+    return new TaskQueueMetricsImpl(this, String.valueOf(name));
+  }
+
+  @Override
+  public PoolMetrics<?, ?> createPoolMetrics(String type, String name, int maxSize) {
+    return new PoolMetricsImpl(this, type, name, maxSize);
+  }
+
+  @Override
+  public JsonObject snapshot() {
+    JsonObject snapshot = new JsonObject();
+    for (MetricGroup group : groups) {
+      JsonObject entry = new JsonObject();
+      for (int i = 0;i < group.labels.length;i += 2) {
+        entry.put(group.labels[i], group.labels[i + 1]);
+      }
+      group.collect(new MetricGroup.Collector() {
+        @Override
+        public void counter(String name, long value) {
+          entry.put(name, value);
+        }
+        @Override
+        public void gauge(String name, long value) {
+          entry.put(name, value);
+        }
+        @Override
+        public void histogram(String name, Histogram.Snapshot snapshot) {
+          entry.put(name, snapshot.toJson());
+        }
+      });
+      JsonArray array = snapshot.getJsonArray(group.family);
+      if (array == null) {
+        array = new JsonArray();
+        snapshot.put(group.family, array);
+      }
+      array.add(entry);
+    }
+    return snapshot;
+  }
+
+  @Override
+  public Buffer prometheus() {
+    // Samples of a metric must be contiguous, they are grouped per metric name
+    Map<String, StringBuilder> metrics = new LinkedHashMap<>();
+    for (MetricGroup group : groups) {
+      String labels = prometheusLabels(group.labels);
+      group.collect(new MetricGroup.Collector() {
+        @Override
+        public void counter(String name, long value) {
+          String metric = group.family + "_" + name + "_total";
+          sample(metric, "counter", metric, labels, null, value);
+        }
+        @Override
+        public void gauge(String name, long value) {
+          String metric = group.family + "_" + name;
+          sample(metric, "gauge", metric, labels, null, value);
+        }
+        @Override
+        public void histogram(String name, Histogram.Snapshot snapshot) {
+          String metric = group.family + "_" + name;
+          sample(metric, "summary", metric, labels, "0.5", snapshot.valueAt(0.5));
+          sample(metric, "summary", metric, labels, "0.9", snapshot.valueAt(0.9));
+          sample(metric, "summary", metric, labels, "0.99", snapshot.valueAt(0.99));
+          sample(metric, "summary", metric, labels, "0.999", snapshot.valueAt(0.999));
+          sample(metric, "summary", metric + "_sum", labels, null, snapshot.sum());
+          sample(metric, "summary", metric + "_count", labels, null, snapshot.count());
+        }
+        private void sample(String metric, String type, String sample, String labels, String quantile, long value) {
+          StringBuilder sb = metrics.get(metric);
+          if (sb == null) {
+            sb = new StringBuilder("# TYPE ").append(metric).append(' ').append(type).append('\n');
+            metrics.put(metric, sb);
+          }
+          sb.append(sample);
+          if (quantile != null) {
+            sb.append('{').append(labels);
+            if (!labels.isEmpty()) {
+              sb.append(',');
+            }
+            sb.append("quantile=\"").append(quantile).append("\"}");
+          } else if (!labels.isEmpty()) {
+            sb.append('{').append(labels).append('}');
+          }
+          sb.append(' ').append(value).append('\n');
+        }
+      });
+    }
+    Buffer buffer = Buffer.buffer();
+    for (StringBuilder sb : metrics.values()) {
+      buffer.appendString(sb.toString());
+    }
+    return buffer;
+  }
+
+  private static String prometheusLabels(String[] labels) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0;i < labels.length;i += 2) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append(labels[i]).append("=\"");
+      String value = labels[i + 1];
+      for (int j = 0;j < value.length();j++) {
+        char c = value.charAt(j);
+        switch (c) {
+          case '\\':
+            sb.append("\\\\");
+            break;
+          case '"':
+            sb.append("\\\"");
+            break;
+          case '\n':
+            sb.append("\\n");
+            break;
+          default:
+            sb.append(c);
+        }
+      }
+      sb.append('"');
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.spi.metrics.ClientMetrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request/response metrics of a client endpoint.
+ */
+class ClientMetricsImpl<Req, Resp> extends MetricGroup implements ClientMetrics<RequestMetric, Req, Resp> {
+
+  final LongAdder connections = new LongAdder();
+  final LongAdder requests = new LongAdder();
+  final LongAdder inflight = new LongAdder();
+  final LongAdder resets = new LongAdder();
+  final Histogram responseTime = new Histogram();
+
+  ClientMetricsImpl(BuiltinVertxMetrics registry, String family, String... labels) {
+    super(registry, family, labels);
+  }
+
+  @Override
+  public RequestMetric requestBegin(String uri, Req request) {
+    requests.increment();
+    inflight.increment();
+    return new RequestMetric();
+  }
+
+  @Override
+  public void requestReset(RequestMetric requestMetric) {
+    if (!requestMetric.reset) {
+      requestMetric.reset = true;
+      inflight.decrement();
+      resets.increment();
+    }
+  }
+
+  @Override
+  public void responseEnd(RequestMetric requestMetric, long bytesRead) {
+    if (requestMetric.reset) {
+      return;
+    }
+    requestMetric.reset = true;
+    inflight.decrement();
+    responseTime.record(requestMetric.elapsed());
+  }
+
+  @Override
+  void collect(Collector collector) {
+    collector.gauge("connections", connections.sum());
+    collector.counter("requests", requests.sum());
+    collector.gauge("inflight_requests", inflight.sum());
+    collector.counter("resets", resets.sum());
+    collector.histogram("response_time_nanoseconds", responseTime.snapshot());
+  }
+}
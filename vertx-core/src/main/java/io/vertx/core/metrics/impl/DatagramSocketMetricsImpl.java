@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.DatagramSocketMetrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Datagram socket metrics.
+ */
+class DatagramSocketMetricsImpl extends MetricGroup implements DatagramSocketMetrics {
+
+  final LongAdder bytesRead = new LongAdder();
+  final LongAdder bytesWritten = new LongAdder();
+  final LongAdder errors = new LongAdder();
+
+  DatagramSocketMetricsImpl(BuiltinVertxMetrics registry) {
+    super(registry, "vertx_datagram");
+  }
+
+  @Override
+  public void bytesRead(Void socketMetric, SocketAddress remoteAddress, long numberOfBytes) {
+    bytesRead.add(numberOfBytes);
+  }
+
+  @Override
+  public void bytesWritten(Void socketMetric, SocketAddress remoteAddress, long numberOfBytes) {
+    bytesWritten.add(numberOfBytes);
+  }
+
+  @Override
+  public void exceptionOccurred(Void socketMetric, SocketAddress remoteAddress, Throwable t) {
+    errors.increment();
+  }
+
+  @Override
+  void collect(Collector collector) {
+    collector.counter("bytes_read", bytesRead.sum());
+    collector.counter("bytes_written", bytesWritten.sum());
+    collector.counter("errors", errors.sum());
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.ReplyFailure;
+import io.vertx.core.spi.metrics.EventBusMetrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Event bus metrics.
+ */
+class EventBusMetricsImpl extends MetricGroup implements EventBusMetrics<Void> {
+
+  final LongAdder handlers = new LongAdder();
+  final LongAdder pending = new LongAdder();
+  final LongAdder delivered = new LongAdder();
+  final LongAdder discarded = new LongAdder();
+  final LongAdder sent = new LongAdder();
+  final LongAdder published = new LongAdder();
+  final LongAdder received = new LongAdder();
+  final LongAdder bytesWritten = new LongAdder();
+  final LongAdder bytesRead = new LongAdder();
+  final LongAdder replyFailures = new LongAdder();
+
+  EventBusMetricsImpl(BuiltinVertxMetrics registry) {
+    super(registry, "vertx_eventbus");
+  }
+
+  @Override
+  public Void handlerRegistered(String address) {
+    handlers.increment();
+    return null;
+  }
+
+  @Override
+  public void handlerUnregistered(Void handler) {
+    handlers.decrement();
+  }
+
+  @Override
+  public void scheduleMessage(Void handler, boolean local) {
+    pending.increment();
+  }
+
+  @Override
+  public void discardMessage(Void handler, boolean local, Message<?> msg) {
+    pending.decrement();
+    discarded.increment();
+  }
+
+  @Override
+  public void messageDelivered(Void handler, boolean local) {
+    pending.decrement();
+    delivered.increment();
+  }
+
+  @Override
+  public void messageSent(String address, boolean publish, boolean local, boolean remote) {
+    (publish ? published : sent).increment();
+  }
+
+  @Override
+  public void messageReceived(String address, boolean publish, boolean local, int handlers) {
+    received.increment();
+  }
+
+  @Override
+  public void messageWritten(String address, int numberOfBytes) {
+    bytesWritten.add(numberOfBytes);
+  }
+
+  @Override
+  public void messageRead(String address, int numberOfBytes) {
+    bytesRead.add(numberOfBytes);
+  }
+
+  @Override
+  public void replyFailure(String address, ReplyFailure failure) {
+    replyFailures.increment();
+  }
+
+  @Override
+  void collect(Collector collector) {
+    collector.gauge("handlers", handlers.sum());
+    collector.gauge("pending", pending.sum());
+    collector.counter("delivered", delivered.sum());
+    collector.counter("discarded", discarded.sum());
+    collector.counter("sent", sent.sum());
+    collector.counter("published", published.sum());
+    collector.counter("received", received.sum());
+    collector.counter("bytes_written", bytesWritten.sum());
+    collector.counter("bytes_read", bytesRead.sum());
+    collector.counter("reply_failures", replyFailures.sum());
+  }
+}
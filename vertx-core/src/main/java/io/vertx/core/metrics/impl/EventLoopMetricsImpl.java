@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.spi.metrics.EventLoopMetrics;
+
+/**
+ * Event-loop metrics.
+ */
+class EventLoopMetricsImpl extends MetricGroup implements EventLoopMetrics {
+
+  final Histogram lag = new Histogram();
+  final Histogram taskTime = new Histogram();
+  volatile int pendingTasks;
+
+  EventLoopMetricsImpl(BuiltinVertxMetrics registry, String name) {
+    super(registry, "vertx_eventloop", "name", name);
+  }
+
+  @Override
+  public void lag(long nanos) {
+    lag.record(nanos);
+  }
+
+  @Override
+  public void pendingTasks(int count) {
+    pendingTasks = count;
+  }
+
+  @Override
+  public void taskExecuted(long nanos) {
+    taskTime.record(nanos);
+  }
+
+  @Override
+  void collect(Collector collector) {
+    collector.gauge("pending_tasks", pendingTasks);
+    collector.histogram("lag_nanoseconds", lag.snapshot());
+    collector.histogram("task_time_nanoseconds", taskTime.snapshot());
+  }
+}
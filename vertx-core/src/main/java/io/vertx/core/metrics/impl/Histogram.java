@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free log-linear histogram of positive {@code long} values.
+ * <p/>
+ * Each power of two range is divided in {@link #SUB_BUCKETS} linear buckets, bounding the relative error of
+ * a recorded value to {@code 1 / SUB_BUCKETS}. Values are recorded in a stripe selected by the recording thread,
+ * event-loop threads therefore record in their own stripe without contention. Stripes are allocated lazily.
+ */
+public final class Histogram {
+
+  static final int SUB_BUCKET_BITS = 3;
+  static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  // Slot holding the sum of recorded values after the buckets
+  private static final int SUM_SLOT = BUCKETS;
+  private static final int MAX_SLOT = BUCKETS + 1;
+  private static final int STRIPES;
+
+  static {
+    int stripes = 1;
+    while (stripes < Runtime.getRuntime().availableProcessors() * 2) {
+      stripes <<= 1;
+    }
+    STRIPES = stripes;
+  }
+
+  /**
+   * @return the bucket index of {@code value}
+   */
+  static int index(long value) {
+    if (value < SUB_BUCKETS) {
+      return value < 0 ? 0 : (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+  }
+
+  /**
+   * @return the highest value recorded in the bucket at {@code index}
+   */
+  static long upperBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int shift = (index >> SUB_BUCKET_BITS) - 1;
+    long sub = index & (SUB_BUCKETS - 1);
+    return ((SUB_BUCKETS + sub + 1) << shift) - 1;
+  }
+
+  private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPES);
+
+  /**
+   * Record a value, negative values are recorded as {@code 0}.
+   *
+   * @param value the value to record
+   */
+  public void record(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+    AtomicLongArray stripe = stripe();
+    stripe.incrementAndGet(index(value));
+    stripe.addAndGet(SUM_SLOT, value);
+    long max = stripe.get(MAX_SLOT);
+    if (value > max) {
+      // Only the owner thread of the stripe updates it in the common case
+      stripe.accumulateAndGet(MAX_SLOT, value, Math::max);
+    }
+  }
+
+  private AtomicLongArray stripe() {
+    int idx = (int) (Thread.currentThread().getId() & (STRIPES - 1));
+    AtomicLongArray stripe = stripes.get(idx);
+    if (stripe == null) {
+      stripe = new AtomicLongArray(BUCKETS + 2);
+      if (!stripes.compareAndSet(idx, null, stripe)) {
+        stripe = stripes.get(idx);
+      }
+    }
+    return stripe;
+  }
+
+  /**
+   * @return a consistent enough view of the recorded values
+   */
+  public Snapshot snapshot() {
+    long[] counts = new long[BUCKETS];
+    long sum = 0L;
+    long max = 0L;
+    for (int i = 0;i < STRIPES;i++) {
+      AtomicLongArray stripe = stripes.get(i);
+      if (stripe != null) {
+        for (int j = 0;j < BUCKETS;j++) {
+          counts[j] += stripe.get(j);
+        }
+        sum += stripe.get(SUM_SLOT);
+        max = Math.max(max, stripe.get(MAX_SLOT));
+      }
+    }
+    return new Snapshot(counts, sum, max);
+  }
+
+  /**
+   * An immutable view of a histogram.
+   */
+  public static final class Snapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    private Snapshot(long[] counts, long sum, long max) {
+      long count = 0L;
+      for (long c : counts) {
+        count += c;
+      }
+      this.counts = counts;
+      this.count = count;
+      this.sum = sum;
+      this.max = max;
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long count() {
+      return count;
+    }
+
+    /**
+     * @return the sum of recorded values
+     */
+    public long sum() {
+      return sum;
+    }
+
+    /**
+     * @return the max recorded value
+     */
+    public long max() {
+      return max;
+    }
+
+    /**
+     * @param quantile the quantile between {@code 0} and {@code 1}
+     * @return the upper bound of the bucket containing the value at the {@code quantile}, never exceeding the max
+     */
+    public long valueAt(double quantile) {
+      if (count == 0L) {
+        return 0L;
+      }
+      long rank = (long) Math.ceil(quantile * count);
+      if (rank < 1) {
+        rank = 1;
+      }
+      long acc = 0L;
+      for (int i = 0;i < counts.length;i++) {
+        acc += counts[i];
+        if (acc >= rank) {
+          return Math.min(upperBound(i), max);
+        }
+      }
+      return max;
+    }
+
+    public JsonObject toJson() {
+      return new JsonObject()
+        .put("count", count)
+        .put("sum", sum)
+        .put("max", max)
+        .put("p50", valueAt(0.5))
+        .put("p90", valueAt(0.9))
+        .put("p99", valueAt(0.99))
+        .put("p999", valueAt(0.999));
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.http.WebSocket;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.core.spi.metrics.HttpClientMetrics;
+import io.vertx.core.spi.observability.HttpRequest;
+import io.vertx.core.spi.observability.HttpResponse;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP client metrics, request metrics are reported per endpoint.
+ */
+class HttpClientMetricsImpl extends TCPMetricsImpl implements HttpClientMetrics<RequestMetric, Void, Void> {
+
+  private final BuiltinVertxMetrics registry;
+  final LongAdder webSockets = new LongAdder();
+
+  HttpClientMetricsImpl(BuiltinVertxMetrics registry) {
+    super(registry, "vertx_http_client");
+    this.registry = registry;
+  }
+
+  @Override
+  public ClientMetrics<RequestMetric, HttpRequest, HttpResponse> createEndpointMetrics(SocketAddress remoteAddress, int maxPoolSize) {
+    return new ClientMetricsImpl<>(registry, "vertx_http_client_endpoint", "remote", String.valueOf(remoteAddress));
+  }
+
+  @Override
+  public void endpointConnected(ClientMetrics<RequestMetric, ?, ?> endpointMetric) {
+    ((ClientMetricsImpl<?, ?>) endpointMetric).connections.increment();
+  }
+
+  @Override
+  public void endpointDisconnected(ClientMetrics<RequestMetric, ?, ?> endpointMetric) {
+    ((ClientMetricsImpl<?, ?>) endpointMetric).connections.decrement();
+  }
+
+  @Override
+  public Void connected(WebSocket webSocket) {
+    webSockets.increment();
+    return null;
+  }
+
+  @Override
+  public void disconnected(Void webSocketMetric) {
+    webSockets.decrement();
+  }
+
+  @Override
+  void collect(Collector collector) {
+    super.collect(collector);
+    collector.gauge("web_sockets", webSockets.sum());
+  }
+}
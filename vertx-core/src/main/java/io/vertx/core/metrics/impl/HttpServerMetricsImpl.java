@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+import io.vertx.core.spi.observability.HttpRequest;
+import io.vertx.core.spi.observability.HttpResponse;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP server metrics.
+ */
+class HttpServerMetricsImpl extends TCPMetricsImpl implements HttpServerMetrics<RequestMetric, Void, Void> {
+
+  private static final String[] STATUS_CLASSES = { "responses_1xx", "responses_2xx", "responses_3xx", "responses_4xx", "responses_5xx" };
+
+  final LongAdder requests = new LongAdder();
+  final LongAdder activeRequests = new LongAdder();
+  final LongAdder resets = new LongAdder();
+  final LongAdder webSockets = new LongAdder();
+  final LongAdder[] responses = new LongAdder[STATUS_CLASSES.length];
+  final Histogram responseTime = new Histogram();
+
+  HttpServerMetricsImpl(BuiltinVertxMetrics registry, String localAddress) {
+    super(registry, "vertx_http_server", "local", localAddress);
+    for (int i = 0;i < responses.length;i++) {
+      responses[i] = new LongAdder();
+    }
+  }
+
+  @Override
+  public RequestMetric requestBegin(Void socketMetric, HttpRequest request) {
+    requests.increment();
+    activeRequests.increment();
+    return new RequestMetric();
+  }
+
+  @Override
+  public RequestMetric responsePushed(Void socketMetric, HttpMethod method, String uri, HttpResponse response) {
+    return requestBegin(null, null);
+  }
+
+  @Override
+  public void requestReset(RequestMetric requestMetric) {
+    if (!requestMetric.reset) {
+      requestMetric.reset = true;
+      activeRequests.decrement();
+      resets.increment();
+    }
+  }
+
+  @Override
+  public void responseEnd(RequestMetric requestMetric, HttpResponse response, long bytesWritten) {
+    if (requestMetric.reset) {
+      return;
+    }
+    requestMetric.reset = true;
+    activeRequests.decrement();
+    responseTime.record(requestMetric.elapsed());
+    int idx = response.statusCode() / 100 - 1;
+    if (idx >= 0 && idx < responses.length) {
+      responses[idx].increment();
+    }
+  }
+
+  @Override
+  public Void connected(Void socketMetric, RequestMetric requestMetric, ServerWebSocket serverWebSocket) {
+    webSockets.increment();
+    return null;
+  }
+
+  @Override
+  public void disconnected(Void serverWebSocketMetric) {
+    webSockets.decrement();
+  }
+
+  @Override
+  void collect(Collector collector) {
+    super.collect(collector);
+    collector.counter("requests", requests.sum());
+    collector.gauge("active_requests", activeRequests.sum());
+    collector.counter("resets", resets.sum());
+    collector.gauge("web_sockets", webSockets.sum());
+    for (int i = 0;i < responses.length;i++) {
+      collector.counter(STATUS_CLASSES[i], responses[i].sum());
+    }
+    collector.histogram("response_time_nanoseconds", responseTime.snapshot());
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.spi.metrics.Metrics;
+
+/**
+ * A group of metrics sharing a family name and a set of labels, registered in {@link BuiltinVertxMetrics} until
+ * closed.
+ */
+abstract class MetricGroup implements Metrics {
+
+  /**
+   * Receives the values of a group.
+   */
+  interface Collector {
+
+    void counter(String name, long value);
+
+    void gauge(String name, long value);
+
+    void histogram(String name, Histogram.Snapshot snapshot);
+
+  }
+
+  private final BuiltinVertxMetrics registry;
+  final String family;
+  final String[] labels;
+
+  /**
+   * @param registry the registry
+   * @param family the family name
+   * @param labels the label names and values, interleaved
+   */
+  MetricGroup(BuiltinVertxMetrics registry, String family, String... labels) {
+    this.registry = registry;
+    this.family = family;
+    this.labels = labels;
+    registry.register(this);
+  }
+
+  /**
+   * Report the values of this group to the {@code collector}.
+   */
+  abstract void collect(Collector collector);
+
+  @Override
+  public void close() {
+    registry.unregister(this);
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.spi.metrics.PoolMetrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool metrics.
+ */
+class PoolMetricsImpl extends MetricGroup implements PoolMetrics<RequestMetric, RequestMetric> {
+
+  private final int maxSize;
+  final LongAdder queued = new LongAdder();
+  final LongAdder inUse = new LongAdder();
+  final LongAdder completed = new LongAdder();
+  final Histogram queueTime = new Histogram();
+  final Histogram usageTime = new Histogram();
+
+  PoolMetricsImpl(BuiltinVertxMetrics registry, String type, String name, int maxSize) {
+    super(registry, "vertx_pool", "type", type, "name", name);
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public RequestMetric enqueue() {
+    queued.increment();
+    return new RequestMetric();
+  }
+
+  @Override
+  public void dequeue(RequestMetric queueMetric) {
+    queued.decrement();
+    queueTime.record(queueMetric.elapsed());
+  }
+
+  @Override
+  public RequestMetric begin() {
+    inUse.increment();
+    return new RequestMetric();
+  }
+
+  @Override
+  public void end(RequestMetric t) {
+    inUse.decrement();
+    completed.increment();
+    usageTime.record(t.elapsed());
+  }
+
+  @Override
+  void collect(Collector collector) {
+    collector.gauge("max_size", maxSize);
+    collector.gauge("queued", queued.sum());
+    collector.gauge("in_use", inUse.sum());
+    collector.counter("completed", completed.sum());
+    collector.histogram("queue_time_nanoseconds", queueTime.snapshot());
+    collector.histogram("usage_time_nanoseconds", usageTime.snapshot());
+  }
+}
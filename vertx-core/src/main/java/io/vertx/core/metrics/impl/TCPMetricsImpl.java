@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.TCPMetrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection and bytes metrics of a TCP server or client.
+ */
+class TCPMetricsImpl extends MetricGroup implements TCPMetrics<Void> {
+
+  final LongAdder connections = new LongAdder();
+  final LongAdder bytesRead = new LongAdder();
+  final LongAdder bytesWritten = new LongAdder();
+  final LongAdder errors = new LongAdder();
+  final Histogram connectionWindowSize = new Histogram();
+  final Histogram streamWindowSize = new Histogram();
+
+  TCPMetricsImpl(BuiltinVertxMetrics registry, String family, String... labels) {
+    super(registry, family, labels);
+  }
+
+  @Override
+  public Void connected(SocketAddress remoteAddress, String remoteName) {
+    connections.increment();
+    return null;
+  }
+
+  @Override
+  public void disconnected(Void socketMetric, SocketAddress remoteAddress) {
+    connections.decrement();
+  }
+
+  @Override
+  public void bytesRead(Void socketMetric, SocketAddress remoteAddress, long numberOfBytes) {
+    bytesRead.add(numberOfBytes);
+  }
+
+  @Override
+  public void bytesWritten(Void socketMetric, SocketAddress remoteAddress, long numberOfBytes) {
+    bytesWritten.add(numberOfBytes);
+  }
+
+  @Override
+  public void exceptionOccurred(Void socketMetric, SocketAddress remoteAddress, Throwable t) {
+    errors.increment();
+  }
+
+  @Override
+  public void windowSizeChanged(Void socketMetric, int connectionWindowSize, int streamWindowSize) {
+    this.connectionWindowSize.record(connectionWindowSize);
+    this.streamWindowSize.record(streamWindowSize);
+  }
+
+  @Override
+  void collect(Collector collector) {
+    collector.gauge("connections", connections.sum());
+    collector.counter("bytes_read", bytesRead.sum());
+    collector.counter("bytes_written", bytesWritten.sum());
+    collector.counter("errors", errors.sum());
+    Histogram.Snapshot connectionWindowSizes = connectionWindowSize.snapshot();
+    if (connectionWindowSizes.count() > 0) {
+      // Only HTTP/2 connections with window auto-tuning report it
+      collector.histogram("connection_window_size_bytes", connectionWindowSizes);
+      collector.histogram("stream_window_size_bytes", streamWindowSize.snapshot());
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.metrics.impl;
+
+import io.vertx.core.spi.metrics.TaskQueueMetrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ordered task queue metrics, aggregated per worker pool.
+ */
+class TaskQueueMetricsImpl extends MetricGroup implements TaskQueueMetrics {
+
+  final LongAdder backlog = new LongAdder();
+  final LongAdder queued = new LongAdder();
+  final LongAdder rejected = new LongAdder();
+  final Histogram waitTime = new Histogram();
+
+  TaskQueueMetricsImpl(BuiltinVertxMetrics registry, String pool) {
+    super(registry, "vertx_task_queue", "pool", pool);
+  }
+
+  @Override
+  public void taskQueued() {
+    backlog.increment();
+    queued.increment();
+  }
+
+  @Override
+  public void taskDequeued(long waitNanos) {
+    backlog.decrement();
+    waitTime.record(waitNanos);
+  }
+
+  @Override
+  public void taskRejected() {
+    backlog.decrement();
+    rejected.increment();
+  }
+
+  @Override
+  void collect(Collector collector) {
+    collector.gauge("backlog", backlog.sum());
+    collector.counter("queued", queued.sum());
+    collector.counter("rejected", rejected.sum());
+    collector.histogram("wait_time_nanoseconds", waitTime.snapshot());
+  }
+}
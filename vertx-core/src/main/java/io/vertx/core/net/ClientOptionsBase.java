@@ -334,6 +334,11 @@ public abstract class ClientOptionsBase extends TCPSSLOptions {
     return (ClientOptionsBase) super.setReusePort(reusePort);
   }
 
+  @Override
+  public ClientOptionsBase setFlushConsolidationOptions(FlushConsolidationOptions flushConsolidationOptions) {
+    return (ClientOptionsBase) super.setFlushConsolidationOptions(flushConsolidationOptions);
+  }
+
   @Override
   public ClientOptionsBase setTrafficClass(int trafficClass) {
     return (ClientOptionsBase) super.setTrafficClass(trafficClass);
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.net;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options configuring how a connection consolidates the flushes of the writes performed outside of a read, e.g. from
+ * a timer or an event-bus consumer.
+ * <p>
+ * Writes performed while a connection reads are always flushed when the read completes. Without consolidation,
+ * other writes are flushed immediately, each costing a system call. With consolidation, such writes are flushed
+ * at the end of the current batch of event-loop tasks, or earlier when the number of unflushed writes or bytes
+ * reaches a limit.
+ * <p>
+ * HTTP/2 connections apply it to the frames of all their streams and also coalesce the flow control window updates
+ * of an event-loop cycle.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class FlushConsolidationOptions {
+
+  /**
+   * The default max number of unflushed writes = 256
+   */
+  public static final int DEFAULT_MAX_WRITES = 256;
+
+  /**
+   * The default max number of unflushed bytes = 65536
+   */
+  public static final int DEFAULT_MAX_BYTES = 64 * 1024;
+
+  private int maxWrites;
+  private int maxBytes;
+
+  public FlushConsolidationOptions() {
+    maxWrites = DEFAULT_MAX_WRITES;
+    maxBytes = DEFAULT_MAX_BYTES;
+  }
+
+  public FlushConsolidationOptions(FlushConsolidationOptions other) {
+    this.maxWrites = other.getMaxWrites();
+    this.maxBytes = other.getMaxBytes();
+  }
+
+  public FlushConsolidationOptions(JsonObject json) {
+    this();
+    FlushConsolidationOptionsConverter.fromJson(json, this);
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    FlushConsolidationOptionsConverter.toJson(this, json);
+    return json;
+  }
+
+  /**
+   * @return the max number of unflushed writes
+   */
+  public int getMaxWrites() {
+    return maxWrites;
+  }
+
+  /**
+   * Set the max number of unflushed writes, the connection is flushed when this number is reached.
+   *
+   * @param maxWrites the max number of writes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FlushConsolidationOptions setMaxWrites(int maxWrites) {
+    Arguments.require(maxWrites > 0, "maxWrites must be > 0");
+    this.maxWrites = maxWrites;
+    return this;
+  }
+
+  /**
+   * @return the max number of unflushed bytes
+   */
+  public int getMaxBytes() {
+    return maxBytes;
+  }
+
+  /**
+   * Set the max number of unflushed bytes, the connection is flushed when this number is reached.
+   *
+   * @param maxBytes the max number of bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FlushConsolidationOptions setMaxBytes(int maxBytes) {
+    Arguments.require(maxBytes > 0, "maxBytes must be > 0");
+    this.maxBytes = maxBytes;
+    return this;
+  }
+}
@@ -125,6 +125,12 @@ public class NetClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public NetClientOptions setFlushConsolidationOptions(FlushConsolidationOptions flushConsolidationOptions) {
+    super.setFlushConsolidationOptions(flushConsolidationOptions);
+    return this;
+  }
+
   @Override
   public NetClientOptions setTrafficClass(int trafficClass) {
     super.setTrafficClass(trafficClass);
@@ -170,6 +170,12 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  @Override
+  public NetServerOptions setFlushConsolidationOptions(FlushConsolidationOptions flushConsolidationOptions) {
+    super.setFlushConsolidationOptions(flushConsolidationOptions);
+    return this;
+  }
+
   @Override
   public NetServerOptions setTrafficClass(int trafficClass) {
     super.setTrafficClass(trafficClass);
@@ -415,6 +421,25 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * @return the options of the pool running the TLS handshakes
+   */
+  public SSLHandshakeOffloadOptions getSslHandshakeOffloadOptions() {
+    ServerSSLOptions o = getSslOptions();
+    return o != null ? o.getHandshakeOffloadOptions() : null;
+  }
+
+  /**
+   * Run the TLS handshakes of the server on a dedicated pool instead of the event loop of the connection.
+   *
+   * @param handshakeOffloadOptions the options of the pool or {@code null} to run them on the event loop
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetServerOptions setSslHandshakeOffloadOptions(SSLHandshakeOffloadOptions handshakeOffloadOptions) {
+    getOrCreateSSLOptions().setHandshakeOffloadOptions(handshakeOffloadOptions);
+    return this;
+  }
+
   /**
    * @return whether the server uses the HA Proxy protocol
    */
@@ -107,6 +107,22 @@ public interface NetSocket extends ReadStream<Buffer>, WriteStream<Buffer> {
    */
   Future<Void> write(String str, String enc);
 
+  /**
+   * Write a list of buffers to the connection, e.g. the header, body and trailer segments of a message.
+   * <p>
+   * The buffers are written as a single message with a single result, the implementation does not copy them.
+   *
+   * @param buffers  the buffers to write
+   * @return a future completed with the result
+   */
+  default Future<Void> writeAll(List<Buffer> buffers) {
+    Buffer buffer = Buffer.buffer();
+    for (Buffer b : buffers) {
+      buffer.appendBuffer(b);
+    }
+    return write(buffer);
+  }
+
   /**
    * Tell the operating system to stream a file as specified by {@code filename} directly from disk to the outgoing connection,
    * bypassing userspace altogether (where supported by the underlying operating system. This is a very efficient way to stream files.
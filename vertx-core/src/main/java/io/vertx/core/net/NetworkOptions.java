@@ -67,6 +67,7 @@ public abstract class NetworkOptions {
   private boolean logActivity;
   private ByteBufFormat activityLogDataFormat;
   private boolean reusePort;
+  private FlushConsolidationOptions flushConsolidationOptions;
 
   /**
    * Default constructor
@@ -94,6 +95,7 @@ public abstract class NetworkOptions {
     this.trafficClass = other.getTrafficClass();
     this.logActivity = other.logActivity;
     this.activityLogDataFormat = other.activityLogDataFormat;
+    this.flushConsolidationOptions = other.flushConsolidationOptions != null ? new FlushConsolidationOptions(other.flushConsolidationOptions) : null;
   }
 
   /**
@@ -250,4 +252,23 @@ public abstract class NetworkOptions {
     this.reusePort = reusePort;
     return this;
   }
+
+  /**
+   * @return the flush consolidation options, or {@code null} when flush consolidation is disabled
+   */
+  public FlushConsolidationOptions getFlushConsolidationOptions() {
+    return flushConsolidationOptions;
+  }
+
+  /**
+   * Set the options consolidating the flushes of the writes performed outside of a read, by default such writes
+   * are flushed immediately.
+   *
+   * @param flushConsolidationOptions the options, {@code null} disables flush consolidation
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetworkOptions setFlushConsolidationOptions(FlushConsolidationOptions flushConsolidationOptions) {
+    this.flushConsolidationOptions = flushConsolidationOptions;
+    return this;
+  }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.net;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.impl.cpu.CpuCoreSensor;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Objects;
+
+/**
+ * Options configuring the pool running the TLS handshakes of a server.
+ * <p>
+ * The {@code SSLEngine} delegated tasks of the handshakes, which carry the key exchange and signature computations,
+ * run on a named worker pool instead of the event loop of the connection. The pool is shared by the servers using the
+ * same name and reports its queue with the worker pool metrics.
+ * <p>
+ * When the max queue size is set, the server closes new connections while the number of queued handshake tasks
+ * exceeds it, so established connections keep being served during reconnect storms.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class SSLHandshakeOffloadOptions {
+
+  /**
+   * The default pool name = "vert.x-ssl-handshake-thread"
+   */
+  public static final String DEFAULT_POOL_NAME = "vert.x-ssl-handshake-thread";
+
+  /**
+   * The default pool size = the number of available processors
+   */
+  public static final int DEFAULT_POOL_SIZE = CpuCoreSensor.availableProcessors();
+
+  /**
+   * The default max queue size = -1 (new handshakes are never shed)
+   */
+  public static final int DEFAULT_MAX_QUEUE_SIZE = -1;
+
+  private String poolName;
+  private int poolSize;
+  private int maxQueueSize;
+
+  public SSLHandshakeOffloadOptions() {
+    poolName = DEFAULT_POOL_NAME;
+    poolSize = DEFAULT_POOL_SIZE;
+    maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+  }
+
+  public SSLHandshakeOffloadOptions(SSLHandshakeOffloadOptions other) {
+    this.poolName = other.getPoolName();
+    this.poolSize = other.getPoolSize();
+    this.maxQueueSize = other.getMaxQueueSize();
+  }
+
+  public SSLHandshakeOffloadOptions(JsonObject json) {
+    this();
+    SSLHandshakeOffloadOptionsConverter.fromJson(json, this);
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    SSLHandshakeOffloadOptionsConverter.toJson(this, json);
+    return json;
+  }
+
+  /**
+   * @return the name of the pool
+   */
+  public String getPoolName() {
+    return poolName;
+  }
+
+  /**
+   * Set the name of the pool running the handshakes, servers using the same name share the pool.
+   *
+   * @param poolName the pool name
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SSLHandshakeOffloadOptions setPoolName(String poolName) {
+    Objects.requireNonNull(poolName, "poolName must not be null");
+    this.poolName = poolName;
+    return this;
+  }
+
+  /**
+   * @return the number of threads of the pool
+   */
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  /**
+   * Set the number of threads of the pool.
+   *
+   * @param poolSize the pool size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SSLHandshakeOffloadOptions setPoolSize(int poolSize) {
+    Arguments.require(poolSize > 0, "poolSize must be > 0");
+    this.poolSize = poolSize;
+    return this;
+  }
+
+  /**
+   * @return the max number of queued handshake tasks before new connections are shed
+   */
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  /**
+   * Set the max number of handshake tasks waiting for a thread of the pool, when the queue exceeds this size the
+   * server closes new connections before their handshake begins. The default value {@code -1} never sheds connections.
+   *
+   * @param maxQueueSize the max queue size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SSLHandshakeOffloadOptions setMaxQueueSize(int maxQueueSize) {
+    Arguments.require(maxQueueSize >= -1, "maxQueueSize must be >= -1");
+    this.maxQueueSize = maxQueueSize;
+    return this;
+  }
+}
@@ -39,6 +39,7 @@ public class ServerSSLOptions extends SSLOptions {
 
   private ClientAuth clientAuth;
   private boolean sni;
+  private SSLHandshakeOffloadOptions handshakeOffloadOptions;
 
   /**
    * Default constructor
@@ -56,6 +57,7 @@ public class ServerSSLOptions extends SSLOptions {
     super(other);
     clientAuth = other.clientAuth;
     sni = other.sni;
+    handshakeOffloadOptions = other.handshakeOffloadOptions != null ? new SSLHandshakeOffloadOptions(other.handshakeOffloadOptions) : null;
   }
 
   /**
@@ -73,6 +75,7 @@ public class ServerSSLOptions extends SSLOptions {
     super.init();
     this.clientAuth = DEFAULT_CLIENT_AUTH;
     this.sni = DEFAULT_SNI;
+    this.handshakeOffloadOptions = null;
   }
 
   public ServerSSLOptions copy() {
@@ -113,6 +116,27 @@ public class ServerSSLOptions extends SSLOptions {
     return this;
   }
 
+  /**
+   * @return the options of the pool running the TLS handshakes or {@code null} when handshakes run on the event loop
+   */
+  public SSLHandshakeOffloadOptions getHandshakeOffloadOptions() {
+    return handshakeOffloadOptions;
+  }
+
+  /**
+   * Run the TLS handshakes of the server on a dedicated pool instead of the event loop of the connection, a {@code null}
+   * value (the default) runs them on the event loop.
+   * <p>
+   * This takes precedence over {@link SSLEngineOptions#setUseWorkerThread(boolean)}.
+   *
+   * @param handshakeOffloadOptions the options of the pool
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ServerSSLOptions setHandshakeOffloadOptions(SSLHandshakeOffloadOptions handshakeOffloadOptions) {
+    this.handshakeOffloadOptions = handshakeOffloadOptions;
+    return this;
+  }
+
   @Override
   public ServerSSLOptions setKeyCertOptions(KeyCertOptions options) {
     return (ServerSSLOptions) super.setKeyCertOptions(options);
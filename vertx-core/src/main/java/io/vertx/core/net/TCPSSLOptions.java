@@ -782,4 +782,9 @@ public abstract class TCPSSLOptions extends NetworkOptions {
   public TCPSSLOptions setReusePort(boolean reusePort) {
     return (TCPSSLOptions) super.setReusePort(reusePort);
   }
+
+  @Override
+  public TCPSSLOptions setFlushConsolidationOptions(FlushConsolidationOptions flushConsolidationOptions) {
+    return (TCPSSLOptions) super.setFlushConsolidationOptions(flushConsolidationOptions);
+  }
 }
@@ -19,4 +19,5 @@ public class DefaultInteractionMetric {
   long responseBegin;
   long responseEnd;
   Throwable failure;
+  boolean cancelled;
 }
@@ -21,6 +21,7 @@ public class DefaultInteractionMetrics implements InteractionMetrics<DefaultInte
   private final LongAdder numberOfInflightRequests = new LongAdder();
   private final LongAdder numberOfRequests = new LongAdder();
   private final LongAdder numberOfFailures = new LongAdder();
+  private final LongAdder numberOfHedgedRequests = new LongAdder();
   private final AtomicLong minResponseTime = new AtomicLong(Long.MAX_VALUE);
   private final AtomicLong maxResponseTime = new AtomicLong(0);
 
@@ -33,13 +34,26 @@ public class DefaultInteractionMetrics implements InteractionMetrics<DefaultInte
 
   @Override
   public void reportFailure(DefaultInteractionMetric metric, Throwable failure) {
-    if (metric.failure == null) {
+    if (metric.failure == null && !metric.cancelled) {
       metric.failure = failure;
       numberOfInflightRequests.decrement();
       numberOfFailures.increment();
     }
   }
 
+  @Override
+  public void reportHedge(DefaultInteractionMetric metric) {
+    numberOfHedgedRequests.increment();
+  }
+
+  @Override
+  public void reportCancellation(DefaultInteractionMetric metric) {
+    if (metric.failure == null && !metric.cancelled && metric.responseEnd == 0L) {
+      metric.cancelled = true;
+      numberOfInflightRequests.decrement();
+    }
+  }
+
   @Override
   public void reportRequestBegin(DefaultInteractionMetric metric) {
     metric.requestBegin = System.currentTimeMillis();
@@ -58,7 +72,7 @@ public class DefaultInteractionMetrics implements InteractionMetrics<DefaultInte
   @Override
   public void reportResponseEnd(DefaultInteractionMetric metric) {
     metric.responseEnd = System.currentTimeMillis();
-    if (metric.failure == null) {
+    if (metric.failure == null && !metric.cancelled) {
       reportRequestMetric(metric);
       numberOfInflightRequests.decrement();
     }
@@ -101,6 +115,13 @@ public class DefaultInteractionMetrics implements InteractionMetrics<DefaultInte
     return numberOfFailures.intValue();
   }
 
+  /**
+   * @return the total number of hedged requests
+   */
+  public int numberOfHedgedRequests() {
+    return numberOfHedgedRequests.intValue();
+  }
+
   /**
    * @return the min response time
    */
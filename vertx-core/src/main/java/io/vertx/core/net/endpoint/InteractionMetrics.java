@@ -68,4 +68,19 @@ public interface InteractionMetrics<M> {
    */
   default void reportResponseEnd(M metric) {
   }
+
+  /**
+   * Signal the request attached to the {@code metric} is a hedged request
+   * @param metric the request metric
+   */
+  default void reportHedge(M metric) {
+  }
+
+  /**
+   * Signal the cancellation of the request/response attached to the {@code metric}, the request might have been
+   * sent and the response is discarded
+   * @param metric the request metric
+   */
+  default void reportCancellation(M metric) {
+  }
 }
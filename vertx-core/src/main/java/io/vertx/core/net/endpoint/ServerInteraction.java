@@ -48,4 +48,16 @@ public interface ServerInteraction {
    */
   void reportResponseEnd();
 
+  /**
+   * The request is a hedged request, sent because another server did not respond in time.
+   */
+  default void reportHedge() {
+  }
+
+  /**
+   * The request has been cancelled, e.g. the hedged request sent to another server responded first.
+   */
+  default void reportCancellation() {
+  }
+
 }
@@ -275,6 +275,14 @@ public class EndpointResolverImpl<S, A extends Address, N> implements EndpointRe
         public void reportFailure(Throwable failure) {
           metrics.reportFailure(metric, failure);
         }
+        @Override
+        public void reportHedge() {
+          metrics.reportHedge(metric);
+        }
+        @Override
+        public void reportCancellation() {
+          metrics.reportCancellation(metric);
+        }
       };
     }
     @Override
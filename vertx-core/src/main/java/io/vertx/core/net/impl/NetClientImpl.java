@@ -402,6 +402,7 @@ class NetClientImpl implements NetClientInternal {
       registerWriteHandlers));
     handler.removeHandler(NetSocketImpl::unregisterEventBusHandler);
     handler.addHandler(sock -> {
+      sock.flushConsolidation(options.getFlushConsolidationOptions());
       if (metrics != null) {
         sock.metric(metrics.connected(sock.remoteAddress(), sock.remoteName()));
       }
@@ -81,6 +81,7 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServerInter
   private volatile Future<SslContextProvider> sslContextProvider;
   private Future<SslContextProvider> updateInProgress;
   private GlobalTrafficShapingHandler trafficShapingHandler;
+  private SslHandshakeExecutor handshakeExecutor;
   private ServerChannelLoadBalancer channelBalancer;
   private Future<Channel> bindFuture;
   private Set<NetServerImpl> servers;
@@ -220,7 +221,13 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServerInter
 
     private void configurePipeline(Channel ch, SslContextProvider sslContextProvider, SslContextManager sslContextManager, ServerSSLOptions sslOptions) {
       if (options.isSsl()) {
-        SslChannelProvider sslChannelProvider = new SslChannelProvider(vertx, sslContextProvider, sslOptions.isSni());
+        SslHandshakeExecutor handshakeExecutor = actualServer.handshakeExecutor;
+        if (handshakeExecutor != null && handshakeExecutor.isSaturated()) {
+          // Shed the connection before its handshake begins
+          ch.close();
+          return;
+        }
+        SslChannelProvider sslChannelProvider = new SslChannelProvider(vertx, sslContextProvider, sslOptions.isSni(), handshakeExecutor);
         ch.pipeline().addLast("ssl", sslChannelProvider.createServerHandler(options.isUseAlpn(), options.getSslHandshakeTimeout(),
           options.getSslHandshakeTimeoutUnit(), HttpUtils.socketAddressToHostAndPort(ch.remoteAddress())));
         ChannelPromise p = ch.newPromise();
@@ -252,6 +259,7 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServerInter
       VertxHandler<NetSocketImpl> handler = VertxHandler.create(ctx -> new NetSocketImpl(context, ctx, sslContextManager, sslOptions, metrics, options.isRegisterWriteHandler()));
       handler.removeHandler(NetSocketImpl::unregisterEventBusHandler);
       handler.addHandler(conn -> {
+        conn.flushConsolidation(options.getFlushConsolidationOptions());
         if (metrics != null) {
           conn.metric(metrics.connected(conn.remoteAddress(), conn.remoteName()));
         }
@@ -454,6 +462,10 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServerInter
           configure(sslOptions);
           sslContextProvider = sslContextManager.resolveSslContextProvider(sslOptions, null, sslOptions.getClientAuth(), sslOptions.getApplicationLayerProtocols(), listenContext).onComplete(ar -> {
             if (ar.succeeded()) {
+              SSLHandshakeOffloadOptions handshakeOffloadOptions = sslOptions.getHandshakeOffloadOptions();
+              if (handshakeOffloadOptions != null) {
+                handshakeExecutor = new SslHandshakeExecutor(vertx, handshakeOffloadOptions);
+              }
               bind(hostOrPath, context, bindAddress, localAddress, shared, promise, sharedNetServers, id);
             } else {
               promise.fail(ar.cause());
@@ -469,6 +481,10 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServerInter
               sharedNetServers.remove(id);
             }
           }
+          if (handshakeExecutor != null) {
+            handshakeExecutor.close();
+            handshakeExecutor = null;
+          }
           listening = false;
         });
 
@@ -648,6 +664,9 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServerInter
         if (metrics != null) {
           a.addListener(cg -> metrics.close());
         }
+        if (handshakeExecutor != null) {
+          a.addListener(cg -> handshakeExecutor.close());
+        }
         a.addListener((PromiseInternal<Void>)done);
       } else {
         done.complete();
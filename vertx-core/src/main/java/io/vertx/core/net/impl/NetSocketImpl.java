@@ -13,6 +13,7 @@ package io.vertx.core.net.impl;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -37,11 +38,14 @@ import io.vertx.core.internal.net.SslHandshakeCompletionHandler;
 import io.vertx.core.net.*;
 import io.vertx.core.internal.net.NetSocketInternal;
 import io.vertx.core.spi.metrics.TCPMetrics;
+import io.vertx.core.spi.transport.Transport;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.core.streams.impl.InboundBuffer;
 
 import java.io.File;
 import java.io.RandomAccessFile;
 import java.nio.charset.Charset;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -50,6 +54,9 @@ import java.util.concurrent.TimeUnit;
  */
 public class NetSocketImpl extends VertxConnection implements NetSocketInternal {
 
+  // The maximum number of bytes spliced at once, metrics are reported for each chunk
+  private static final int SPLICE_CHUNK_SIZE = 64 * 1024;
+
   private final String writeHandlerID;
   private final SslContextManager sslContextManager;
   private final SSLOptions sslOptions;
@@ -64,6 +71,12 @@ public class NetSocketImpl extends VertxConnection implements NetSocketInternal
   private Handler<Object> messageHandler;
   private Handler<Object> eventHandler;
 
+  // Splicing state, only used by event-loop contexts and accessed from the event-loop thread
+  private final boolean eventLoopContext;
+  private final boolean spliceable;
+  private int undelivered;
+  private NetSocketImpl spliceTarget;
+
   public NetSocketImpl(ContextInternal context,
                        ChannelHandlerContext channel,
                        SslContextManager sslContextManager,
@@ -89,6 +102,8 @@ public class NetSocketImpl extends VertxConnection implements NetSocketInternal
     this.metrics = metrics;
     this.messageHandler = new DataMessageHandler();
     this.negotiatedApplicationLayerProtocol = negotiatedApplicationLayerProtocol;
+    this.eventLoopContext = context.isEventLoopContext();
+    this.spliceable = eventLoopContext && prepareSplice(channel.channel());
     this.pending = new InboundMessageQueue<>(context.eventLoop(), context.executor()) {
       @Override
       protected void handleResume() {
@@ -110,6 +125,9 @@ public class NetSocketImpl extends VertxConnection implements NetSocketInternal
           if (handler != null) {
             context.dispatch((Buffer) msg, handler);
           }
+          if (eventLoopContext && --undelivered == 0 && spliceTarget != null) {
+            splice(spliceTarget);
+          }
         }
       }
     };
@@ -162,6 +180,11 @@ public class NetSocketImpl extends VertxConnection implements NetSocketInternal
     return writeMessage(Unpooled.copiedBuffer(str, CharsetUtil.UTF_8));
   }
 
+  @Override
+  public Future<Void> writeAll(List<Buffer> buffers) {
+    return writeMessage(BufferInternal.compositeByteBuf(buffers));
+  }
+
   @Override
   public Future<Void> write(String str, String enc) {
     return writeMessage(Unpooled.copiedBuffer(str, Charset.forName(enc)));
@@ -262,6 +285,74 @@ public class NetSocketImpl extends VertxConnection implements NetSocketInternal
     return promise.future();
   }
 
+  @Override
+  public Future<Void> pipeTo(WriteStream<Buffer> dst) {
+    Future<Void> fut = NetSocketInternal.super.pipeTo(dst);
+    if (dst instanceof NetSocketImpl) {
+      NetSocketImpl socket = (NetSocketImpl) dst;
+      if (supportsSplice(socket)) {
+        // Executed after the pipe resumed this socket
+        chctx.executor().execute(() -> spliceTo(socket));
+      }
+    }
+    return fut;
+  }
+
+  private boolean prepareSplice(Channel ch) {
+    // Must be done before the channel reads any byte
+    Transport transport = vertx.transport();
+    return transport.supportSplice() && ch.eventLoop().inEventLoop() && transport.prepareSplice(ch);
+  }
+
+  private boolean supportsSplice(NetSocketImpl dst) {
+    return spliceable
+      && dst != this
+      && chctx.channel().eventLoop() == dst.chctx.channel().eventLoop()
+      && messageHandler() instanceof DataMessageHandler
+      && supportsSplice()
+      && dst.supportsSplice();
+  }
+
+  /**
+   * Splice the bytes received by this socket to {@code dst}, the bytes already received are delivered first by the pipe
+   * before splicing starts.
+   */
+  private void spliceTo(NetSocketImpl dst) {
+    if (undelivered > 0) {
+      spliceTarget = dst;
+    } else {
+      splice(dst);
+    }
+  }
+
+  private void splice(NetSocketImpl dst) {
+    spliceTarget = null;
+    Channel ch = chctx.channel();
+    if (!ch.isActive() || !dst.chctx.channel().isActive()) {
+      return;
+    }
+    vertx.transport().splice(ch, dst.chctx.channel(), SPLICE_CHUNK_SIZE).addListener(future -> {
+      if (future.isSuccess()) {
+        int spliced = (Integer) future.getNow();
+        if (spliced > 0) {
+          reportBytesRead(spliced);
+          dst.reportBytesWritten(spliced);
+        }
+        if (spliced < SPLICE_CHUNK_SIZE) {
+          // The input has reached its end and every received byte has been spliced, the spliced bytes are sent from a
+          // pipe owned by this channel, closing the socket after they are flushed ends the pipe
+          dst.chctx.writeAndFlush(Unpooled.EMPTY_BUFFER).addListener(v -> chctx.close());
+        } else {
+          splice(dst);
+        }
+      } else if (ch.isActive()) {
+        // The destination failed, the spliced bytes cannot be delivered anymore
+        handleException(future.cause());
+        chctx.close();
+      }
+    });
+  }
+
   public NetSocketImpl exceptionHandler(Handler<Throwable> handler) {
     return (NetSocketImpl) super.exceptionHandler(handler);
   }
@@ -389,6 +480,9 @@ public class NetSocketImpl extends VertxConnection implements NetSocketInternal
     public void handle(Object msg) {
       if (msg instanceof ByteBuf) {
         Buffer buffer = BufferInternal.safeBuffer((ByteBuf) msg);
+        if (eventLoopContext) {
+          undelivered++;
+        }
         pending.write(buffer);
       } else {
         handleInvalid(msg);
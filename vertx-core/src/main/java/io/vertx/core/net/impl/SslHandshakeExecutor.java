@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.impl;
+
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.WorkerPool;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.net.SSLHandshakeOffloadOptions;
+import io.vertx.core.spi.metrics.PoolMetrics;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the {@code SSLEngine} delegated tasks of the server handshakes on a shared worker pool, the tasks are reported
+ * to the pool metrics and counted to shed new connections when the queue is saturated.
+ */
+class SslHandshakeExecutor implements Executor {
+
+  private final WorkerPool pool;
+  private final int maxQueueSize;
+  private final AtomicInteger queueSize = new AtomicInteger();
+
+  SslHandshakeExecutor(VertxInternal vertx, SSLHandshakeOffloadOptions options) {
+    this.pool = vertx.createSharedWorkerPool(options.getPoolName(), options.getPoolSize(), VertxOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME, TimeUnit.NANOSECONDS);
+    this.maxQueueSize = options.getMaxQueueSize();
+  }
+
+  /**
+   * @return the number of tasks waiting for a thread of the pool
+   */
+  int queueSize() {
+    return queueSize.get();
+  }
+
+  /**
+   * @return whether new handshakes should be shed
+   */
+  boolean isSaturated() {
+    return maxQueueSize >= 0 && queueSize.get() > maxQueueSize;
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    execute((PoolMetrics<?, ?>) pool.metrics(), task);
+  }
+
+  private <Q, T> void execute(PoolMetrics<Q, T> metrics, Runnable task) {
+    Q queueMetric = metrics != null ? metrics.enqueue() : null;
+    queueSize.incrementAndGet();
+    try {
+      pool.executor().execute(() -> {
+        queueSize.decrementAndGet();
+        T usageMetric = null;
+        if (metrics != null) {
+          metrics.dequeue(queueMetric);
+          usageMetric = metrics.begin();
+        }
+        try {
+          task.run();
+        } finally {
+          if (metrics != null) {
+            metrics.end(usageMetric);
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      queueSize.decrementAndGet();
+      if (metrics != null) {
+        metrics.dequeue(queueMetric);
+      }
+      throw e;
+    }
+  }
+
+  void close() {
+    pool.close();
+  }
+}
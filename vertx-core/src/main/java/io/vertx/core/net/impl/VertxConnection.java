@@ -13,6 +13,7 @@ package io.vertx.core.net.impl;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
 import io.netty.handler.stream.ChunkedNioFile;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.util.ReferenceCountUtil;
 import io.netty.util.ReferenceCounted;
@@ -27,11 +28,13 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.concurrent.OutboundMessageQueue;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.core.net.FlushConsolidationOptions;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
@@ -69,6 +72,13 @@ public class VertxConnection extends ConnectionBase {
   private Deque<Object> pending;
   private boolean autoRead;
   private ScheduledFuture<?> shutdownTimeout;
+  // Flush consolidation, the max writes is 0 when disabled
+  private int maxUnflushedWrites;
+  private int maxUnflushedBytes;
+  private int unflushedWrites;
+  private long unflushedBytes;
+  private boolean flushScheduled;
+  private Runnable flushTask;
 
   public VertxConnection(ContextInternal context, ChannelHandlerContext chctx) {
     super(context, chctx);
@@ -141,6 +151,23 @@ public class VertxConnection extends ConnectionBase {
     return vertx.transport().supportFileRegion() && !isSsl() &&!isTrafficShaped();
   }
 
+  /**
+   * @return whether the bytes of this connection can be spliced, the bytes must not be transformed or observed by
+   *         a channel handler (SSL, idle state, logging, traffic shaping...)
+   */
+  protected boolean supportsSplice() {
+    if (!vertx.transport().supportSplice()) {
+      return false;
+    }
+    for (Map.Entry<String, ChannelHandler> entry : chctx.pipeline()) {
+      ChannelHandler handler = entry.getValue();
+      if (!(handler instanceof VertxHandler) && !(handler instanceof ChunkedWriteHandler)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   protected void handleShutdown(Object reason, long timeout, TimeUnit unit, ChannelPromise promise) {
     // Assert from event-loop
     ScheduledFuture<?> t = shutdownTimeout;
@@ -205,6 +232,13 @@ public class VertxConnection extends ConnectionBase {
   protected void handleMessage(Object msg) {
   }
 
+  /**
+   * Called when the messages of a read loop have been handled, writes performed by this method are flushed
+   * with the writes performed during the read.
+   */
+  protected void handleReadComplete() {
+  }
+
   void channelWritabilityChanged() {
     channelWritable = chctx.channel().isWritable();
     if (channelWritable) {
@@ -212,19 +246,62 @@ public class VertxConnection extends ConnectionBase {
     }
   }
 
+  /**
+   * Consolidate the flushes of the writes performed outside of a read, this must be called before the connection
+   * performs any write.
+   *
+   * @param options the options, {@code null} disables consolidation
+   */
+  public final void flushConsolidation(FlushConsolidationOptions options) {
+    if (options != null) {
+      maxUnflushedWrites = options.getMaxWrites();
+      maxUnflushedBytes = options.getMaxBytes();
+      flushTask = this::consolidatedFlush;
+    } else {
+      maxUnflushedWrites = 0;
+      maxUnflushedBytes = 0;
+      flushTask = null;
+    }
+  }
+
   /**
    * This method is exclusively called by {@code VertxHandler} to signal read completion on the event-loop thread.
    */
   final void endReadAndFlush() {
     if (read) {
+      handleReadComplete();
       read = false;
       if (needsFlush) {
-        needsFlush = false;
-        chctx.flush();
+        flush0();
       }
     }
   }
 
+  private void flush0() {
+    needsFlush = false;
+    unflushedWrites = 0;
+    unflushedBytes = 0;
+    chctx.flush();
+  }
+
+  private void consolidatedFlush() {
+    flushScheduled = false;
+    // A read or a drain in progress flushes when it ends
+    if (needsFlush && !read && !draining) {
+      flush0();
+    }
+  }
+
+  /**
+   * Schedule a flush at the end of the current batch of event-loop tasks.
+   */
+  private void scheduleFlush() {
+    if (!flushScheduled) {
+      flushScheduled = true;
+      chctx.channel().eventLoop().execute(flushTask);
+    }
+  }
+
   /**
    * This method is exclusively called by {@code VertxHandler} to read a message on the event-loop thread.
    */
@@ -272,6 +349,10 @@ public class VertxConnection extends ConnectionBase {
     if (METRICS_ENABLED) {
       reportsBytesWritten(msg);
     }
+    if (maxUnflushedWrites > 0) {
+      writeConsolidated(msg, forceFlush, promise);
+      return;
+    }
     boolean flush = (!read && !draining) || forceFlush;
     needsFlush = !flush;
     if (flush) {
@@ -281,6 +362,22 @@ public class VertxConnection extends ConnectionBase {
     }
   }
 
+  private void writeConsolidated(Object msg, boolean forceFlush, ChannelPromise promise) {
+    unflushedBytes += sizeof(msg);
+    if (forceFlush || ++unflushedWrites >= maxUnflushedWrites || unflushedBytes >= maxUnflushedBytes) {
+      needsFlush = false;
+      unflushedWrites = 0;
+      unflushedBytes = 0;
+      chctx.writeAndFlush(msg, promise);
+    } else {
+      needsFlush = true;
+      chctx.write(msg, promise);
+      if (!read && !draining) {
+        scheduleFlush();
+      }
+    }
+  }
+
   /**
    * This method is exclusively called on the event-loop thread
    *
@@ -441,8 +538,12 @@ public class VertxConnection extends ConnectionBase {
     protected void stopDraining() {
       draining = false;
       if (!read && needsFlush) {
-        needsFlush = false;
-        chctx.flush();
+        if (flushTask != null) {
+          // Other writes might be queued by the next tasks
+          scheduleFlush();
+        } else {
+          flush0();
+        }
       }
     }
 
@@ -18,10 +18,12 @@ import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.base.ParserBase;
 import com.fasterxml.jackson.core.io.IOContext;
 import com.fasterxml.jackson.core.json.async.NonBlockingJsonParser;
+import io.netty.buffer.ByteBuf;
 import io.vertx.core.Handler;
 import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.impl.Arguments;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -151,9 +153,16 @@ public class JsonParserImpl implements JsonParser {
 
   @Override
   public void handle(Buffer data) {
-    byte[] bytes = data.getBytes();
+    ByteBuf buf = data instanceof BufferInternal ? ((BufferInternal) data).getByteBuf() : null;
     try {
-      parser.feedInput(bytes, 0, bytes.length);
+      if (buf != null && buf.hasArray()) {
+        // The parser consumes the input before returning, avoid copying the content
+        int start = buf.arrayOffset() + buf.readerIndex();
+        parser.feedInput(buf.array(), start, start + buf.readableBytes());
+      } else {
+        byte[] bytes = data.getBytes();
+        parser.feedInput(bytes, 0, bytes.length);
+      }
     } catch (IOException e) {
       handle(e);
     }
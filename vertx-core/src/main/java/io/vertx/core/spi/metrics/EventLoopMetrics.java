@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.spi.metrics;
+
+/**
+ * Event-loop metrics, the scheduling lag and the pending tasks are sampled periodically
+ * according to {@link io.vertx.core.metrics.MetricsOptions#getEventLoopSamplingInterval()}.
+ */
+public interface EventLoopMetrics extends Metrics {
+
+  /**
+   * Report a sample of the scheduling lag of the event-loop, that is the delay between the submission
+   * of a task and its execution.
+   *
+   * @param nanos the lag in nanoseconds
+   */
+  default void lag(long nanos) {
+  }
+
+  /**
+   * Report a sample of the number of tasks pending execution.
+   *
+   * @param count the number of pending tasks
+   */
+  default void pendingTasks(int count) {
+  }
+
+  /**
+   * Signals the event-loop executed a context task.
+   *
+   * @param nanos the execution time of the task in nanoseconds
+   */
+  default void taskExecuted(long nanos) {
+  }
+}
@@ -58,4 +58,14 @@ public interface TCPMetrics<S> extends NetworkMetrics<S> {
   default void disconnected(S socketMetric, SocketAddress remoteAddress) {
   }
 
+  /**
+   * Called when the flow control windows of an HTTP/2 connection are changed by the window auto-tuning.
+   *
+   * @param socketMetric the socket metric
+   * @param connectionWindowSize the new connection window size
+   * @param streamWindowSize the new initial window size of the streams
+   */
+  default void windowSizeChanged(S socketMetric, int connectionWindowSize, int streamWindowSize) {
+  }
+
 }
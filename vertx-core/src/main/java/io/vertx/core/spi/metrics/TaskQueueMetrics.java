@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.spi.metrics;
+
+/**
+ * Metrics of the ordered task queues executing tasks on a worker pool, e.g. ordered {@code executeBlocking}.
+ */
+public interface TaskQueueMetrics extends Metrics {
+
+  /**
+   * Signals a task is added to an ordered task queue.
+   */
+  default void taskQueued() {
+  }
+
+  /**
+   * Signals a task of an ordered task queue begins its execution.
+   *
+   * @param waitNanos the time spent in the queues
+   */
+  default void taskDequeued(long waitNanos) {
+  }
+
+  /**
+   * Signals a task of an ordered task queue is rejected by the worker pool and removed from the queue without
+   * being executed.
+   */
+  default void taskRejected() {
+  }
+}
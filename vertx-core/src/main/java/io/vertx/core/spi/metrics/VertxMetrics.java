@@ -11,6 +11,7 @@
 
 package io.vertx.core.spi.metrics;
 
+import io.vertx.core.DeploymentTimings;
 import io.vertx.core.Vertx;
 import io.vertx.core.datagram.DatagramSocket;
 import io.vertx.core.datagram.DatagramSocketOptions;
@@ -130,6 +131,26 @@ public interface VertxMetrics extends Metrics, Measured {
     return null;
   }
 
+  /**
+   * Provides the event-loop metrics SPI.
+   *
+   * @param name the name of the event-loop
+   * @return the event-loop metrics SPI or {@code null} when metrics are disabled
+   */
+  default EventLoopMetrics createEventLoopMetrics(String name) {
+    return null;
+  }
+
+  /**
+   * Provides the metrics SPI of the ordered task queues of a worker pool.
+   *
+   * @param name the name of the worker pool
+   * @return the task queue metrics SPI or {@code null} when metrics are disabled
+   */
+  default TaskQueueMetrics createTaskQueueMetrics(String name) {
+    return null;
+  }
+
   /**
    * Provides the pool metrics SPI.
    *
@@ -150,4 +171,12 @@ public interface VertxMetrics extends Metrics, Measured {
    */
   default void vertxCreated(Vertx vertx) {
   }
+
+  /**
+   * Callback to signal when a verticle deployment completed successfully.
+   *
+   * @param timings the startup timings of the deployment
+   */
+  default void verticleDeployed(DeploymentTimings timings) {
+  }
 }
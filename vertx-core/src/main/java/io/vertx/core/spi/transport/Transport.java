@@ -13,9 +13,11 @@ package io.vertx.core.spi.transport;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.*;
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.InternetProtocolFamily;
+import io.netty.util.concurrent.Future;
 import io.vertx.core.datagram.DatagramSocketOptions;
 import io.vertx.core.impl.transports.NioTransport;
 import io.vertx.core.net.ClientOptionsBase;
@@ -44,6 +46,42 @@ public interface Transport {
     return true;
   }
 
+  /**
+   * Whether the transport can {@link #splice} the bytes received by a channel to another channel, callers must check
+   * this before calling {@link #prepareSplice} and {@link #splice}.
+   *
+   * @return whether the transport can splice
+   */
+  default boolean supportSplice() {
+    return false;
+  }
+
+  /**
+   * Prepare a channel to be the source of a {@link #splice}, this must be called on the channel event-loop before
+   * the channel reads any byte.
+   *
+   * @param channel the channel receiving the bytes
+   * @return whether bytes received by the channel can be spliced
+   */
+  default boolean prepareSplice(Channel channel) {
+    return false;
+  }
+
+  /**
+   * Splice at most {@code len} bytes received by the {@code from} channel to the {@code to} channel in the kernel, the
+   * bytes are not read by the pipeline of {@code from} nor written by the pipeline of {@code to}. Both channels must be
+   * registered on the same event-loop and {@code from} must have been prepared with {@link #prepareSplice}.
+   *
+   * @param from the channel receiving the bytes
+   * @param to the channel sending the bytes
+   * @param len the maximum number of bytes to splice
+   * @return a future completed with the number of spliced bytes, less than {@code len} when {@code from} has reached
+   *         the end of its input, or failed when either channel failed or the transport cannot splice
+   */
+  default Future<Integer> splice(Channel from, Channel to, int len) {
+    return from.eventLoop().newFailedFuture(new UnsupportedOperationException("Splice is not supported by the transport"));
+  }
+
   /**
    * @return true when the transport is available.
    */
@@ -143,6 +181,19 @@ public interface Transport {
     }
   }
 
+  /**
+   * Create a datagram packet whose content is segmented by the kernel in packets of {@code segmentSize} bytes
+   * (UDP segmentation offload).
+   *
+   * @param content the content of the packets
+   * @param segmentSize the size of the segments
+   * @param recipient the recipient of the packets
+   * @return the packet or {@code null} when the transport does not support UDP segmentation offload
+   */
+  default io.netty.channel.socket.DatagramPacket segmentedDatagramPacket(ByteBuf content, int segmentSize, InetSocketAddress recipient) {
+    return null;
+  }
+
   default void configure(ClientOptionsBase options, int connectTimeout, boolean domainSocket, Bootstrap bootstrap) {
     if (!domainSocket) {
       bootstrap.option(ChannelOption.SO_REUSEADDR, options.isReuseAddress());
@@ -33,7 +33,7 @@ import java.util.function.Predicate;
  *
  * <h3>Adding elements</h3>
  *
- * Only the producer thread can add elements. When the consumer threads adds an element to the queue it tries
+ * Only the producer thread can add elements, unless the queue is created by the {@link #MPSC} factory. When the consumer threads adds an element to the queue it tries
  * to get the ownership of the queue. The {@link #add} method returns a signal indicating that the queue should be
  * drained to make progress: {@link #DRAIN_REQUIRED_MASK} signals the queue contains element that shall be drained.
  *
@@ -86,6 +86,20 @@ public abstract class InboundReadQueue<E> {
     }
   };
 
+  /**
+   * Factory for a queue assuming a single consumer thread and multiple producer threads
+   */
+  public static final Factory MPSC = new Factory() {
+    @Override
+    public <T> InboundReadQueue<T> create(Predicate<T> consumer, int lowWaterMark, int highWaterMark) {
+      return new MpSc<>(consumer, lowWaterMark, highWaterMark);
+    }
+    @Override
+    public <T> InboundReadQueue<T> create(Predicate<T> consumer) {
+      return new MpSc<>(consumer);
+    }
+  };
+
   /**
    * Factory for a queue assuming a same single consumer thread / single producer thread
    */
@@ -340,6 +354,19 @@ public abstract class InboundReadQueue<E> {
     }
   }
 
+  private static class MpSc<E> extends SpSc<E> {
+
+    public MpSc(Predicate<E> consumer) {
+      this(consumer, DEFAULT_LOW_WATER_MARK, DEFAULT_HIGH_WATER_MARK);
+    }
+
+    public MpSc(Predicate<E> consumer, int lowWaterMark, int highWaterMark) {
+      // Only the producer winning the ownership of the queue writes the overflow element, the others
+      // add elements to the queue before incrementing the wip counter
+      super(PlatformDependent.newMpscQueue(), consumer, lowWaterMark, highWaterMark);
+    }
+  }
+
   private static class SpSc<E> extends InboundReadQueue<E> {
 
     private static final AtomicLongFieldUpdater<SpSc<?>> WIP_UPDATER = (AtomicLongFieldUpdater<SpSc<?>>) (AtomicLongFieldUpdater)AtomicLongFieldUpdater.newUpdater(SpSc.class, "wip");
@@ -350,7 +377,11 @@ public abstract class InboundReadQueue<E> {
       this(consumer, DEFAULT_LOW_WATER_MARK, DEFAULT_HIGH_WATER_MARK);
     }
     public SpSc(Predicate<E> consumer, int lowWaterMark, int highWaterMark) {
-      super(PlatformDependent.newSpscQueue(), consumer, lowWaterMark, highWaterMark);
+      this(PlatformDependent.newSpscQueue(), consumer, lowWaterMark, highWaterMark);
+    }
+
+    SpSc(Queue<E> queue, Predicate<E> consumer, int lowWaterMark, int highWaterMark) {
+      super(queue, consumer, lowWaterMark, highWaterMark);
     }
 
     @Override
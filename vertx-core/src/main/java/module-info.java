@@ -26,6 +26,7 @@ module io.vertx.core {
   requires static io.netty.transport.classes.kqueue;
   requires static io.netty.transport.unix.common;
   requires static io.netty.codec.haproxy;
+  requires static com.github.luben.zstd_jni;
 
   // Annotation processing
 
@@ -117,5 +118,6 @@ module io.vertx.core {
   exports io.vertx.core.impl.verticle to io.vertx.core.tests;
   exports io.vertx.core.impl.deployment to io.vertx.core.tests;
   exports io.vertx.core.impl.buffer to io.vertx.core.tests;
+  exports io.vertx.core.metrics.impl to io.vertx.core.tests;
 
 }
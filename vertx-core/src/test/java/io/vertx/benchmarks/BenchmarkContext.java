@@ -25,7 +25,8 @@ public class BenchmarkContext {
   private static final EventExecutor EXECUTOR = new EventExecutor() {
     @Override
     public boolean inThread() {
-      throw new UnsupportedOperationException();
+      // Tasks are executed on the caller thread
+      return true;
     }
     @Override
     public void execute(Runnable command) {
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDictCompress;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.ZstdEncoder;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compares the CPU cost and the compressed size of the content codings a server can use to compress a JSON
+ * response, the {@code compressedBytes} counter divided by the {@code uncompressedBytes} counter gives the
+ * compression ratio.
+ *
+ * <ul>
+ *   <li>{@code gzip}: gzip at level 6, the default</li>
+ *   <li>{@code br}: brotli at level 4</li>
+ *   <li>{@code zstd}: zstd at level 3</li>
+ *   <li>{@code dcz}: zstd at level 3 with a dictionary built from a sample document</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+public class CompressionBenchmark extends BenchmarkBase {
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Counters {
+
+    public long uncompressedBytes;
+    public long compressedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      uncompressedBytes = 0;
+      compressedBytes = 0;
+    }
+  }
+
+  @Param({"gzip", "br", "zstd", "dcz"})
+  public String encoding;
+
+  @Param({"1", "100"})
+  public int documents;
+
+  private byte[] payload;
+  private ZstdDictCompress dictionary;
+
+  private static JsonObject document(int id) {
+    return new JsonObject()
+      .put("id", id)
+      .put("name", "product-" + id)
+      .put("description", "The product number " + id + " of the catalog")
+      .put("tags", new JsonArray().add("catalog").add(id % 2 == 0 ? "even" : "odd"))
+      .put("price", id * 1.5)
+      .put("available", id % 3 != 0);
+  }
+
+  @Setup
+  public void setup() {
+    JsonArray array = new JsonArray();
+    for (int i = 0;i < documents;i++) {
+      array.add(document(i + 1));
+    }
+    payload = array.encode().getBytes(StandardCharsets.UTF_8);
+    if (encoding.equals("dcz")) {
+      dictionary = new ZstdDictCompress(document(0).encode().getBytes(StandardCharsets.UTF_8), 3);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (dictionary != null) {
+      dictionary.close();
+    }
+  }
+
+  private ChannelHandler encoder() {
+    switch (encoding) {
+      case "gzip":
+        return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP, 6, 15, 8);
+      case "br":
+        return new BrotliEncoder(StandardCompressionOptions.brotli().parameters());
+      case "zstd":
+        return new ZstdEncoder(3, 64 * 1024, 32 * 1024 * 1024);
+      case "dcz":
+        return new DictionaryEncoder(dictionary);
+      default:
+        throw new AssertionError();
+    }
+  }
+
+  @Benchmark
+  public long compress(Counters counters) {
+    EmbeddedChannel channel = new EmbeddedChannel(encoder());
+    channel.writeOutbound(Unpooled.wrappedBuffer(payload));
+    channel.finish();
+    long size = 0;
+    ByteBuf buf;
+    while ((buf = channel.readOutbound()) != null) {
+      size += buf.readableBytes();
+      buf.release();
+    }
+    counters.uncompressedBytes += payload.length;
+    counters.compressedBytes += size;
+    return size;
+  }
+
+  /**
+   * Compresses each buffer in a zstd frame with the dictionary, like the server does for the {@code dcz} content coding.
+   */
+  private static class DictionaryEncoder extends MessageToByteEncoder<ByteBuf> {
+
+    private final ZstdDictCompress dictionary;
+    private ZstdCompressCtx ctx;
+
+    DictionaryEncoder(ZstdDictCompress dictionary) {
+      this.dictionary = dictionary;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext chctx) {
+      ctx = new ZstdCompressCtx().loadDict(dictionary);
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext chctx, ByteBuf msg, ByteBuf out) {
+      byte[] compressed = ctx.compress(ByteBufUtil.getBytes(msg));
+      msg.skipBytes(msg.readableBytes());
+      out.writeBytes(compressed);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext chctx) {
+      ctx.close();
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the throughput of a consumer receiving messages sent from other event-loops.
+ */
+@State(Scope.Thread)
+public class EventBusConsumerBenchmark extends BenchmarkBase {
+
+  private static final int MESSAGES = 100_000;
+
+  @Param({"1", "4"})
+  public int producers;
+
+  private Vertx vertx;
+  private EventBus eventBus;
+  private ContextInternal[] producerContexts;
+  private final AtomicInteger remaining = new AtomicInteger();
+  private volatile CountDownLatch done;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx(new VertxOptions().setDisableTCCL(true).setEventLoopPoolSize(producers + 1));
+    eventBus = vertx.eventBus();
+    ContextInternal consumerContext = ((VertxInternal) vertx).createEventLoopContext();
+    Promise<Void> registration = Promise.promise();
+    consumerContext.runOnContext(v -> eventBus
+      .consumer("the-address", msg -> {
+        if (remaining.decrementAndGet() == 0) {
+          done.countDown();
+        }
+      })
+      .completion()
+      .onComplete(registration));
+    registration.future().await(10, TimeUnit.SECONDS);
+    producerContexts = new ContextInternal[producers];
+    for (int i = 0;i < producers;i++) {
+      producerContexts[i] = ((VertxInternal) vertx).createEventLoopContext();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().await(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MESSAGES)
+  public void send() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    done = latch;
+    remaining.set(MESSAGES);
+    int perProducer = MESSAGES / producers;
+    for (int i = 0;i < producers;i++) {
+      int count = i == 0 ? MESSAGES - perProducer * (producers - 1) : perProducer;
+      producerContexts[i].runOnContext(v -> {
+        for (int j = 0;j < count;j++) {
+          eventBus.send("the-address", "the-message");
+        }
+      });
+    }
+    latch.await();
+  }
+}
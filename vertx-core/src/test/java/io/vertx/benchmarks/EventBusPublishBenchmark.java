@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the cost of publishing a JSON document of about 50 KB to local consumers, with a mutable document copied
+ * for each consumer and with a frozen document delivered by reference.
+ */
+@State(Scope.Thread)
+public class EventBusPublishBenchmark extends BenchmarkBase {
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public static void consume(final Object body) {
+  }
+
+  @Param({"1", "5", "20"})
+  public int consumers;
+
+  @Param({"false", "true"})
+  public boolean frozen;
+
+  private EventBus eventBus;
+  private JsonObject document;
+
+  @Setup
+  public void setup() {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setDisableTCCL(true));
+    // Consumers are registered on a context executing tasks on the publishing thread
+    ContextInternal context = BenchmarkContext.create(vertx);
+    eventBus = vertx.eventBus();
+    context.runOnContext(v -> {
+      for (int i = 0;i < consumers;i++) {
+        eventBus.consumer("the-address", msg -> consume(msg.body()));
+      }
+    });
+    JsonArray items = new JsonArray();
+    for (int i = 0;i < 500;i++) {
+      items.add(new JsonObject()
+        .put("id", i)
+        .put("name", "item-" + i)
+        .put("price", i * 1.5D)
+        .put("tags", new JsonArray().add("foo").add("bar")));
+    }
+    document = new JsonObject().put("items", items);
+    if (frozen) {
+      document.freeze();
+    }
+  }
+
+  @Benchmark
+  public void publish() {
+    eventBus.publish("the-address", document);
+  }
+}
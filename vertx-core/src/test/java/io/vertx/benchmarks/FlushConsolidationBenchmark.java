@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.net.FlushConsolidationOptions;
+import io.vertx.core.net.NetClient;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.net.NetServerOptions;
+import io.vertx.core.net.NetSocket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes small messages to an event-bus consumer writing them to a TCP connection, the writes happen outside
+ * of a read so each of them is flushed with a system call unless flush consolidation is enabled.
+ */
+@State(Scope.Thread)
+public class FlushConsolidationBenchmark extends BenchmarkBase {
+
+  private static final int MESSAGES = 100;
+  private static final Buffer MESSAGE = Buffer.buffer("0123456789abcdef");
+
+  @Param({"false", "true"})
+  public boolean consolidation;
+
+  private Vertx vertx;
+  private EventBus eventBus;
+  private NetClient client;
+  private final AtomicLong remaining = new AtomicLong();
+  private volatile CountDownLatch done;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx(new VertxOptions().setDisableTCCL(true));
+    eventBus = vertx.eventBus();
+    NetServerOptions options = new NetServerOptions().setPort(8080).setHost("localhost");
+    if (consolidation) {
+      options.setFlushConsolidationOptions(new FlushConsolidationOptions());
+    }
+    CountDownLatch subscribed = new CountDownLatch(1);
+    NetServer server = vertx.createNetServer(options).connectHandler(so -> eventBus
+      .<Buffer>consumer("the-topic", msg -> so.write(msg.body()))
+      .completion()
+      .onComplete(ar -> subscribed.countDown()));
+    server.listen().await(10, TimeUnit.SECONDS);
+    client = vertx.createNetClient();
+    NetSocket so = client.connect(8080, "localhost").await(10, TimeUnit.SECONDS);
+    so.handler(buff -> {
+      if (remaining.addAndGet(-buff.length()) == 0L) {
+        done.countDown();
+      }
+    });
+    subscribed.await(10, TimeUnit.SECONDS);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().await(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MESSAGES)
+  public void publish() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    done = latch;
+    remaining.set((long) MESSAGES * MESSAGE.length());
+    for (int i = 0;i < MESSAGES;i++) {
+      eventBus.publish("the-topic", MESSAGE);
+    }
+    latch.await();
+  }
+}
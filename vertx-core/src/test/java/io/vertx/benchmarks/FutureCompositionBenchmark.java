@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures common future composition chains, run with {@code -prof gc} to observe allocation rates.
+ */
+@State(Scope.Thread)
+public class FutureCompositionBenchmark extends BenchmarkBase {
+
+  @Param({"1", "10", "20"})
+  public int depth;
+
+  @Benchmark
+  public void mapCompleted(Blackhole bh) {
+    Future<Integer> fut = Future.succeededFuture(0);
+    for (int i = 0;i < depth;i++) {
+      fut = fut.map(v -> v + 1);
+    }
+    bh.consume(fut.result());
+  }
+
+  @Benchmark
+  public void composeCompleted(Blackhole bh) {
+    Future<Integer> fut = Future.succeededFuture(0);
+    for (int i = 0;i < depth;i++) {
+      fut = fut.compose(v -> Future.succeededFuture(v + 1));
+    }
+    bh.consume(fut.result());
+  }
+
+  @Benchmark
+  public void mapPending(Blackhole bh) {
+    Promise<Integer> promise = Promise.promise();
+    Future<Integer> fut = promise.future();
+    for (int i = 0;i < depth;i++) {
+      fut = fut.map(v -> v + 1);
+    }
+    promise.complete(0);
+    bh.consume(fut.result());
+  }
+
+  @Benchmark
+  public void composePending(Blackhole bh) {
+    Promise<Integer> promise = Promise.promise();
+    Future<Integer> fut = promise.future();
+    for (int i = 0;i < depth;i++) {
+      fut = fut.compose(v -> Future.succeededFuture(v + 1));
+    }
+    promise.complete(0);
+    bh.consume(fut.result());
+  }
+
+  @Benchmark
+  public void mixedCompleted(Blackhole bh) {
+    Promise<Integer> promise = Promise.promise();
+    promise.complete(0);
+    Future<Integer> fut = promise.future();
+    for (int i = 0;i < depth;i++) {
+      fut = fut
+        .map(v -> v + 1)
+        .compose(v -> Future.succeededFuture(v + 1))
+        .otherwise(0)
+        .onSuccess(bh::consume);
+    }
+    bh.consume(fut.result());
+  }
+
+  @Benchmark
+  public void listeners(Blackhole bh) {
+    Promise<Integer> promise = Promise.promise();
+    Future<Integer> fut = promise.future();
+    for (int i = 0;i < depth;i++) {
+      fut.onSuccess(bh::consume);
+    }
+    promise.complete(0);
+  }
+}
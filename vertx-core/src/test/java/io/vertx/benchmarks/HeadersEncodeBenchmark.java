@@ -57,6 +57,7 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
   private HttpHeaders emptyHeaders;
   private HttpHeaders nettySmallHeaders;
   private HttpHeaders vertxSmallHeaders;
+  private HeadersMultiMap vertxPreEncodedSmallHeaders;
 
   @Setup
   public void setup() {
@@ -67,6 +68,8 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
     vertxSmallHeaders = HeadersMultiMap.httpHeaders();
     setBaseHeaders(nettySmallHeaders, asciiNames, asciiValues);
     setBaseHeaders(vertxSmallHeaders, asciiNames, asciiValues);
+    vertxPreEncodedSmallHeaders = HeadersMultiMap.httpHeaders();
+    vertxPreEncodedSmallHeaders.addAll(HeadersMultiMap.preEncoded((HeadersMultiMap) vertxSmallHeaders));
   }
 
   @Benchmark
@@ -89,4 +92,18 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
     encoder.encodeHeaders(vertxSmallHeaders, byteBuf);
     consume(byteBuf);
   }
+
+  @Benchmark
+  public void vertxEncodeSmall() throws Exception {
+    byteBuf.resetWriterIndex();
+    ((HeadersMultiMap) vertxSmallHeaders).encode(byteBuf);
+    consume(byteBuf);
+  }
+
+  @Benchmark
+  public void vertxPreEncodedSmall() throws Exception {
+    byteBuf.resetWriterIndex();
+    vertxPreEncodedSmallHeaders.encode(byteBuf);
+    consume(byteBuf);
+  }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.core.net.FlushConsolidationOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the requests per second of an HTTP/2 server running on a single event-loop, the responses are sent
+ * outside of a read, from a task scheduled by the request handler, so the frames of the concurrent streams are
+ * flushed together only when flush consolidation is enabled.
+ */
+@State(Scope.Thread)
+public class Http2ServerBenchmark extends BenchmarkBase {
+
+  private static final int REQUESTS = 1000;
+  private static final Buffer RESPONSE = Buffer.buffer("Hello World");
+
+  @Param({"false", "true"})
+  public boolean consolidation;
+
+  @Param({"100"})
+  public int concurrency;
+
+  private Vertx server;
+  private Vertx client;
+  private HttpClient httpClient;
+
+  @Setup
+  public void setup() throws Exception {
+    server = Vertx.vertx(new VertxOptions().setDisableTCCL(true).setEventLoopPoolSize(1));
+    client = Vertx.vertx(new VertxOptions().setDisableTCCL(true));
+    HttpServerOptions serverOptions = new HttpServerOptions().setPort(8080).setHost("localhost");
+    HttpClientOptions clientOptions = new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false)
+      .setHttp2MultiplexingLimit(concurrency);
+    if (consolidation) {
+      serverOptions.setFlushConsolidationOptions(new FlushConsolidationOptions());
+      clientOptions.setFlushConsolidationOptions(new FlushConsolidationOptions());
+    }
+    server.createHttpServer(serverOptions)
+      .requestHandler(req -> server.runOnContext(v -> req.response().end(RESPONSE)))
+      .listen()
+      .await(10, TimeUnit.SECONDS);
+    httpClient = client.createHttpClient(clientOptions, new PoolOptions().setHttp2MaxSize(1));
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    client.close().await(10, TimeUnit.SECONDS);
+    server.close().await(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(REQUESTS)
+  public void requests() throws Exception {
+    CountDownLatch latch = new CountDownLatch(REQUESTS);
+    client.runOnContext(v -> {
+      for (int i = 0;i < REQUESTS;i++) {
+        httpClient.request(io.vertx.core.http.HttpMethod.GET, 8080, "localhost", "/")
+          .compose(req -> req.send().compose(HttpClientResponse::body))
+          .onComplete(ar -> latch.countDown());
+      }
+    });
+    latch.await();
+  }
+}
@@ -71,6 +71,9 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
   ByteBuf GET;
   int readerIndex;
   int writeIndex;
+  ByteBuf GET_WITH_HEADERS;
+  int withHeadersReaderIndex;
+  int withHeadersWriteIndex;
   VertxInternal vertx;
   EmbeddedChannel vertxChannel;
   EmbeddedChannel nettyChannel;
@@ -320,6 +323,23 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
         "\r\n").getBytes()));
     readerIndex = GET.readerIndex();
     writeIndex = GET.writerIndex();
+
+    // A typical browser request, run with -prof gc to compare the allocation rate of the decoders
+    GET_WITH_HEADERS = Unpooled.unreleasableBuffer(Unpooled.copiedBuffer((
+      "GET /index.html HTTP/1.1\r\n" +
+        "Host: localhost:8080\r\n" +
+        "User-Agent: Mozilla/5.0 (X11; Linux x86_64; rv:128.0) Gecko/20100101 Firefox/128.0\r\n" +
+        "Accept: text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8\r\n" +
+        "Accept-Language: en-US,en;q=0.5\r\n" +
+        "Accept-Encoding: gzip, deflate, br\r\n" +
+        "Connection: keep-alive\r\n" +
+        "Upgrade-Insecure-Requests: 1\r\n" +
+        "Sec-Fetch-Dest: document\r\n" +
+        "Sec-Fetch-Mode: navigate\r\n" +
+        "Sec-Fetch-Site: none\r\n" +
+        "\r\n").getBytes()));
+    withHeadersReaderIndex = GET_WITH_HEADERS.readerIndex();
+    withHeadersWriteIndex = GET_WITH_HEADERS.writerIndex();
   }
 
   @Benchmark
@@ -361,4 +381,24 @@ public class HttpServerHandlerBenchmark extends BenchmarkBase {
     nettyChannel.writeInbound(GET);
     return nettyChannel.outboundMessages().poll();
   }
+
+  @Fork(value = 1, jvmArgsAppend = {
+    "-Dvertx.threadChecks=false",
+    "-Dvertx.disableContextTimings=true",
+    "-Dvertx.disableHttpHeadersValidation=true",
+    "-Dvertx.disableMetrics=true"
+  })
+  @Benchmark
+  public Object vertxOptWithHeaders() {
+    GET_WITH_HEADERS.setIndex(withHeadersReaderIndex, withHeadersWriteIndex);
+    vertxChannel.writeInbound(GET_WITH_HEADERS);
+    return vertxChannel.outboundMessages().poll();
+  }
+
+  @Benchmark
+  public Object nettyWithHeaders() {
+    GET_WITH_HEADERS.setIndex(withHeadersReaderIndex, withHeadersWriteIndex);
+    nettyChannel.writeInbound(GET_WITH_HEADERS);
+    return nettyChannel.outboundMessages().poll();
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.metrics.BuiltinMetrics;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+import io.vertx.core.spi.metrics.PoolMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
+import io.vertx.core.spi.observability.HttpResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the recording overhead of the built-in metrics against a no-op metrics SPI.
+ */
+@State(Scope.Thread)
+public class MetricsRecordingBenchmark extends BenchmarkBase {
+
+  private static final HttpResponse RESPONSE = new HttpResponse() {
+    @Override
+    public int statusCode() {
+      return 200;
+    }
+    @Override
+    public MultiMap headers() {
+      return null;
+    }
+  };
+
+  private static final SocketAddress ADDRESS = SocketAddress.inetSocketAddress(8080, "localhost");
+
+  @Param({"noop", "builtin"})
+  public String impl;
+
+  private HttpServerMetrics<Object, Object, Object> serverMetrics;
+  private PoolMetrics<Object, Object> poolMetrics;
+
+  @Setup
+  public void setup() {
+    VertxMetrics metrics;
+    if (impl.equals("builtin")) {
+      metrics = BuiltinMetrics.factory().metrics(null);
+      serverMetrics = (HttpServerMetrics<Object, Object, Object>) metrics.createHttpServerMetrics(new HttpServerOptions(), ADDRESS);
+      poolMetrics = (PoolMetrics<Object, Object>) metrics.createPoolMetrics("worker", "benchmark", 10);
+    } else {
+      serverMetrics = new HttpServerMetrics<>() {
+      };
+      poolMetrics = new PoolMetrics<>() {
+      };
+    }
+  }
+
+  @Benchmark
+  public void bytesRead() {
+    serverMetrics.bytesRead(null, ADDRESS, 256);
+  }
+
+  @Benchmark
+  public void requestCycle() {
+    Object metric = serverMetrics.requestBegin(null, null);
+    serverMetrics.requestEnd(metric, null, 0);
+    serverMetrics.responseBegin(metric, RESPONSE);
+    serverMetrics.responseEnd(metric, RESPONSE, 256);
+  }
+
+  @Benchmark
+  public void poolCycle() {
+    Object queued = poolMetrics.enqueue();
+    poolMetrics.dequeue(queued);
+    Object timer = poolMetrics.begin();
+    poolMetrics.end(timer);
+  }
+}
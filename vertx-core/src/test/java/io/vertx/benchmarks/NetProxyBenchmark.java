@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetClient;
+import io.vertx.core.net.NetSocket;
+import io.vertx.core.transport.Transport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput in MiB of a TCP proxy piping a client socket to a backend socket with
+ * {@link NetSocket#pipeTo}, the epoll transport splices the bytes in the kernel.
+ */
+@State(Scope.Thread)
+public class NetProxyBenchmark extends BenchmarkBase {
+
+  private static final int MIB = 1024 * 1024;
+  private static final int SIZE = 64;
+  private static final Buffer CHUNK = Buffer.buffer(new byte[64 * 1024]);
+
+  @Param({"nio", "epoll"})
+  public String transport;
+
+  private Vertx vertx;
+  private Context context;
+  private NetSocket socket;
+  private long received;
+  private CompletableFuture<Void> done;
+
+  @Setup
+  public void setup() throws Exception {
+    Transport t = "epoll".equals(transport) ? Transport.EPOLL : Transport.NIO;
+    vertx = Vertx.builder()
+      .with(new VertxOptions().setDisableTCCL(true))
+      .withTransport(t)
+      .build();
+    // Backend acknowledging each received payload
+    vertx.createNetServer()
+      .connectHandler(so -> so.handler(buff -> {
+        received += buff.length();
+        if (received >= (long) SIZE * MIB) {
+          received -= (long) SIZE * MIB;
+          so.write(Buffer.buffer("A"));
+        }
+      }))
+      .listen(8081, "localhost")
+      .await(10, TimeUnit.SECONDS);
+    NetClient proxyClient = vertx.createNetClient();
+    vertx.createNetServer()
+      .connectHandler(so -> {
+        so.pause();
+        proxyClient.connect(8081, "localhost").onSuccess(backend -> {
+          so.pipeTo(backend);
+          backend.pipeTo(so);
+        });
+      })
+      .listen(8080, "localhost")
+      .await(10, TimeUnit.SECONDS);
+    context = vertx.getOrCreateContext();
+    CompletableFuture<NetSocket> connect = new CompletableFuture<>();
+    context.runOnContext(v -> vertx.createNetClient()
+      .connect(8080, "localhost")
+      .onComplete(ar -> {
+        if (ar.succeeded()) {
+          connect.complete(ar.result());
+        } else {
+          connect.completeExceptionally(ar.cause());
+        }
+      }));
+    socket = connect.get(10, TimeUnit.SECONDS);
+    socket.handler(ack -> done.complete(null));
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().await(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public void transfer() throws Exception {
+    done = new CompletableFuture<>();
+    context.runOnContext(v -> send(SIZE * MIB / CHUNK.length()));
+    done.get(20, TimeUnit.SECONDS);
+  }
+
+  private void send(int remaining) {
+    while (remaining > 0) {
+      socket.write(CHUNK);
+      remaining--;
+      if (socket.writeQueueFull()) {
+        int r = remaining;
+        socket.drainHandler(v -> send(r));
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to the first {@code HttpServer#listen} completion in a fresh JVM, that is the creation of the
+ * Vert.x instance and the bind of the HTTP server.
+ *
+ * Each fork measures a single cold start, run the benchmark with {@code -jvmArgsAppend -XX:SharedArchiveFile=app.jsa}
+ * to measure the impact of an archive produced with {@code io.vertx.core.impl.StartupTraining}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StartupBenchmark {
+
+  @Param({"false", "true"})
+  public boolean lazyInitialization;
+
+  private Vertx vertx;
+
+  @Benchmark
+  public HttpServer firstListen() throws Exception {
+    vertx = Vertx.vertx(new VertxOptions().setLazyInitialization(lazyInitialization));
+    return vertx.createHttpServer()
+      .requestHandler(req -> req.response().end())
+      .listen(0, "localhost")
+      .toCompletionStage()
+      .toCompletableFuture()
+      .get();
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() throws Exception {
+    if (vertx != null) {
+      vertx.close().toCompletionStage().toCompletableFuture().get();
+    }
+  }
+}
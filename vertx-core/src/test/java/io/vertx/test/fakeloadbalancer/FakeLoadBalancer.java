@@ -67,6 +67,16 @@ public class FakeLoadBalancer implements LoadBalancer {
       metric.responseEnd = System.currentTimeMillis();
     }
 
+    @Override
+    public void reportHedge(FakeMetric metric) {
+      metric.hedged = true;
+    }
+
+    @Override
+    public void reportCancellation(FakeMetric metric) {
+      metric.cancelled = true;
+    }
+
   }
 
   public static class FakeMetric {
@@ -76,6 +86,8 @@ public class FakeLoadBalancer implements LoadBalancer {
     public long responseBegin;
     public long responseEnd;
     public Throwable failure;
+    public boolean hedged;
+    public boolean cancelled;
 
     public long requestBegin() {
       return requestBegin;
@@ -96,5 +108,13 @@ public class FakeLoadBalancer implements LoadBalancer {
     public Throwable failure() {
       return failure;
     }
+
+    public boolean hedged() {
+      return hedged;
+    }
+
+    public boolean cancelled() {
+      return cancelled;
+    }
   }
 }
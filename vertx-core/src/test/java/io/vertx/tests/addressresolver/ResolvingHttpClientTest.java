@@ -11,6 +11,7 @@ import io.vertx.core.net.endpoint.LoadBalancer;
 import io.vertx.core.net.*;
 import io.vertx.core.net.endpoint.ServerEndpoint;
 import io.vertx.core.spi.endpoint.EndpointBuilder;
+import io.vertx.test.core.TestUtils;
 import io.vertx.test.core.VertxTestBase;
 import io.vertx.test.fakeloadbalancer.FakeLoadBalancer;
 import io.vertx.test.fakeresolver.*;
@@ -342,6 +343,147 @@ public class ResolvingHttpClientTest extends VertxTestBase {
     assertTrue(metric.responseEnd() - metric.responseBegin() >= 0);
   }
 
+  @Test
+  public void testHedging() throws Exception {
+    startServers(2);
+    requestHandler = (idx, req) -> {
+      if (idx == 1) {
+        req.response().end("server-" + idx);
+      }
+    };
+    FakeEndpointResolver resolver = new FakeEndpointResolver();
+    resolver.registerAddress("example.com", Arrays.asList(SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT, "localhost"), SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT + 1, "localhost")));
+    FakeLoadBalancer lb = new FakeLoadBalancer();
+    HttpClientInternal client = (HttpClientInternal) vertx.httpClientBuilder()
+      .with(new HttpClientOptions().setHedgingOptions(new HedgingOptions().setMaxDelay(100)))
+      .withAddressResolver(resolver)
+      .withLoadBalancer(lb)
+      .build();
+    Buffer body = client.request(new RequestOptions().setServer(new FakeAddress("example.com")))
+      .compose(req -> req
+        .send()
+        .expecting(HttpResponseExpectation.SC_OK)
+        .compose(HttpClientResponse::body)
+      ).await();
+    assertEquals("server-1", body.toString());
+    FakeLoadBalancer.FakeMetric primary = ((FakeLoadBalancer.FakeLoadBalancerMetrics<?>) lb.endpoints().get(0).metrics()).metrics2().get(0);
+    FakeLoadBalancer.FakeMetric hedge = ((FakeLoadBalancer.FakeLoadBalancerMetrics<?>) lb.endpoints().get(1).metrics()).metrics2().get(0);
+    assertTrue(primary.cancelled());
+    assertFalse(primary.hedged());
+    assertTrue(hedge.hedged());
+    assertFalse(hedge.cancelled());
+    assertTrue(hedge.responseEnd() > 0);
+  }
+
+  @Test
+  public void testHedgingDisabledForNonIdempotentRequests() throws Exception {
+    startServers(2);
+    requestHandler = (idx, req) -> vertx.setTimer(200, id -> req.response().end("server-" + idx));
+    FakeEndpointResolver resolver = new FakeEndpointResolver();
+    resolver.registerAddress("example.com", Arrays.asList(SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT, "localhost"), SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT + 1, "localhost")));
+    FakeLoadBalancer lb = new FakeLoadBalancer();
+    HttpClientInternal client = (HttpClientInternal) vertx.httpClientBuilder()
+      .with(new HttpClientOptions().setHedgingOptions(new HedgingOptions().setMinDelay(10).setMaxDelay(10)))
+      .withAddressResolver(resolver)
+      .withLoadBalancer(lb)
+      .build();
+    Buffer body = client.request(new RequestOptions().setMethod(HttpMethod.POST).setServer(new FakeAddress("example.com")))
+      .compose(req -> req
+        .send("payload")
+        .expecting(HttpResponseExpectation.SC_OK)
+        .compose(HttpClientResponse::body)
+      ).await();
+    assertEquals("server-0", body.toString());
+    assertEquals(0, ((FakeLoadBalancer.FakeLoadBalancerMetrics<?>) lb.endpoints().get(1).metrics()).metrics2().size());
+  }
+
+  private HttpClientInternal hedgingClient(HedgingOptions hedgingOptions, FakeLoadBalancer lb) {
+    FakeEndpointResolver resolver = new FakeEndpointResolver();
+    resolver.registerAddress("example.com", Arrays.asList(SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT, "localhost"), SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT + 1, "localhost")));
+    return (HttpClientInternal) vertx.httpClientBuilder()
+      .with(new HttpClientOptions().setHedgingOptions(hedgingOptions))
+      .withAddressResolver(resolver)
+      .withLoadBalancer(lb)
+      .build();
+  }
+
+  @Test
+  public void testHedgingReplaysRequestBody() throws Exception {
+    startServers(2);
+    requestHandler = (idx, req) -> {
+      if (idx == 1) {
+        req.body().onComplete(onSuccess(body -> req.response().end("server-1:" + body)));
+      }
+    };
+    HttpClientInternal client = hedgingClient(new HedgingOptions().setMinDelay(10).setMaxDelay(10), new FakeLoadBalancer());
+    Buffer body = client.request(new RequestOptions().setMethod(HttpMethod.PUT).setServer(new FakeAddress("example.com")))
+      .compose(req -> {
+        req.setChunked(true);
+        req.write("chunk-1,");
+        req.write("chunk-2,");
+        // Written after the request is hedged
+        vertx.setTimer(100, id -> req.end("chunk-3"));
+        return req.response()
+          .expecting(HttpResponseExpectation.SC_OK)
+          .compose(HttpClientResponse::body);
+      }).await();
+    assertEquals("server-1:chunk-1,chunk-2,chunk-3", body.toString());
+  }
+
+  @Test
+  public void testHedgingDisabledForLargeRequestBody() throws Exception {
+    startServers(2);
+    requestHandler = (idx, req) -> vertx.setTimer(100, id -> req.response().end("server-" + idx));
+    FakeLoadBalancer lb = new FakeLoadBalancer();
+    HttpClientInternal client = hedgingClient(new HedgingOptions().setMinDelay(10).setMaxDelay(10), lb);
+    Buffer body = client.request(new RequestOptions().setMethod(HttpMethod.PUT).setServer(new FakeAddress("example.com")))
+      .compose(req -> req
+        .send(TestUtils.randomBuffer(64 * 1024 + 1))
+        .expecting(HttpResponseExpectation.SC_OK)
+        .compose(HttpClientResponse::body)
+      ).await();
+    assertEquals("server-0", body.toString());
+    assertEquals(0, ((FakeLoadBalancer.FakeLoadBalancerMetrics<?>) lb.endpoints().get(1).metrics()).metrics2().size());
+  }
+
+  @Test
+  public void testHedgingCancelledByReset() throws Exception {
+    startServers(2);
+    AtomicInteger received = new AtomicInteger();
+    requestHandler = (idx, req) -> received.incrementAndGet();
+    HttpClientInternal client = hedgingClient(new HedgingOptions().setMinDelay(50).setMaxDelay(50), new FakeLoadBalancer());
+    client.request(new RequestOptions().setServer(new FakeAddress("example.com")))
+      .compose(req -> req.end().onSuccess(v -> req.reset()))
+      .await();
+    assertWaitUntil(() -> received.get() == 1);
+    Thread.sleep(200);
+    assertEquals(1, received.get());
+  }
+
+  @Test
+  public void testHedgingBudget() throws Exception {
+    startServers(2);
+    AtomicInteger received = new AtomicInteger();
+    requestHandler = (idx, req) -> {
+      received.incrementAndGet();
+      vertx.setTimer(50, id -> req.response().end("server-" + idx));
+    };
+    // Without deposits, the budget allows the hedging of 10 requests
+    HttpClientInternal client = hedgingClient(new HedgingOptions().setMinDelay(10).setMaxDelay(10).setBudget(0D), new FakeLoadBalancer());
+    int num = 12;
+    for (int i = 0;i < num;i++) {
+      client.request(new RequestOptions().setServer(new FakeAddress("example.com")))
+        .compose(req -> req
+          .send()
+          .expecting(HttpResponseExpectation.SC_OK)
+          .compose(HttpClientResponse::body)
+        ).await();
+    }
+    assertWaitUntil(() -> received.get() == num + 10);
+    Thread.sleep(100);
+    assertEquals(num + 10, received.get());
+  }
+
   @Test
   public void testStatisticsReportingFailure0() throws Exception {
     startServers(1);
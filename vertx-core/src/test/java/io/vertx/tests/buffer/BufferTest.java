@@ -22,6 +22,7 @@ import io.vertx.test.core.TestUtils;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.nio.charset.StandardCharsets;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -1239,4 +1240,19 @@ public class BufferTest {
     Buffer buff = BufferInternal.buffer(byteBuf.asReadOnly());
     assertSame(buff, buff.copy());
   }
+
+  @Test
+  public void testAsReadOnly() {
+    Buffer buff = Buffer.buffer("Hello World");
+    Buffer readOnly = buff.asReadOnly();
+    assertEquals(buff, readOnly);
+    assertSame(readOnly, readOnly.asReadOnly());
+    assertSame(readOnly, readOnly.copy());
+    assertThrows(ReadOnlyBufferException.class, () -> readOnly.setByte(0, (byte) 'h'));
+    assertThrows(ReadOnlyBufferException.class, () -> readOnly.appendString("!"));
+    Buffer slice = readOnly.slice(0, 5);
+    assertEquals("Hello", slice.toString());
+    assertSame(slice, slice.copy());
+    assertThrows(ReadOnlyBufferException.class, () -> slice.setByte(0, (byte) 'h'));
+  }
 }
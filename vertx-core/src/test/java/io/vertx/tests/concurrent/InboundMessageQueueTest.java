@@ -19,9 +19,11 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.IntConsumer;
 
 public class InboundMessageQueueTest extends VertxTestBase {
@@ -433,6 +435,133 @@ public class InboundMessageQueueTest extends VertxTestBase {
     });
   }
 
+  private InboundMessageQueue<Integer> mpscQueue(int maxBatchSize, IntConsumer consumer) {
+    return new InboundMessageQueue<>(((ContextInternal) context).executor(), maxBatchSize) {
+      @Override
+      protected void handleMessage(Integer msg) {
+        checkContext();
+        consumer.accept(msg);
+      }
+    };
+  }
+
+  @Test
+  public void testMpscInvalidBatchSize() {
+    try {
+      mpscQueue(0, elt -> {});
+      fail();
+    } catch (IllegalArgumentException ignore) {
+    }
+  }
+
+  @Test
+  public void testMpscConcurrentProducers() throws Exception {
+    int numProducers = 4;
+    int numMessages = 10_000;
+    int[] last = new int[numProducers];
+    Arrays.fill(last, -1);
+    AtomicInteger received = new AtomicInteger();
+    InboundMessageQueue<Integer> mpsc = mpscQueue(16, elt -> {
+      // Each producer message is delivered in order
+      int producer = elt / numMessages;
+      int seq = elt % numMessages;
+      assertEquals(last[producer] + 1, seq);
+      last[producer] = seq;
+      if (received.incrementAndGet() == numProducers * numMessages) {
+        testComplete();
+      }
+    });
+    Thread[] producers = new Thread[numProducers];
+    for (int i = 0;i < numProducers;i++) {
+      int producer = i;
+      producers[i] = new Thread(() -> {
+        for (int j = 0;j < numMessages;j++) {
+          if (mpsc.add(producer * numMessages + j)) {
+            mpsc.scheduleDrain();
+          }
+        }
+      });
+      producers[i].start();
+    }
+    for (Thread producer : producers) {
+      producer.join();
+    }
+    await();
+  }
+
+  @Test
+  public void testScheduleDrain() {
+    context.runOnContext(v -> {
+      List<Integer> received = new ArrayList<>();
+      InboundMessageQueue<Integer> mpsc = mpscQueue(16, received::add);
+      assertTrue(mpsc.add(0));
+      assertFalse(mpsc.add(1));
+      mpsc.scheduleDrain();
+      // The drain is never executed by the caller thread
+      assertEquals(Collections.emptyList(), received);
+      context.runOnContext(v2 -> {
+        assertEquals(Arrays.asList(0, 1), received);
+        // The queue is empty again, the next message requires a drain
+        assertTrue(mpsc.add(2));
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testMpscBatchYield() {
+    int maxBatchSize = 16;
+    int numMessages = maxBatchSize * 3 + 1;
+    List<String> events = Collections.synchronizedList(new ArrayList<>());
+    InboundMessageQueue<Integer> mpsc = mpscQueue(maxBatchSize, elt -> {
+      events.add("msg-" + elt);
+      if (elt == 0) {
+        // Runs after the first batch
+        context.runOnContext(v -> events.add("task"));
+      }
+      if (elt == numMessages - 1) {
+        testComplete();
+      }
+    });
+    boolean drain = false;
+    for (int i = 0;i < numMessages;i++) {
+      drain |= mpsc.add(i);
+    }
+    assertTrue(drain);
+    mpsc.scheduleDrain();
+    await();
+    assertEquals(numMessages + 1, events.size());
+    assertEquals("msg-" + (maxBatchSize - 1), events.get(maxBatchSize - 1));
+    assertEquals("task", events.get(maxBatchSize));
+    assertEquals("msg-" + maxBatchSize, events.get(maxBatchSize + 1));
+  }
+
+  @Test
+  public void testMpscPauseStopsBatch() {
+    AtomicInteger received = new AtomicInteger();
+    AtomicReference<InboundMessageQueue<Integer>> ref = new AtomicReference<>();
+    InboundMessageQueue<Integer> mpsc = mpscQueue(4, elt -> {
+      if (received.incrementAndGet() == 2) {
+        ref.get().pause();
+        context.runOnContext(v -> {
+          // No batch was rescheduled while paused
+          assertEquals(2, received.get());
+          ref.get().fetch(Long.MAX_VALUE);
+        });
+      } else if (received.get() == 10) {
+        testComplete();
+      }
+    });
+    ref.set(mpsc);
+    for (int i = 0;i < 10;i++) {
+      if (mpsc.add(i)) {
+        mpsc.scheduleDrain();
+      }
+    }
+    await();
+  }
+
 /*
   @Test
   public void testEmitInElementHandler2() {
@@ -21,6 +21,7 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.spi.context.storage.AccessMode;
 import io.vertx.core.spi.context.storage.ContextLocal;
+import io.vertx.core.spi.metrics.TaskQueueMetrics;
 import io.vertx.test.core.ContextLocalHelper;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Assume;
@@ -1205,4 +1206,42 @@ public class ContextTest extends VertxTestBase {
     assertTrue((System.currentTimeMillis() - now) < 2000);
     assertTrue(interrupted.get());
   }
+
+  @Test
+  public void testRejectedTaskQueueMetrics() {
+    AtomicInteger queued = new AtomicInteger();
+    AtomicInteger dequeued = new AtomicInteger();
+    AtomicInteger rejected = new AtomicInteger();
+    TaskQueueMetrics metrics = new TaskQueueMetrics() {
+      @Override
+      public void taskQueued() {
+        queued.incrementAndGet();
+      }
+      @Override
+      public void taskDequeued(long waitNanos) {
+        dequeued.incrementAndGet();
+      }
+      @Override
+      public void taskRejected() {
+        rejected.incrementAndGet();
+      }
+    };
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    executor.shutdown();
+    WorkerPool pool = new WorkerPool(executor, null, metrics);
+    io.vertx.core.impl.WorkerExecutor workerExecutor = new io.vertx.core.impl.WorkerExecutor(pool, new WorkerTaskQueue());
+    try {
+      workerExecutor.execute(() -> fail());
+      fail();
+    } catch (RejectedExecutionException ignore) {
+    }
+    try {
+      pool.executeBlocking(((VertxInternal) vertx).createEventLoopContext(), () -> null, new TaskQueue());
+      fail();
+    } catch (RejectedExecutionException ignore) {
+    }
+    assertEquals(2, queued.get());
+    assertEquals(0, dequeued.get());
+    assertEquals(2, rejected.get());
+  }
 }
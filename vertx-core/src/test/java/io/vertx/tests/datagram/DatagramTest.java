@@ -11,13 +11,18 @@
 package io.vertx.tests.datagram;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.buffer.UnpooledHeapByteBuf;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.unix.SegmentedDatagramPacket;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.datagram.DatagramPacket;
 import io.vertx.core.datagram.DatagramSocket;
 import io.vertx.core.datagram.DatagramSocketOptions;
 import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.impl.Utils;
+import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.NetworkOptions;
 import io.vertx.core.streams.WriteStream;
@@ -29,7 +34,10 @@ import org.junit.Assume;
 import org.junit.Test;
 
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -375,6 +383,72 @@ public class DatagramTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testSendReceiveBatch() throws Exception {
+    testSendReceiveBatch(new DatagramSocketOptions(), new DatagramSocketOptions().setMaxMessagesPerRead(16));
+  }
+
+  @Test
+  public void testSendReceiveSegmentedBatch() throws Exception {
+    testSendReceiveBatch(new DatagramSocketOptions().setUdpSegmentation(true), new DatagramSocketOptions().setMaxMessagesPerRead(16));
+  }
+
+  @Test
+  public void testSendReceiveSegmentedBatchWithGro() throws Exception {
+    Assume.assumeTrue(TRANSPORT == Transport.EPOLL);
+    Assume.assumeTrue(EpollDatagramChannel.isSegmentedDatagramPacketSupported());
+    // The batch is sent with UDP GSO
+    io.netty.channel.socket.DatagramPacket packet = ((VertxInternal) vertx).transport()
+      .segmentedDatagramPacket(Unpooled.buffer(), 128, new InetSocketAddress("127.0.0.1", 1234));
+    assertTrue(packet instanceof SegmentedDatagramPacket);
+    packet.release();
+    // The coalesced datagrams are received as individual packets
+    testSendReceiveBatch(
+      new DatagramSocketOptions().setUdpSegmentation(true),
+      new DatagramSocketOptions().setMaxMessagesPerRead(16).setUdpGro(true).setMaxDatagramPayloadSize(2048));
+  }
+
+  private void testSendReceiveBatch(DatagramSocketOptions senderOptions, DatagramSocketOptions receiverOptions) throws Exception {
+    waitFor(2);
+    List<Buffer> expected = new ArrayList<>();
+    for (int i = 0;i < 10;i++) {
+      expected.add(TestUtils.randomBuffer(i < 9 ? 128 : 64));
+    }
+    CountDownLatch latch = new CountDownLatch(1);
+    Context serverContext = vertx.getOrCreateContext();
+    List<Buffer> received = new ArrayList<>();
+    serverContext.runOnContext(v -> {
+      peer2 = vertx.createDatagramSocket(receiverOptions);
+      peer2.exceptionHandler(t -> fail(t.getMessage()));
+      peer2.handler(packet -> fail());
+      peer2.batchHandler(packets -> {
+        assertSame(serverContext, Vertx.currentContext());
+        assertFalse(packets.isEmpty());
+        for (DatagramPacket packet : packets) {
+          received.add(packet.data());
+        }
+        if (received.size() == expected.size()) {
+          assertEquals(expected, received);
+          complete();
+        }
+      });
+      peer2
+        .listen(1234, "127.0.0.1")
+        .onComplete(onSuccess(so -> latch.countDown()));
+    });
+    awaitLatch(latch);
+    Context clientContext = vertx.getOrCreateContext();
+    clientContext.runOnContext(v -> {
+      peer1 = vertx.createDatagramSocket(senderOptions);
+      peer1.send(expected, 1234, "127.0.0.1")
+        .onComplete(onSuccess(s -> {
+          assertSame(clientContext, Vertx.currentContext());
+          complete();
+        }));
+    });
+    await();
+  }
+
   @Test
   public void testOptions() {
     DatagramSocketOptions options = new DatagramSocketOptions();
@@ -426,6 +500,24 @@ public class DatagramTest extends VertxTestBase {
     assertEquals(options, options.setIpV6(true));
     assertTrue(options.isIpV6());
 
+    assertEquals(DatagramSocketOptions.DEFAULT_MAX_MESSAGES_PER_READ, options.getMaxMessagesPerRead());
+    assertEquals(options, options.setMaxMessagesPerRead(16));
+    assertEquals(16, options.getMaxMessagesPerRead());
+    assertIllegalArgumentException(() -> options.setMaxMessagesPerRead(0));
+
+    assertEquals(DatagramSocketOptions.DEFAULT_MAX_DATAGRAM_PAYLOAD_SIZE, options.getMaxDatagramPayloadSize());
+    assertEquals(options, options.setMaxDatagramPayloadSize(1500));
+    assertEquals(1500, options.getMaxDatagramPayloadSize());
+    assertIllegalArgumentException(() -> options.setMaxDatagramPayloadSize(-1));
+
+    assertFalse(options.isUdpGro());
+    assertEquals(options, options.setUdpGro(true));
+    assertTrue(options.isUdpGro());
+
+    assertFalse(options.isUdpSegmentation());
+    assertEquals(options, options.setUdpSegmentation(true));
+    assertTrue(options.isUdpSegmentation());
+
     testComplete();
   }
 
@@ -446,7 +538,15 @@ public class DatagramTest extends VertxTestBase {
     options.setMulticastNetworkInterface(multicastNetworkInterface);
     options.setReuseAddress(reuseAddress);
     options.setIpV6(ipV6);
+    options.setMaxMessagesPerRead(8);
+    options.setMaxDatagramPayloadSize(1500);
+    options.setUdpGro(true);
+    options.setUdpSegmentation(true);
     DatagramSocketOptions copy = new DatagramSocketOptions(options);
+    assertEquals(8, copy.getMaxMessagesPerRead());
+    assertEquals(1500, copy.getMaxDatagramPayloadSize());
+    assertTrue(copy.isUdpGro());
+    assertTrue(copy.isUdpSegmentation());
     assertEquals(broadcast, copy.isBroadcast());
     assertEquals(loopbackModeDisabled, copy.isLoopbackModeDisabled());
     assertEquals(multicastTimeToLive, copy.getMulticastTimeToLive());
@@ -465,6 +565,10 @@ public class DatagramTest extends VertxTestBase {
     assertEquals(def.getMulticastTimeToLive(), json.getMulticastTimeToLive());
     assertEquals(def.getMulticastNetworkInterface(), json.getMulticastNetworkInterface());
     assertEquals(def.isIpV6(), json.isIpV6());
+    assertEquals(def.getMaxMessagesPerRead(), json.getMaxMessagesPerRead());
+    assertEquals(def.getMaxDatagramPayloadSize(), json.getMaxDatagramPayloadSize());
+    assertEquals(def.isUdpGro(), json.isUdpGro());
+    assertEquals(def.isUdpSegmentation(), json.isUdpSegmentation());
   }
 
   @Test
@@ -481,8 +585,16 @@ public class DatagramTest extends VertxTestBase {
       .put("multicastTimeToLive", multicastTimeToLive)
       .put("multicastNetworkInterface", multicastNetworkInterface)
       .put("reuseAddress", reuseAddress)
-      .put("ipV6", ipV6);
+      .put("ipV6", ipV6)
+      .put("maxMessagesPerRead", 8)
+      .put("maxDatagramPayloadSize", 1500)
+      .put("udpGro", true)
+      .put("udpSegmentation", true);
     DatagramSocketOptions copy = new DatagramSocketOptions(json);
+    assertEquals(8, copy.getMaxMessagesPerRead());
+    assertEquals(1500, copy.getMaxDatagramPayloadSize());
+    assertTrue(copy.isUdpGro());
+    assertTrue(copy.isUdpSegmentation());
     assertEquals(broadcast, copy.isBroadcast());
     assertEquals(loopbackModeDisabled, copy.isLoopbackModeDisabled());
     assertEquals(multicastTimeToLive, copy.getMulticastTimeToLive());
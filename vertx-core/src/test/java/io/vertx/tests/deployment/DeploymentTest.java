@@ -1408,6 +1408,104 @@ public class DeploymentTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testDeploymentTimings() {
+    assertNull(vertx.deploymentTimings("does-not-exist"));
+    vertx.deployVerticle(() -> new AbstractVerticle() {
+      @Override
+      public void start(Promise<Void> startPromise) {
+        vertx.deployVerticle(new AbstractVerticle() {
+        }).<Void>mapEmpty().onComplete(startPromise);
+      }
+    }, new DeploymentOptions().setInstances(2)).onComplete(onSuccess(id -> {
+      DeploymentTimings timings = vertx.deploymentTimings(id);
+      assertNotNull(timings);
+      assertEquals(id, timings.getDeploymentID());
+      assertEquals(2, timings.getInstances());
+      assertEquals(0L, timings.getQueueTime());
+      assertTrue(timings.getInstantiationTime() >= 0L);
+      assertTrue(timings.getStartTime() > 0L);
+      assertTrue(timings.getTotalTime() >= timings.getStartTime() + timings.getInstantiationTime());
+      assertEquals(2, timings.getChildren().size());
+      for (DeploymentTimings child : timings.getChildren()) {
+        assertEquals(1, child.getInstances());
+        assertTrue(child.getStartTime() <= timings.getStartTime());
+        assertTrue(child.getChildren().isEmpty());
+      }
+      assertEquals(timings.toJson(), new DeploymentTimings(timings.toJson()).toJson());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testDeploymentTimingsChildren() {
+    DeploymentTimings timings = new DeploymentTimings().setChildren(null);
+    timings.addChild(new DeploymentTimings().setInstances(3));
+    assertEquals(1, timings.getChildren().size());
+    DeploymentTimings copy = new DeploymentTimings(timings.toJson());
+    assertEquals(1, copy.getChildren().size());
+    assertEquals(3, copy.getChildren().get(0).getInstances());
+  }
+
+  @Test
+  public void testMaxConcurrentDeployments() {
+    int max = 2;
+    int num = 6;
+    Vertx vertx = vertx(new VertxOptions().setMaxConcurrentDeployments(max));
+    AtomicInteger concurrency = new AtomicInteger();
+    AtomicInteger maxConcurrency = new AtomicInteger();
+    List<Future<String>> deployments = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      deployments.add(vertx.deployVerticle(new AbstractVerticle() {
+        @Override
+        public void start(Promise<Void> startPromise) {
+          int val = concurrency.incrementAndGet();
+          maxConcurrency.accumulateAndGet(val, Math::max);
+          // Children are not bounded, otherwise the parent could never complete
+          vertx.deployVerticle(new AbstractVerticle() {
+          }).onComplete(onSuccess(child -> {
+            vertx.setTimer(20, id -> {
+              concurrency.decrementAndGet();
+              startPromise.complete();
+            });
+          }));
+        }
+      }));
+    }
+    Future.all(deployments).onComplete(onSuccess(v -> {
+      assertEquals(max, maxConcurrency.get());
+      long queued = deployments
+        .stream()
+        .map(f -> vertx.deploymentTimings(f.result()))
+        .filter(timings -> timings.getQueueTime() > 0L)
+        .count();
+      assertEquals(num - max, queued);
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testCloseWithPendingDeployments() {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setMaxConcurrentDeployments(1));
+    waitFor(2);
+    vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start(Promise<Void> startPromise) {
+        // Never completes
+      }
+    }).onComplete(onFailure(err -> complete()));
+    vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() {
+        fail();
+      }
+    }).onComplete(onFailure(err -> complete()));
+    vertx.close();
+    await();
+  }
+
   private void assertDeployment(int instances, MyVerticle verticle, JsonObject config, AsyncResult<String> ar) {
     assertTrue(ar.succeeded());
     assertEquals(vertx, verticle.getVertx());
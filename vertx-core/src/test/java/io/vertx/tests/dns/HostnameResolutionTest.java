@@ -374,6 +374,29 @@ public class HostnameResolutionTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testLazyResolveFromClasspath() {
+    VertxInternal vertx = (VertxInternal) vertx(new VertxOptions()
+      .setLazyInitialization(true)
+      .setAddressResolverOptions(new AddressResolverOptions().setHostsPath("hosts_config.txt")));
+    vertx.resolveAddress("server.net").onComplete(onSuccess(addr -> {
+      assertEquals("192.168.0.15", addr.getHostAddress());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testLazyInvalidHostsConfig() {
+    AddressResolverOptions options = new AddressResolverOptions().setHostsPath("whatever.txt");
+    VertxInternal vertx = (VertxInternal) vertx(new VertxOptions().setLazyInitialization(true).setAddressResolverOptions(options));
+    try {
+      vertx.resolveAddress("server.net");
+      fail();
+    } catch (VertxException ignore) {
+    }
+  }
+
   @Test
   public void testResolveFromFile() {
     File f = new File(new File(new File(new File("src"), "test"), "resources"), "hosts_config.txt");
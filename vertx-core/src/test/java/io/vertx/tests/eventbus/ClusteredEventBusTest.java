@@ -418,6 +418,42 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSenderFlowControl() {
+    startNodes(2);
+    int num = 50;
+    AtomicInteger received = new AtomicInteger();
+    MessageConsumer<Integer> consumer = vertices[1].eventBus().consumer(ADDRESS1);
+    consumer.handler(msg -> {
+      assertEquals(received.getAndIncrement(), (int) msg.body());
+      // Consume slowly, one message at a time
+      vertices[1].setTimer(1, id -> consumer.fetch(1));
+    });
+    consumer.pause();
+    consumer.fetch(1);
+    consumer.completion().onComplete(onSuccess(v1 -> {
+      vertices[0].runOnContext(v2 -> {
+        MessageProducer<Integer> producer = vertices[0].eventBus().sender(ADDRESS1);
+        producer.setWriteQueueMaxSize(5);
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicInteger written = new AtomicInteger();
+        Runnable check = () -> maxInFlight.accumulateAndGet(written.get() - received.get(), Math::max);
+        for (int i = 0;i < num;i++) {
+          producer.write(i).onComplete(onSuccess(v3 -> {
+            written.incrementAndGet();
+            check.run();
+            if (written.get() == num) {
+              assertTrue(maxInFlight.get() <= 5);
+              testComplete();
+            }
+          }));
+        }
+        assertTrue(producer.writeQueueFull());
+      });
+    }));
+    await();
+  }
+
   @Test
   public void testSendWriteHandlerNoConsumer() {
     startNodes(2);
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -113,4 +114,32 @@ public class JsonEventBusTest extends VertxTestBase {
     list.add("uhwqdiuh");
     await();
   }
+
+  @Test
+  public void testFrozenObjectIsNotCopied() {
+    JsonObject obj = new JsonObject().put("foo", "bar").freeze();
+    int num = 3;
+    AtomicInteger received = new AtomicInteger();
+    for (int i = 0;i < num;i++) {
+      eb.<JsonObject>consumer("foo").handler(msg -> {
+        assertSame(obj, msg.body());
+        if (received.incrementAndGet() == num) {
+          testComplete();
+        }
+      });
+    }
+    eb.publish("foo", obj);
+    await();
+  }
+
+  @Test
+  public void testFrozenArrayIsNotCopied() {
+    JsonArray arr = new JsonArray().add("foo").freeze();
+    eb.<JsonArray>consumer("foo").handler(msg -> {
+      assertSame(arr, msg.body());
+      testComplete();
+    });
+    eb.send("foo", arr);
+    await();
+  }
 }
@@ -1185,6 +1185,171 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSenderFlowControl() {
+    int maxSize = 10;
+    waitFor(2);
+    List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+    MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1);
+    consumer.handler(msg -> {
+      received.add(msg.body());
+      if (received.size() == 2 * maxSize) {
+        for (int i = 0;i < 2 * maxSize;i++) {
+          assertEquals(i, (int) received.get(i));
+        }
+        complete();
+      }
+    });
+    consumer.pause();
+    vertx.runOnContext(v -> {
+      MessageProducer<Integer> producer = eb.sender(ADDRESS1);
+      producer.setWriteQueueMaxSize(maxSize);
+      for (int i = 0;i < maxSize;i++) {
+        assertFalse(producer.writeQueueFull());
+        producer.write(i);
+      }
+      assertTrue(producer.writeQueueFull());
+      for (int i = maxSize;i < 2 * maxSize;i++) {
+        producer.write(i);
+      }
+      producer.drainHandler(v2 -> {
+        assertFalse(producer.writeQueueFull());
+        complete();
+      });
+      vertx.setTimer(10, id -> {
+        // The consumer can only hold the messages of the window
+        assertEquals(0, received.size());
+        consumer.resume();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testSenderFlowControlOrderingWithConcurrentGrants() {
+    int num = 2000;
+    AtomicInteger expected = new AtomicInteger();
+    eb.addOutboundInterceptor(sc -> {
+      if (Context.isOnEventLoopThread()) {
+        // Widen the window between a grant taking the pending messages and sending them
+        try {
+          Thread.sleep(1);
+        } catch (InterruptedException e) {
+          fail(e);
+        }
+      }
+      sc.next();
+    });
+    MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1);
+    consumer.handler(msg -> {
+      assertEquals(expected.getAndIncrement(), (int) msg.body());
+      if (msg.body() == num - 1) {
+        testComplete();
+      }
+    });
+    consumer.completion().onComplete(onSuccess(v -> {
+      // The credits are granted on the event-loop of the producer while this thread writes messages
+      MessageProducer<Integer> producer = eb.sender(ADDRESS1);
+      producer.setWriteQueueMaxSize(8);
+      Thread writer = new Thread(() -> {
+        for (int i = 0;i < num;i++) {
+          // Write beyond the window so messages are queued and sent when credits are granted
+          if (i % 16 == 0) {
+            while (producer.writeQueueFull()) {
+              Thread.yield();
+            }
+          }
+          producer.write(i);
+        }
+      });
+      writer.start();
+    }));
+    await();
+  }
+
+  @Test
+  public void testSenderFlowControlWithDiscardedMessages() {
+    MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1);
+    consumer.handler(msg -> fail());
+    consumer.setMaxBufferedMessages(0);
+    consumer.pause();
+    vertx.runOnContext(v -> {
+      MessageProducer<Integer> producer = eb.sender(ADDRESS1);
+      producer.setWriteQueueMaxSize(2);
+      producer.write(0);
+      producer.write(1);
+      assertTrue(producer.writeQueueFull());
+      producer.drainHandler(v2 -> {
+        assertFalse(producer.writeQueueFull());
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testSenderFlowControlCloseFailsPendingWrites() {
+    eb.consumer(ADDRESS1).pause().handler(msg -> {});
+    vertx.runOnContext(v -> {
+      MessageProducer<Integer> producer = eb.sender(ADDRESS1);
+      producer.setWriteQueueMaxSize(1);
+      producer.write(0);
+      producer.write(1).onComplete(onFailure(err -> testComplete()));
+      producer.close();
+    });
+    await();
+  }
+
+  @Test
+  public void testSenderFlowControlCreditTimeout() {
+    MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1);
+    consumer.handler(msg -> fail());
+    consumer.pause();
+    vertx.runOnContext(v -> {
+      MessageProducer<Integer> producer = eb.sender(ADDRESS1, new DeliveryOptions().setSendTimeout(100));
+      producer.setWriteQueueMaxSize(1);
+      producer.write(0);
+      long now = System.currentTimeMillis();
+      producer.write(1).onComplete(onFailure(err -> {
+        assertTrue(System.currentTimeMillis() - now >= 100);
+        assertEquals(ReplyFailure.TIMEOUT, ((ReplyException) err).failureType());
+        assertFalse(producer.writeQueueFull());
+        testComplete();
+      }));
+      assertTrue(producer.writeQueueFull());
+    });
+    await();
+  }
+
+  @Test
+  public void testSenderFlowControlConsumerUnregistered() {
+    MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1);
+    consumer.handler(msg -> fail());
+    consumer.pause();
+    consumer.completion().onComplete(onSuccess(v -> {
+      MessageProducer<Integer> producer = eb.sender(ADDRESS1);
+      producer.setWriteQueueMaxSize(1);
+      producer.write(0);
+      producer.write(1).onComplete(onFailure(err -> {
+        assertEquals(ReplyFailure.NO_HANDLERS, ((ReplyException) err).failureType());
+        assertFalse(producer.writeQueueFull());
+        // The window is reset
+        producer.write(2).onComplete(onFailure(err2 -> testComplete()));
+        assertFalse(producer.writeQueueFull());
+      }));
+      producer.write(2).onComplete(onFailure(err -> {
+        assertEquals(ReplyFailure.NO_HANDLERS, ((ReplyException) err).failureType());
+      }));
+      consumer.unregister();
+    }));
+    await();
+  }
+
+  @Test
+  public void testPublisherFlowControl() {
+    assertIllegalStateException(() -> eb.publisher(ADDRESS1).setWriteQueueMaxSize(10));
+  }
+
   @Test
   public void testCloseSender1() {
     eb.sender(ADDRESS1).close();
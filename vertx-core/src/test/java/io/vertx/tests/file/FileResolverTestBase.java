@@ -244,6 +244,22 @@ public abstract class FileResolverTestBase extends VertxTestBase {
     assertFalse(cacheDir.exists());
   }
 
+  @Test
+  public void testLazyCacheDir() throws Exception {
+    FileResolverImpl resolver2 = new FileResolverImpl(new FileSystemOptions(), true);
+    File cacheDir = new File(resolver2.cacheDir());
+    assertFalse(cacheDir.exists());
+    resolver2.resolveFile("doesnotexist.txt");
+    assertFalse(cacheDir.exists());
+    File file = resolver2.resolveFile("webroot/somefile.html");
+    assertTrue(file.exists());
+    assertTrue(cacheDir.exists());
+    resolver2.close();
+    assertFalse(cacheDir.exists());
+    // Closing an unused resolver
+    new FileResolverImpl(new FileSystemOptions(), true).close();
+  }
+
   @Test
   public void testCacheDirDeletedOnVertxClose() {
     VertxInternal vertx2 = (VertxInternal) vertx();
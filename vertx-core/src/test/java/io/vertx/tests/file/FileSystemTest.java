@@ -35,6 +35,8 @@ import java.io.IOException;
 import java.nio.channels.OverlappingFileLockException;
 import java.nio.file.*;
 import java.nio.file.attribute.*;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
@@ -1191,6 +1193,33 @@ public class FileSystemTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testWriteBuffers() {
+    String fileName = "some-file.dat";
+    Buffer header = TestUtils.randomBuffer(100);
+    Buffer body = TestUtils.randomBuffer(1000);
+    Buffer trailer = TestUtils.randomBuffer(10);
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions()).onComplete(onSuccess(file -> {
+      file.writeAll(Arrays.asList(header, body, trailer)).onComplete(onSuccess(v1 -> {
+        file.writeAll(Collections.singletonList(header)).onComplete(onSuccess(v2 -> {
+          file.close().onComplete(onSuccess(v3 -> {
+            byte[] readBytes;
+            try {
+              readBytes = Files.readAllBytes(Paths.get(testDir + pathSep + fileName));
+            } catch (IOException e) {
+              fail(e.getMessage());
+              return;
+            }
+            Buffer expected = Buffer.buffer().appendBuffer(header).appendBuffer(body).appendBuffer(trailer).appendBuffer(header);
+            assertEquals(expected, Buffer.buffer(readBytes));
+            testComplete();
+          }));
+        }));
+      }));
+    }));
+    await();
+  }
+
   @Test
   public void testWriteStreamAppend() throws Exception {
     String fileName = "some-file.dat";
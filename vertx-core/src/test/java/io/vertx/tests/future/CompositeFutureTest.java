@@ -577,4 +577,61 @@ public class CompositeFutureTest extends FutureTestBase {
     Future.any(f, Future.succeededFuture());
     assertEquals(Collections.emptySet(), f.listeners);
   }
+
+  @Test
+  public void testJoinEachSuccess() {
+    List<Promise<Integer>> promises = IntStream.range(0, 10).mapToObj(i -> Promise.<Integer>promise()).collect(Collectors.toList());
+    List<Integer> results = new ArrayList<>();
+    Future<Void> join = Future.joinEach(promises.stream().map(Promise::future).collect(Collectors.toList()), (res, err) -> {
+      assertNull(err);
+      results.add(res);
+    });
+    for (int i = promises.size() - 1;i >= 0;i--) {
+      assertFalse(join.isComplete());
+      promises.get(i).complete(i);
+    }
+    assertTrue(join.succeeded());
+    assertEquals(Arrays.asList(9, 8, 7, 6, 5, 4, 3, 2, 1, 0), results);
+  }
+
+  @Test
+  public void testJoinEachFailure() {
+    Promise<Integer> p1 = Promise.promise();
+    Promise<Integer> p2 = Promise.promise();
+    Throwable cause = new Throwable();
+    AtomicInteger count = new AtomicInteger();
+    Future<Void> join = Future.joinEach(Arrays.asList(p1.future(), p2.future()), (res, err) -> count.incrementAndGet());
+    p1.fail(cause);
+    assertFalse(join.isComplete());
+    p2.complete(2);
+    assertTrue(join.failed());
+    assertSame(cause, join.cause());
+    assertEquals(2, count.get());
+  }
+
+  @Test
+  public void testJoinEachEmpty() {
+    assertTrue(Future.joinEach(Collections.<Future<Integer>>emptyList(), (res, err) -> fail()).succeeded());
+  }
+
+  @Repeat(times = 100)
+  @Test
+  public void testConcurrentJoinEach() throws Exception {
+    int num = 1000;
+    List<Promise<Integer>> promises = IntStream.range(0, num).mapToObj(i -> Promise.<Integer>promise()).collect(Collectors.toList());
+    AtomicInteger count = new AtomicInteger();
+    Future<Void> join = Future.joinEach(promises.stream().map(Promise::future).collect(Collectors.toList()), (res, err) -> count.incrementAndGet());
+    ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+    try {
+      for (int i = 0;i < num;i++) {
+        Promise<Integer> promise = promises.get(i);
+        int val = i;
+        executor.execute(() -> promise.complete(val));
+      }
+      join.await(10, TimeUnit.SECONDS);
+      assertEquals(num, count.get());
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
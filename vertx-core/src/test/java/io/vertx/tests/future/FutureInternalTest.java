@@ -12,6 +12,7 @@
 package io.vertx.tests.future;
 
 import io.vertx.core.Completable;
+import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.impl.future.FutureImpl;
 import org.junit.Test;
@@ -47,6 +48,60 @@ public class FutureInternalTest extends FutureTestBase {
     testRemoveListener(fut);
   }
 
+  @Test
+  public void testManyListeners() {
+    FutureImpl<Void> future = (FutureImpl<Void>) Promise.promise();
+    AtomicInteger count = new AtomicInteger();
+    Completable<Void> removed = (value, err) -> fail();
+    for (int i = 0;i < 10;i++) {
+      future.addListener((value, err) -> count.incrementAndGet());
+      if (i == 5) {
+        future.addListener(removed);
+      }
+    }
+    future.removeListener(removed);
+    future.tryComplete(null);
+    assertEquals(10, count.get());
+  }
+
+  @Test
+  public void testFusedOperators() {
+    AtomicInteger listeners = new AtomicInteger();
+    FutureImpl<String> future = new FutureImpl<>() {
+      @Override
+      public void addListener(Completable<String> listener) {
+        listeners.incrementAndGet();
+        super.addListener(listener);
+      }
+    };
+    future.tryComplete("foo");
+    Future<Integer> fut = future
+      .map(String::length)
+      .compose(len -> Future.succeededFuture(len + 1))
+      .map(len -> len * 2);
+    assertTrue(fut.isComplete());
+    assertEquals(8, (int) fut.result());
+    RuntimeException cause = new RuntimeException();
+    Future<Integer> failed = future
+      .<Integer>map(s -> {
+        throw cause;
+      })
+      .map(len -> len + 1);
+    assertTrue(failed.failed());
+    assertSame(cause, failed.cause());
+    assertEquals(4, (int) failed.otherwise(4).result());
+    AtomicInteger callbacks = new AtomicInteger();
+    future
+      .onSuccess(s -> callbacks.incrementAndGet())
+      .onFailure(err -> fail())
+      .onComplete(ar -> callbacks.incrementAndGet());
+    assertEquals(2, callbacks.get());
+    assertEquals("foo", future.otherwise("bar").result());
+    assertEquals("foo", future.compose(s -> Future.succeededFuture(s), err -> Future.failedFuture(err)).result());
+    // Operators applied to a completed future are evaluated without registering a listener
+    assertEquals(0, listeners.get());
+  }
+
   private void testRemoveListener(FutureImpl<Void> future) {
     AtomicInteger count = new AtomicInteger();
     Completable<Void> listener = (value, err) -> count.incrementAndGet();
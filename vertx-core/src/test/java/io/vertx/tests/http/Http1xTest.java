@@ -15,6 +15,8 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.EventLoop;
 import io.netty.handler.codec.TooLongFrameException;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.TooLongHttpHeaderException;
 import io.vertx.core.Future;
@@ -163,6 +165,11 @@ public class Http1xTest extends HttpTest {
     assertIllegalArgumentException(() -> options.setPipeliningLimit(0));
     assertIllegalArgumentException(() -> options.setPipeliningLimit(-1));
 
+    assertEquals(HttpClientOptions.DEFAULT_PIPELINING_STALL_TIMEOUT, options.getPipeliningStallTimeout());
+    assertEquals(options, options.setPipeliningStallTimeout(500));
+    assertEquals(500, options.getPipeliningStallTimeout());
+    assertIllegalArgumentException(() -> options.setPipeliningStallTimeout(-1));
+
     assertEquals(HttpClientOptions.DEFAULT_HTTP2_MULTIPLEXING_LIMIT, options.getHttp2MultiplexingLimit());
     rand = TestUtils.randomPositiveInt();
     assertEquals(options, options.setHttp2MultiplexingLimit(rand));
@@ -251,6 +258,57 @@ public class Http1xTest extends HttpTest {
     assertEquals(options, options.setHttp2KeepAliveTimeout(10));
     assertEquals(10, options.getHttp2KeepAliveTimeout());
     assertIllegalArgumentException(() -> options.setHttp2KeepAliveTimeout(-1));
+
+    assertNull(options.getHttp2WindowTuningOptions());
+    Http2WindowTuningOptions windowTuning = new Http2WindowTuningOptions();
+    assertEquals(options, options.setHttp2WindowTuningOptions(windowTuning));
+    assertSame(windowTuning, options.getHttp2WindowTuningOptions());
+    assertEquals(Http2WindowTuningOptions.DEFAULT_MAX_CONNECTION_WINDOW_SIZE, windowTuning.getMaxConnectionWindowSize());
+    assertEquals(Http2WindowTuningOptions.DEFAULT_MAX_STREAM_WINDOW_SIZE, windowTuning.getMaxStreamWindowSize());
+    assertEquals(windowTuning, windowTuning.setMaxConnectionWindowSize(1024 * 1024));
+    assertEquals(1024 * 1024, windowTuning.getMaxConnectionWindowSize());
+    assertIllegalArgumentException(() -> windowTuning.setMaxConnectionWindowSize(0));
+    assertEquals(windowTuning, windowTuning.setMaxStreamWindowSize(512 * 1024));
+    assertEquals(512 * 1024, windowTuning.getMaxStreamWindowSize());
+    assertIllegalArgumentException(() -> windowTuning.setMaxStreamWindowSize(0));
+    Http2WindowTuningOptions copy = new HttpClientOptions(options).getHttp2WindowTuningOptions();
+    assertNotSame(windowTuning, copy);
+    assertEquals(1024 * 1024, copy.getMaxConnectionWindowSize());
+    assertEquals(512 * 1024, copy.getMaxStreamWindowSize());
+  }
+
+  @Test
+  public void testHedgingOptions() {
+    HttpClientOptions options = new HttpClientOptions();
+    assertNull(options.getHedgingOptions());
+    HedgingOptions hedging = new HedgingOptions();
+    assertEquals(options, options.setHedgingOptions(hedging));
+    assertSame(hedging, options.getHedgingOptions());
+    assertEquals(HedgingOptions.DEFAULT_PERCENTILE, hedging.getPercentile(), 0D);
+    assertEquals(HedgingOptions.DEFAULT_MIN_DELAY, hedging.getMinDelay());
+    assertEquals(HedgingOptions.DEFAULT_MAX_DELAY, hedging.getMaxDelay());
+    assertEquals(HedgingOptions.DEFAULT_BUDGET, hedging.getBudget(), 0D);
+    assertEquals(hedging, hedging.setPercentile(0.99));
+    assertEquals(0.99, hedging.getPercentile(), 0D);
+    assertIllegalArgumentException(() -> hedging.setPercentile(0));
+    assertIllegalArgumentException(() -> hedging.setPercentile(1.5));
+    assertEquals(hedging, hedging.setMinDelay(10));
+    assertEquals(10, hedging.getMinDelay());
+    assertIllegalArgumentException(() -> hedging.setMinDelay(0));
+    assertEquals(hedging, hedging.setMaxDelay(500));
+    assertEquals(500, hedging.getMaxDelay());
+    assertEquals(hedging, hedging.setBudget(0.05));
+    assertEquals(0.05, hedging.getBudget(), 0D);
+    assertIllegalArgumentException(() -> hedging.setBudget(-0.1));
+    assertIllegalArgumentException(() -> hedging.setBudget(2));
+    HedgingOptions copy = new HttpClientOptions(options).getHedgingOptions();
+    assertNotSame(hedging, copy);
+    assertEquals(0.99, copy.getPercentile(), 0D);
+    assertEquals(10, copy.getMinDelay());
+    assertEquals(500, copy.getMaxDelay());
+    HedgingOptions json = new HedgingOptions(hedging.toJson());
+    assertEquals(0.99, json.getPercentile(), 0D);
+    assertEquals(0.05, json.getBudget(), 0D);
   }
 
   @Test
@@ -326,6 +384,23 @@ public class Http1xTest extends HttpTest {
     assertEquals(options, options.setCompressionSupported(true));
     assertTrue(options.isCompressionSupported());
 
+    assertEquals(0, options.getCompressionContentSizeThreshold());
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setCompressionContentSizeThreshold(rand));
+    assertEquals(rand, options.getCompressionContentSizeThreshold());
+    assertIllegalArgumentException(() -> options.setCompressionContentSizeThreshold(-1));
+
+    assertNull(options.getContentTypeCompressors());
+    assertEquals(options, options.addContentTypeCompressor("Application/JSON", StandardCompressionOptions.gzip()));
+    assertEquals(Collections.singleton("application/json"), options.getContentTypeCompressors().keySet());
+    assertIllegalArgumentException(() -> options.addContentTypeCompressor("text/*", new DictionaryCompressionOptions(Buffer.buffer("dictionary"))));
+    List<CompressionOptions> compressors = new ArrayList<>(Collections.singletonList(StandardCompressionOptions.deflate()));
+    assertEquals(options, options.setContentTypeCompressors(Collections.singletonMap("Text/*", compressors)));
+    assertEquals(Collections.singleton("text/*"), options.getContentTypeCompressors().keySet());
+    compressors.clear();
+    assertEquals(1, options.getContentTypeCompressors().get("text/*").size());
+    assertIllegalArgumentException(() -> options.setContentTypeCompressors(Collections.singletonMap("text/*", Collections.singletonList(new DictionaryCompressionOptions(Buffer.buffer("dictionary"))))));
+
     assertEquals(65536, options.getMaxWebSocketFrameSize());
     rand = TestUtils.randomPositiveInt();
     assertEquals(options, options.setMaxWebSocketFrameSize(rand));
@@ -359,6 +434,10 @@ public class Http1xTest extends HttpTest {
     assertEquals(options, options.setHandle100ContinueAutomatically(true));
     assertTrue(options.isHandle100ContinueAutomatically());
 
+    assertFalse(options.isSendDateHeader());
+    assertEquals(options, options.setSendDateHeader(true));
+    assertTrue(options.isSendDateHeader());
+
     assertEquals(false, options.isUseAlpn());
     assertEquals(options, options.setUseAlpn(true));
     assertEquals(true, options.isUseAlpn());
@@ -393,6 +472,24 @@ public class Http1xTest extends HttpTest {
     assertEquals(256, options.getDecoderInitialBufferSize());
     assertIllegalArgumentException(() -> options.setDecoderInitialBufferSize(-1));
 
+    assertEquals(HttpServerOptions.DEFAULT_HTTP2_ENCODER_HEADER_TABLE_SIZE, options.getHttp2EncoderHeaderTableSize());
+    assertEquals(options, options.setHttp2EncoderHeaderTableSize(65536));
+    assertEquals(65536, options.getHttp2EncoderHeaderTableSize());
+    assertIllegalArgumentException(() -> options.setHttp2EncoderHeaderTableSize(-2));
+
+    assertEquals(HttpServerOptions.DEFAULT_HTTP2_HEADER_CACHE_SIZE, options.getHttp2HeaderCacheSize());
+    assertEquals(options, options.setHttp2HeaderCacheSize(0));
+    assertEquals(0, options.getHttp2HeaderCacheSize());
+    assertIllegalArgumentException(() -> options.setHttp2HeaderCacheSize(-1));
+
+    assertNull(options.getHttp2WindowTuningOptions());
+    Http2WindowTuningOptions windowTuning = new Http2WindowTuningOptions().setMaxStreamWindowSize(1024 * 1024);
+    assertEquals(options, options.setHttp2WindowTuningOptions(windowTuning));
+    assertSame(windowTuning, options.getHttp2WindowTuningOptions());
+    Http2WindowTuningOptions copy = new HttpServerOptions(options).getHttp2WindowTuningOptions();
+    assertNotSame(windowTuning, copy);
+    assertEquals(1024 * 1024, copy.getMaxStreamWindowSize());
+
   }
 
   @Test
@@ -537,6 +634,30 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.getDecoderInitialBufferSize(), json.getDecoderInitialBufferSize());
     assertEquals(def.getKeepAliveTimeout(), json.getKeepAliveTimeout());
     assertEquals(def.getHttp2KeepAliveTimeout(), json.getHttp2KeepAliveTimeout());
+    assertEquals(def.getHttp2WindowTuningOptions(), json.getHttp2WindowTuningOptions());
+  }
+
+  @Test
+  public void testPoolOptionsJson() {
+    PoolOptions def = new PoolOptions();
+    PoolOptions json = new PoolOptions(new JsonObject());
+    assertEquals(def.getHttp1MaxSize(), json.getHttp1MaxSize());
+    assertEquals(def.getMaxWaitQueueSize(), json.getMaxWaitQueueSize());
+    assertEquals(PoolOptions.DEFAULT_CONNECTION_SELECTION_POLICY, json.getConnectionSelectionPolicy());
+    PoolOptions options = new PoolOptions(new JsonObject().put("connectionSelectionPolicy", "LEAST_RESPONSE_TIME"));
+    assertEquals(ConnectionSelectionPolicy.LEAST_RESPONSE_TIME, options.getConnectionSelectionPolicy());
+    assertEquals("LEAST_RESPONSE_TIME", options.toJson().getString("connectionSelectionPolicy"));
+    assertEquals(ConnectionSelectionPolicy.LEAST_RESPONSE_TIME, new PoolOptions(options).getConnectionSelectionPolicy());
+    assertNullPointerException(() -> options.setConnectionSelectionPolicy(null));
+    assertEquals(PoolOptions.DEFAULT_MIN_IDLE, json.getMinIdle());
+    assertEquals(PoolOptions.DEFAULT_EVICTION_JITTER, json.getEvictionJitter());
+    PoolOptions warm = new PoolOptions(new JsonObject().put("minIdle", 2).put("evictionJitter", 500));
+    assertEquals(2, warm.getMinIdle());
+    assertEquals(500, warm.getEvictionJitter());
+    assertEquals(2, new PoolOptions(warm).getMinIdle());
+    assertEquals(500, (int) new PoolOptions(warm).toJson().getInteger("evictionJitter"));
+    assertIllegalArgumentException(() -> warm.setMinIdle(-1));
+    assertIllegalArgumentException(() -> warm.setEvictionJitter(-1));
   }
 
   @Test
@@ -735,6 +856,7 @@ public class Http1xTest extends HttpTest {
     String host = TestUtils.randomAlphaString(100);
     int acceptBacklog = TestUtils.randomPortInt();
     boolean compressionSupported = rand.nextBoolean();
+    int compressionContentSizeThreshold = TestUtils.randomPositiveInt();
     int maxWebSocketFrameSize = TestUtils.randomPositiveInt();
     List<String> wsSubProtocols = Arrays.asList(TestUtils.randomAlphaString(10));
     boolean is100ContinueHandledAutomatically = rand.nextBoolean();
@@ -767,9 +889,11 @@ public class Http1xTest extends HttpTest {
     options.setHost(host);
     options.setAcceptBacklog(acceptBacklog);
     options.setCompressionSupported(compressionSupported);
+    options.setCompressionContentSizeThreshold(compressionContentSizeThreshold);
     options.setMaxWebSocketFrameSize(maxWebSocketFrameSize);
     options.setWebSocketSubProtocols(wsSubProtocols);
     options.setHandle100ContinueAutomatically(is100ContinueHandledAutomatically);
+    options.setSendDateHeader(true);
     options.setMaxChunkSize(maxChunkSize);
     options.setUseAlpn(useAlpn);
     options.setHttp2ConnectionWindowSize(http2ConnectionWindowSize);
@@ -815,6 +939,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.getMaxWebSocketFrameSize(), json.getMaxWebSocketFrameSize());
     assertEquals(def.getWebSocketSubProtocols(), json.getWebSocketSubProtocols());
     assertEquals(def.isCompressionSupported(), json.isCompressionSupported());
+    assertEquals(def.getCompressionContentSizeThreshold(), json.getCompressionContentSizeThreshold());
     assertEquals(def.getCrlPaths(), json.getCrlPaths());
     assertEquals(def.getCrlValues(), json.getCrlValues());
     assertEquals(def.getAcceptBacklog(), json.getAcceptBacklog());
@@ -825,6 +950,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.getSoLinger(), json.getSoLinger());
     assertEquals(def.isSsl(), json.isSsl());
     assertEquals(def.isHandle100ContinueAutomatically(), json.isHandle100ContinueAutomatically());
+    assertEquals(def.isSendDateHeader(), json.isSendDateHeader());
     assertEquals(def.getMaxChunkSize(), json.getMaxChunkSize());
     assertEquals(def.getMaxInitialLineLength(), json.getMaxInitialLineLength());
     assertEquals(def.getMaxHeaderSize(), json.getMaxHeaderSize());
@@ -836,6 +962,9 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.isDecompressionSupported(), json.isDecompressionSupported());
     assertEquals(def.isAcceptUnmaskedFrames(), json.isAcceptUnmaskedFrames());
     assertEquals(def.getDecoderInitialBufferSize(), json.getDecoderInitialBufferSize());
+    assertEquals(def.getHttp2EncoderHeaderTableSize(), json.getHttp2EncoderHeaderTableSize());
+    assertEquals(def.getHttp2HeaderCacheSize(), json.getHttp2HeaderCacheSize());
+    assertEquals(def.getHttp2WindowTuningOptions(), json.getHttp2WindowTuningOptions());
   }
 
   @Test
@@ -1103,6 +1232,167 @@ public class Http1xTest extends HttpTest {
     await();
   }
 
+  @Test
+  public void testLeastInFlightConnectionSelection() throws Exception {
+    testConnectionSelection(ConnectionSelectionPolicy.LEAST_IN_FLIGHT);
+  }
+
+  @Test
+  public void testLeastResponseTimeConnectionSelection() throws Exception {
+    testConnectionSelection(ConnectionSelectionPolicy.LEAST_RESPONSE_TIME);
+  }
+
+  private void testConnectionSelection(ConnectionSelectionPolicy policy) throws Exception {
+    int num = 3;
+    Set<HttpConnection> connections = ConcurrentHashMap.newKeySet();
+    List<HttpServerRequest> pending = Collections.synchronizedList(new ArrayList<>());
+    server.requestHandler(req -> {
+      connections.add(req.connection());
+      if (req.path().equals("/warmup")) {
+        req.response().end();
+      } else if (pending.add(req) && pending.size() == num) {
+        pending.forEach(r -> r.response().end());
+      }
+    });
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions().setPipelining(true),
+      new PoolOptions().setHttp1MaxSize(num).setConnectionSelectionPolicy(policy));
+    client.request(new RequestOptions(requestOptions).setURI("/warmup"))
+      .compose(req -> req.send().compose(HttpClientResponse::end))
+      .await();
+    assertEquals(1, connections.size());
+    // Requests are sent on new connections instead of being pipe-lined on the connection with in-flight requests
+    List<Future<Void>> responses = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      responses.add(client.request(requestOptions)
+        .compose(req -> req.send().compose(HttpClientResponse::end)));
+    }
+    Future.all(responses).await();
+    assertEquals(num, connections.size());
+  }
+
+  @Test
+  public void testWarmUp() throws Exception {
+    Set<HttpConnection> connections = ConcurrentHashMap.newKeySet();
+    server.requestHandler(req -> req.response().end());
+    startServer(testAddress);
+    client.close();
+    client = vertx.httpClientBuilder()
+      .with(createBaseClientOptions())
+      .with(new PoolOptions().setHttp1MaxSize(4))
+      .withConnectHandler(connections::add)
+      .build();
+    client.warmUp(requestOptions, 3).await();
+    assertEquals(3, connections.size());
+    // Idle connections are already there
+    client.warmUp(requestOptions, 3).await();
+    assertEquals(3, connections.size());
+    // Warmed connections are used by requests
+    List<Future<Void>> responses = new ArrayList<>();
+    for (int i = 0;i < 3;i++) {
+      responses.add(client.request(requestOptions)
+        .compose(req -> req.send().compose(HttpClientResponse::end)));
+    }
+    Future.all(responses).await();
+    assertEquals(3, connections.size());
+    // Capped by the pool max size
+    client.warmUp(requestOptions, 10).await();
+    assertEquals(4, connections.size());
+  }
+
+  @Test
+  public void testWarmUpFailure() throws Exception {
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions(), new PoolOptions().setHttp1MaxSize(4));
+    try {
+      client.warmUp(requestOptions, 2).await();
+      fail();
+    } catch (Exception expected) {
+    }
+  }
+
+  @Test
+  public void testMinIdle() throws Exception {
+    AtomicInteger connections = new AtomicInteger();
+    server.requestHandler(req -> req.response().end());
+    startServer(testAddress);
+    client.close();
+    client = vertx.httpClientBuilder()
+      .with(createBaseClientOptions().setKeepAliveTimeout(1))
+      .with(new PoolOptions().setHttp1MaxSize(4).setMinIdle(2).setCleanerPeriod(100))
+      .withConnectHandler(conn -> connections.incrementAndGet())
+      .build();
+    client.request(requestOptions)
+      .compose(req -> req.send().compose(HttpClientResponse::end))
+      .await();
+    // The pool replenishes the idle connections, including those expired by the keep alive timeout
+    assertWaitUntil(() -> connections.get() >= 4, 10_000);
+  }
+
+  @Test
+  public void testEvictionJitter() throws Exception {
+    int num = 4;
+    List<Long> closed = Collections.synchronizedList(new ArrayList<>());
+    List<HttpServerRequest> pending = Collections.synchronizedList(new ArrayList<>());
+    server.connectionHandler(conn -> conn.closeHandler(v -> closed.add(System.currentTimeMillis())));
+    server.requestHandler(req -> {
+      if (pending.add(req) && pending.size() == num) {
+        pending.forEach(r -> r.response().end());
+      }
+    });
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions().setKeepAliveTimeout(2),
+      new PoolOptions().setHttp1MaxSize(num).setEvictionJitter(1500).setCleanerPeriod(50));
+    List<Future<Void>> responses = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      responses.add(client.request(requestOptions)
+        .compose(req -> req.send().compose(HttpClientResponse::end)));
+    }
+    long now = System.currentTimeMillis();
+    Future.all(responses).await();
+    assertWaitUntil(() -> closed.size() == num, 10_000);
+    // Connections used together are evicted at random times of the jitter window, before the keep alive timeout
+    assertTrue(Collections.min(closed) - now < 2000);
+    assertTrue(Collections.max(closed) - now < 2000 + 500);
+  }
+
+  @Test
+  public void testPipeliningStallTimeout() throws Exception {
+    List<HttpConnection> connections = Collections.synchronizedList(new ArrayList<>());
+    Promise<HttpServerRequest> stalled = Promise.promise();
+    server.requestHandler(req -> {
+      connections.add(req.connection());
+      if (req.path().equals("/stalled")) {
+        stalled.complete(req);
+      } else {
+        req.response().end();
+      }
+    });
+    startServer(testAddress);
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions().setPipelining(true).setPipeliningStallTimeout(100),
+      new PoolOptions().setHttp1MaxSize(2));
+    client.request(requestOptions)
+      .compose(req -> req.send().compose(HttpClientResponse::end))
+      .await();
+    Future<HttpClientResponse> stalledResponse = client.request(new RequestOptions(requestOptions).setURI("/stalled"))
+      .compose(HttpClientRequest::send);
+    HttpServerRequest stalledRequest = stalled.future().await();
+    Thread.sleep(200);
+    // The connection is stalled, the request is sent on another connection instead of being blocked
+    client.request(requestOptions)
+      .compose(req -> req.send().compose(HttpClientResponse::end))
+      .await(10, TimeUnit.SECONDS);
+    assertFalse(stalledResponse.isComplete());
+    assertEquals(3, connections.size());
+    assertSame(connections.get(0), connections.get(1));
+    assertNotSame(connections.get(1), connections.get(2));
+    stalledRequest.response().end();
+    assertEquals(200, stalledResponse.await().statusCode());
+  }
+
   @Test
   @Repeat(times = 10)
   public void testCloseServerConnectionWithPendingMessages() throws Exception {
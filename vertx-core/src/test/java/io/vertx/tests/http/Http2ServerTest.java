@@ -29,6 +29,10 @@ import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.codec.http2.AbstractHttp2ConnectionHandlerBuilder;
 import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import io.netty.handler.codec.http2.DefaultHttp2ConnectionDecoder;
+import io.netty.handler.codec.http2.DefaultHttp2ConnectionEncoder;
+import io.netty.handler.codec.http2.DefaultHttp2FrameReader;
+import io.netty.handler.codec.http2.DefaultHttp2FrameWriter;
 import io.netty.handler.codec.http2.DefaultHttp2Headers;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2ConnectionDecoder;
@@ -37,6 +41,7 @@ import io.netty.handler.codec.http2.Http2ConnectionHandler;
 import io.netty.handler.codec.http2.Http2Error;
 import io.netty.handler.codec.http2.Http2EventAdapter;
 import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2FrameReader;
 import io.netty.handler.codec.http2.Http2Flags;
 import io.netty.handler.codec.http2.Http2FrameAdapter;
 import io.netty.handler.codec.http2.Http2Headers;
@@ -124,6 +129,7 @@ public class Http2ServerTest extends Http2TestBase {
   class TestClient {
 
     final Http2Settings settings = new Http2Settings();
+    Http2FrameReader frameReader;
 
     public class Connection {
       public final Channel channel;
@@ -201,7 +207,12 @@ public class Http2ServerTest extends Http2TestBase {
       }
 
       public TestClientHandler build(Http2Connection conn) {
-        connection(conn);
+        if (frameReader != null) {
+          Http2ConnectionEncoder encoder = new DefaultHttp2ConnectionEncoder(conn, new DefaultHttp2FrameWriter());
+          codec(new DefaultHttp2ConnectionDecoder(conn, encoder, frameReader), encoder);
+        } else {
+          connection(conn);
+        }
         initialSettings(settings);
         frameListener(new Http2EventAdapter() {
           @Override
@@ -307,6 +318,58 @@ public class Http2ServerTest extends Http2TestBase {
     await();
   }
 
+  @Test
+  public void testEncoderHeaderTableSizeWithDefaultClientSettings() throws Exception {
+    testEncoderHeaderTableSize(null, 256, 256);
+  }
+
+  @Test
+  public void testEncoderHeaderTableSizeClampsClientSettings() throws Exception {
+    testEncoderHeaderTableSize(64 * 1024L, 256, 256);
+  }
+
+  @Test
+  public void testEncoderHeaderTableSizeAboveClientSettings() throws Exception {
+    testEncoderHeaderTableSize(128L, 256, 128);
+  }
+
+  @Test
+  public void testEncoderHeaderTableSizeDisabled() throws Exception {
+    testEncoderHeaderTableSize(64 * 1024L, -1, 64 * 1024);
+  }
+
+  private void testEncoderHeaderTableSize(Long clientHeaderTableSize, long encoderHeaderTableSize, long expected) throws Exception {
+    server.close();
+    server = vertx.createHttpServer(serverOptions.setHttp2EncoderHeaderTableSize(encoderHeaderTableSize));
+    server.requestHandler(req -> req.response().putHeader("x-custom", "custom-value").end());
+    startServer();
+    TestClient client = new TestClient();
+    DefaultHttp2FrameReader frameReader = new DefaultHttp2FrameReader();
+    client.frameReader = frameReader;
+    if (clientHeaderTableSize != null) {
+      client.settings.headerTableSize(clientHeaderTableSize);
+    }
+    ChannelFuture fut = client.connect(DEFAULT_HTTPS_PORT, DEFAULT_HTTPS_HOST, request -> {
+      int id = request.nextStreamId();
+      request.decoder.frameListener(new Http2EventAdapter() {
+        @Override
+        public void onHeadersRead(ChannelHandlerContext ctx, int streamId, Http2Headers headers, int streamDependency, short weight, boolean exclusive, int padding, boolean endStream) throws Http2Exception {
+          // The decoder table is resized by the table size updates of the server encoder
+          long size = frameReader.headersConfiguration().maxHeaderTableSize();
+          vertx.runOnContext(v -> {
+            assertEquals("custom-value", headers.get("x-custom").toString());
+            assertEquals(expected, size);
+            testComplete();
+          });
+        }
+      });
+      request.encoder.writeHeaders(request.context, id, GET("/").authority(DEFAULT_HTTPS_HOST_AND_PORT), 0, true, request.context.newPromise());
+      request.context.flush();
+    });
+    fut.sync();
+    await();
+  }
+
   @Test
   public void testServerSettings() throws Exception {
     waitFor(2);
@@ -19,6 +19,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.*;
+import io.vertx.core.net.FlushConsolidationOptions;
 import io.vertx.core.net.JdkSSLEngineOptions;
 import io.vertx.core.net.OpenSSLEngineOptions;
 import io.vertx.core.net.SSLEngineOptions;
@@ -217,6 +218,92 @@ public class Http2Test extends HttpTest {
     await();
   }
 
+  @Test
+  public void testFlushConsolidation() throws Exception {
+    int numRequests = 20;
+    Buffer body = TestUtils.randomBuffer(256 * 1024);
+    server.close();
+    client.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setFlushConsolidationOptions(new FlushConsolidationOptions()));
+    client = vertx.createHttpClient(createBaseClientOptions().setFlushConsolidationOptions(new FlushConsolidationOptions()),
+      new PoolOptions().setHttp2MaxSize(1));
+    server.requestHandler(req -> {
+      req.body().onComplete(onSuccess(received -> {
+        // Respond outside of a read
+        vertx.setTimer(1, id -> req.response().end(received));
+      }));
+    });
+    startServer(testAddress);
+    waitFor(numRequests);
+    for (int i = 0;i < numRequests;i++) {
+      client.request(new RequestOptions(requestOptions).setMethod(HttpMethod.POST))
+        .compose(req -> req
+          .send(body)
+          .expecting(HttpResponseExpectation.SC_OK)
+          .compose(HttpClientResponse::body))
+        .onComplete(onSuccess(received -> {
+          assertEquals(body, received);
+          complete();
+        }));
+    }
+    await();
+  }
+
+  @Test
+  public void testHeaderValuesInterning() throws Exception {
+    List<String> values = Collections.synchronizedList(new ArrayList<>());
+    server.requestHandler(req -> {
+      values.add(req.headers().get("x-custom"));
+      values.add(req.path());
+      req.response().end();
+    });
+    startServer(testAddress);
+    for (int i = 0;i < 2;i++) {
+      client.request(new RequestOptions(requestOptions).setURI("/some/path").putHeader("x-custom", "custom-value"))
+        .compose(req -> req.send().compose(HttpClientResponse::end))
+        .await();
+    }
+    assertEquals(4, values.size());
+    assertEquals("custom-value", values.get(0));
+    assertSame(values.get(0), values.get(2));
+    assertEquals("/some/path", values.get(1));
+    assertSame(values.get(1), values.get(3));
+  }
+
+  @Test
+  public void testEncoderHeaderTableSize() throws Exception {
+    server.close();
+    client.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setHttp2EncoderHeaderTableSize(0));
+    client = vertx.createHttpClient(createBaseClientOptions()
+      .setInitialSettings(new Http2Settings().setHeaderTableSize(64 * 1024)), new PoolOptions().setHttp2MaxSize(1));
+    server.requestHandler(req -> req.response().putHeader("x-custom", "custom-value").end());
+    startServer(testAddress);
+    for (int i = 0;i < 4;i++) {
+      HttpClientResponse resp = client.request(requestOptions)
+        .compose(req -> req.send())
+        .await();
+      assertEquals("custom-value", resp.getHeader("x-custom"));
+    }
+  }
+
+  @Test
+  public void testWindowTuning() throws Exception {
+    Buffer body = TestUtils.randomBuffer(16 * 1024 * 1024);
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions()
+      .setHttp2WindowTuningOptions(new Http2WindowTuningOptions()), new PoolOptions().setHttp2MaxSize(1));
+    server.requestHandler(req -> req.response().end(body));
+    startServer(testAddress);
+    HttpClientResponse resp = client.request(requestOptions)
+      .compose(HttpClientRequest::send)
+      .await();
+    assertEquals(body, resp.body().await());
+    HttpConnection conn = resp.request().connection();
+    assertTrue(conn.getWindowSize() > Http2CodecUtil.DEFAULT_WINDOW_SIZE);
+    assertTrue(conn.getWindowSize() <= Http2WindowTuningOptions.DEFAULT_MAX_CONNECTION_WINDOW_SIZE);
+  }
+
   @Test
   public void testResetClientRequestNotYetSent() throws Exception {
     server.close();
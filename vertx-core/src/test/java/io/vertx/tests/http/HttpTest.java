@@ -13,6 +13,7 @@ package io.vertx.tests.http;
 
 import io.netty.channel.ConnectTimeoutException;
 import io.netty.channel.EventLoop;
+import io.netty.handler.codec.DateFormatter;
 import io.netty.handler.codec.compression.DecompressionException;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -1167,6 +1168,61 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testResponseHeadersPreEncoded() throws Exception {
+    MultiMap preEncoded = HttpHeaders.preEncoded(HttpHeaders.headers()
+      .add("server", "vert.x")
+      .add("x-foo", "foo_value")
+      .add("x-bar", "bar_value"));
+    server.requestHandler(req -> {
+      req.response().headers().addAll(preEncoded).remove("x-bar");
+      req.response().end("hello");
+    });
+    startServer(testAddress);
+    client.request(requestOptions)
+      .compose(req -> req
+        .send()
+        .compose(resp -> resp.body().map(body -> {
+          assertEquals("hello", body.toString());
+          return resp.headers();
+        })))
+      .onComplete(onSuccess(respHeaders -> {
+        assertEquals("vert.x", respHeaders.get("server"));
+        assertEquals("foo_value", respHeaders.get("x-foo"));
+        assertNull(respHeaders.get("x-bar"));
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testSendDateHeader() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setSendDateHeader(true));
+    server.requestHandler(req -> {
+      if (req.path().equals("/custom")) {
+        req.response().putHeader(HttpHeaders.DATE, "Sun, 06 Nov 1994 08:49:37 GMT");
+      }
+      req.response().end();
+    });
+    startServer(testAddress);
+    long before = System.currentTimeMillis() / 1000 * 1000;
+    client.request(new RequestOptions(requestOptions).setURI("/"))
+      .compose(req -> req.send().compose(resp -> resp.end().map(resp.getHeader(HttpHeaders.DATE))))
+      .compose(date -> {
+        long time = DateFormatter.parseHttpDate(date).getTime();
+        assertTrue(time >= before);
+        assertTrue(time <= System.currentTimeMillis());
+        return client.request(new RequestOptions(requestOptions).setURI("/custom"));
+      })
+      .compose(req -> req.send().compose(resp -> resp.end().map(resp.getHeader(HttpHeaders.DATE))))
+      .onComplete(onSuccess(date -> {
+        assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", date);
+        testComplete();
+      }));
+    await();
+  }
+
   @Test
   public void testResponseMultipleSetCookieInHeader() throws Exception {
     testResponseMultipleSetCookie(true, false);
@@ -1918,6 +1974,27 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testResponseBodyWriteBuffers() throws Exception {
+    Buffer header = TestUtils.randomBuffer(10);
+    Buffer body = TestUtils.randomBuffer(1000);
+    Buffer trailer = TestUtils.randomBuffer(5);
+    Buffer expected = Buffer.buffer().appendBuffer(header).appendBuffer(body).appendBuffer(trailer);
+    server.requestHandler(req -> {
+      HttpServerResponse resp = req.response().setChunked(true);
+      resp.writeAll(Arrays.asList(header, body, trailer)).onComplete(onSuccess(v -> resp.end()));
+    });
+    startServer(testAddress);
+    client.request(requestOptions)
+      .compose(req -> req
+        .send()
+        .expecting(HttpResponseExpectation.SC_OK)
+        .compose(HttpClientResponse::body)
+        .expecting(that(buff -> assertEquals(expected, buff))))
+      .onComplete(onSuccess(v -> testComplete()));
+    await();
+  }
+
   @Test
   public void testResponseBodyWriteChunked() throws Exception {
     testResponseBodyWrite(true);
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.http.compression;
+
+import com.github.luben.zstd.ZstdInputStreamNoFinalizer;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.DictionaryCompressionOptions;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.test.http.HttpTestBase;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+
+public abstract class DictionaryCompressionTest extends HttpTestBase {
+
+  private static final String DICTIONARY = "{\"id\":0,\"name\":\"\",\"description\":\"\",\"tags\":[],\"price\":0.0,\"available\":true}";
+  private static final String[] CHUNKS = {
+    "[{\"id\":1,\"name\":\"apple\",\"description\":\"a red fruit\",\"tags\":[\"fruit\"],\"price\":1.5,\"available\":true},",
+    "{\"id\":2,\"name\":\"pear\",\"description\":\"a green fruit\",\"tags\":[\"fruit\"],\"price\":2.0,\"available\":false}]"
+  };
+
+  private byte[] dictionary;
+  private byte[] hash;
+  private String availableDictionary;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    dictionary = DICTIONARY.getBytes();
+    hash = MessageDigest.getInstance("SHA-256").digest(dictionary);
+    availableDictionary = ":" + Base64.getEncoder().encodeToString(hash) + ":";
+  }
+
+  private HttpServerOptions serverOptions() {
+    return createBaseServerOptions()
+      .setCompressionSupported(true)
+      .addCompressor(new DictionaryCompressionOptions(Buffer.buffer(dictionary)))
+      .addCompressor(StandardCompressionOptions.gzip());
+  }
+
+  private byte[] decompress(byte[] body) throws IOException {
+    assertTrue(body.length > 40);
+    assertEquals(Arrays.toString(new byte[] { 0x5e, 0x2a, 0x4d, 0x18, 0x20, 0, 0, 0 }), Arrays.toString(Arrays.copyOfRange(body, 0, 8)));
+    assertEquals(Arrays.toString(hash), Arrays.toString(Arrays.copyOfRange(body, 8, 40)));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (InputStream in = new ZstdInputStreamNoFinalizer(new ByteArrayInputStream(body, 40, body.length - 40)).setDict(dictionary)) {
+      byte[] buffer = new byte[256];
+      int len;
+      while ((len = in.read(buffer)) != -1) {
+        out.write(buffer, 0, len);
+      }
+    }
+    return out.toByteArray();
+  }
+
+  @Test
+  public void testDictionaryCompression() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(serverOptions());
+    server.requestHandler(req -> req.response().end(CHUNKS[0] + CHUNKS[1]));
+    startServer();
+    client.request(new RequestOptions()
+        .addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, dcz")
+        .addHeader("available-dictionary", availableDictionary))
+      .compose(req -> req.send().compose(resp -> {
+        assertEquals("dcz", resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("accept-encoding, available-dictionary", resp.getHeader(HttpHeaders.VARY));
+        return resp.body();
+      }))
+      .onComplete(onSuccess(body -> {
+        try {
+          assertEquals(CHUNKS[0] + CHUNKS[1], new String(decompress(body.getBytes())));
+        } catch (IOException e) {
+          fail(e);
+        }
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testDictionaryCompressionMergesVary() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(serverOptions());
+    server.requestHandler(req -> req.response()
+      .putHeader(HttpHeaders.VARY, "origin, Accept-Encoding")
+      .end(CHUNKS[0] + CHUNKS[1]));
+    startServer();
+    client.request(new RequestOptions()
+        .addHeader(HttpHeaders.ACCEPT_ENCODING, "dcz")
+        .addHeader("available-dictionary", availableDictionary))
+      .compose(req -> req.send().compose(resp -> {
+        assertEquals("dcz", resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("origin, Accept-Encoding, available-dictionary", resp.getHeader(HttpHeaders.VARY));
+        return resp.body();
+      }))
+      .onComplete(onSuccess(body -> testComplete()));
+    await();
+  }
+
+  @Test
+  public void testDictionaryCompressionChunked() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(serverOptions());
+    server.requestHandler(req -> {
+      req.response().setChunked(true).write(CHUNKS[0]);
+      vertx.setTimer(10, id -> req.response().end(CHUNKS[1]));
+    });
+    startServer();
+    client.request(new RequestOptions()
+        .addHeader(HttpHeaders.ACCEPT_ENCODING, "dcz")
+        .addHeader("available-dictionary", availableDictionary))
+      .compose(req -> req.send().compose(resp -> {
+        assertEquals("dcz", resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+        return resp.body();
+      }))
+      .onComplete(onSuccess(body -> {
+        try {
+          assertEquals(CHUNKS[0] + CHUNKS[1], new String(decompress(body.getBytes())));
+        } catch (IOException e) {
+          fail(e);
+        }
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testDictionaryNotAvailable() throws Exception {
+    testDictionaryNotUsed("gzip, dcz", ":" + Base64.getEncoder().encodeToString(new byte[32]) + ":");
+  }
+
+  @Test
+  public void testDictionaryNotAdvertised() throws Exception {
+    testDictionaryNotUsed("gzip, dcz", null);
+  }
+
+  @Test
+  public void testDictionaryEncodingNotAccepted() throws Exception {
+    testDictionaryNotUsed("gzip, dcz;q=0", availableDictionary);
+  }
+
+  private void testDictionaryNotUsed(String acceptEncoding, String availableDictionary) throws Exception {
+    server.close();
+    server = vertx.createHttpServer(serverOptions());
+    server.requestHandler(req -> {
+      assertEquals(acceptEncoding, req.getHeader(HttpHeaders.ACCEPT_ENCODING));
+      req.response().end(CHUNKS[0] + CHUNKS[1]);
+    });
+    startServer();
+    RequestOptions options = new RequestOptions().addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+    if (availableDictionary != null) {
+      options.addHeader("available-dictionary", availableDictionary);
+    }
+    client.request(options)
+      .compose(req -> req.send().compose(resp -> {
+        assertEquals("gzip", resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+        return resp.end();
+      }))
+      .onComplete(onSuccess(v -> testComplete()));
+    await();
+  }
+}
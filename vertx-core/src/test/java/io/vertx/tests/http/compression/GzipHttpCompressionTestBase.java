@@ -16,7 +16,12 @@ import io.netty.handler.codec.MessageToByteEncoder;
 import io.netty.handler.codec.compression.JdkZlibEncoder;
 import io.netty.handler.codec.compression.ZlibWrapper;
 
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.test.core.TestUtils;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
@@ -52,4 +57,33 @@ public abstract class GzipHttpCompressionTestBase extends HttpCompressionTest {
   protected void configureServerCompression(HttpServerOptions options) {
     options.setCompressionSupported(true).setCompressionLevel(compressionLevel);
   }
+
+  @Test
+  public void testClientDecompressionChunkSize() throws Exception {
+    // Highly compressible content, a few kilobytes of gzip
+    Buffer content = Buffer.buffer(TestUtils.randomAlphaString(1).repeat(4 * 1024 * 1024));
+    Buffer compressed = compress(content);
+    server.requestHandler(req -> {
+      req.response().putHeader(HttpHeaders.CONTENT_ENCODING, encoding()).end(compressed);
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions().setDecompressionSupported(true));
+    client.request(new RequestOptions())
+      .onComplete(onSuccess(req -> {
+        req.send().onComplete(onSuccess(resp -> {
+          Buffer received = Buffer.buffer();
+          resp.handler(chunk -> {
+            // The largest chunk is a HTTP/2 data frame
+            assertTrue(chunk.length() <= 16 * 1024);
+            received.appendBuffer(chunk);
+          });
+          resp.endHandler(v -> {
+            assertEquals(content, received);
+            testComplete();
+          });
+        }));
+      }));
+    await();
+  }
 }
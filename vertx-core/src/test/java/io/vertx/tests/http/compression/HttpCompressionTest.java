@@ -21,13 +21,19 @@ import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.*;
 import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.parsetools.JsonEventType;
+import io.vertx.core.parsetools.JsonParser;
 import io.vertx.test.http.HttpTestBase;
 import org.junit.Test;
 
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Collections;
 import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static io.vertx.core.http.HttpHeaders.ACCEPT_ENCODING;
@@ -150,6 +156,105 @@ public abstract class HttpCompressionTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testCompressionContentSizeThreshold() throws Exception {
+    waitFor(2);
+    server.close();
+    HttpServerOptions options = createBaseServerOptions();
+    configureServerCompression(options);
+    options.setCompressionContentSizeThreshold(COMPRESS_TEST_STRING.length());
+    server = vertx.createHttpServer(options);
+    server.requestHandler(req -> {
+      String body = req.path().equals("/small") ? COMPRESS_TEST_STRING.substring(1) : COMPRESS_TEST_STRING;
+      req.response().end(body);
+    });
+    startServer();
+    client.request(new RequestOptions()
+        .setURI("/small")
+        .addHeader(HttpHeaders.ACCEPT_ENCODING, encoding()))
+      .compose(req -> req.send().compose(resp -> {
+        assertNull(resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+        return resp.body();
+      }))
+      .onComplete(onSuccess(body -> {
+        assertEquals(COMPRESS_TEST_STRING.substring(1), body.toString());
+        complete();
+      }));
+    client.request(new RequestOptions()
+        .setURI("/large")
+        .addHeader(HttpHeaders.ACCEPT_ENCODING, encoding()))
+      .compose(req -> req.send().compose(resp -> {
+        assertEquals(encoding(), resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+        return resp.body();
+      }))
+      .onComplete(onSuccess(body -> {
+        assertEquals(StringUtil.toHexString(compressedTestString.getBytes()), StringUtil.toHexString(body.getBytes()));
+        complete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testContentTypeCompressors() throws Exception {
+    waitFor(2);
+    server.close();
+    HttpServerOptions options = createBaseServerOptions();
+    configureServerCompression(options);
+    options.setContentTypeCompressors(Collections.singletonMap("image/*", Collections.emptyList()));
+    server = vertx.createHttpServer(options);
+    server.requestHandler(req -> {
+      String contentType = req.path().equals("/image") ? "image/svg+xml" : "text/plain; charset=utf-8";
+      req.response().putHeader(HttpHeaders.CONTENT_TYPE, contentType).end(COMPRESS_TEST_STRING);
+    });
+    startServer();
+    client.request(new RequestOptions()
+        .setURI("/image")
+        .addHeader(HttpHeaders.ACCEPT_ENCODING, encoding()))
+      .compose(req -> req.send().compose(resp -> {
+        assertNull(resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+        return resp.body();
+      }))
+      .onComplete(onSuccess(body -> {
+        assertEquals(COMPRESS_TEST_STRING, body.toString());
+        complete();
+      }));
+    client.request(new RequestOptions()
+        .setURI("/text")
+        .addHeader(HttpHeaders.ACCEPT_ENCODING, encoding()))
+      .compose(req -> req.send().compose(resp -> {
+        assertEquals(encoding(), resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+        return resp.body();
+      }))
+      .onComplete(onSuccess(body -> {
+        assertEquals(StringUtil.toHexString(compressedTestString.getBytes()), StringUtil.toHexString(body.getBytes()));
+        complete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testServerSkipEncodedContent() throws Exception {
+    server.close();
+    HttpServerOptions options = createBaseServerOptions();
+    configureServerCompression(options);
+    server = vertx.createHttpServer(options);
+    server.requestHandler(req -> {
+      req.response().putHeader(HttpHeaders.CONTENT_ENCODING, encoding()).end(compressedTestString);
+    });
+    startServer();
+    client.request(new RequestOptions()
+        .addHeader(HttpHeaders.ACCEPT_ENCODING, encoding()))
+      .compose(req -> req.send().compose(resp -> {
+        assertEquals(encoding(), resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+        return resp.body();
+      }))
+      .onComplete(onSuccess(body -> {
+        assertEquals(StringUtil.toHexString(compressedTestString.getBytes()), StringUtil.toHexString(body.getBytes()));
+        testComplete();
+      }));
+    await();
+  }
+
   @Test
   public void testServerDecompression() throws Exception {
     server.close();
@@ -196,6 +301,41 @@ public abstract class HttpCompressionTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testClientDecompressionJsonStream() throws Exception {
+    int num = 1000;
+    JsonArray array = new JsonArray();
+    for (int i = 0;i < num;i++) {
+      array.add(new JsonObject().put("id", i).put("name", "item-" + i));
+    }
+    Buffer compressed = compress(array.toBuffer());
+    server.requestHandler(req -> {
+      req.response().putHeader(HttpHeaders.CONTENT_ENCODING, encoding()).end(compressed);
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(createBaseClientOptions().setDecompressionSupported(true));
+    client.request(new RequestOptions())
+      .onComplete(onSuccess(req -> {
+        req.send().onComplete(onSuccess(resp -> {
+          AtomicInteger count = new AtomicInteger();
+          JsonParser parser = resp.bodyAsJsonStream().objectValueMode();
+          parser.handler(event -> {
+            if (event.type() == JsonEventType.VALUE) {
+              JsonObject item = event.objectValue();
+              assertEquals(count.get(), (int)item.getInteger("id"));
+              assertEquals("item-" + count.getAndIncrement(), item.getString("name"));
+            }
+          });
+          parser.endHandler(v -> {
+            assertEquals(num, count.get());
+            testComplete();
+          });
+        }));
+      }));
+    await();
+  }
+
   @Test
   public void testClientAcceptEncoding() throws Exception {
     server.close();
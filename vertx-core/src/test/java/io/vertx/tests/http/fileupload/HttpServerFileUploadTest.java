@@ -20,6 +20,7 @@ import io.vertx.core.file.AsyncFile;
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.RequestOptions;
 import io.vertx.test.core.TestUtils;
 import io.vertx.test.http.HttpTestBase;
@@ -33,6 +34,8 @@ import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -531,6 +534,217 @@ public abstract class HttpServerFileUploadTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testFormUploadManyParts() throws Exception {
+    int numParts = 1000;
+    String boundary = "dLV9Wyq26L_-JQxk6ferf-RT153LhOO";
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setMaxFormFields(numParts));
+    Map<String, Buffer> uploads = new HashMap<>();
+    server.requestHandler(req -> {
+      req.setExpectMultipart(true);
+      req.uploadHandler(upload -> {
+        Buffer content = Buffer.buffer();
+        upload.handler(content::appendBuffer);
+        upload.endHandler(v -> uploads.put(upload.filename(), content));
+      });
+      req.endHandler(v -> {
+        MultiMap attrs = req.formAttributes();
+        assertEquals(numParts / 2, attrs.size());
+        assertEquals(numParts / 2, uploads.size());
+        for (int i = 0;i < numParts / 2;i++) {
+          assertEquals("value-" + i, attrs.get("attr" + i));
+          // Content looking like a delimiter
+          assertEquals(Buffer.buffer("\r\n--" + boundary.substring(0, i % boundary.length()) + "\r\n-" + i), uploads.get("file-" + i));
+        }
+        req.response().end();
+      });
+    });
+    startServer(testAddress);
+
+    StringBuilder body = new StringBuilder();
+    for (int i = 0;i < numParts / 2;i++) {
+      body.append("--").append(boundary).append("\r\n")
+        .append("Content-Disposition: form-data; name=\"attr").append(i).append("\"\r\n")
+        .append("\r\n")
+        .append("value-").append(i).append("\r\n");
+      body.append("--").append(boundary).append("\r\n")
+        .append("Content-Disposition: form-data; name=\"file\"; filename=\"file-").append(i).append("\"\r\n")
+        .append("Content-Type: application/octet-stream\r\n")
+        .append("\r\n")
+        .append("\r\n--").append(boundary, 0, i % boundary.length()).append("\r\n-").append(i).append("\r\n");
+    }
+    body.append("--").append(boundary).append("--\r\n");
+    client.request(new RequestOptions(requestOptions).setMethod(HttpMethod.POST).setURI("/form")).onComplete(onSuccess(req -> {
+      req.putHeader(HttpHeaders.CONTENT_TYPE, "multipart/form-data; boundary=" + boundary);
+      req.setChunked(true);
+      // Split the delimiters across buffers
+      for (int i = 0;i < body.length();i += 13) {
+        req.write(body.substring(i, Math.min(i + 13, body.length())));
+      }
+      req.end();
+      req.response().onComplete(onSuccess(resp -> {
+        assertEquals(200, resp.statusCode());
+        testComplete();
+      }));
+    }));
+    await();
+  }
+
+  private static final String BOUNDARY = "dLV9Wyq26L_-JQxk6ferf-RT153LhOO";
+
+  @Test
+  public void testMultipartDelimiterSplitAcrossBuffers() throws Exception {
+    Buffer content = Buffer.buffer("\r\n--" + BOUNDARY.substring(0, 10) + "\r\r\n-" + TestUtils.randomAlphaString(20));
+    String body = "--" + BOUNDARY + "\r\n" +
+      "Content-Disposition: form-data; name=\"attr\"\r\n" +
+      "\r\n" +
+      "value\r\n" +
+      "--" + BOUNDARY + "\r\n" +
+      "Content-Disposition: form-data; name=\"file\"; filename=\"tmp-0.txt\"\r\n" +
+      "\r\n" +
+      content + "\r\n" +
+      "--" + BOUNDARY + "--\r\n";
+    server.requestHandler(req -> {
+      req.setExpectMultipart(true);
+      Buffer received = Buffer.buffer();
+      req.uploadHandler(upload -> upload.handler(received::appendBuffer));
+      req.endHandler(v -> {
+        assertEquals("value", req.getFormAttribute("attr"));
+        assertEquals(content, received);
+        req.response().end();
+      });
+    });
+    startServer(testAddress);
+    // One byte per buffer, every delimiter is split at every position
+    testMultipart(body, 1, 200);
+  }
+
+  @Test
+  public void testMultipartMixed() throws Exception {
+    String body = "--" + BOUNDARY + "\r\n" +
+      "Content-Disposition: form-data; name=\"attr\"\r\n" +
+      "\r\n" +
+      "value\r\n" +
+      "--" + BOUNDARY + "\r\n" +
+      "Content-Disposition: form-data; name=\"files\"\r\n" +
+      "Content-Type: multipart/mixed; boundary=BbC04y\r\n" +
+      "\r\n" +
+      "--BbC04y\r\n" +
+      "Content-Disposition: file; filename=\"file1.txt\"\r\n" +
+      "Content-Type: text/plain\r\n" +
+      "\r\n" +
+      "content-1\r\n" +
+      "--BbC04y\r\n" +
+      "Content-Disposition: attachment; filename=\"file2.gif\"\r\n" +
+      "Content-Type: image/gif\r\n" +
+      "\r\n" +
+      "content-2\r\n" +
+      "--BbC04y--\r\n" +
+      "--" + BOUNDARY + "\r\n" +
+      "Content-Disposition: form-data; name=\"other\"\r\n" +
+      "\r\n" +
+      "other-value\r\n" +
+      "--" + BOUNDARY + "--\r\n";
+    server.requestHandler(req -> {
+      req.setExpectMultipart(true);
+      Map<String, Buffer> uploads = new HashMap<>();
+      req.uploadHandler(upload -> {
+        assertEquals("files", upload.name());
+        Buffer received = Buffer.buffer();
+        upload.handler(received::appendBuffer);
+        upload.endHandler(v -> uploads.put(upload.filename() + ":" + upload.contentType(), received));
+      });
+      req.endHandler(v -> {
+        assertEquals("value", req.getFormAttribute("attr"));
+        assertEquals("other-value", req.getFormAttribute("other"));
+        assertEquals(2, uploads.size());
+        assertEquals(Buffer.buffer("content-1"), uploads.get("file1.txt:text/plain"));
+        assertEquals(Buffer.buffer("content-2"), uploads.get("file2.gif:image/gif"));
+        req.response().end();
+      });
+    });
+    startServer(testAddress);
+    testMultipart(body, 7, 200);
+  }
+
+  @Test
+  public void testMultipartTruncatedBody() throws Exception {
+    String body = "--" + BOUNDARY + "\r\n" +
+      "Content-Disposition: form-data; name=\"file\"; filename=\"tmp-0.txt\"\r\n" +
+      "\r\n" +
+      "some-con";
+    testMultipartFailure(body);
+  }
+
+  @Test
+  public void testMultipartMissingCloseDelimiter() throws Exception {
+    String body = "--" + BOUNDARY + "\r\n" +
+      "Content-Disposition: form-data; name=\"attr\"\r\n" +
+      "\r\n" +
+      "value\r\n" +
+      "--" + BOUNDARY;
+    testMultipartFailure(body);
+  }
+
+  @Test
+  public void testMultipartMaxBufferedBytesPass() throws Exception {
+    testMultipartMaxBufferedBytes(HttpServerOptions.DEFAULT_MAX_FORM_BUFFERED_SIZE, 200);
+  }
+
+  @Test
+  public void testMultipartMaxBufferedBytesFail() throws Exception {
+    testMultipartMaxBufferedBytes(HttpServerOptions.DEFAULT_MAX_FORM_BUFFERED_SIZE + 1, 400);
+  }
+
+  private void testMultipartMaxBufferedBytes(int headersSize, int expectedStatus) throws Exception {
+    // The buffered headers include the empty line ending them
+    StringBuilder headers = new StringBuilder("Content-Disposition: form-data; name=\"attr\"\r\nX-Padding: ");
+    while (headers.length() < headersSize - 4) {
+      headers.append('a');
+    }
+    headers.append("\r\n\r\n");
+    String body = "--" + BOUNDARY + "\r\n" +
+      headers +
+      "value\r\n" +
+      "--" + BOUNDARY + "--\r\n";
+    testMultipartFailure(body, 64, expectedStatus);
+  }
+
+  private void testMultipartFailure(String body) throws Exception {
+    testMultipartFailure(body, 16, 400);
+  }
+
+  private void testMultipartFailure(String body, int chunkSize, int expectedStatus) throws Exception {
+    server.requestHandler(req -> {
+      req.setExpectMultipart(true);
+      req.end()
+        .onComplete(ar -> {
+          req.response().setStatusCode(ar.succeeded() ? 200 : 400).end();
+        });
+    });
+    startServer(testAddress);
+    testMultipart(body, chunkSize, expectedStatus);
+  }
+
+  private void testMultipart(String body, int chunkSize, int expectedStatus) {
+    client.request(new RequestOptions(requestOptions).setMethod(HttpMethod.POST).setURI("/form")).onComplete(onSuccess(req -> {
+      req.putHeader(HttpHeaders.CONTENT_TYPE, "multipart/form-data; boundary=" + BOUNDARY);
+      req.setChunked(true);
+      for (int i = 0;i < body.length();i += chunkSize) {
+        req.write(body.substring(i, Math.min(i + chunkSize, body.length())));
+      }
+      req.end();
+      req
+        .response()
+        .compose(resp -> {
+          assertEquals(expectedStatus, resp.statusCode());
+          return resp.end();
+        }).onComplete(onSuccess(v -> testComplete()));
+    }));
+    await();
+  }
+
   @Test
   public void testMaxFormFieldsDefaultPass() throws Exception {
     testMaxFormFields(256, true);
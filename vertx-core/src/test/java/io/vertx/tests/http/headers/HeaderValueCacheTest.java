@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.http.headers;
+
+import io.netty.util.AsciiString;
+import io.vertx.core.http.impl.headers.HeaderValueCache;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class HeaderValueCacheTest {
+
+  @Test
+  public void testInterning() {
+    HeaderValueCache cache = new HeaderValueCache(16);
+    String s1 = cache.toString(new AsciiString("application/grpc"));
+    String s2 = cache.toString(new AsciiString("application/grpc"));
+    assertEquals("application/grpc", s1);
+    assertSame(s1, s2);
+  }
+
+  @Test
+  public void testCollision() {
+    HeaderValueCache cache = new HeaderValueCache(1);
+    String s1 = cache.toString(new AsciiString("foo"));
+    String s2 = cache.toString(new AsciiString("bar"));
+    assertEquals("foo", s1);
+    assertEquals("bar", s2);
+    assertSame(s2, cache.toString(new AsciiString("bar")));
+    assertEquals("foo", cache.toString(new AsciiString("foo")));
+  }
+
+  @Test
+  public void testCaseSensitive() {
+    HeaderValueCache cache = new HeaderValueCache(16);
+    assertEquals("value", cache.toString(new AsciiString("value")));
+    assertEquals("VALUE", cache.toString(new AsciiString("VALUE")));
+  }
+
+  @Test
+  public void testStringAndNull() {
+    HeaderValueCache cache = new HeaderValueCache(16);
+    String s = "value";
+    assertSame(s, cache.toString(s));
+    assertNull(cache.toString(null));
+  }
+
+  @Test
+  public void testInvalidSize() {
+    assertThrows(IllegalArgumentException.class, () -> new HeaderValueCache(0));
+  }
+}
@@ -11,11 +11,14 @@
 
 package io.vertx.tests.http.headers;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.util.AsciiString;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.impl.headers.HeadersMultiMap;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -299,6 +302,52 @@ public class VertxHttpHeadersTest extends HeadersTest {
     testInvalidChars(cs -> mmap.set(cs, "header_value"), Object::toString);
   }
 
+  @Test
+  public void testPreEncoded() {
+    HeadersMultiMap preEncoded = HeadersMultiMap.preEncoded(HeadersMultiMap.httpHeaders()
+      .add("server", "vert.x")
+      .add("content-type", "text/plain"));
+    assertEquals("vert.x", preEncoded.get("Server"));
+    assertEquals("text/plain", preEncoded.get("Content-Type"));
+    try {
+      preEncoded.set("server", "other");
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+    try {
+      preEncoded.remove("server");
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+    try {
+      preEncoded.clear();
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+    HeadersMultiMap headers = HeadersMultiMap.httpHeaders();
+    headers.add("content-length", "5");
+    headers.addAll(preEncoded);
+    ByteBuf buf = Unpooled.buffer();
+    headers.encode(buf);
+    assertEquals("content-length: 5\r\nserver: vert.x\r\ncontent-type: text/plain\r\n", buf.toString(StandardCharsets.US_ASCII));
+    // Entries of the block can be updated
+    headers.set("content-type", "application/json");
+    headers.remove("server");
+    buf.clear();
+    headers.encode(buf);
+    assertEquals("content-length: 5\r\ncontent-type: application/json\r\n", buf.toString(StandardCharsets.US_ASCII));
+    assertEquals("vert.x", preEncoded.get("server"));
+  }
+
+  @Test
+  public void testPreEncodedValidation() {
+    try {
+      HeadersMultiMap.preEncoded(HeadersMultiMap.caseInsensitive().add("server", "vert.x\r\nfoo: bar"));
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
   public void testInvalidChars(Consumer<CharSequence> consumer, Function<byte[], CharSequence> b) {
     for (int i = 9;i < 10;i++) {
       CharSequence val = b.apply(new byte[]{(byte) i});
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.http.impl;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.impl.VertxHttpRequestDecoder;
+import io.vertx.core.http.impl.headers.HeadersMultiMap;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class VertxHttpRequestDecoderTest {
+
+  private static HttpRequest decode(String s) {
+    EmbeddedChannel channel = new EmbeddedChannel(new VertxHttpRequestDecoder(new HttpServerOptions()));
+    channel.writeInbound(Unpooled.copiedBuffer(s, StandardCharsets.ISO_8859_1));
+    HttpRequest request = channel.readInbound();
+    Object content;
+    while ((content = channel.readInbound()) != null) {
+      ReferenceCountUtil.release(content);
+    }
+    channel.finishAndReleaseAll();
+    return request;
+  }
+
+  private static List<CharSequence> names(HttpRequest request) {
+    List<CharSequence> names = new ArrayList<>();
+    Iterator<Map.Entry<CharSequence, CharSequence>> it = ((HeadersMultiMap) request.headers()).iteratorCharSequence();
+    while (it.hasNext()) {
+      names.add(it.next().getKey());
+    }
+    return names;
+  }
+
+  @Test
+  public void testWellKnownValuesAreShared() {
+    String s = "PUT /path HTTP/1.1\r\nHost: localhost\r\nuser-agent: test\r\nAccept-Encoding: gzip\r\nContent-Length: 0\r\n\r\n";
+    HttpRequest req1 = decode(s);
+    HttpRequest req2 = decode(s);
+    assertSame(HttpMethod.PUT, req1.method());
+    assertSame(HttpVersion.HTTP_1_1, req1.protocolVersion());
+    assertEquals("/path", req1.uri());
+    List<CharSequence> names1 = names(req1);
+    List<CharSequence> names2 = names(req2);
+    assertEquals(4, names1.size());
+    for (int i = 0;i < names1.size();i++) {
+      assertSame(names1.get(i), names2.get(i));
+    }
+    assertEquals("user-agent", names1.get(1).toString());
+    assertEquals("localhost", req1.headers().get("host"));
+    assertEquals("test", req1.headers().get("User-Agent"));
+  }
+
+  @Test
+  public void testUnknownValues() {
+    HttpRequest req = decode("PROPFIND /path HTTP/1.0\r\nX-Custom: value\r\nHOST: localhost\r\n\r\n");
+    assertEquals("PROPFIND", req.method().name());
+    assertSame(HttpVersion.HTTP_1_0, req.protocolVersion());
+    List<CharSequence> names = names(req);
+    assertEquals("X-Custom", names.get(0).toString());
+    assertEquals("HOST", names.get(1).toString());
+    assertEquals("value", req.headers().get("x-custom"));
+    assertEquals("localhost", req.headers().get("Host"));
+  }
+}
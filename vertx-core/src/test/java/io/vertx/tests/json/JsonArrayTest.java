@@ -21,6 +21,7 @@ import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ReadOnlyBufferException;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
@@ -1449,4 +1450,26 @@ public class JsonArrayTest {
   public void testJsonArrayOfEmpty() {
     assertEquals(new JsonArray(), JsonArray.of());
   }
+
+  @Test
+  public void testFreeze() {
+    JsonObject nested = new JsonObject().put("foo", "bar");
+    jsonArray.add("the-string").add(nested).add(new ArrayList<>(Arrays.asList(1, 2))).add(Buffer.buffer("binary"));
+    assertSame(jsonArray, jsonArray.freeze());
+    assertTrue(jsonArray.isFrozen());
+    assertTrue(nested.isFrozen());
+    assertTrue(jsonArray.getJsonArray(2).isFrozen());
+    assertThrows(UnsupportedOperationException.class, () -> jsonArray.add("other"));
+    assertThrows(UnsupportedOperationException.class, () -> jsonArray.set(0, "other"));
+    assertThrows(UnsupportedOperationException.class, () -> jsonArray.remove(0));
+    assertThrows(UnsupportedOperationException.class, () -> jsonArray.getJsonArray(2).add(3));
+    assertThrows(ReadOnlyBufferException.class, () -> jsonArray.getBuffer(3).setByte(0, (byte) 0));
+    JsonArray copy = jsonArray.copy();
+    assertFalse(copy.isFrozen());
+    assertEquals(jsonArray, copy);
+    copy.add("other");
+    copy.getBuffer(3).setByte(0, (byte) 'B');
+    assertEquals(4, jsonArray.size());
+    assertEquals("binary", jsonArray.getBuffer(3).toString());
+  }
 }
@@ -21,6 +21,7 @@ import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ReadOnlyBufferException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -1987,4 +1988,49 @@ public class JsonObjectTest {
   public void testJsonObjectOfEmpty() {
     assertEquals(new JsonObject(), JsonObject.of());
   }
+
+  @Test
+  public void testFreeze() {
+    Map<String, Object> nestedMap = new HashMap<>();
+    nestedMap.put("foo", "bar");
+    JsonObject nested = new JsonObject().put("foo", "bar");
+    jsonObject
+      .put("s", "the-string")
+      .put("o", nested)
+      .put("m", nestedMap)
+      .put("l", new ArrayList<>(Arrays.asList(1, 2)))
+      .put("b", "binary".getBytes());
+    assertFalse(jsonObject.isFrozen());
+    assertSame(jsonObject, jsonObject.freeze());
+    assertTrue(jsonObject.isFrozen());
+    assertTrue(nested.isFrozen());
+    assertTrue(jsonObject.getJsonObject("m").isFrozen());
+    assertTrue(jsonObject.getJsonArray("l").isFrozen());
+    assertEquals("binary", jsonObject.getBuffer("b").toString());
+    assertEquals("the-string", jsonObject.getString("s"));
+    assertThrows(UnsupportedOperationException.class, () -> jsonObject.put("s", "other"));
+    assertThrows(UnsupportedOperationException.class, () -> jsonObject.remove("s"));
+    assertThrows(UnsupportedOperationException.class, () -> jsonObject.clear());
+    assertThrows(UnsupportedOperationException.class, () -> jsonObject.getJsonObject("o").put("foo", "juu"));
+    assertThrows(UnsupportedOperationException.class, () -> jsonObject.getJsonObject("m").put("foo", "juu"));
+    assertThrows(UnsupportedOperationException.class, () -> jsonObject.getJsonArray("l").add(3));
+    assertThrows(ReadOnlyBufferException.class, () -> jsonObject.getBuffer("b").setByte(0, (byte) 0));
+    Iterator<Map.Entry<String, Object>> it = jsonObject.iterator();
+    it.next();
+    assertThrows(UnsupportedOperationException.class, it::remove);
+    // The previous storage is not frozen
+    nestedMap.put("foo", "juu");
+    assertEquals("bar", jsonObject.getJsonObject("m").getString("foo"));
+    // A copy is mutable
+    JsonObject copy = jsonObject.copy();
+    assertFalse(copy.isFrozen());
+    assertEquals(jsonObject, copy);
+    assertEquals(new ArrayList<>(jsonObject.fieldNames()), new ArrayList<>(copy.fieldNames()));
+    copy.put("s", "other");
+    copy.getJsonObject("o").put("foo", "juu");
+    copy.getBuffer("b").setByte(0, (byte) 'B');
+    assertEquals("the-string", jsonObject.getString("s"));
+    assertEquals("binary", jsonObject.getBuffer("b").toString());
+    assertEquals(new JsonObject(jsonObject.encode()), jsonObject);
+  }
 }
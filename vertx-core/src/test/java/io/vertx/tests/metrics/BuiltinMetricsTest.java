@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2011-2024 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.metrics;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.Http2WindowTuningOptions;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientAgent;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpConnectOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.metrics.BuiltinMetrics;
+import io.vertx.core.metrics.impl.Histogram;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.VertxMetricsFactory;
+import io.vertx.test.core.TestUtils;
+import io.vertx.test.core.VertxTestBase;
+import io.vertx.test.http.HttpTestBase;
+import org.junit.Test;
+
+public class BuiltinMetricsTest extends VertxTestBase {
+
+  @Override
+  protected VertxMetricsFactory getMetrics() {
+    return BuiltinMetrics.factory();
+  }
+
+  @Test
+  public void testHistogram() {
+    Histogram histogram = new Histogram();
+    for (int i = 1;i <= 10_000;i++) {
+      histogram.record(i);
+    }
+    Histogram.Snapshot snapshot = histogram.snapshot();
+    assertEquals(10_000, snapshot.count());
+    assertEquals(10_000L * 10_001 / 2, snapshot.sum());
+    assertEquals(10_000, snapshot.max());
+    assertWithinError(5_000, snapshot.valueAt(0.5));
+    assertWithinError(9_000, snapshot.valueAt(0.9));
+    assertWithinError(9_900, snapshot.valueAt(0.99));
+    assertEquals(10_000, snapshot.valueAt(1.0));
+  }
+
+  @Test
+  public void testHistogramExtremes() {
+    Histogram histogram = new Histogram();
+    histogram.record(-1);
+    histogram.record(0);
+    histogram.record(Long.MAX_VALUE);
+    Histogram.Snapshot snapshot = histogram.snapshot();
+    assertEquals(3, snapshot.count());
+    assertEquals(0, snapshot.valueAt(0.5));
+    assertEquals(Long.MAX_VALUE, snapshot.valueAt(1.0));
+  }
+
+  private void assertWithinError(long expected, long actual) {
+    assertTrue("Expected " + actual + " to be close to " + expected, actual >= expected && actual <= expected + expected / 8);
+  }
+
+  @Test
+  public void testHttpMetrics() throws Exception {
+    HttpServer server = vertx.createHttpServer().requestHandler(req -> req.response().end("hello"));
+    awaitFuture(server.listen(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST));
+    HttpClient client = vertx.createHttpClient();
+    int num = 10;
+    for (int i = 0;i < num;i++) {
+      awaitFuture(client
+        .request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/")
+        .compose(req -> req.send().compose(resp -> resp.body())));
+    }
+    BuiltinMetrics metrics = BuiltinMetrics.metrics(vertx);
+    assertNotNull(metrics);
+    assertWaitUntil(() -> {
+      JsonArray servers = metrics.snapshot().getJsonArray("vertx_http_server");
+      return servers != null && servers.getJsonObject(0).getLong("responses_2xx") == num;
+    });
+    JsonObject snapshot = metrics.snapshot();
+    JsonObject serverMetrics = snapshot.getJsonArray("vertx_http_server").getJsonObject(0);
+    assertEquals(num, (long) serverMetrics.getLong("requests"));
+    assertEquals(0, (long) serverMetrics.getLong("active_requests"));
+    assertEquals(num, (long) serverMetrics.getJsonObject("response_time_nanoseconds").getLong("count"));
+    JsonObject endpointMetrics = snapshot.getJsonArray("vertx_http_client_endpoint").getJsonObject(0);
+    assertEquals(num, (long) endpointMetrics.getLong("requests"));
+    String prometheus = metrics.prometheus().toString();
+    assertTrue(prometheus.contains("# TYPE vertx_http_server_requests_total counter\n"));
+    assertTrue(prometheus.contains("vertx_http_server_requests_total{local=\"" + HttpTestBase.DEFAULT_HTTP_HOST + ":" + HttpTestBase.DEFAULT_HTTP_PORT + "\"} " + num + "\n"));
+    assertTrue(prometheus.contains("vertx_http_server_response_time_nanoseconds_count{local="));
+    awaitFuture(client.close());
+    awaitFuture(server.close());
+    assertNull(metrics.snapshot().getJsonArray("vertx_http_server"));
+  }
+
+  @Test
+  public void testUnpooledConnectionMetrics() throws Exception {
+    HttpServer server = vertx.createHttpServer().requestHandler(req -> req.response().end("hello"));
+    awaitFuture(server.listen(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST));
+    HttpClientAgent client = vertx.createHttpClient();
+    HttpConnectOptions connect = new HttpConnectOptions()
+      .setServer(SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST));
+    int num = 5;
+    for (int i = 0;i < num;i++) {
+      awaitFuture(client.connect(connect));
+    }
+    BuiltinMetrics metrics = BuiltinMetrics.metrics(vertx);
+    // The connections to the same server share the endpoint metrics
+    JsonArray endpoints = metrics.snapshot().getJsonArray("vertx_http_client_endpoint");
+    assertEquals(1, endpoints.size());
+    assertEquals(num, (long) endpoints.getJsonObject(0).getLong("connections"));
+    awaitFuture(client.close());
+    awaitFuture(server.close());
+    assertNull(metrics.snapshot().getJsonArray("vertx_http_client_endpoint"));
+  }
+
+  @Test
+  public void testHttp2WindowSizeMetrics() throws Exception {
+    Buffer body = TestUtils.randomBuffer(16 * 1024 * 1024);
+    HttpServer server = vertx.createHttpServer().requestHandler(req -> req.response().end(body));
+    awaitFuture(server.listen(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST));
+    HttpClient client = vertx.createHttpClient(new HttpClientOptions()
+      .setProtocolVersion(HttpVersion.HTTP_2)
+      .setHttp2ClearTextUpgrade(false)
+      .setHttp2WindowTuningOptions(new Http2WindowTuningOptions()));
+    awaitFuture(client
+      .request(HttpMethod.GET, HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/")
+      .compose(req -> req.send().compose(resp -> resp.body())));
+    JsonObject clientMetrics = BuiltinMetrics.metrics(vertx).snapshot().getJsonArray("vertx_http_client").getJsonObject(0);
+    JsonObject connectionWindowSizes = clientMetrics.getJsonObject("connection_window_size_bytes");
+    assertNotNull(connectionWindowSizes);
+    assertTrue(connectionWindowSizes.getLong("count") > 0);
+    assertNotNull(clientMetrics.getJsonObject("stream_window_size_bytes"));
+    awaitFuture(client.close());
+    awaitFuture(server.close());
+  }
+
+  @Test
+  public void testEventBusMetrics() {
+    vertx.eventBus().consumer("the-address", msg -> {
+      JsonObject eventBus = BuiltinMetrics.metrics(vertx).snapshot().getJsonArray("vertx_eventbus").getJsonObject(0);
+      assertEquals(1, (long) eventBus.getLong("handlers"));
+      assertEquals(1, (long) eventBus.getLong("sent"));
+      testComplete();
+    }).completion().onComplete(onSuccess(v -> {
+      vertx.eventBus().send("the-address", "msg");
+    }));
+    await();
+  }
+
+  @Test
+  public void testEventLoopMetrics() {
+    BuiltinMetrics metrics = BuiltinMetrics.metrics(vertx);
+    assertWaitUntil(() -> {
+      JsonArray loops = metrics.snapshot().getJsonArray("vertx_eventloop");
+      return loops != null && loops.getJsonObject(0).getJsonObject("lag_nanoseconds").getLong("count") > 0L;
+    });
+    JsonObject loop = metrics.snapshot().getJsonArray("vertx_eventloop").getJsonObject(0);
+    assertTrue(loop.getString("name").startsWith("vert.x-eventloop-thread-"));
+    assertTrue(metrics.prometheus().toString().contains("# TYPE vertx_eventloop_lag_nanoseconds summary\n"));
+  }
+
+  @Test
+  public void testTaskQueueMetrics() throws Exception {
+    int num = 10;
+    for (int i = 0;i < num;i++) {
+      awaitFuture(vertx.getOrCreateContext().executeBlocking(() -> "done", true));
+    }
+    JsonObject queue = null;
+    for (Object o : BuiltinMetrics.metrics(vertx).snapshot().getJsonArray("vertx_task_queue")) {
+      JsonObject entry = (JsonObject) o;
+      if ("vert.x-worker-thread".equals(entry.getString("pool"))) {
+        queue = entry;
+      }
+    }
+    assertNotNull(queue);
+    assertEquals(num, (long) queue.getLong("queued"));
+    assertEquals(0, (long) queue.getLong("backlog"));
+    assertEquals(num, (long) queue.getJsonObject("wait_time_nanoseconds").getLong("count"));
+  }
+}
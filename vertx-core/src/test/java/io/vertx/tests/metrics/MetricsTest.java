@@ -28,6 +28,7 @@ import io.vertx.core.net.JdkSSLEngineOptions;
 import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
+import io.vertx.core.net.SSLHandshakeOffloadOptions;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.VertxMetricsFactory;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
@@ -36,10 +37,13 @@ import io.vertx.test.core.TestUtils;
 import io.vertx.test.core.VertxTestBase;
 import io.vertx.test.fakemetrics.*;
 import io.vertx.test.http.HttpTestBase;
+import io.vertx.test.tls.Cert;
 import io.vertx.test.tls.Trust;
 import io.vertx.tests.http.Http2TestBase;
 import org.junit.Test;
 
+import java.net.InetAddress;
+import java.net.ServerSocket;
 import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
@@ -1137,6 +1141,48 @@ public class MetricsTest extends VertxTestBase {
     assertEquals(metrics.pending(), 0);
   }
 
+  @Test
+  public void testSslHandshakeOffloadPoolMetrics() throws Exception {
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setSsl(true)
+      .setSslEngineOptions(new JdkSSLEngineOptions())
+      .setKeyCertOptions(Cert.SERVER_JKS.get())
+      .setSslHandshakeOffloadOptions(new SSLHandshakeOffloadOptions().setPoolName("ssl-handshake-pool").setPoolSize(2)));
+    server.requestHandler(req -> req.response().end())
+      .listen(HttpTestBase.DEFAULT_HTTPS_PORT, HttpTestBase.DEFAULT_HTTPS_HOST)
+      .await(20, TimeUnit.SECONDS);
+
+    FakePoolMetrics metrics = FakePoolMetrics.getMetrics("ssl-handshake-pool");
+    assertEquals(2, metrics.maxSize());
+
+    NetClient client = vertx.createNetClient(new NetClientOptions()
+      .setSsl(true)
+      .setHostnameVerificationAlgorithm("HTTPS")
+      .setTrustOptions(Trust.SERVER_JKS.get()));
+    NetSocket so = client.connect(HttpTestBase.DEFAULT_HTTPS_PORT, HttpTestBase.DEFAULT_HTTPS_HOST).await(20, TimeUnit.SECONDS);
+    assertTrue(metrics.numberOfEnqueues() > 0);
+    waitUntil(() -> metrics.numberOfReleases() == metrics.numberOfEnqueues());
+    assertEquals(0, metrics.pending());
+    so.close().await(20, TimeUnit.SECONDS);
+    client.close().await(20, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testSslHandshakeOffloadPoolClosedWhenListenFails() throws Exception {
+    try (ServerSocket socket = new ServerSocket(HttpTestBase.DEFAULT_HTTPS_PORT, 0, InetAddress.getByName(HttpTestBase.DEFAULT_HTTPS_HOST))) {
+      server = vertx.createHttpServer(new HttpServerOptions()
+        .setSsl(true)
+        .setKeyCertOptions(Cert.SERVER_JKS.get())
+        .setSslHandshakeOffloadOptions(new SSLHandshakeOffloadOptions().setPoolName("ssl-handshake-listen-pool")));
+      server.requestHandler(req -> req.response().end())
+        .listen(HttpTestBase.DEFAULT_HTTPS_PORT, HttpTestBase.DEFAULT_HTTPS_HOST)
+        .onComplete(onFailure(err -> testComplete()));
+      await();
+    }
+    // Closing the pool unregisters its metrics
+    assertWaitUntil(() -> FakePoolMetrics.getMetrics("ssl-handshake-listen-pool") == null);
+  }
+
   @Test
   public void testWorkerPoolClose() {
     WorkerExecutor ex1 = vertx.createSharedWorkerExecutor("ex1");
@@ -830,6 +830,15 @@ public class NetTest extends VertxTestBase {
     testEcho(sock -> sock.write(sent), buff -> assertEquals(sent, buff), sent.length());
   }
 
+  @Test
+  public void testEchoBuffers() {
+    Buffer header = TestUtils.randomBuffer(10);
+    Buffer body = TestUtils.randomBuffer(100);
+    Buffer trailer = TestUtils.randomBuffer(5);
+    Buffer expected = Buffer.buffer().appendBuffer(header).appendBuffer(body).appendBuffer(trailer);
+    testEcho(sock -> sock.writeAll(Arrays.asList(header, body, trailer)).onComplete(onSuccess(v -> {})), buff -> assertEquals(expected, buff), expected.length());
+  }
+
   @Test
   public void testEchoString() {
     String sent = TestUtils.randomUnicodeString(100);
@@ -882,6 +891,72 @@ public class NetTest extends VertxTestBase {
     server.connectHandler(serverHandler).listen(address).onComplete(listenHandler);
   }
 
+  @Test
+  public void testPipeToSocket() throws Exception {
+    testPipeToSocket(false);
+  }
+
+  @Test
+  public void testPipeToSocketWithPendingData() throws Exception {
+    testPipeToSocket(true);
+  }
+
+  @Test
+  public void testSplicePipeToSocketNonAlignedSize() throws Exception {
+    assumeTrue("Transport must support splice", ((VertxInternal) vertx).transport().supportSplice());
+    Buffer expected = TestUtils.randomBuffer(16 * 64 * 1024 + 1234);
+    waitFor(2);
+    NetServer backendServer = vertx.createNetServer().connectHandler(so -> {
+      Buffer received = Buffer.buffer();
+      so.handler(received::appendBuffer);
+      so.endHandler(v -> {
+        assertEquals(expected, received);
+        complete();
+      });
+    });
+    awaitFuture(backendServer.listen(testAddress));
+    NetServer proxy = vertx.createNetServer().connectHandler(so -> {
+      so.pause();
+      client.connect(testAddress).onComplete(onSuccess(backend -> {
+        so.pipeTo(backend).onComplete(onSuccess(v -> complete()));
+      }));
+    });
+    awaitFuture(proxy.listen(1235, "localhost"));
+    client.connect(1235, "localhost").onComplete(onSuccess(so -> {
+      so.end(expected);
+    }));
+    await();
+  }
+
+  private void testPipeToSocket(boolean delayed) throws Exception {
+    Buffer expected = TestUtils.randomBuffer(4 * 1024 * 1024);
+    startEchoServer(testAddress, onSuccess(s -> {}));
+    NetServer proxy = vertx.createNetServer().connectHandler(so -> {
+      so.pause();
+      vertx.setTimer(delayed ? 100 : 1, id -> {
+        client.connect(testAddress).onComplete(onSuccess(backend -> {
+          so.pipeTo(backend);
+          backend.pipeTo(so);
+        }));
+      });
+    });
+    awaitFuture(proxy.listen(1235, "localhost"));
+    client.connect(1235, "localhost").onComplete(onSuccess(so -> {
+      Buffer received = Buffer.buffer();
+      so.handler(buff -> {
+        received.appendBuffer(buff);
+        if (received.length() == expected.length()) {
+          assertEquals(expected, received);
+          testComplete();
+        }
+      });
+      for (int i = 0;i < expected.length();i += 16 * 1024) {
+        so.write(expected.slice(i, i + 16 * 1024));
+      }
+    }));
+    await();
+  }
+
   @Test
   public void testConnectLocalHost() {
     connect(testAddress);
@@ -3812,6 +3887,55 @@ public class NetTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testFlushConsolidation() throws Exception {
+    int num = 100;
+    int maxWrites = 16;
+    server.close();
+    server = vertx.createNetServer(new NetServerOptions()
+      .setFlushConsolidationOptions(new FlushConsolidationOptions().setMaxWrites(maxWrites)));
+    AtomicInteger flushes = new AtomicInteger();
+    server.connectHandler(so -> {
+      NetSocketInternal soi = (NetSocketInternal) so;
+      soi.channelHandlerContext().pipeline().addFirst(new ChannelOutboundHandlerAdapter() {
+        @Override
+        public void flush(ChannelHandlerContext ctx) throws Exception {
+          flushes.incrementAndGet();
+          super.flush(ctx);
+        }
+      });
+      // Not written during a read
+      vertx.setTimer(1, id -> {
+        for (int i = 0;i < num;i++) {
+          so.write("x");
+        }
+      });
+    });
+    startServer();
+    client.connect(testAddress).onComplete(onSuccess(so -> {
+      Buffer received = Buffer.buffer();
+      so.handler(buff -> {
+        received.appendBuffer(buff);
+        if (received.length() == num) {
+          assertEquals(num / maxWrites + 1, flushes.get());
+          testComplete();
+        }
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testFlushConsolidationOptionsJson() {
+    NetServerOptions options = new NetServerOptions(new JsonObject()
+      .put("flushConsolidationOptions", new JsonObject().put("maxWrites", 4).put("maxBytes", 1024)));
+    FlushConsolidationOptions flushOptions = new NetServerOptions(options).getFlushConsolidationOptions();
+    assertEquals(4, flushOptions.getMaxWrites());
+    assertEquals(1024, flushOptions.getMaxBytes());
+    assertEquals(new JsonObject().put("maxWrites", 4).put("maxBytes", 1024), options.toJson().getJsonObject("flushConsolidationOptions"));
+    assertNull(new NetServerOptions().getFlushConsolidationOptions());
+  }
+
   @Test
   public void testServerWithIdleTimeoutSendChunkedFile() throws Exception {
     testIdleTimeoutSendChunkedFile(true);
@@ -3968,6 +4092,52 @@ public class NetTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testSslHandshakeOffload() throws Exception {
+    server.close();
+    client.close();
+
+    String poolName = "ssl-handshake-test";
+    CountDownLatch latch = new CountDownLatch(1);
+    // Occupy the single thread of the handshake pool
+    WorkerExecutor blocker = vertx.createSharedWorkerExecutor(poolName, 1);
+    blocker.executeBlocking(() -> latch.await(20, TimeUnit.SECONDS));
+
+    server = vertx.createNetServer(new NetServerOptions()
+      .setSsl(true)
+      .setSslEngineOptions(new JdkSSLEngineOptions())
+      .setKeyCertOptions(Cert.SERVER_JKS.get())
+      .setSslHandshakeOffloadOptions(new SSLHandshakeOffloadOptions()
+        .setPoolName(poolName)
+        .setPoolSize(1)
+        .setMaxQueueSize(0)));
+    server.connectHandler(so -> so.handler(so::write));
+    startServer(testAddress);
+    client = vertx.createNetClient(new NetClientOptions().setSsl(true).setHostnameVerificationAlgorithm("").setTrustAll(true));
+
+    waitFor(2);
+    // The handshake waits for the pool
+    client.connect(testAddress).onComplete(onSuccess(so -> {
+      so.handler(buff -> {
+        assertEquals("ping", buff.toString());
+        complete();
+      });
+      so.write("ping");
+    }));
+
+    // The server sheds the connections once a handshake task is queued
+    vertx.setPeriodic(50, id -> {
+      client.connect(testAddress).onComplete(ar -> {
+        if (ar.failed() && vertx.cancelTimer(id)) {
+          latch.countDown();
+          complete();
+        }
+      });
+    });
+    await();
+    blocker.close();
+  }
+
   @Test
   public void testSslHandshakeTimeoutNotHappened() throws Exception {
     server.close();
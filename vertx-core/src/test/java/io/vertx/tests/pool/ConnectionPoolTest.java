@@ -600,6 +600,92 @@ public class ConnectionPoolTest extends VertxTestBase {
     assertEquals(1, pool.waiters());
   }
 
+  @Test
+  public void testWarmUp() throws Exception {
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 3 });
+    ContextInternal ctx = vertx.createEventLoopContext();
+    Future<Integer> fut1 = pool.warmUp(ctx, 0, 2);
+    ConnectionRequest request1 = mgr.assertRequest();
+    ConnectionRequest request2 = mgr.assertRequest();
+    assertEquals(2, pool.requests());
+    // Connections being created count as idle
+    Future<Integer> fut2 = pool.warmUp(ctx, 0, 2);
+    assertNull(mgr.requests.poll());
+    assertEquals(0, (int) fut2.await(20, TimeUnit.SECONDS));
+    request1.connect(new Connection(), 0);
+    request2.connect(new Connection(), 0);
+    assertEquals(2, (int) fut1.await(20, TimeUnit.SECONDS));
+    assertEquals(2, pool.size());
+    assertEquals(0, pool.requests());
+    // A warm connection is acquired without connecting
+    pool.acquire(ctx, 0).await(20, TimeUnit.SECONDS);
+    assertNull(mgr.requests.poll());
+    // Only one connection is created within the pool max size
+    Future<Integer> fut3 = pool.warmUp(ctx, 0, 3);
+    mgr.assertRequest().connect(new Connection(), 0);
+    assertEquals(1, (int) fut3.await(20, TimeUnit.SECONDS));
+    assertNull(mgr.requests.poll());
+    assertEquals(3, pool.size());
+  }
+
+  @Test
+  public void testWarmUpFailure() throws Exception {
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 3 });
+    ContextInternal ctx = vertx.createEventLoopContext();
+    Throwable cause = new Throwable();
+    Future<Integer> fut = pool.warmUp(ctx, 0, 2);
+    mgr.assertRequest().fail(cause);
+    mgr.assertRequest().fail(cause);
+    fut.onComplete(onFailure(err -> {
+      assertSame(cause, err);
+      assertEquals(0, pool.size());
+      assertEquals(0, pool.capacity());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testWarmUpConnectionServesWaiter() throws Exception {
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 });
+    ContextInternal ctx = vertx.createEventLoopContext();
+    Future<Integer> fut = pool.warmUp(ctx, 0, 1);
+    ConnectionRequest request = mgr.assertRequest();
+    Connection expected = new Connection();
+    pool.acquire(ctx, 0).onComplete(onSuccess(lease -> {
+      assertSame(expected, lease.get());
+      testComplete();
+    }));
+    assertEquals(1, pool.waiters());
+    request.connect(expected, 0);
+    assertEquals(1, (int) fut.await(20, TimeUnit.SECONDS));
+    await();
+  }
+
+  @Test
+  public void testWarmUpZeroConcurrency() throws Exception {
+    ConnectionManager mgr = new ConnectionManager();
+    ConnectionPool<Connection> pool = ConnectionPool.pool(mgr, new int[] { 1 });
+    ContextInternal ctx = vertx.createEventLoopContext();
+    Future<Integer> fut = pool.warmUp(ctx, 0, 1);
+    ConnectionRequest request = mgr.assertRequest();
+    Connection expected = new Connection();
+    request.concurrency(0).connect(expected, 0);
+    assertEquals(1, (int) fut.await(20, TimeUnit.SECONDS));
+    assertEquals(1, pool.size());
+    // The connection serves the waiters once its concurrency is positive
+    pool.acquire(ctx, 0).onComplete(onSuccess(lease -> {
+      assertSame(expected, lease.get());
+      testComplete();
+    }));
+    assertEquals(1, pool.waiters());
+    request.concurrency(1);
+    await();
+  }
+
   @Test
   public void testClose() throws Exception {
     ConnectionManager mgr = new ConnectionManager();
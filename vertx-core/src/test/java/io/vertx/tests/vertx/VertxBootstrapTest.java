@@ -20,6 +20,7 @@ import io.vertx.core.impl.transports.NioTransport;
 import io.vertx.core.spi.transport.Transport;
 import io.vertx.core.spi.ExecutorServiceFactory;
 import io.vertx.core.spi.VertxMetricsFactory;
+import io.vertx.core.spi.VertxServiceProvider;
 import io.vertx.core.spi.VertxThreadFactory;
 import io.vertx.core.spi.VertxTracerFactory;
 import io.vertx.core.spi.cluster.ClusterManager;
@@ -43,6 +44,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -152,6 +154,39 @@ public class VertxBootstrapTest {
     assertSame(clusterManager, ((VertxInternal)vertx).getClusterManager());
   }
 
+  @Test
+  public void testLazyInitializationDefersClusterManagers() throws Exception {
+    CountingClusterManager.instances.set(0);
+    CompletableFuture<Vertx> res = new CompletableFuture<>();
+    runWithServiceFromMetaInf(VertxServiceProvider.class, CountingClusterManager.class.getName(), () -> {
+      VertxBootstrap factory = VertxBootstrap.create().options(new VertxOptions().setLazyInitialization(true));
+      factory.init();
+      assertEquals(0, CountingClusterManager.instances.get());
+      assertNull(factory.clusterManager());
+      factory.clusteredVertx().onComplete(ar -> {
+        if (ar.succeeded()) {
+          res.complete(ar.result());
+        } else {
+          res.completeExceptionally(ar.cause());
+        }
+      });
+    });
+    Vertx vertx = res.get(10, TimeUnit.SECONDS);
+    try {
+      assertEquals(1, CountingClusterManager.instances.get());
+      assertNotNull(((VertxInternal)vertx).getClusterManager());
+    } finally {
+      vertx.close().await(10, TimeUnit.SECONDS);
+    }
+  }
+
+  public static class CountingClusterManager extends FakeClusterManager {
+    static final AtomicInteger instances = new AtomicInteger();
+    public CountingClusterManager() {
+      instances.incrementAndGet();
+    }
+  }
+
   @Test
   public void testFactoryTransportOverridesDefault() {
     VertxBootstrap factory = VertxBootstrap.create();
@@ -201,6 +201,20 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(TimeUnit.MINUTES, options.getWarningExceptionTimeUnit());
     assertEquals(options, options.setBlockedThreadCheckIntervalUnit(TimeUnit.MILLISECONDS));
     assertEquals(TimeUnit.MILLISECONDS, options.getBlockedThreadCheckIntervalUnit());
+
+    assertEquals(VertxOptions.DEFAULT_MAX_CONCURRENT_DEPLOYMENTS, options.getMaxConcurrentDeployments());
+    try {
+      options.setMaxConcurrentDeployments(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertEquals(options, options.setMaxConcurrentDeployments(4));
+    assertEquals(4, options.getMaxConcurrentDeployments());
+
+    assertEquals(VertxOptions.DEFAULT_LAZY_INITIALIZATION, options.isLazyInitialization());
+    assertEquals(options, options.setLazyInitialization(true));
+    assertTrue(options.isLazyInitialization());
   }
 
   @Test
@@ -371,6 +385,8 @@ public class VertxOptionsTest extends VertxTestBase {
     TimeUnit warningExceptionTimeUnit = TimeUnit.MINUTES;
     TimeUnit blockedThreadCheckIntervalUnit = TimeUnit.MINUTES;
     boolean useDaemonThread = rand.nextBoolean();
+    int maxConcurrentDeployments = TestUtils.randomPositiveInt();
+    boolean lazyInitialization = rand.nextBoolean();
     options = new VertxOptions(new JsonObject().
         put("eventBusOptions", new JsonObject().
           put("port", clusterPort).
@@ -403,7 +419,9 @@ public class VertxOptionsTest extends VertxTestBase {
         put("maxWorkerExecuteTimeUnit", maxWorkerExecuteTimeUnit).
         put("warningExceptionTimeUnit", warningExceptionTimeUnit).
         put("blockedThreadCheckIntervalUnit", blockedThreadCheckIntervalUnit).
-        put("useDaemonThread", useDaemonThread)
+        put("useDaemonThread", useDaemonThread).
+        put("maxConcurrentDeployments", maxConcurrentDeployments).
+        put("lazyInitialization", lazyInitialization)
     );
     assertEquals(clusterPort, options.getEventBusOptions().getPort());
     assertEquals(clusterPublicPort, options.getEventBusOptions().getClusterPublicPort());
@@ -432,5 +450,7 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(warningExceptionTimeUnit, options.getWarningExceptionTimeUnit());
     assertEquals(blockedThreadCheckIntervalUnit, options.getBlockedThreadCheckIntervalUnit());
     assertEquals(useDaemonThread, options.getUseDaemonThread());
+    assertEquals(maxConcurrentDeployments, options.getMaxConcurrentDeployments());
+    assertEquals(lazyInitialization, options.isLazyInitialization());
   }
 }
@@ -16,6 +16,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.datagram.DatagramSocket;
 import io.vertx.core.http.*;
 import io.vertx.core.http.impl.CleanableHttpClient;
+import io.vertx.core.impl.StartupTraining;
 import io.vertx.core.internal.CloseFuture;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.net.*;
@@ -462,6 +463,16 @@ public class VertxTest extends AsyncTestBase {
     await();
   }
 
+  @Test
+  public void testLazyInitialization() throws Exception {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setLazyInitialization(true));
+    try {
+      StartupTraining.run(vertx);
+    } finally {
+      vertx.close().await();
+    }
+  }
+
   @Repeat(times = 100)
   @Test
   public void testWorkerExecutorConcurrentCloseWithVertx() throws InterruptedException {